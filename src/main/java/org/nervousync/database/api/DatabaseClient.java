@@ -17,12 +17,14 @@
 package org.nervousync.database.api;
 
 import jakarta.annotation.Nonnull;
+import org.nervousync.database.commons.DatabaseUtils;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.exceptions.operate.RetrieveException;
 import org.nervousync.database.exceptions.query.QueryException;
 import org.nervousync.database.query.QueryResult;
 import org.nervousync.database.query.QueryInfo;
 
+import java.util.Collection;
 import java.util.Map;
 
 /**
@@ -146,6 +148,38 @@ public interface DatabaseClient {
 	<T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass, final boolean forUpdate)
 			throws RetrieveException;
 
+	/**
+	 * <h3 class="en-US">Retrieve records by given primary keys</h3>
+	 * <span class="en-US">
+	 * The primary keys were split into chunks, each chunk was queried by one statement. The default implementation
+	 * uses IN condition for single primary key and OR groups for composite primary key.
+	 * Records which must be locked together should be retrieved for update by one call,
+	 * the in-process record locks of one call are acquired in deadlock-free order.
+	 * </span>
+	 * <h3 class="zh-CN">根据给定的主键读取记录</h3>
+	 * <span class="zh-CN">
+	 * 主键被拆分为多个分块，每个分块使用一条语句查询。默认实现对单一主键使用IN条件，对联合主键使用OR条件组。
+	 * 需要同时锁定的记录应通过一次调用读取用于更新，同一次调用的进程内记录锁按不会死锁的顺序获取
+	 * </span>
+	 *
+	 * @param primaryKeys <span class="en-US">Primary key values, or composite primary key maps</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param forUpdate   <span class="en-US">Retrieve record for update</span>
+	 *                    <span class="zh-CN">读取记录用于更新操作</span>
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Retrieved records, key is the given primary key, not found primary keys are not contained</span>
+	 * <span class="zh-CN">读取到的记录，键值为给定的主键，未找到记录的主键不包含在内</span>
+	 * @throws RetrieveException <span class="en-US">If an error occurs when query record from database</span>
+	 *                           <span class="zh-CN">如果从数据库中查询记录出现异常</span>
+	 */
+	default <T> Map<Object, T> retrieveAll(final Collection<?> primaryKeys, final Class<T> entityClass,
+	                                       final boolean forUpdate) throws RetrieveException {
+		return DatabaseUtils.retrieveAll(this, primaryKeys, entityClass, forUpdate);
+	}
+
 	/**
 	 * <h3 class="en-US">Query total record count by given query information</h3>
 	 * <h3 class="zh-CN">查询满足给定查询条件的记录数</h3>
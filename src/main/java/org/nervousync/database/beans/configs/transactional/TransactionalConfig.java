@@ -18,7 +18,7 @@ package org.nervousync.database.beans.configs.transactional;
 
 import org.nervousync.database.annotations.transactional.Transactional;
 import org.nervousync.database.enumerations.transactional.Isolation;
-import org.nervousync.utils.IDUtils;
+import org.nervousync.database.providers.generator.impl.BatchSnowflakeGenerator;
 
 import java.io.Serializable;
 
@@ -68,7 +68,7 @@ public final class TransactionalConfig implements Serializable {
      *                           <span class="zh-CN">事务的回滚异常</span>
      */
     private TransactionalConfig(final int timeout, final Isolation isolation, final Class<?>[] rollBackForClasses) {
-        this.transactionalCode = IDUtils.snowflake();
+        this.transactionalCode = BatchSnowflakeGenerator.nextId();
         this.timeout = timeout;
         this.isolation = isolation;
         this.rollBackForClasses = rollBackForClasses;
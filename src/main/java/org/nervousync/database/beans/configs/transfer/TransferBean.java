@@ -59,6 +59,16 @@ public final class TransferBean<T> {
 	 * <span class="zh-CN">定义的最大列索引值</span>
 	 */
 	private final int maxIndex;
+	/**
+	 * <span class="en-US">Field names ordered by column index, unordered fields are appended at the end</span>
+	 * <span class="zh-CN">按照列索引排列的属性名称列表，未定义列索引的属性追加在末尾</span>
+	 */
+	private final List<String> columnNames;
+	/**
+	 * <span class="en-US">Field names indexed by excel column index, used for parsing excel rows</span>
+	 * <span class="zh-CN">按照Excel列索引定位的属性名称数组，用于解析Excel数据行</span>
+	 */
+	private final String[] columnPlan;
 
 	/**
 	 * <h3 class="en-US">Private constructor</h3>
@@ -82,6 +92,19 @@ public final class TransferBean<T> {
 			}
 		}
 		this.maxIndex = maxIndex;
+		List<String> columnNames = new ArrayList<>();
+		for (int i = 0; i <= this.maxIndex; i++) {
+			columnNames.add(null);
+		}
+		this.fieldMaps.forEach((fieldName, fieldConfig) -> {
+			if (fieldConfig.getColumnIndex() < Globals.INITIALIZE_INT_VALUE) {
+				columnNames.add(fieldName);
+			} else {
+				columnNames.set(fieldConfig.getColumnIndex(), fieldName);
+			}
+		});
+		this.columnNames = Collections.unmodifiableList(columnNames);
+		this.columnPlan = columnNames.subList(0, this.maxIndex + 1).toArray(new String[0]);
 	}
 
 	/**
@@ -125,24 +148,69 @@ public final class TransferBean<T> {
     public void appendData(@Nonnull final ExcelWriter excelWriter, @Nonnull final Object object) {
         if (ObjectUtils.nullSafeEquals(this.beanClass, object.getClass())) {
             SheetWriter sheetWriter = excelWriter.sheetWriter(this.sheetName);
-            List<Object> dataValues = new ArrayList<>();
-            for (int i = 0; i <= this.maxIndex; i++) {
-                dataValues.add(null);
-            }
-            this.fieldMaps.forEach((fieldName, fieldConfig) -> {
-                String string =
-                        Optional.ofNullable(fieldConfig.convert(ReflectionUtils.getFieldValue(fieldName, object)))
-                                .filter(fieldValue -> fieldValue instanceof String)
-                                .map(fieldValue -> (String) fieldValue)
-                                .orElse(Globals.DEFAULT_VALUE_STRING);
-                if (fieldConfig.getColumnIndex() < Globals.INITIALIZE_INT_VALUE) {
-                    dataValues.add(string);
+            sheetWriter.appendData(new ArrayList<>(this.transferValues(object)));
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for excel sheet name</h3>
+     * <h3 class="zh-CN">Excel工作表名称的Getter方法</h3>
+     *
+     * @return <span class="en-US">Excel sheet name</span>
+     * <span class="zh-CN">Excel工作表名称</span>
+     */
+    public String getSheetName() {
+        return sheetName;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for field names ordered by column index</h3>
+     * <h3 class="zh-CN">按照列索引排列的属性名称列表的Getter方法</h3>
+     *
+     * @return <span class="en-US">Field names ordered by column index, the undefined column index was <code>null</code></span>
+     * <span class="zh-CN">按照列索引排列的属性名称列表，未定义的列索引值为<code>null</code></span>
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for field names indexed by excel column index</h3>
+     * <h3 class="zh-CN">按照Excel列索引定位的属性名称数组的Getter方法</h3>
+     *
+     * @return <span class="en-US">Field names indexed by excel column index, the undefined column index was <code>null</code></span>
+     * <span class="zh-CN">按照Excel列索引定位的属性名称数组，未定义的列索引值为<code>null</code></span>
+     */
+    public String[] getColumnPlan() {
+        return columnPlan.clone();
+    }
+
+    /**
+     * <h3 class="en-US">Convert the field values of given object instance to string list, ordered by column index</h3>
+     * <h3 class="zh-CN">转换给定实例对象的属性值为字符串列表，按照列索引排序</h3>
+     *
+     * @param object <span class="en-US">Data transfer object instance</span>
+     *               <span class="zh-CN">数据传输类实例对象</span>
+     * @return <span class="en-US">Converted string list, the undefined column index was <code>null</code></span>
+     * <span class="zh-CN">转换后的字符串列表，未定义的列索引值为<code>null</code></span>
+     */
+    public List<String> transferValues(@Nonnull final Object object) {
+        List<String> dataValues = new ArrayList<>(this.columnNames.size());
+        if (ObjectUtils.nullSafeEquals(this.beanClass, object.getClass())) {
+            for (String fieldName : this.columnNames) {
+                if (fieldName == null) {
+                    dataValues.add(null);
                 } else {
-                    dataValues.set(fieldConfig.getColumnIndex(), string);
+                    dataValues.add(
+                            Optional.ofNullable(this.fieldMaps.get(fieldName).convert(
+                                            ReflectionUtils.getFieldValue(fieldName, object)))
+                                    .filter(fieldValue -> fieldValue instanceof String)
+                                    .map(fieldValue -> (String) fieldValue)
+                                    .orElse(Globals.DEFAULT_VALUE_STRING));
                 }
-            });
-            sheetWriter.appendData(dataValues);
+            }
         }
+        return dataValues;
     }
 
     /**
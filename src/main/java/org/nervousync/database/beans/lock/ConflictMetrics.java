@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.beans.lock;
+
+/**
+ * <h2 class="en-US">Metrics of optimistic lock conflicts</h2>
+ * <h2 class="zh-CN">乐观锁冲突的统计信息</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:31:07 $
+ */
+public final class ConflictMetrics {
+
+    /**
+     * <span class="en-US">Table name</span>
+     * <span class="zh-CN">数据表名</span>
+     */
+    private final String tableName;
+    /**
+     * <span class="en-US">Update attempts count</span>
+     * <span class="zh-CN">更新尝试的次数</span>
+     */
+    private final long attemptCount;
+    /**
+     * <span class="en-US">Version conflicts count</span>
+     * <span class="zh-CN">版本冲突的次数</span>
+     */
+    private final long conflictCount;
+    /**
+     * <span class="en-US">Succeeded updates count</span>
+     * <span class="zh-CN">更新成功的次数</span>
+     */
+    private final long successCount;
+    /**
+     * <span class="en-US">Updates count which exhausted all attempts</span>
+     * <span class="zh-CN">用尽所有尝试次数的更新数</span>
+     */
+    private final long exhaustedCount;
+    /**
+     * <span class="en-US">Total backoff time, in milliseconds</span>
+     * <span class="zh-CN">退避等待的总时长，单位毫秒</span>
+     */
+    private final long backoffMillis;
+
+    /**
+     * <h3 class="en-US">Constructor method for metrics of optimistic lock conflicts</h3>
+     * <h3 class="zh-CN">乐观锁冲突的统计信息的构造方法</h3>
+     *
+     * @param tableName      <span class="en-US">Table name</span>
+     *                       <span class="zh-CN">数据表名</span>
+     * @param attemptCount   <span class="en-US">Update attempts count</span>
+     *                       <span class="zh-CN">更新尝试的次数</span>
+     * @param conflictCount  <span class="en-US">Version conflicts count</span>
+     *                       <span class="zh-CN">版本冲突的次数</span>
+     * @param successCount   <span class="en-US">Succeeded updates count</span>
+     *                       <span class="zh-CN">更新成功的次数</span>
+     * @param exhaustedCount <span class="en-US">Updates count which exhausted all attempts</span>
+     *                       <span class="zh-CN">用尽所有尝试次数的更新数</span>
+     * @param backoffMillis  <span class="en-US">Total backoff time, in milliseconds</span>
+     *                       <span class="zh-CN">退避等待的总时长，单位毫秒</span>
+     */
+    public ConflictMetrics(final String tableName, final long attemptCount, final long conflictCount,
+                           final long successCount, final long exhaustedCount, final long backoffMillis) {
+        this.tableName = tableName;
+        this.attemptCount = attemptCount;
+        this.conflictCount = conflictCount;
+        this.successCount = successCount;
+        this.exhaustedCount = exhaustedCount;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for table name</h3>
+     * <h3 class="zh-CN">数据表名的Getter方法</h3>
+     *
+     * @return <span class="en-US">Table name</span>
+     * <span class="zh-CN">数据表名</span>
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for update attempts count</h3>
+     * <h3 class="zh-CN">更新尝试次数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Update attempts count</span>
+     * <span class="zh-CN">更新尝试的次数</span>
+     */
+    public long getAttemptCount() {
+        return attemptCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for version conflicts count</h3>
+     * <h3 class="zh-CN">版本冲突次数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Version conflicts count</span>
+     * <span class="zh-CN">版本冲突的次数</span>
+     */
+    public long getConflictCount() {
+        return conflictCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for succeeded updates count</h3>
+     * <h3 class="zh-CN">更新成功次数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Succeeded updates count</span>
+     * <span class="zh-CN">更新成功的次数</span>
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for updates count which exhausted all attempts</h3>
+     * <h3 class="zh-CN">用尽所有尝试次数的更新数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Updates count which exhausted all attempts</span>
+     * <span class="zh-CN">用尽所有尝试次数的更新数</span>
+     */
+    public long getExhaustedCount() {
+        return exhaustedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for total backoff time</h3>
+     * <h3 class="zh-CN">退避等待总时长的Getter方法</h3>
+     *
+     * @return <span class="en-US">Total backoff time, in milliseconds</span>
+     * <span class="zh-CN">退避等待的总时长，单位毫秒</span>
+     */
+    public long getBackoffMillis() {
+        return backoffMillis;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.beans.sequence;
+
+/**
+ * <h2 class="en-US">Range of sequence values reserved from sequence provider</h2>
+ * <span class="en-US">The range contains the values from begin value to end value (inclusive) separated by the step value of the sequence.</span>
+ * <h2 class="zh-CN">从序列适配器中预留的序列值范围</h2>
+ * <span class="zh-CN">范围包含从起始值到结束值（包含）之间按序列步进值间隔的所有值</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:06:37 $
+ */
+public final class SequenceRange {
+
+    /**
+     * <span class="en-US">First value of range</span>
+     * <span class="zh-CN">范围的第一个值</span>
+     */
+    private final long beginValue;
+    /**
+     * <span class="en-US">Last value of range</span>
+     * <span class="zh-CN">范围的最后一个值</span>
+     */
+    private final long endValue;
+
+    /**
+     * <h3 class="en-US">Constructor method for range of sequence values</h3>
+     * <h3 class="zh-CN">序列值范围的构造方法</h3>
+     *
+     * @param beginValue <span class="en-US">First value of range</span>
+     *                   <span class="zh-CN">范围的第一个值</span>
+     * @param endValue   <span class="en-US">Last value of range</span>
+     *                   <span class="zh-CN">范围的最后一个值</span>
+     */
+    public SequenceRange(final long beginValue, final long endValue) {
+        this.beginValue = beginValue;
+        this.endValue = endValue;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for first value of range</h3>
+     * <h3 class="zh-CN">范围第一个值的Getter方法</h3>
+     *
+     * @return <span class="en-US">First value of range</span>
+     * <span class="zh-CN">范围的第一个值</span>
+     */
+    public long getBeginValue() {
+        return beginValue;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for last value of range</h3>
+     * <h3 class="zh-CN">范围最后一个值的Getter方法</h3>
+     *
+     * @return <span class="en-US">Last value of range</span>
+     * <span class="zh-CN">范围的最后一个值</span>
+     */
+    public long getEndValue() {
+        return endValue;
+    }
+}
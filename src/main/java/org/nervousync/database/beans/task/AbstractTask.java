@@ -76,6 +76,12 @@ public abstract class AbstractTask extends BeanObject {
      */
     @XmlElement(name = "task_status")
     private Integer taskStatus = DatabaseCommons.DATA_TASK_STATUS_CREATE;
+    /**
+     * <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+     * <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+     */
+    @XmlElement(name = "priority")
+    private Integer priority = DatabaseCommons.DEFAULT_TASK_PRIORITY;
     /**
      * <span class="en-US">Error status during task processing</span>
      * <span class="zh-CN">任务处理过程中出错状态</span>
@@ -100,6 +106,42 @@ public abstract class AbstractTask extends BeanObject {
      */
     @XmlElement(name = "identify_code")
     private String identifyCode;
+    /**
+     * <span class="en-US">Expire time of the processing node lease, <code>-1</code> if task was not claimed</span>
+     * <span class="zh-CN">处理节点租约的过期时间，任务未被认领时为<code>-1</code></span>
+     */
+    @XmlElement(name = "lease_expire")
+    private Long leaseExpire = Globals.DEFAULT_VALUE_LONG;
+    /**
+     * <span class="en-US">Processed records count</span>
+     * <span class="zh-CN">已处理的记录数</span>
+     */
+    @XmlElement(name = "processed_count")
+    private Long processedCount = 0L;
+    /**
+     * <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     */
+    @XmlElement(name = "total_count")
+    private Long totalCount = Globals.DEFAULT_VALUE_LONG;
+    /**
+     * <span class="en-US">Bytes read or written</span>
+     * <span class="zh-CN">已读取或写入的字节数</span>
+     */
+    @XmlElement(name = "transfer_bytes")
+    private Long transferBytes = 0L;
+    /**
+     * <span class="en-US">Records processed per second</span>
+     * <span class="zh-CN">每秒处理的记录数</span>
+     */
+    @XmlElement(name = "record_rate")
+    private Double recordRate = 0D;
+    /**
+     * <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    @XmlElement(name = "estimate_time")
+    private Long estimateTime = Globals.DEFAULT_VALUE_LONG;
 
     /**
      * <h3 class="en-US">Constructor method for abstract task information</h3>
@@ -240,6 +282,28 @@ public abstract class AbstractTask extends BeanObject {
         this.taskStatus = taskStatus;
     }
 
+    /**
+     * <h3 class="en-US">Getter method for task priority</h3>
+     * <h3 class="zh-CN">任务优先级的Getter方法</h3>
+     *
+     * @return <span class="en-US">Task priority</span>
+     * <span class="zh-CN">任务优先级</span>
+     */
+    public Integer getPriority() {
+        return priority;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for task priority</h3>
+     * <h3 class="zh-CN">任务优先级的Setter方法</h3>
+     *
+     * @param priority <span class="en-US">Task priority</span>
+     *                 <span class="zh-CN">任务优先级</span>
+     */
+    public void setPriority(Integer priority) {
+        this.priority = priority;
+    }
+
     /**
      * <h3 class="en-US">Getter method for error status during task processing</h3>
      * <h3 class="zh-CN">任务处理过程中出错状态的Getter方法</h3>
@@ -327,4 +391,136 @@ public abstract class AbstractTask extends BeanObject {
     public void setIdentifyCode(String identifyCode) {
         this.identifyCode = identifyCode;
     }
+
+    /**
+     * <h3 class="en-US">Getter method for expire time of the processing node lease</h3>
+     * <h3 class="zh-CN">处理节点租约过期时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Expire time of the processing node lease</span>
+     * <span class="zh-CN">处理节点租约的过期时间</span>
+     */
+    public Long getLeaseExpire() {
+        return leaseExpire;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for expire time of the processing node lease</h3>
+     * <h3 class="zh-CN">处理节点租约过期时间的Setter方法</h3>
+     *
+     * @param leaseExpire <span class="en-US">Expire time of the processing node lease</span>
+     *                    <span class="zh-CN">处理节点租约的过期时间</span>
+     */
+    public void setLeaseExpire(Long leaseExpire) {
+        this.leaseExpire = leaseExpire;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for processed records count</h3>
+     * <h3 class="zh-CN">已处理的记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Processed records count</span>
+     * <span class="zh-CN">已处理的记录数</span>
+     */
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for processed records count</h3>
+     * <h3 class="zh-CN">已处理的记录数的Setter方法</h3>
+     *
+     * @param processedCount <span class="en-US">Processed records count</span>
+     *                       <span class="zh-CN">已处理的记录数</span>
+     */
+    public void setProcessedCount(Long processedCount) {
+        this.processedCount = processedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for total records count</h3>
+     * <h3 class="zh-CN">记录总数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     */
+    public Long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for total records count</h3>
+     * <h3 class="zh-CN">记录总数的Setter方法</h3>
+     *
+     * @param totalCount <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     *                   <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     */
+    public void setTotalCount(Long totalCount) {
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for bytes read or written</h3>
+     * <h3 class="zh-CN">已读取或写入的字节数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Bytes read or written</span>
+     * <span class="zh-CN">已读取或写入的字节数</span>
+     */
+    public Long getTransferBytes() {
+        return transferBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for bytes read or written</h3>
+     * <h3 class="zh-CN">已读取或写入的字节数的Setter方法</h3>
+     *
+     * @param transferBytes <span class="en-US">Bytes read or written</span>
+     *                      <span class="zh-CN">已读取或写入的字节数</span>
+     */
+    public void setTransferBytes(Long transferBytes) {
+        this.transferBytes = transferBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for records processed per second</h3>
+     * <h3 class="zh-CN">每秒处理的记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Records processed per second</span>
+     * <span class="zh-CN">每秒处理的记录数</span>
+     */
+    public Double getRecordRate() {
+        return recordRate;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for records processed per second</h3>
+     * <h3 class="zh-CN">每秒处理的记录数的Setter方法</h3>
+     *
+     * @param recordRate <span class="en-US">Records processed per second</span>
+     *                   <span class="zh-CN">每秒处理的记录数</span>
+     */
+    public void setRecordRate(Double recordRate) {
+        this.recordRate = recordRate;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for estimated completion time</h3>
+     * <h3 class="zh-CN">预计完成时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    public Long getEstimateTime() {
+        return estimateTime;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for estimated completion time</h3>
+     * <h3 class="zh-CN">预计完成时间的Setter方法</h3>
+     *
+     * @param estimateTime <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     *                     <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    public void setEstimateTime(Long estimateTime) {
+        this.estimateTime = estimateTime;
+    }
 }
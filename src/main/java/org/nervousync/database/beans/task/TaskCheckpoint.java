@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.beans.task;
+
+import org.nervousync.database.beans.task.impl.ImportTask;
+
+/**
+ * <h2 class="en-US">Checkpoint of import task</h2>
+ * <span class="en-US">Written after each committed batch, all records before the file position were committed</span>
+ * <h2 class="zh-CN">导入任务的检查点</h2>
+ * <span class="zh-CN">每个批次提交后写入，文件地址之前的所有记录均已提交</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:08:37 $
+ */
+public final class TaskCheckpoint {
+
+    /**
+     * <span class="en-US">File position of the next record</span>
+     * <span class="zh-CN">下一条记录的文件地址</span>
+     */
+    private final long position;
+    /**
+     * <span class="en-US">Process succeed record count</span>
+     * <span class="zh-CN">处理成功记录数</span>
+     */
+    private final long successCount;
+    /**
+     * <span class="en-US">Process failed record count</span>
+     * <span class="zh-CN">处理失败记录数</span>
+     */
+    private final long failedCount;
+    /**
+     * <span class="en-US">Index of the next record</span>
+     * <span class="zh-CN">下一条记录的索引</span>
+     */
+    private final long recordIndex;
+
+    /**
+     * <h3 class="en-US">Constructor method for import task checkpoint</h3>
+     * <h3 class="zh-CN">导入任务检查点的构造方法</h3>
+     *
+     * @param position     <span class="en-US">File position of the next record</span>
+     *                     <span class="zh-CN">下一条记录的文件地址</span>
+     * @param successCount <span class="en-US">Process succeed record count</span>
+     *                     <span class="zh-CN">处理成功记录数</span>
+     * @param failedCount  <span class="en-US">Process failed record count</span>
+     *                     <span class="zh-CN">处理失败记录数</span>
+     * @param recordIndex  <span class="en-US">Index of the next record</span>
+     *                     <span class="zh-CN">下一条记录的索引</span>
+     */
+    public TaskCheckpoint(final long position, final long successCount, final long failedCount,
+                          final long recordIndex) {
+        this.position = position;
+        this.successCount = successCount;
+        this.failedCount = failedCount;
+        this.recordIndex = recordIndex;
+    }
+
+    /**
+     * <h3 class="en-US">Read checkpoint from given import task information</h3>
+     * <h3 class="zh-CN">从给定的导入任务信息中读取检查点</h3>
+     *
+     * @param importTask <span class="en-US">Import task information</span>
+     *                   <span class="zh-CN">导入任务信息</span>
+     * @return <span class="en-US">Checkpoint or <code>null</code> if no checkpoint was written</span>
+     * <span class="zh-CN">检查点，未写入检查点时返回<code>null</code></span>
+     */
+    public static TaskCheckpoint of(final ImportTask importTask) {
+        if (importTask.getCheckpointPosition() < 0L) {
+            return null;
+        }
+        return new TaskCheckpoint(importTask.getCheckpointPosition(), importTask.getSuccessCount(),
+                importTask.getFailedCount(), importTask.getRecordIndex());
+    }
+
+    /**
+     * <h3 class="en-US">Apply checkpoint to given import task information</h3>
+     * <h3 class="zh-CN">应用检查点到给定的导入任务信息</h3>
+     *
+     * @param importTask <span class="en-US">Import task information</span>
+     *                   <span class="zh-CN">导入任务信息</span>
+     */
+    public void apply(final ImportTask importTask) {
+        importTask.setCheckpointPosition(this.position);
+        importTask.setSuccessCount(this.successCount);
+        importTask.setFailedCount(this.failedCount);
+        importTask.setRecordIndex(this.recordIndex);
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for file position of the next record</h3>
+     * <h3 class="zh-CN">下一条记录文件地址的Getter方法</h3>
+     *
+     * @return <span class="en-US">File position of the next record</span>
+     * <span class="zh-CN">下一条记录的文件地址</span>
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for process succeed record count</h3>
+     * <h3 class="zh-CN">处理成功记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Process succeed record count</span>
+     * <span class="zh-CN">处理成功记录数</span>
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for process failed record count</h3>
+     * <h3 class="zh-CN">处理失败记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Process failed record count</span>
+     * <span class="zh-CN">处理失败记录数</span>
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for index of the next record</h3>
+     * <h3 class="zh-CN">下一条记录索引的Getter方法</h3>
+     *
+     * @return <span class="en-US">Index of the next record</span>
+     * <span class="zh-CN">下一条记录的索引</span>
+     */
+    public long getRecordIndex() {
+        return recordIndex;
+    }
+}
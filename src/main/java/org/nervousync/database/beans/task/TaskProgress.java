@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.beans.task;
+
+/**
+ * <h2 class="en-US">Progress information of processing task</h2>
+ * <h2 class="zh-CN">处理中任务的进度信息</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:12:06 $
+ */
+public final class TaskProgress {
+
+    /**
+     * <span class="en-US">Processed records count</span>
+     * <span class="zh-CN">已处理的记录数</span>
+     */
+    private final long processedCount;
+    /**
+     * <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     */
+    private final long totalCount;
+    /**
+     * <span class="en-US">Bytes read or written</span>
+     * <span class="zh-CN">已读取或写入的字节数</span>
+     */
+    private final long transferBytes;
+    /**
+     * <span class="en-US">Records processed per second</span>
+     * <span class="zh-CN">每秒处理的记录数</span>
+     */
+    private final double recordRate;
+    /**
+     * <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    private final long estimateTime;
+
+    /**
+     * <h3 class="en-US">Constructor method for progress information</h3>
+     * <h3 class="zh-CN">进度信息的构造方法</h3>
+     *
+     * @param processedCount <span class="en-US">Processed records count</span>
+     *                       <span class="zh-CN">已处理的记录数</span>
+     * @param totalCount     <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     *                       <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     * @param transferBytes  <span class="en-US">Bytes read or written</span>
+     *                       <span class="zh-CN">已读取或写入的字节数</span>
+     * @param recordRate     <span class="en-US">Records processed per second</span>
+     *                       <span class="zh-CN">每秒处理的记录数</span>
+     * @param estimateTime   <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     *                       <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    public TaskProgress(final long processedCount, final long totalCount, final long transferBytes,
+                        final double recordRate, final long estimateTime) {
+        this.processedCount = processedCount;
+        this.totalCount = totalCount;
+        this.transferBytes = transferBytes;
+        this.recordRate = recordRate;
+        this.estimateTime = estimateTime;
+    }
+
+    /**
+     * <h3 class="en-US">Apply progress information to given task information</h3>
+     * <h3 class="zh-CN">应用进度信息到给定的任务信息</h3>
+     *
+     * @param taskInfo <span class="en-US">Task information</span>
+     *                 <span class="zh-CN">任务信息</span>
+     */
+    public void apply(final AbstractTask taskInfo) {
+        taskInfo.setProcessedCount(this.processedCount);
+        taskInfo.setTotalCount(this.totalCount);
+        taskInfo.setTransferBytes(this.transferBytes);
+        taskInfo.setRecordRate(this.recordRate);
+        taskInfo.setEstimateTime(this.estimateTime);
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for processed records count</h3>
+     * <h3 class="zh-CN">已处理记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Processed records count</span>
+     * <span class="zh-CN">已处理的记录数</span>
+     */
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for total records count</h3>
+     * <h3 class="zh-CN">记录总数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for bytes read or written</h3>
+     * <h3 class="zh-CN">已读取或写入字节数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Bytes read or written</span>
+     * <span class="zh-CN">已读取或写入的字节数</span>
+     */
+    public long getTransferBytes() {
+        return transferBytes;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for records processed per second</h3>
+     * <h3 class="zh-CN">每秒处理记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Records processed per second</span>
+     * <span class="zh-CN">每秒处理的记录数</span>
+     */
+    public double getRecordRate() {
+        return recordRate;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for estimated completion time</h3>
+     * <h3 class="zh-CN">预计完成时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Estimated completion time, <code>-1</code> if unknown</span>
+     * <span class="zh-CN">预计完成时间，未知时为<code>-1</code></span>
+     */
+    public long getEstimateTime() {
+        return estimateTime;
+    }
+}
@@ -18,7 +18,9 @@
 package org.nervousync.database.beans.task.impl;
 
 import jakarta.xml.bind.annotation.*;
+import org.nervousync.commons.Globals;
 import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.commons.DatabaseCommons;
 import org.nervousync.database.query.QueryInfo;
 
 import java.util.ArrayList;
@@ -47,6 +49,24 @@ public final class ExportTask extends AbstractTask {
      */
     @XmlElement(name = "compatibility_mode")
     private boolean compatibilityMode;
+    /**
+     * <span class="en-US">Export provider name</span>
+     * <span class="zh-CN">导出适配器名称</span>
+     */
+    @XmlElement(name = "export_type")
+    private String exportType;
+    /**
+     * <span class="en-US">Compress export file using GZIP</span>
+     * <span class="zh-CN">使用GZIP压缩导出文件</span>
+     */
+    @XmlElement(name = "compress")
+    private boolean compress;
+    /**
+     * <span class="en-US">Maximum number of queries executed concurrently</span>
+     * <span class="zh-CN">同时执行的最大查询数</span>
+     */
+    @XmlElement(name = "parallelism")
+    private int parallelism = 1;
     /**
      * <span class="en-US">Query information list for data export tasks</span>
      * <span class="zh-CN">数据导出任务的查询信息列表</span>
@@ -54,12 +74,31 @@ public final class ExportTask extends AbstractTask {
     @XmlElement(name = "query_plan")
     @XmlElementWrapper(name = "query_plan_list")
     private List<QueryInfo> queryInfoList;
+    /**
+     * <span class="en-US">Watermark name of incremental export definition, empty for full export</span>
+     * <span class="zh-CN">增量导出定义的水位线名称，为空时执行全量导出</span>
+     */
+    @XmlElement(name = "watermark_name")
+    private String watermarkName = Globals.DEFAULT_VALUE_STRING;
+    /**
+     * <span class="en-US">Identify key of watermark field, empty for using timestamp version column</span>
+     * <span class="zh-CN">水位线属性的识别代码，为空时使用时间戳类型的版本列</span>
+     */
+    @XmlElement(name = "watermark_field")
+    private String watermarkField = Globals.DEFAULT_VALUE_STRING;
+    /**
+     * <span class="en-US">Identify key of removed flag field, empty for not export remove records</span>
+     * <span class="zh-CN">删除标记属性的识别代码，为空时不导出删除记录</span>
+     */
+    @XmlElement(name = "remove_field")
+    private String removeField = Globals.DEFAULT_VALUE_STRING;
 
 	/**
 	 * <h3 class="en-US">Constructor method for data export task information</h3>
 	 * <h3 class="zh-CN">数据导出任务信息的构建方法</h3>
 	 */
     public ExportTask() {
+        this.exportType = DatabaseCommons.EXPORT_TYPE_EXCEL;
         this.queryInfoList = new ArrayList<>();
     }
 
@@ -85,6 +124,72 @@ public final class ExportTask extends AbstractTask {
         this.compatibilityMode = compatibilityMode;
     }
 
+    /**
+     * <h3 class="en-US">Getter method for export provider name</h3>
+     * <h3 class="zh-CN">导出适配器名称的Getter方法</h3>
+     *
+     * @return <span class="en-US">Export provider name</span>
+     * <span class="zh-CN">导出适配器名称</span>
+     */
+    public String getExportType() {
+        return exportType;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for export provider name</h3>
+     * <h3 class="zh-CN">导出适配器名称的Setter方法</h3>
+     *
+     * @param exportType <span class="en-US">Export provider name</span>
+     *                   <span class="zh-CN">导出适配器名称</span>
+     */
+    public void setExportType(String exportType) {
+        this.exportType = exportType;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for compress export file using GZIP</h3>
+     * <h3 class="zh-CN">使用GZIP压缩导出文件的Getter方法</h3>
+     *
+     * @return <span class="en-US">Compress export file using GZIP</span>
+     * <span class="zh-CN">使用GZIP压缩导出文件</span>
+     */
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for compress export file using GZIP</h3>
+     * <h3 class="zh-CN">使用GZIP压缩导出文件的Setter方法</h3>
+     *
+     * @param compress <span class="en-US">Compress export file using GZIP</span>
+     *                 <span class="zh-CN">使用GZIP压缩导出文件</span>
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for maximum number of queries executed concurrently</h3>
+     * <h3 class="zh-CN">同时执行的最大查询数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Maximum number of queries executed concurrently</span>
+     * <span class="zh-CN">同时执行的最大查询数</span>
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for maximum number of queries executed concurrently</h3>
+     * <h3 class="zh-CN">同时执行的最大查询数的Setter方法</h3>
+     *
+     * @param parallelism <span class="en-US">Maximum number of queries executed concurrently</span>
+     *                    <span class="zh-CN">同时执行的最大查询数</span>
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     /**
      * <h3 class="en-US">Getter method for query information list for data export tasks</h3>
      * <h3 class="zh-CN">数据导出任务的查询信息列表的Getter方法</h3>
@@ -106,4 +211,70 @@ public final class ExportTask extends AbstractTask {
     public void setQueryInfoList(List<QueryInfo> databaseQueryList) {
         this.queryInfoList = databaseQueryList;
     }
+
+    /**
+     * <h3 class="en-US">Getter method for watermark name of incremental export definition</h3>
+     * <h3 class="zh-CN">增量导出定义的水位线名称的Getter方法</h3>
+     *
+     * @return <span class="en-US">Watermark name of incremental export definition, empty for full export</span>
+     * <span class="zh-CN">增量导出定义的水位线名称，为空时执行全量导出</span>
+     */
+    public String getWatermarkName() {
+        return watermarkName;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for watermark name of incremental export definition</h3>
+     * <h3 class="zh-CN">增量导出定义的水位线名称的Setter方法</h3>
+     *
+     * @param watermarkName <span class="en-US">Watermark name of incremental export definition, empty for full export</span>
+     *                      <span class="zh-CN">增量导出定义的水位线名称，为空时执行全量导出</span>
+     */
+    public void setWatermarkName(String watermarkName) {
+        this.watermarkName = watermarkName;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for identify key of watermark field</h3>
+     * <h3 class="zh-CN">水位线属性的识别代码的Getter方法</h3>
+     *
+     * @return <span class="en-US">Identify key of watermark field, empty for using timestamp version column</span>
+     * <span class="zh-CN">水位线属性的识别代码，为空时使用时间戳类型的版本列</span>
+     */
+    public String getWatermarkField() {
+        return watermarkField;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for identify key of watermark field</h3>
+     * <h3 class="zh-CN">水位线属性的识别代码的Setter方法</h3>
+     *
+     * @param watermarkField <span class="en-US">Identify key of watermark field, empty for using timestamp version column</span>
+     *                       <span class="zh-CN">水位线属性的识别代码，为空时使用时间戳类型的版本列</span>
+     */
+    public void setWatermarkField(String watermarkField) {
+        this.watermarkField = watermarkField;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for identify key of removed flag field</h3>
+     * <h3 class="zh-CN">删除标记属性的识别代码的Getter方法</h3>
+     *
+     * @return <span class="en-US">Identify key of removed flag field, empty for not export remove records</span>
+     * <span class="zh-CN">删除标记属性的识别代码，为空时不导出删除记录</span>
+     */
+    public String getRemoveField() {
+        return removeField;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for identify key of removed flag field</h3>
+     * <h3 class="zh-CN">删除标记属性的识别代码的Setter方法</h3>
+     *
+     * @param removeField <span class="en-US">Identify key of removed flag field, empty for not export remove records</span>
+     *                    <span class="zh-CN">删除标记属性的识别代码，为空时不导出删除记录</span>
+     */
+    public void setRemoveField(String removeField) {
+        this.removeField = removeField;
+    }
 }
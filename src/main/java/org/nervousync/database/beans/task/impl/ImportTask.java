@@ -21,6 +21,7 @@ import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlElement;
 import jakarta.xml.bind.annotation.XmlRootElement;
+import org.nervousync.commons.Globals;
 import org.nervousync.database.beans.task.AbstractTask;
 
 /**
@@ -58,6 +59,42 @@ public final class ImportTask extends AbstractTask {
      */
     @XmlElement(name = "timeout")
     private int timeout;
+    /**
+     * <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+     * <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+     */
+    @XmlElement(name = "chunk_size")
+    private int chunkSize = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+     * <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+     */
+    @XmlElement(name = "chunk_time")
+    private long chunkTime = Globals.DEFAULT_VALUE_LONG;
+    /**
+     * <span class="en-US">File position of last checkpoint, <code>-1</code> if no checkpoint was written</span>
+     * <span class="zh-CN">最后检查点的文件地址，未写入检查点时为<code>-1</code></span>
+     */
+    @XmlElement(name = "checkpoint_position")
+    private long checkpointPosition = Globals.DEFAULT_VALUE_LONG;
+    /**
+     * <span class="en-US">Process succeed record count of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的处理成功记录数</span>
+     */
+    @XmlElement(name = "success_count")
+    private long successCount = 0L;
+    /**
+     * <span class="en-US">Process failed record count of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的处理失败记录数</span>
+     */
+    @XmlElement(name = "failed_count")
+    private long failedCount = 0L;
+    /**
+     * <span class="en-US">Index of the next record of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的下一条记录索引</span>
+     */
+    @XmlElement(name = "record_index")
+    private long recordIndex = 0L;
 
 	/**
 	 * <h3 class="en-US">Constructor method for data import task information</h3>
@@ -131,4 +168,136 @@ public final class ImportTask extends AbstractTask {
     public void setTimeout(int timeout) {
         this.timeout = timeout;
     }
+
+    /**
+     * <h3 class="en-US">Getter method for chunk size</h3>
+     * <h3 class="zh-CN">分块记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+     * <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for chunk size</h3>
+     * <h3 class="zh-CN">分块记录数的Setter方法</h3>
+     *
+     * @param chunkSize <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+     *                  <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+     */
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for chunk time</h3>
+     * <h3 class="zh-CN">分块时间的Getter方法</h3>
+     *
+     * @return <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+     * <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+     */
+    public long getChunkTime() {
+        return chunkTime;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for chunk time</h3>
+     * <h3 class="zh-CN">分块时间的Setter方法</h3>
+     *
+     * @param chunkTime <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+     *                  <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+     */
+    public void setChunkTime(long chunkTime) {
+        this.chunkTime = chunkTime;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for checkpoint position</h3>
+     * <h3 class="zh-CN">检查点文件地址的Getter方法</h3>
+     *
+     * @return <span class="en-US">File position of last checkpoint, <code>-1</code> if no checkpoint was written</span>
+     * <span class="zh-CN">最后检查点的文件地址，未写入检查点时为<code>-1</code></span>
+     */
+    public long getCheckpointPosition() {
+        return checkpointPosition;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for checkpoint position</h3>
+     * <h3 class="zh-CN">检查点文件地址的Setter方法</h3>
+     *
+     * @param checkpointPosition <span class="en-US">File position of last checkpoint, <code>-1</code> if no checkpoint was written</span>
+     *                           <span class="zh-CN">最后检查点的文件地址，未写入检查点时为<code>-1</code></span>
+     */
+    public void setCheckpointPosition(long checkpointPosition) {
+        this.checkpointPosition = checkpointPosition;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for checkpoint succeed record count</h3>
+     * <h3 class="zh-CN">检查点处理成功记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Process succeed record count of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的处理成功记录数</span>
+     */
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for checkpoint succeed record count</h3>
+     * <h3 class="zh-CN">检查点处理成功记录数的Setter方法</h3>
+     *
+     * @param successCount <span class="en-US">Process succeed record count of last checkpoint</span>
+     *                     <span class="zh-CN">最后检查点的处理成功记录数</span>
+     */
+    public void setSuccessCount(long successCount) {
+        this.successCount = successCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for checkpoint failed record count</h3>
+     * <h3 class="zh-CN">检查点处理失败记录数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Process failed record count of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的处理失败记录数</span>
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for checkpoint failed record count</h3>
+     * <h3 class="zh-CN">检查点处理失败记录数的Setter方法</h3>
+     *
+     * @param failedCount <span class="en-US">Process failed record count of last checkpoint</span>
+     *                    <span class="zh-CN">最后检查点的处理失败记录数</span>
+     */
+    public void setFailedCount(long failedCount) {
+        this.failedCount = failedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for checkpoint record index</h3>
+     * <h3 class="zh-CN">检查点记录索引的Getter方法</h3>
+     *
+     * @return <span class="en-US">Index of the next record of last checkpoint</span>
+     * <span class="zh-CN">最后检查点的下一条记录索引</span>
+     */
+    public long getRecordIndex() {
+        return recordIndex;
+    }
+
+    /**
+     * <h3 class="en-US">Setter method for checkpoint record index</h3>
+     * <h3 class="zh-CN">检查点记录索引的Setter方法</h3>
+     *
+     * @param recordIndex <span class="en-US">Index of the next record of last checkpoint</span>
+     *                    <span class="zh-CN">最后检查点的下一条记录索引</span>
+     */
+    public void setRecordIndex(long recordIndex) {
+        this.recordIndex = recordIndex;
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.beans.transactional;
+
+/**
+ * <h2 class="en-US">Metrics of registered transactions</h2>
+ * <h2 class="zh-CN">已注册事务的统计信息</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:48:19 $
+ */
+public final class TransactionMetrics {
+
+    /**
+     * <span class="en-US">Open transactions count</span>
+     * <span class="zh-CN">未结束的事务数</span>
+     */
+    private final long openCount;
+    /**
+     * <span class="en-US">Registered transactions count</span>
+     * <span class="zh-CN">已注册的事务数</span>
+     */
+    private final long registeredCount;
+    /**
+     * <span class="en-US">Completed transactions count, contains committed and rolled back transactions</span>
+     * <span class="zh-CN">已完成的事务数，包含已提交和已回滚的事务</span>
+     */
+    private final long completedCount;
+    /**
+     * <span class="en-US">Expired transactions count</span>
+     * <span class="zh-CN">已超时的事务数</span>
+     */
+    private final long expiredCount;
+
+    /**
+     * <h3 class="en-US">Constructor method for metrics of registered transactions</h3>
+     * <h3 class="zh-CN">已注册事务的统计信息的构造方法</h3>
+     *
+     * @param openCount       <span class="en-US">Open transactions count</span>
+     *                        <span class="zh-CN">未结束的事务数</span>
+     * @param registeredCount <span class="en-US">Registered transactions count</span>
+     *                        <span class="zh-CN">已注册的事务数</span>
+     * @param completedCount  <span class="en-US">Completed transactions count</span>
+     *                        <span class="zh-CN">已完成的事务数</span>
+     * @param expiredCount    <span class="en-US">Expired transactions count</span>
+     *                        <span class="zh-CN">已超时的事务数</span>
+     */
+    public TransactionMetrics(final long openCount, final long registeredCount,
+                              final long completedCount, final long expiredCount) {
+        this.openCount = openCount;
+        this.registeredCount = registeredCount;
+        this.completedCount = completedCount;
+        this.expiredCount = expiredCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for open transactions count</h3>
+     * <h3 class="zh-CN">未结束事务数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Open transactions count</span>
+     * <span class="zh-CN">未结束的事务数</span>
+     */
+    public long getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for registered transactions count</h3>
+     * <h3 class="zh-CN">已注册事务数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Registered transactions count</span>
+     * <span class="zh-CN">已注册的事务数</span>
+     */
+    public long getRegisteredCount() {
+        return registeredCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for completed transactions count</h3>
+     * <h3 class="zh-CN">已完成事务数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Completed transactions count</span>
+     * <span class="zh-CN">已完成的事务数</span>
+     */
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    /**
+     * <h3 class="en-US">Getter method for expired transactions count</h3>
+     * <h3 class="zh-CN">已超时事务数的Getter方法</h3>
+     *
+     * @return <span class="en-US">Expired transactions count</span>
+     * <span class="zh-CN">已超时的事务数</span>
+     */
+    public long getExpiredCount() {
+        return expiredCount;
+    }
+}
@@ -22,33 +22,71 @@ import org.nervousync.annotations.provider.Provider;
 import org.nervousync.commons.Globals;
 import org.nervousync.commons.io.StandardFile;
 import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.reference.ReferenceConfig;
 import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
 import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
+import org.nervousync.database.beans.task.TaskProgress;
 import org.nervousync.database.beans.task.impl.ExportTask;
 import org.nervousync.database.beans.task.impl.ImportTask;
 import org.nervousync.database.entity.EntityManager;
 import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.enumerations.query.OrderType;
 import org.nervousync.database.enumerations.transactional.Isolation;
+import org.nervousync.database.exceptions.core.DatabaseException;
 import org.nervousync.database.exceptions.data.DataParseException;
 import org.nervousync.database.exceptions.entity.TableConfigException;
 import org.nervousync.database.exceptions.operate.DropException;
 import org.nervousync.database.exceptions.operate.InsertException;
 import org.nervousync.database.exceptions.operate.UpdateException;
+import org.nervousync.database.providers.data.ExportProvider;
 import org.nervousync.database.providers.data.TaskProvider;
+import org.nervousync.database.providers.data.core.TaskStorage;
+import org.nervousync.database.providers.data.impl.ExcelExportProviderImpl;
 import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.database.query.filter.OrderBy;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.enumerations.core.ConnectionCode;
+import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.exceptions.utils.DataInvalidException;
-import org.nervousync.office.excel.ExcelWriter;
 import org.nervousync.utils.*;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
 
 import java.io.*;
 import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
 import java.util.*;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Data import/export utilities</h2>
@@ -66,11 +104,21 @@ public final class DataUtils {
 	 */
 	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(DataUtils.class);
 	private static final int TYPE_LENGTH = 64;
+	/**
+	 * <span class="en-US">Extension name of export part file</span>
+	 * <span class="zh-CN">导出分片文件的扩展名</span>
+	 */
+	private static final String PART_FILE_EXTENSION_NAME = ".part";
 	/**
 	 * <span class="en-US">Registered task information adapter identify code and implementation class mapping table</span>
 	 * <span class="zh-CN">注册的任务信息适配器识别代码和实现类映射表</span>
 	 */
 	private static final Hashtable<String, Class<?>> REGISTERED_TASK_PROVIDERS = new Hashtable<>();
+	/**
+	 * <span class="en-US">Registered export provider name and implementation class mapping table</span>
+	 * <span class="zh-CN">注册的导出适配器名称和实现类映射表</span>
+	 */
+	private static final Hashtable<String, Class<?>> REGISTERED_EXPORT_PROVIDERS = new Hashtable<>();
 	/**
 	 * <span class="en-US">Task storage provider instance</span>
 	 * <span class="zh-CN">任务存储适配器实例对象</span>
@@ -87,21 +135,24 @@ public final class DataUtils {
 	 */
 	private final String identifyCode;
 	/**
-	 * <span class="en-US">The maximum number of threads allowed to perform processing tasks</span>
-	 * <span class="zh-CN">允许执行处理任务的最大线程数</span>
+	 * <span class="en-US">
+	 * The maximum number of import and export tasks executed simultaneously, shared by import and export pools.
+	 * Concurrent queries of parallel exports are executed by the query pool, which bounded by the same value.
+	 * </span>
+	 * <span class="zh-CN">允许同时执行的导入和导出任务总数，由导入和导出任务池共享。并行导出的并发查询由查询池执行，查询池受相同数值限制</span>
 	 */
 	private int threadLimit;
 
 	/**
-	 * <span class="en-US">Start the scheduler execution status of the import and export task</span>
-	 * <span class="zh-CN">启动导入导出任务的调度程序执行状态</span>
+	 * <span class="en-US">A dispatch request is waiting to be executed by the scheduler</span>
+	 * <span class="zh-CN">调度请求正在等待调度器执行</span>
 	 */
-	private boolean scheduleRunning = Boolean.FALSE;
+	private final AtomicBoolean dispatchPending = new AtomicBoolean(Boolean.FALSE);
 	/**
-	 * <span class="en-US">Remove scheduler execution status of completed tasks</span>
-	 * <span class="zh-CN">删除已完成任务的调度程序执行状态</span>
+	 * <span class="en-US">Lock of task admission, the capacity check and the registration of executing task are performed atomically</span>
+	 * <span class="zh-CN">任务准入锁，容量检查和执行中任务的注册以原子方式执行</span>
 	 */
-	private boolean removeRunning = Boolean.FALSE;
+	private final Object admissionLock = new Object();
 	/**
 	 * <span class="en-US">
 	 * Automatically delete the currently delayed task information.
@@ -111,15 +162,35 @@ public final class DataUtils {
 	 */
 	private long expireTime;
 	/**
-	 * <span class="en-US">Remove scheduler execution status of completed tasks</span>
-	 * <span class="zh-CN">定时任务调度器服务</span>
+	 * <span class="en-US">Single thread scheduler service, dispatch pending tasks and remove expired tasks</span>
+	 * <span class="zh-CN">单线程调度器服务，用于分派待处理任务和移除过期任务</span>
 	 */
 	private ScheduledExecutorService scheduledExecutorService;
 	/**
-	 * <span class="en-US">List of processing threads being executed</span>
-	 * <span class="zh-CN">正在执行的处理线程列表</span>
+	 * <span class="en-US">Executor service for import tasks, bounded by the thread limit excluding the slots reserved for exports</span>
+	 * <span class="zh-CN">导入任务的执行器服务，受除去导出保留执行位置后的最大线程数限制</span>
+	 */
+	private final ThreadPoolExecutor importExecutor;
+	/**
+	 * <span class="en-US">Executor service for export tasks, bounded by the thread limit, not blocked by bulk imports</span>
+	 * <span class="zh-CN">导出任务的执行器服务，受最大线程数限制，不会被大量导入任务阻塞</span>
 	 */
-	private final List<ProcessThread> runningThreads;
+	private final ThreadPoolExecutor exportExecutor;
+	/**
+	 * <span class="en-US">Executor service for export queries, bounded by the thread limit</span>
+	 * <span class="zh-CN">导出查询的执行器服务，受最大线程数限制</span>
+	 */
+	private final ThreadPoolExecutor queryExecutor;
+	/**
+	 * <span class="en-US">Task processors being executed, key is task code</span>
+	 * <span class="zh-CN">正在执行的任务处理器，键值为任务识别代码</span>
+	 */
+	private final Map<Long, TaskProcessor> runningTasks;
+	/**
+	 * <span class="en-US">Registered table existence filters, key is entity class name</span>
+	 * <span class="zh-CN">注册的数据表存在性过滤器，键值为实体类名</span>
+	 */
+	private final Map<String, ExistenceFilter> existenceFilters;
 
 	static {
 		ServiceLoader.load(TaskProvider.class)
@@ -127,6 +198,11 @@ public final class DataUtils {
 						Optional.ofNullable(taskProvider.getClass().getAnnotation(Provider.class))
 								.ifPresent(provider -> REGISTERED_TASK_PROVIDERS.put(provider.name(),
 										taskProvider.getClass())));
+		ServiceLoader.load(ExportProvider.class)
+				.forEach(exportProvider ->
+						Optional.ofNullable(exportProvider.getClass().getAnnotation(Provider.class))
+								.ifPresent(provider -> REGISTERED_EXPORT_PROVIDERS.put(provider.name(),
+										exportProvider.getClass())));
 	}
 
 	/**
@@ -152,7 +228,7 @@ public final class DataUtils {
 		} else {
 			this.taskProvider = new MemoryTaskProviderImpl();
 		}
-		this.taskProvider.initialize();
+		this.taskProvider.initialize(this.basePath);
 		this.threadLimit = (threadLimit <= Globals.INITIALIZE_INT_VALUE)
 				? DatabaseCommons.DEFAULT_PROCESS_THREAD_LIMIT
 				: threadLimit;
@@ -160,12 +236,25 @@ public final class DataUtils {
 				? DatabaseCommons.DEFAULT_STORAGE_EXPIRE_TIME
 				: expireTime;
 		this.identifyCode = DataUtils.identifyCode(this.basePath);
-		this.runningThreads = new ArrayList<>();
-		this.scheduledExecutorService = Executors.newScheduledThreadPool(2);
-		this.scheduledExecutorService.scheduleAtFixedRate(this::scheduleTask,
-				0L, 1000L, TimeUnit.MILLISECONDS);
-		this.scheduledExecutorService.scheduleAtFixedRate(this::removeTask,
-				0L, 1000L, TimeUnit.MILLISECONDS);
+		this.runningTasks = new ConcurrentHashMap<>();
+		this.existenceFilters = new ConcurrentHashMap<>();
+		this.importExecutor = new ThreadPoolExecutor(importLimit(this.threadLimit), importLimit(this.threadLimit),
+				60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		this.importExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+		this.exportExecutor = new ThreadPoolExecutor(this.threadLimit, this.threadLimit,
+				60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		this.exportExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+		this.queryExecutor = new ThreadPoolExecutor(this.threadLimit, this.threadLimit,
+				60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+		this.queryExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+		this.scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+		this.scheduledExecutorService.scheduleWithFixedDelay(this::scheduleTask,
+				0L, DatabaseCommons.DEFAULT_SCHEDULE_INTERVAL, TimeUnit.MILLISECONDS);
+		this.scheduledExecutorService.scheduleWithFixedDelay(this::removeTask,
+				0L, DatabaseCommons.DEFAULT_SCHEDULE_INTERVAL, TimeUnit.MILLISECONDS);
+		this.scheduledExecutorService.scheduleWithFixedDelay(this::renewLease,
+				DatabaseCommons.DEFAULT_TASK_LEASE_TIME / 3, DatabaseCommons.DEFAULT_TASK_LEASE_TIME / 3,
+				TimeUnit.MILLISECONDS);
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Data_Utils_Config", this.threadLimit, this.expireTime);
 		}
@@ -235,6 +324,22 @@ public final class DataUtils {
 		return REGISTERED_TASK_PROVIDERS.containsKey(providerName);
 	}
 
+	/**
+	 * <h3 class="en-US">Checks whether the given export provider name is registered</h3>
+	 * <h3 class="zh-CN">检查给定的导出适配器名称是否注册</h3>
+	 *
+	 * @param exportType <span class="en-US">Export provider name</span>
+	 *                   <span class="zh-CN">导出适配器名称</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public static boolean registeredExporter(final String exportType) {
+		if (StringUtils.isEmpty(exportType)) {
+			return Boolean.FALSE;
+		}
+		return REGISTERED_EXPORT_PROVIDERS.containsKey(exportType);
+	}
+
 	public static DataUtils getInstance() {
 		return INSTANCE;
 	}
@@ -271,6 +376,55 @@ public final class DataUtils {
 	 */
 	public long addTask(final InputStream inputStream, final Long userCode,
 	                    final boolean transactional, final int timeout) {
+		return this.addTask(inputStream, userCode, transactional, timeout, DatabaseCommons.DEFAULT_TASK_PRIORITY);
+	}
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param inputStream   <span class="en-US">data input stream</span>
+	 *                      <span class="zh-CN">数据输入流</span>
+	 * @param userCode      <span class="en-US">User identification code</span>
+	 *                      <span class="zh-CN">用户识别代码</span>
+	 * @param transactional <span class="en-US">Import tasks using transactions</span>
+	 *                      <span class="zh-CN">导入任务使用事务</span>
+	 * @param timeout       <span class="en-US">Transaction timeout</span>
+	 *                      <span class="zh-CN">事务超时时间</span>
+	 * @param priority      <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+	 *                      <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final InputStream inputStream, final Long userCode,
+	                    final boolean transactional, final int timeout, final int priority) {
+		return this.addTask(inputStream, userCode, transactional, timeout,
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_LONG, priority);
+	}
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param inputStream   <span class="en-US">data input stream</span>
+	 *                      <span class="zh-CN">数据输入流</span>
+	 * @param userCode      <span class="en-US">User identification code</span>
+	 *                      <span class="zh-CN">用户识别代码</span>
+	 * @param transactional <span class="en-US">Import tasks using transactions</span>
+	 *                      <span class="zh-CN">导入任务使用事务</span>
+	 * @param timeout       <span class="en-US">Transaction timeout</span>
+	 *                      <span class="zh-CN">事务超时时间</span>
+	 * @param chunkSize     <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+	 * @param chunkTime     <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+	 * @param priority      <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+	 *                      <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final InputStream inputStream, final Long userCode, final boolean transactional,
+	                    final int timeout, final int chunkSize, final long chunkTime, final int priority) {
 		if (inputStream == null) {
 			return Globals.DEFAULT_VALUE_LONG;
 		}
@@ -287,11 +441,178 @@ public final class DataUtils {
 					taskInfo.setUserCode(userCode);
 					taskInfo.setTransactional(transactional);
 					taskInfo.setTimeout(timeout);
-					return this.taskProvider.addTask(taskInfo) ? generateCode : Globals.DEFAULT_VALUE_LONG;
+					taskInfo.setChunkSize(chunkSize);
+					taskInfo.setChunkTime(chunkTime);
+					taskInfo.setPriority(priority);
+					return this.submitTask(taskInfo);
 				})
 				.orElse(Globals.DEFAULT_VALUE_LONG);
 	}
 
+	/**
+	 * <h3 class="en-US">Add import task and process the data while it is still being received</h3>
+	 * <h3 class="zh-CN">添加导入任务，并在接收数据的同时处理数据</h3>
+	 *
+	 * @param inputStream <span class="en-US">data input stream</span>
+	 *                    <span class="zh-CN">数据输入流</span>
+	 * @param userCode    <span class="en-US">User identification code</span>
+	 *                    <span class="zh-CN">用户识别代码</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long streamTask(final InputStream inputStream, final Long userCode) {
+		return this.streamTask(inputStream, userCode, Boolean.FALSE, Globals.DEFAULT_VALUE_INT,
+				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_LONG, DatabaseCommons.DEFAULT_TASK_PRIORITY);
+	}
+
+	/**
+	 * <h3 class="en-US">Add import task and process the data while it is still being received</h3>
+	 * <h3 class="zh-CN">添加导入任务，并在接收数据的同时处理数据</h3>
+	 *
+	 * @param inputStream   <span class="en-US">data input stream</span>
+	 *                      <span class="zh-CN">数据输入流</span>
+	 * @param userCode      <span class="en-US">User identification code</span>
+	 *                      <span class="zh-CN">用户识别代码</span>
+	 * @param transactional <span class="en-US">Import tasks using transactions</span>
+	 *                      <span class="zh-CN">导入任务使用事务</span>
+	 * @param timeout       <span class="en-US">Transaction timeout</span>
+	 *                      <span class="zh-CN">事务超时时间</span>
+	 * @param chunkSize     <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+	 * @param chunkTime     <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+	 * @return <span class="en-US">Task unique identification code, <code>-1</code> if receiving failed</span>
+	 * <span class="zh-CN">任务唯一识别代码，接收失败时返回<code>-1</code></span>
+	 */
+	public long streamTask(final InputStream inputStream, final Long userCode, final boolean transactional,
+	                       final int timeout, final int chunkSize, final long chunkTime) {
+		return this.streamTask(inputStream, userCode, transactional, timeout, chunkSize, chunkTime,
+				DatabaseCommons.DEFAULT_TASK_PRIORITY);
+	}
+
+	/**
+	 * <h3 class="en-US">Add import task and process the data while it is still being received</h3>
+	 * <span class="en-US">
+	 * The received data is written to the task data file for durability, and the task is executed by the current node
+	 * immediately, the records are parsed as soon as they arrive. The uploader is blocked when the received but not
+	 * parsed data exceeds the stream buffer limit. The method returns after the input stream was completely received.
+	 * If receiving failed, the parser is aborted, the uncommitted records are rolled back and the task is finished
+	 * with error.
+	 * The task passes the same admission check as the scheduled tasks, if the import pool is full or the user
+	 * reached the fair share of the pool, the data is saved and the task is queued as a normal import task.
+	 * </span>
+	 * <h3 class="zh-CN">添加导入任务，并在接收数据的同时处理数据</h3>
+	 * <span class="zh-CN">
+	 * 接收的数据写入任务数据文件以保证持久性，任务立即由当前节点执行，记录到达后即被解析。
+	 * 已接收但未解析的数据超过流缓冲区限制时阻塞上传方。输入流完全接收后方法返回。
+	 * 如果接收失败，解析器将中止，未提交的记录被回滚，任务以错误状态结束。
+	 * 任务与调度任务执行相同的准入检查，如果导入任务池已满或用户已达到任务池的公平份额，数据将被保存，任务作为普通导入任务排队
+	 * </span>
+	 *
+	 * @param inputStream   <span class="en-US">data input stream</span>
+	 *                      <span class="zh-CN">数据输入流</span>
+	 * @param userCode      <span class="en-US">User identification code</span>
+	 *                      <span class="zh-CN">用户识别代码</span>
+	 * @param transactional <span class="en-US">Import tasks using transactions</span>
+	 *                      <span class="zh-CN">导入任务使用事务</span>
+	 * @param timeout       <span class="en-US">Transaction timeout</span>
+	 *                      <span class="zh-CN">事务超时时间</span>
+	 * @param chunkSize     <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+	 * @param chunkTime     <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+	 *                      <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+	 * @param priority      <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+	 *                      <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+	 * @return <span class="en-US">Task unique identification code, <code>-1</code> if receiving failed</span>
+	 * <span class="zh-CN">任务唯一识别代码，接收失败时返回<code>-1</code></span>
+	 */
+	public long streamTask(final InputStream inputStream, final Long userCode, final boolean transactional,
+	                       final int timeout, final int chunkSize, final long chunkTime, final int priority) {
+		if (inputStream == null) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		Long taskCode = IDUtils.snowflake();
+		if (taskCode == null || ObjectUtils.nullSafeEquals(taskCode, Globals.DEFAULT_VALUE_LONG)) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		ImportTask taskInfo = new ImportTask();
+		taskInfo.setTaskCode(taskCode);
+		taskInfo.setUserCode(userCode);
+		taskInfo.setPriority(priority);
+		String dataPath = this.dataPath(taskCode);
+		taskInfo.setDataPath(dataPath);
+		taskInfo.setTransactional(transactional);
+		taskInfo.setTimeout(timeout);
+		taskInfo.setChunkSize(chunkSize);
+		taskInfo.setChunkTime(chunkTime);
+		StreamFeed streamFeed = new StreamFeed(DatabaseCommons.DEFAULT_STREAM_BUFFER_LIMIT);
+		boolean received = Boolean.FALSE;
+		Exception receiveError = null;
+		ImportProcessor importProcessor = new ImportProcessor(taskInfo, streamFeed);
+		boolean admitted;
+		synchronized (this.admissionLock) {
+			final int threadLimit = this.threadLimit;
+			admitted = this.runningTasks.size() < threadLimit && this.poolAccepted(taskInfo, threadLimit)
+					&& this.fairAccepted(taskInfo, threadLimit);
+			if (admitted) {
+				this.runningTasks.put(taskCode, importProcessor);
+			}
+		}
+		if (!admitted) {
+			//	No capacity for the task, save the data and wait for the scheduler like the other import tasks
+			return this.addTask(inputStream, userCode, transactional, timeout, chunkSize, chunkTime, priority);
+		}
+		boolean executing = Boolean.FALSE;
+		try (FileOutputStream fileOutputStream = new FileOutputStream(dataPath)) {
+			long currentTime = DateTimeUtils.currentUTCTimeMillis();
+			taskInfo.setCreateTime(currentTime);
+			taskInfo.setStartTime(currentTime);
+			taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_PROCESS);
+			taskInfo.setIdentifyCode(this.identifyCode);
+			taskInfo.setLeaseExpire(currentTime + DatabaseCommons.DEFAULT_TASK_LEASE_TIME);
+			if (!this.taskProvider.addTask(taskInfo)) {
+				FileUtils.removeFile(dataPath);
+				return Globals.DEFAULT_VALUE_LONG;
+			}
+			try {
+				this.importExecutor.execute(importProcessor);
+			} catch (RejectedExecutionException e) {
+				this.taskProvider.finishTask(taskCode, this.identifyCode, Boolean.TRUE, e.getMessage());
+				return Globals.DEFAULT_VALUE_LONG;
+			}
+			executing = Boolean.TRUE;
+			byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+			int readLength;
+			while ((readLength = inputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+				streamFeed.awaitCapacity();
+				fileOutputStream.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
+				streamFeed.received(readLength);
+			}
+			fileOutputStream.getFD().sync();
+			received = Boolean.TRUE;
+		} catch (IOException e) {
+			receiveError = e;
+			LOGGER.error("Data_Stream_Receive_Error", taskCode);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		} catch (InterruptedException e) {
+			receiveError = e;
+			Thread.currentThread().interrupt();
+		} finally {
+			if (!executing) {
+				//	Release the admitted slot, the processor was never started
+				this.runningTasks.remove(taskCode, importProcessor);
+			}
+			if (received) {
+				streamFeed.complete();
+			} else {
+				streamFeed.fail(new DataParseException(0x00DB00000013L, receiveError, taskCode));
+			}
+		}
+		return received ? taskCode : Globals.DEFAULT_VALUE_LONG;
+	}
+
 	/**
 	 * <h3 class="en-US">Add task information</h3>
 	 * <h3 class="zh-CN">添加任务信息</h3>
@@ -304,6 +625,136 @@ public final class DataUtils {
 	 * <span class="zh-CN">任务唯一识别代码</span>
 	 */
 	public long addTask(final Long userCode, final QueryInfo... queryInfos) {
+		return this.addTask(userCode, DatabaseCommons.EXPORT_TYPE_EXCEL, Boolean.FALSE, queryInfos);
+	}
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param userCode   <span class="en-US">User identification code</span>
+	 *                   <span class="zh-CN">用户识别代码</span>
+	 * @param exportType <span class="en-US">Export provider name</span>
+	 *                   <span class="zh-CN">导出适配器名称</span>
+	 * @param compress   <span class="en-US">Compress export file using GZIP</span>
+	 *                   <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @param queryInfos <span class="en-US">Data query information array</span>
+	 *                   <span class="zh-CN">数据查询信息数组</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final Long userCode, final String exportType, final boolean compress,
+	                    final QueryInfo... queryInfos) {
+		return this.addTask(userCode, exportType, compress, 1, queryInfos);
+	}
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param userCode    <span class="en-US">User identification code</span>
+	 *                    <span class="zh-CN">用户识别代码</span>
+	 * @param exportType  <span class="en-US">Export provider name</span>
+	 *                    <span class="zh-CN">导出适配器名称</span>
+	 * @param compress    <span class="en-US">Compress export file using GZIP</span>
+	 *                    <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @param parallelism <span class="en-US">Maximum number of queries executed concurrently</span>
+	 *                    <span class="zh-CN">同时执行的最大查询数</span>
+	 * @param queryInfos  <span class="en-US">Data query information array</span>
+	 *                    <span class="zh-CN">数据查询信息数组</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final Long userCode, final String exportType, final boolean compress,
+	                    final int parallelism, final QueryInfo... queryInfos) {
+		return this.addTask(userCode, exportType, compress, parallelism, DatabaseCommons.DEFAULT_TASK_PRIORITY,
+				queryInfos);
+	}
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param userCode    <span class="en-US">User identification code</span>
+	 *                    <span class="zh-CN">用户识别代码</span>
+	 * @param exportType  <span class="en-US">Export provider name</span>
+	 *                    <span class="zh-CN">导出适配器名称</span>
+	 * @param compress    <span class="en-US">Compress export file using GZIP</span>
+	 *                    <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @param parallelism <span class="en-US">Maximum number of queries executed concurrently</span>
+	 *                    <span class="zh-CN">同时执行的最大查询数</span>
+	 * @param priority    <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+	 *                    <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+	 * @param queryInfos  <span class="en-US">Data query information array</span>
+	 *                    <span class="zh-CN">数据查询信息数组</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final Long userCode, final String exportType, final boolean compress,
+	                    final int parallelism, final int priority, final QueryInfo... queryInfos) {
+		if (!registeredExporter(exportType)) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		if (!exportProvider(exportType).mixedClasses()
+				&& Arrays.stream(queryInfos).map(QueryInfo::getMainEntity).distinct().count() > 1) {
+			LOGGER.error("Data_Export_Mixed_Error", exportType);
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		Long generateCode = IDUtils.snowflake();
+		return Optional.ofNullable(generateCode)
+				.filter(taskCode -> !ObjectUtils.nullSafeEquals(taskCode, Globals.DEFAULT_VALUE_LONG))
+				.map(dataPath -> {
+					ExportTask taskInfo = new ExportTask();
+					taskInfo.setTaskCode(generateCode);
+					taskInfo.setCreateTime(DateTimeUtils.currentUTCTimeMillis());
+					taskInfo.setQueryInfoList(Arrays.asList(queryInfos));
+					taskInfo.setExportType(exportType);
+					taskInfo.setCompress(compress);
+					taskInfo.setParallelism(Math.max(1, parallelism));
+					taskInfo.setPriority(priority);
+					taskInfo.setUserCode(userCode);
+					return this.submitTask(taskInfo);
+				})
+				.orElse(Globals.DEFAULT_VALUE_LONG);
+	}
+
+	/**
+	 * <h3 class="en-US">Add incremental export task information</h3>
+	 * <span class="en-US">
+	 * Only records changed since the stored watermark of given name are exported, the records are written in the
+	 * data generator format, records which removed flag field is <code>true</code> are written as remove operates.
+	 * The watermark is advanced to the largest exported value after the data file was completed.
+	 * The watermark field must be a timestamp or a global change sequence, the version column is used only if it
+	 * is a timestamp. Records within the safety lag of a timestamp watermark are exported again by the next task,
+	 * so records committed late are not missed.
+	 * </span>
+	 * <h3 class="zh-CN">添加增量导出任务信息</h3>
+	 * <span class="zh-CN">
+	 * 仅导出给定名称的已保存水位线之后发生变化的记录，记录以数据生成器的格式写入，删除标记属性为<code>true</code>的记录写入为删除操作。
+	 * 数据文件写入完成后，水位线前移至导出记录的最大值。水位线属性必须为时间戳或全局变更序列，版本列仅在为时间戳时使用。
+	 * 时间戳水位线安全延迟内的记录将由下一个任务再次导出，延迟提交的记录不会遗漏
+	 * </span>
+	 *
+	 * @param userCode       <span class="en-US">User identification code</span>
+	 *                       <span class="zh-CN">用户识别代码</span>
+	 * @param watermarkName  <span class="en-US">Watermark name of incremental export definition</span>
+	 *                       <span class="zh-CN">增量导出定义的水位线名称</span>
+	 * @param watermarkField <span class="en-US">Identify key of watermark field, empty for using timestamp version column</span>
+	 *                       <span class="zh-CN">水位线属性的识别代码，为空时使用时间戳类型的版本列</span>
+	 * @param removeField    <span class="en-US">Identify key of removed flag field, empty for not export remove records</span>
+	 *                       <span class="zh-CN">删除标记属性的识别代码，为空时不导出删除记录</span>
+	 * @param priority       <span class="en-US">Task priority, tasks with higher priority are scheduled first</span>
+	 *                       <span class="zh-CN">任务优先级，优先级高的任务优先调度</span>
+	 * @param queryInfos     <span class="en-US">Data query information array</span>
+	 *                       <span class="zh-CN">数据查询信息数组</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	public long addTask(final Long userCode, final String watermarkName, final String watermarkField,
+	                    final String removeField, final int priority, final QueryInfo... queryInfos) {
+		if (StringUtils.isEmpty(watermarkName)) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
 		Long generateCode = IDUtils.snowflake();
 		return Optional.ofNullable(generateCode)
 				.filter(taskCode -> !ObjectUtils.nullSafeEquals(taskCode, Globals.DEFAULT_VALUE_LONG))
@@ -312,8 +763,12 @@ public final class DataUtils {
 					taskInfo.setTaskCode(generateCode);
 					taskInfo.setCreateTime(DateTimeUtils.currentUTCTimeMillis());
 					taskInfo.setQueryInfoList(Arrays.asList(queryInfos));
+					taskInfo.setWatermarkName(watermarkName);
+					taskInfo.setWatermarkField(watermarkField);
+					taskInfo.setRemoveField(removeField);
+					taskInfo.setPriority(priority);
 					taskInfo.setUserCode(userCode);
-					return this.taskProvider.addTask(taskInfo) ? generateCode : Globals.DEFAULT_VALUE_LONG;
+					return this.submitTask(taskInfo);
 				})
 				.orElse(Globals.DEFAULT_VALUE_LONG);
 	}
@@ -330,6 +785,10 @@ public final class DataUtils {
 	public void config(final int threadLimit, final long expireTime) {
 		if (threadLimit > 0) {
 			this.threadLimit = threadLimit;
+			DataUtils.resize(this.importExecutor, importLimit(threadLimit));
+			DataUtils.resize(this.exportExecutor, threadLimit);
+			DataUtils.resize(this.queryExecutor, threadLimit);
+			this.wakeUp();
 		}
 		this.expireTime = (expireTime < Globals.DEFAULT_VALUE_LONG)
 				? DatabaseCommons.DEFAULT_STORAGE_EXPIRE_TIME
@@ -387,100 +846,718 @@ public final class DataUtils {
 	}
 
 	/**
-	 * <h3 class="en-US">Initialize the data generator instance object</h3>
-	 * <h3 class="zh-CN">初始化数据生成器实例对象</h3>
-	 *
-	 * @param dataPath <span class="en-US">Data storage path</span>
-	 *                 <span class="zh-CN">数据保存地址</span>
-	 * @return <span class="en-US">Data generator instance object</span>
-	 * <span class="zh-CN">数据生成器实例对象</span>
-	 * @throws FileNotFoundException <span class="en-US">Error creating data file</span>
-	 *                               <span class="zh-CN">创建数据文件出错</span>
-	 */
-	public static DataGenerator newGenerator(final String dataPath) throws FileNotFoundException {
-		return new DataGenerator(dataPath);
-	}
-
-	/**
-	 * <h3 class="en-US">Initialize the data exporter instance object</h3>
-	 * <h3 class="zh-CN">初始化数据导出器实例对象</h3>
+	 * <h3 class="en-US">Build the existence filter of given entity class by scanning the primary keys of table</h3>
+	 * <span class="en-US">
+	 * Import tasks consult the filter before reading the record, the primary keys definitely absent in table
+	 * will be inserted without the locking read, the filter is maintained incrementally by import tasks.
+	 * The filter is only valid while import tasks are the only writer of the table, records written by other paths
+	 * are unknown to the filter. If inserting a key absent in the filter failed, the import task falls back to
+	 * read and update the record, and the filter is removed until it was built again.
+	 * </span>
+	 * <h3 class="zh-CN">扫描数据表的主键构建给定实体类的存在性过滤器</h3>
+	 * <span class="zh-CN">
+	 * 导入任务在读取记录前检查过滤器，确定不存在于数据表中的主键将直接插入而不执行锁定读取，过滤器由导入任务增量维护。
+	 * 过滤器仅在导入任务是数据表唯一的写入者时有效，通过其他途径写入的记录不会记录在过滤器中。
+	 * 如果插入过滤器中不存在的主键失败，导入任务将回退为读取并更新记录，并移除过滤器直到重新构建。
+	 * </span>
 	 *
-	 * @param dataPath <span class="en-US">Data storage path</span>
-	 *                 <span class="zh-CN">数据保存地址</span>
-	 * @return <span class="en-US">Data exporter instance object</span>
-	 * <span class="zh-CN">数据导出器实例对象</span>
-	 * @throws DataInvalidException <span class="en-US">File format error</span>
-	 *                              <span class="zh-CN">文件格式错误</span>
-	 */
-	public static DataExporter newExporter(final String dataPath) throws DataInvalidException {
-		return new DataExporter(dataPath);
-	}
-
-	/**
-	 * <h3 class="en-US">Destroy current instance</h3>
-	 * <h3 class="zh-CN">销毁当前实例</h3>
+	 * @param entityClass   <span class="en-US">Entity class</span>
+	 *                      <span class="zh-CN">实体类</span>
+	 * @param expectedCount <span class="en-US">Expected number of records in table after import</span>
+	 *                      <span class="zh-CN">导入完成后数据表中的预期记录数</span>
+	 * @return <span class="en-US">Process result</span>
+	 * <span class="zh-CN">执行结果</span>
 	 */
-	public static void destroy() {
-		if (INSTANCE == null) {
-			return;
+	public boolean existenceFilter(@Nonnull final Class<?> entityClass, final long expectedCount) {
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		if (tableConfig == null) {
+			return Boolean.FALSE;
 		}
-		if (INSTANCE.scheduledExecutorService != null) {
-			INSTANCE.scheduledExecutorService.shutdown();
-			INSTANCE.scheduledExecutorService = null;
+		List<ColumnConfig> keyColumns = keyColumns(tableConfig);
+		if (keyColumns.isEmpty()) {
+			return Boolean.FALSE;
+		}
+		ExistenceFilter existenceFilter = new ExistenceFilter(expectedCount, DatabaseCommons.DEFAULT_FILTER_FALSE_RATE);
+		try {
+			List<Object> cursor = null;
+			long keyCount = 0L;
+			List<?> dataList;
+			do {
+				//	Each page continues after the last read key, the scan cost does not grow with the offset
+				dataList = queryList(snapshotQuery(tableConfig, keyColumns, cursor, null,
+						DatabaseCommons.DEFAULT_PAGE_NO, DatabaseCommons.DEFAULT_FILTER_PAGE_LIMIT, Boolean.TRUE));
+				for (Object object : dataList) {
+					Map<String, Object> primaryKeyMap = new HashMap<>();
+					keyColumns.forEach(columnConfig -> primaryKeyMap.put(columnConfig.getFieldName(),
+							ReflectionUtils.getFieldValue(columnConfig.getFieldName(), object)));
+					existenceFilter.put(primaryKeyMap);
+				}
+				keyCount += dataList.size();
+				if (!dataList.isEmpty()) {
+					cursor = keyValues(keyColumns, dataList.get(dataList.size() - 1));
+				}
+			} while (dataList.size() == DatabaseCommons.DEFAULT_FILTER_PAGE_LIMIT);
+			this.existenceFilters.put(ClassUtils.originalClassName(entityClass), existenceFilter);
+			LOGGER.info("Data_Filter_Build_Info", ClassUtils.originalClassName(entityClass), keyCount);
+			return Boolean.TRUE;
+		} catch (Exception e) {
+			LOGGER.error("Data_Filter_Build_Error", ClassUtils.originalClassName(entityClass));
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return Boolean.FALSE;
 		}
-		INSTANCE.taskProvider.destroy();
-		INSTANCE = null;
 	}
 
 	/**
-	 * <h3 class="en-US">Generate a unique identification code for the current node</h3>
-	 * <h3 class="zh-CN">生成当前节点的唯一识别代码</h3>
+	 * <h3 class="en-US">Remove the existence filter of given entity class</h3>
+	 * <h3 class="zh-CN">移除给定实体类的存在性过滤器</h3>
 	 *
-	 * @param basePath <span class="en-US">The base path for system execution</span>
-	 *                 <span class="zh-CN">系统执行的基础路径</span>
-	 * @return <span class="en-US">Generated unique identification code</span>
-	 * <span class="zh-CN">生成的唯一识别代码</span>
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
 	 */
-	private static String identifyCode(final String basePath) {
-		TreeMap<String, String> identifyMap = new TreeMap<>();
-		identifyMap.put("IdentifyKey", SystemUtils.identifiedKey());
-		identifyMap.put("BasePath", basePath);
-		if (LOGGER.isDebugEnabled()) {
-			LOGGER.debug("Identify_Information_Data",
-					StringUtils.objectToString(identifyMap, StringUtils.StringType.JSON, Boolean.TRUE));
-		}
-		return ConvertUtils.toHex(SecurityUtils.SHA256(identifyMap));
+	public void removeFilter(@Nonnull final Class<?> entityClass) {
+		this.existenceFilters.remove(ClassUtils.originalClassName(entityClass));
 	}
 
 	/**
-	 * <h3 class="en-US">Static methods are used to update the processing node and start execution time of the task</h3>
-	 * <h3 class="zh-CN">静态方法用于更新任务的处理节点和开始执行时间</h3>
+	 * <h3 class="en-US">Write snapshot of given tables, or all registered tables if not given, to target directory</h3>
+	 * <h3 class="zh-CN">写入给定数据表的快照到目标目录，未指定时写入所有已注册的数据表</h3>
 	 *
-	 * @param taskCode     <span class="en-US">task identification code</span>
-	 *                     <span class="zh-CN">任务识别代码</span>
-	 * @param identifyCode <span class="en-US">Execution node unique identification code</span>
-	 *                     <span class="zh-CN">执行节点唯一识别代码</span>
+	 * @param dataPath      <span class="en-US">Snapshot directory path</span>
+	 *                      <span class="zh-CN">快照目录路径</span>
+	 * @param entityClasses <span class="en-US">Entity class array</span>
+	 *                      <span class="zh-CN">实体类数组</span>
+	 * @return <span class="en-US">Process result</span>
+	 * <span class="zh-CN">执行结果</span>
 	 */
-	private static void processTask(@Nonnull final Long taskCode, final String identifyCode) {
-		if (INSTANCE != null) {
-			INSTANCE.taskProvider.processTask(taskCode, identifyCode);
-		}
+	public boolean snapshot(@Nonnull final String dataPath, final Class<?>... entityClasses) {
+		return this.snapshot(dataPath, Boolean.FALSE, entityClasses);
 	}
 
 	/**
-	 * <h3 class="en-US">Complete the thread task and save the task processing results to the task list</h3>
-	 * <h3 class="zh-CN">完成线程任务，并将任务处理结果保存到任务列表中</h3>
-	 *
-	 * @param processThread <span class="en-US">Task processing thread instance object</span>
-	 *                      <span class="zh-CN">任务处理线程实例对象</span>
+	 * <h3 class="en-US">Write snapshot of given tables, or all registered tables if not given, to target directory</h3>
+	 * <span class="en-US">
+	 * Each table is written to its own data file in the data generator format, tables are read in parallel.
+	 * Pages are read ordered by primary key and continue after the last read key instead of using offsets,
+	 * so records inserted or removed while reading do not shift the pages and cause records to be skipped or duplicated.
+	 * If split ranges is <code>true</code>, the table is split into primary key ranges by an ordered key scan,
+	 * and the ranges are read in parallel.
+	 * </span>
+	 * <h3 class="zh-CN">写入给定数据表的快照到目标目录，未指定时写入所有已注册的数据表</h3>
+	 * <span class="zh-CN">
+	 * 每个数据表以数据生成器的格式写入独立的数据文件，数据表并行读取。分页按主键排序并从最后读取的主键之后继续读取，不使用偏移量，
+	 * 读取期间插入或删除的记录不会导致分页偏移而跳过或重复读取记录。拆分范围为<code>true</code>时，通过有序的主键扫描将数据表拆分为主键范围，并行读取各个范围
+	 * </span>
+	 *
+	 * @param dataPath      <span class="en-US">Snapshot directory path</span>
+	 *                      <span class="zh-CN">快照目录路径</span>
+	 * @param splitRanges   <span class="en-US">Read primary key ranges of table in parallel</span>
+	 *                      <span class="zh-CN">并行读取数据表的主键范围</span>
+	 * @param entityClasses <span class="en-US">Entity class array</span>
+	 *                      <span class="zh-CN">实体类数组</span>
+	 * @return <span class="en-US">Process result</span>
+	 * <span class="zh-CN">执行结果</span>
+	 */
+	public boolean snapshot(@Nonnull final String dataPath, final boolean splitRanges,
+	                        final Class<?>... entityClasses) {
+		List<TableConfig> tableConfigs = new ArrayList<>();
+		if (entityClasses.length == 0) {
+			tableConfigs.addAll(EntityManager.registeredTables());
+		} else {
+			Arrays.stream(entityClasses)
+					.map(EntityManager::tableConfig)
+					.filter(Objects::nonNull)
+					.forEach(tableConfigs::add);
+		}
+		if (tableConfigs.isEmpty() || !FileUtils.makeDir(dataPath)) {
+			return Boolean.FALSE;
+		}
+		List<DataGenerator> dataGenerators = new ArrayList<>();
+		List<Future<?>> futureList = new ArrayList<>();
+		boolean result = Boolean.TRUE;
+		try {
+			for (TableConfig tableConfig : tableConfigs) {
+				Class<?> entityClass = tableConfig.getDefineClass();
+				DataGenerator dataGenerator = new DataGenerator(dataPath + Globals.DEFAULT_PAGE_SEPARATOR
+						+ tableConfig.getTableName() + DatabaseCommons.DATA_FILE_EXTENSION_NAME);
+				dataGenerators.add(dataGenerator);
+				if (splitRanges) {
+					List<Object> lowerKey = null;
+					List<Object> upperKey;
+					do {
+						upperKey = snapshotBoundary(tableConfig, lowerKey);
+						final List<Object> beginKey = lowerKey, endKey = upperKey;
+						futureList.add(this.queryExecutor.submit(() -> {
+							snapshotRange(tableConfig, beginKey, endKey, dataGenerator);
+							return null;
+						}));
+						lowerKey = upperKey;
+					} while (upperKey != null);
+				} else {
+					futureList.add(this.queryExecutor.submit(() -> {
+						snapshotRange(tableConfig, null, null, dataGenerator);
+						return null;
+					}));
+				}
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Data_Snapshot_Table", ClassUtils.originalClassName(entityClass));
+				}
+			}
+			for (Future<?> future : futureList) {
+				future.get();
+			}
+		} catch (Exception e) {
+			futureList.forEach(future -> future.cancel(Boolean.TRUE));
+			LOGGER.error("Data_Snapshot_Error", dataPath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			result = Boolean.FALSE;
+		} finally {
+			for (DataGenerator dataGenerator : dataGenerators) {
+				try {
+					dataGenerator.close();
+				} catch (IOException e) {
+					result = Boolean.FALSE;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <h3 class="en-US">Restore table snapshot in target directory using default batch size</h3>
+	 * <h3 class="zh-CN">使用默认批次大小恢复目标目录中的数据表快照</h3>
+	 *
+	 * @param dataPath <span class="en-US">Snapshot directory path</span>
+	 *                 <span class="zh-CN">快照目录路径</span>
+	 * @return <span class="en-US">Process result</span>
+	 * <span class="zh-CN">执行结果</span>
+	 */
+	public boolean restore(@Nonnull final String dataPath) {
+		return this.restore(dataPath, DatabaseCommons.DEFAULT_RESTORE_BATCH_SIZE);
+	}
+
+	/**
+	 * <h3 class="en-US">Restore table snapshot in target directory</h3>
+	 * <span class="en-US">
+	 * Tables are restored in the order of foreign keys, tables without unrestored references are restored in parallel.
+	 * Records are inserted in batches, each batch is committed in its own transaction.
+	 * </span>
+	 * <h3 class="zh-CN">恢复目标目录中的数据表快照</h3>
+	 * <span class="zh-CN">数据表按照外键顺序恢复，没有未恢复引用的数据表并行恢复。记录批量插入，每个批次在独立的事务中提交</span>
+	 *
+	 * @param dataPath  <span class="en-US">Snapshot directory path</span>
+	 *                  <span class="zh-CN">快照目录路径</span>
+	 * @param batchSize <span class="en-US">Number of records inserted per batch</span>
+	 *                  <span class="zh-CN">每批插入的记录数</span>
+	 * @return <span class="en-US">Process result</span>
+	 * <span class="zh-CN">执行结果</span>
+	 */
+	public boolean restore(@Nonnull final String dataPath, final int batchSize) {
+		File[] dataFiles = new File(dataPath).listFiles((dir, fileName) ->
+				fileName.endsWith(DatabaseCommons.DATA_FILE_EXTENSION_NAME));
+		if (dataFiles == null || dataFiles.length == 0) {
+			return Boolean.FALSE;
+		}
+		Map<TableConfig, DataParser> parserMap = new LinkedHashMap<>();
+		boolean result = Boolean.TRUE;
+		try {
+			for (File dataFile : dataFiles) {
+				DataParser dataParser = new DataParser(Boolean.TRUE, Globals.DEFAULT_VALUE_INT, dataFile.getAbsolutePath());
+				TableConfig tableConfig = dataParser.recordTypes.isEmpty()
+						? null
+						: EntityManager.tableConfig(dataParser.recordTypes.get(0));
+				if (tableConfig == null) {
+					dataParser.close();
+					throw new DataParseException(0x00DB00000001L);
+				}
+				parserMap.put(tableConfig, dataParser);
+			}
+			for (List<TableConfig> restoreLevel : restoreLevels(parserMap.keySet())) {
+				List<Future<DataParser>> futureList = new ArrayList<>();
+				for (TableConfig tableConfig : restoreLevel) {
+					DataParser dataParser = parserMap.get(tableConfig);
+					futureList.add(this.queryExecutor.submit(() -> {
+						dataParser.restore(Math.max(1, batchSize));
+						return dataParser;
+					}));
+				}
+				for (Future<DataParser> future : futureList) {
+					DataParser dataParser = future.get();
+					if (dataParser.hasError()) {
+						LOGGER.error("Data_Restore_Error", dataParser.errorMessage());
+						result = Boolean.FALSE;
+					}
+				}
+				if (!result) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			LOGGER.error("Data_Restore_Error", e.getMessage());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			result = Boolean.FALSE;
+		} finally {
+			for (DataParser dataParser : parserMap.values()) {
+				IOUtils.closeStream(dataParser);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * <h3 class="en-US">Initialize the data generator instance object</h3>
+	 * <h3 class="zh-CN">初始化数据生成器实例对象</h3>
+	 *
+	 * @param dataPath <span class="en-US">Data storage path</span>
+	 *                 <span class="zh-CN">数据保存地址</span>
+	 * @return <span class="en-US">Data generator instance object</span>
+	 * <span class="zh-CN">数据生成器实例对象</span>
+	 * @throws FileNotFoundException <span class="en-US">Error creating data file</span>
+	 *                               <span class="zh-CN">创建数据文件出错</span>
+	 */
+	public static DataGenerator newGenerator(final String dataPath) throws FileNotFoundException {
+		return new DataGenerator(dataPath);
+	}
+
+	/**
+	 * <h3 class="en-US">Initialize the data exporter instance object</h3>
+	 * <h3 class="zh-CN">初始化数据导出器实例对象</h3>
+	 *
+	 * @param dataPath <span class="en-US">Data storage path</span>
+	 *                 <span class="zh-CN">数据保存地址</span>
+	 * @return <span class="en-US">Data exporter instance object</span>
+	 * <span class="zh-CN">数据导出器实例对象</span>
+	 * @throws DataInvalidException <span class="en-US">File format error</span>
+	 *                              <span class="zh-CN">文件格式错误</span>
+	 */
+	public static DataExporter newExporter(final String dataPath) throws DataInvalidException {
+		try {
+			return newExporter(dataPath, DatabaseCommons.EXPORT_TYPE_EXCEL, Boolean.FALSE);
+		} catch (IOException e) {
+			if (e.getCause() instanceof DataInvalidException) {
+				throw (DataInvalidException) e.getCause();
+			}
+			throw new DataInvalidException(0x000000AE0001L, e);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Initialize the data exporter instance object using given export provider</h3>
+	 * <h3 class="zh-CN">使用给定的导出适配器初始化数据导出器实例对象</h3>
+	 *
+	 * @param dataPath   <span class="en-US">Data storage path</span>
+	 *                   <span class="zh-CN">数据保存地址</span>
+	 * @param exportType <span class="en-US">Export provider name</span>
+	 *                   <span class="zh-CN">导出适配器名称</span>
+	 * @param compress   <span class="en-US">Compress export file using GZIP</span>
+	 *                   <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @return <span class="en-US">Data exporter instance object</span>
+	 * <span class="zh-CN">数据导出器实例对象</span>
+	 * @throws IOException <span class="en-US">If open export file error</span>
+	 *                     <span class="zh-CN">如果打开导出文件出错</span>
+	 */
+	public static DataExporter newExporter(final String dataPath, final String exportType, final boolean compress)
+			throws IOException {
+		ExportProvider exportProvider = exportProvider(exportType);
+		exportProvider.initialize(dataPath, compress);
+		return new DataExporter(exportProvider);
+	}
+
+	/**
+	 * <h3 class="en-US">Destroy current instance</h3>
+	 * <h3 class="zh-CN">销毁当前实例</h3>
+	 */
+	public static void destroy() {
+		if (INSTANCE == null) {
+			return;
+		}
+		if (INSTANCE.scheduledExecutorService != null) {
+			INSTANCE.scheduledExecutorService.shutdown();
+			INSTANCE.scheduledExecutorService = null;
+		}
+		INSTANCE.importExecutor.shutdownNow();
+		INSTANCE.exportExecutor.shutdownNow();
+		INSTANCE.queryExecutor.shutdownNow();
+		INSTANCE.taskProvider.destroy();
+		INSTANCE = null;
+	}
+
+	/**
+	 * <h3 class="en-US">Execute given query information using a new read-only client and convert the result to main entity list</h3>
+	 * <h3 class="zh-CN">使用新的只读客户端执行给定的查询信息，并转换结果为主实体列表</h3>
+	 *
+	 * @param queryInfo <span class="en-US">Query information</span>
+	 *                  <span class="zh-CN">查询信息</span>
+	 * @return <span class="en-US">Entity object instance list</span>
+	 * <span class="zh-CN">实体类对象列表</span>
+	 * @throws Exception <span class="en-US">If client not found or query error</span>
+	 *                   <span class="zh-CN">如果客户端未找到或查询出错</span>
+	 */
+	private static List<?> queryList(@Nonnull final QueryInfo queryInfo) throws Exception {
+		DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+		if (databaseClient == null) {
+			throw new DatabaseException(0x00DB00000003L);
+		}
+		return databaseClient.queryList(queryInfo).asList(queryInfo.getMainEntity());
+	}
+
+	/**
+	 * <h3 class="en-US">Generate snapshot query information of given table, records are ordered by primary key</h3>
+	 * <h3 class="zh-CN">生成给定数据表的快照查询信息，记录按主键排序</h3>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param keyColumns  <span class="en-US">Primary key column configure list</span>
+	 *                    <span class="zh-CN">主键列配置信息列表</span>
+	 * @param lowerKey    <span class="en-US">Exclusive lower bound of primary key values, <code>null</code> for no bound</span>
+	 *                    <span class="zh-CN">主键值的下界（不包含），<code>null</code>表示无下界</span>
+	 * @param upperKey    <span class="en-US">Inclusive upper bound of primary key values, <code>null</code> for no bound</span>
+	 *                    <span class="zh-CN">主键值的上界（包含），<code>null</code>表示无上界</span>
+	 * @param pageNo      <span class="en-US">Current page number</span>
+	 *                    <span class="zh-CN">当前页数</span>
+	 * @param pageLimit   <span class="en-US">Page limit</span>
+	 *                    <span class="zh-CN">每页记录数</span>
+	 * @param keyOnly     <span class="en-US">Query primary key columns only</span>
+	 *                    <span class="zh-CN">仅查询主键列</span>
+	 * @return <span class="en-US">Generated query information instance</span>
+	 * <span class="zh-CN">生成的查询信息实例对象</span>
+	 * @throws Exception <span class="en-US">If the entity class is not registered or column not found</span>
+	 *                   <span class="zh-CN">如果实体类未注册或数据列未找到</span>
+	 */
+	private static QueryInfo snapshotQuery(@Nonnull final TableConfig tableConfig,
+	                                       @Nonnull final List<ColumnConfig> keyColumns, final List<Object> lowerKey,
+	                                       final List<Object> upperKey, final int pageNo, final int pageLimit,
+	                                       final boolean keyOnly)
+			throws Exception {
+		Class<?> entityClass = tableConfig.getDefineClass();
+		QueryBuilder queryBuilder = QueryBuilder.newBuilder(entityClass);
+		for (ColumnConfig columnConfig : tableConfig.getColumnConfigs()) {
+			if (!keyOnly || columnConfig.isPrimaryKey()) {
+				queryBuilder.addColumn(entityClass, columnConfig.getFieldName());
+			}
+			if (columnConfig.isPrimaryKey()) {
+				queryBuilder.orderBy(entityClass, columnConfig.getFieldName());
+			}
+		}
+		//	Both bounds are added in one group, the builder ignores groups equal to an added one
+		List<Condition> rangeConditions = new ArrayList<>();
+		if (lowerKey != null) {
+			rangeConditions.add(keyRangeCondition(entityClass, keyColumns, lowerKey, Boolean.TRUE));
+		}
+		if (upperKey != null) {
+			rangeConditions.add(keyRangeCondition(entityClass, keyColumns, upperKey, Boolean.FALSE));
+		}
+		if (!rangeConditions.isEmpty()) {
+			queryBuilder.group(rangeConditions.toArray(new Condition[0]));
+		}
+		return queryBuilder.useCache(Boolean.FALSE)
+				.configPager(pageNo, pageLimit)
+				.confirm();
+	}
+
+	/**
+	 * <h3 class="en-US">Generate condition comparing the primary key values with given bound in primary key order</h3>
+	 * <span class="en-US">
+	 * The generated condition groups are connected by OR, the n-th group matches the former key columns equal to
+	 * the bound and the n-th key column greater (or less) than the bound.
+	 * </span>
+	 * <h3 class="zh-CN">生成按照主键顺序比较主键值与给定边界的查询条件组</h3>
+	 * <span class="zh-CN">生成的条件组使用OR连接，第n个条件组匹配之前的主键列等于边界值，且第n个主键列大于（或小于）边界值</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param keyColumns  <span class="en-US">Primary key column configure list</span>
+	 *                    <span class="zh-CN">主键列配置信息列表</span>
+	 * @param keyValues   <span class="en-US">Primary key values of bound</span>
+	 *                    <span class="zh-CN">边界的主键值</span>
+	 * @param after       <span class="en-US"><code>true</code> for keys after the bound, <code>false</code> for keys before or equal to the bound</span>
+	 *                    <span class="zh-CN"><code>true</code>匹配边界之后的主键，<code>false</code>匹配边界之前或等于边界的主键</span>
+	 * @return <span class="en-US">Generated condition group</span>
+	 * <span class="zh-CN">生成的条件组</span>
+	 * @throws BuilderException <span class="en-US">If the column was not found</span>
+	 *                          <span class="zh-CN">如果数据列未找到</span>
+	 */
+	private static Condition keyRangeCondition(@Nonnull final Class<?> entityClass,
+	                                            @Nonnull final List<ColumnConfig> keyColumns,
+	                                            @Nonnull final List<Object> keyValues, final boolean after)
+			throws BuilderException {
+		Condition[] keyGroups = new Condition[keyColumns.size()];
+		for (int i = 0; i < keyColumns.size(); i++) {
+			Condition[] columnConditions = new Condition[i + 1];
+			for (int j = 0; j < i; j++) {
+				columnConditions[j] = Condition.equalTo(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+						entityClass, keyColumns.get(j).getFieldName(), keyValues.get(j));
+			}
+			String fieldName = keyColumns.get(i).getFieldName();
+			if (after) {
+				columnConditions[i] = Condition.greater(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+						entityClass, fieldName, keyValues.get(i));
+			} else if (i == keyColumns.size() - 1) {
+				columnConditions[i] = Condition.lessEqual(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+						entityClass, fieldName, keyValues.get(i));
+			} else {
+				columnConditions[i] = Condition.less(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+						entityClass, fieldName, keyValues.get(i));
+			}
+			keyGroups[i] = Condition.group(Globals.DEFAULT_VALUE_INT,
+					(i == 0) ? ConnectionCode.AND : ConnectionCode.OR, columnConditions);
+		}
+		return Condition.group(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND, keyGroups);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve primary key column configure list of given table</h3>
+	 * <h3 class="zh-CN">读取给定数据表的主键列配置信息列表</h3>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @return <span class="en-US">Primary key column configure list</span>
+	 * <span class="zh-CN">主键列配置信息列表</span>
+	 */
+	private static List<ColumnConfig> keyColumns(@Nonnull final TableConfig tableConfig) {
+		return tableConfig.getColumnConfigs()
+				.stream()
+				.filter(ColumnConfig::isPrimaryKey)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * <h3 class="en-US">Read primary key values of given object</h3>
+	 * <h3 class="zh-CN">读取给定对象的主键值</h3>
+	 *
+	 * @param keyColumns <span class="en-US">Primary key column configure list</span>
+	 *                   <span class="zh-CN">主键列配置信息列表</span>
+	 * @param object     <span class="en-US">Entity object instance</span>
+	 *                   <span class="zh-CN">实体类对象</span>
+	 * @return <span class="en-US">Primary key values</span>
+	 * <span class="zh-CN">主键值列表</span>
+	 */
+	private static List<Object> keyValues(@Nonnull final List<ColumnConfig> keyColumns, @Nonnull final Object object) {
+		List<Object> keyValues = new ArrayList<>(keyColumns.size());
+		keyColumns.forEach(columnConfig ->
+				keyValues.add(ReflectionUtils.getFieldValue(columnConfig.getFieldName(), object)));
+		return keyValues;
+	}
+
+	/**
+	 * <h3 class="en-US">Scan primary keys of given table after given bound, and retrieve the upper bound of next range</h3>
+	 * <h3 class="zh-CN">扫描给定数据表在给定边界之后的主键，读取下一个范围的上界</h3>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param lowerKey    <span class="en-US">Exclusive lower bound of the range, <code>null</code> for no bound</span>
+	 *                    <span class="zh-CN">范围的下界（不包含），<code>null</code>表示无下界</span>
+	 * @return <span class="en-US">Inclusive upper bound of the range, <code>null</code> if the range is the last one</span>
+	 * <span class="zh-CN">范围的上界（包含），为最后一个范围时返回<code>null</code></span>
+	 * @throws Exception <span class="en-US">If client not found or query error</span>
+	 *                   <span class="zh-CN">如果客户端未找到或查询出错</span>
+	 */
+	private static List<Object> snapshotBoundary(@Nonnull final TableConfig tableConfig, final List<Object> lowerKey)
+			throws Exception {
+		List<ColumnConfig> keyColumns = keyColumns(tableConfig);
+		if (keyColumns.isEmpty()) {
+			return null;
+		}
+		List<?> keyList = queryList(snapshotQuery(tableConfig, keyColumns, lowerKey, null,
+				DatabaseCommons.DEFAULT_PAGE_NO, DatabaseCommons.DEFAULT_SNAPSHOT_PAGE_LIMIT, Boolean.TRUE));
+		if (keyList.size() < DatabaseCommons.DEFAULT_SNAPSHOT_PAGE_LIMIT) {
+			return null;
+		}
+		return keyValues(keyColumns, keyList.get(keyList.size() - 1));
+	}
+
+	/**
+	 * <h3 class="en-US">Read records of given table in primary key range and append the records to data generator</h3>
+	 * <span class="en-US">
+	 * Each page continues after the primary key of the last read record,
+	 * tables without primary key are read by page offset.
+	 * </span>
+	 * <h3 class="zh-CN">读取给定数据表在主键范围内的记录并追加到数据生成器</h3>
+	 * <span class="zh-CN">每页从最后读取记录的主键之后继续读取，没有主键的数据表按照分页偏移量读取</span>
+	 *
+	 * @param tableConfig   <span class="en-US">Table configure information</span>
+	 *                      <span class="zh-CN">数据表配置信息</span>
+	 * @param lowerKey      <span class="en-US">Exclusive lower bound of the range, <code>null</code> for no bound</span>
+	 *                      <span class="zh-CN">范围的下界（不包含），<code>null</code>表示无下界</span>
+	 * @param upperKey      <span class="en-US">Inclusive upper bound of the range, <code>null</code> for no bound</span>
+	 *                      <span class="zh-CN">范围的上界（包含），<code>null</code>表示无上界</span>
+	 * @param dataGenerator <span class="en-US">Data generator instance</span>
+	 *                      <span class="zh-CN">数据生成器实例对象</span>
+	 * @throws Exception <span class="en-US">If client not found, query or write data error</span>
+	 *                   <span class="zh-CN">如果客户端未找到，查询或写入数据出错</span>
+	 */
+	private static void snapshotRange(@Nonnull final TableConfig tableConfig, final List<Object> lowerKey,
+	                                  final List<Object> upperKey, @Nonnull final DataGenerator dataGenerator)
+			throws Exception {
+		List<ColumnConfig> keyColumns = keyColumns(tableConfig);
+		List<Object> cursor = lowerKey;
+		int pageNo = DatabaseCommons.DEFAULT_PAGE_NO;
+		List<?> dataList;
+		do {
+			dataList = queryList(snapshotQuery(tableConfig, keyColumns, cursor, upperKey, pageNo,
+					DatabaseCommons.DEFAULT_SNAPSHOT_PAGE_LIMIT, Boolean.FALSE));
+			for (Object object : dataList) {
+				dataGenerator.appendData(Boolean.FALSE, (BaseObject) object);
+			}
+			if (keyColumns.isEmpty()) {
+				pageNo++;
+			} else if (!dataList.isEmpty()) {
+				cursor = keyValues(keyColumns, dataList.get(dataList.size() - 1));
+			}
+		} while (dataList.size() == DatabaseCommons.DEFAULT_SNAPSHOT_PAGE_LIMIT);
+	}
+
+	/**
+	 * <h3 class="en-US">Sort given tables into restore levels by foreign key references</h3>
+	 * <span class="en-US">
+	 * Tables of a level only reference tables of former levels, tables in circular references are put into the last level
+	 * </span>
+	 * <h3 class="zh-CN">根据外键引用将给定的数据表划分为恢复层级</h3>
+	 * <span class="zh-CN">每个层级的数据表只引用之前层级的数据表，循环引用的数据表放入最后一个层级</span>
+	 *
+	 * @param tableConfigs <span class="en-US">Table configure information collection</span>
+	 *                     <span class="zh-CN">数据表配置信息集合</span>
+	 * @return <span class="en-US">Restore levels</span>
+	 * <span class="zh-CN">恢复层级列表</span>
+	 */
+	private static List<List<TableConfig>> restoreLevels(@Nonnull final Collection<TableConfig> tableConfigs) {
+		List<List<TableConfig>> restoreLevels = new ArrayList<>();
+		List<TableConfig> pendingList = new ArrayList<>(tableConfigs);
+		while (!pendingList.isEmpty()) {
+			List<TableConfig> currentLevel = new ArrayList<>();
+			for (TableConfig tableConfig : pendingList) {
+				boolean ready = tableConfig.getReferenceConfigs()
+						.stream()
+						.filter(referenceConfig -> !referenceConfig.isReturnArray())
+						.map(ReferenceConfig::getReferenceClass)
+						.filter(referenceClass -> !tableConfig.matchClass(referenceClass))
+						.noneMatch(referenceClass ->
+								pendingList.stream().anyMatch(pendingConfig -> pendingConfig.matchClass(referenceClass)));
+				if (ready) {
+					currentLevel.add(tableConfig);
+				}
+			}
+			if (currentLevel.isEmpty()) {
+				currentLevel.addAll(pendingList);
+			}
+			pendingList.removeAll(currentLevel);
+			restoreLevels.add(currentLevel);
+		}
+		return restoreLevels;
+	}
+
+	/**
+	 * <h3 class="en-US">Generate export provider instance by given provider name, using Excel provider if not registered</h3>
+	 * <h3 class="zh-CN">根据给定的适配器名称生成导出适配器实例，未注册时使用Excel适配器</h3>
+	 *
+	 * @param exportType <span class="en-US">Export provider name</span>
+	 *                   <span class="zh-CN">导出适配器名称</span>
+	 * @return <span class="en-US">Export provider instance</span>
+	 * <span class="zh-CN">导出适配器实例</span>
+	 */
+	private static ExportProvider exportProvider(final String exportType) {
+		if (registeredExporter(exportType)) {
+			return Optional.ofNullable(REGISTERED_EXPORT_PROVIDERS.get(exportType))
+					.map(providerClass -> (ExportProvider) ObjectUtils.newInstance(providerClass))
+					.orElse(new ExcelExportProviderImpl());
+		}
+		return new ExcelExportProviderImpl();
+	}
+
+	/**
+	 * <h3 class="en-US">Generate a unique identification code for the current node</h3>
+	 * <h3 class="zh-CN">生成当前节点的唯一识别代码</h3>
+	 *
+	 * @param basePath <span class="en-US">The base path for system execution</span>
+	 *                 <span class="zh-CN">系统执行的基础路径</span>
+	 * @return <span class="en-US">Generated unique identification code</span>
+	 * <span class="zh-CN">生成的唯一识别代码</span>
+	 */
+	private static String identifyCode(final String basePath) {
+		TreeMap<String, String> identifyMap = new TreeMap<>();
+		identifyMap.put("IdentifyKey", SystemUtils.identifiedKey());
+		identifyMap.put("BasePath", basePath);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Identify_Information_Data",
+					StringUtils.objectToString(identifyMap, StringUtils.StringType.JSON, Boolean.TRUE));
+		}
+		return ConvertUtils.toHex(SecurityUtils.SHA256(identifyMap));
+	}
+
+	/**
+	 * <h3 class="en-US">Resize the given thread pool executor to the new thread limit</h3>
+	 * <h3 class="zh-CN">调整给定线程池执行器的线程数为新的最大线程数</h3>
+	 *
+	 * @param threadPoolExecutor <span class="en-US">Thread pool executor instance</span>
+	 *                           <span class="zh-CN">线程池执行器实例对象</span>
+	 * @param threadLimit        <span class="en-US">New thread limit</span>
+	 *                           <span class="zh-CN">新的最大线程数</span>
+	 */
+	private static void resize(@Nonnull final ThreadPoolExecutor threadPoolExecutor, final int threadLimit) {
+		if (threadLimit > threadPoolExecutor.getMaximumPoolSize()) {
+			threadPoolExecutor.setMaximumPoolSize(threadLimit);
+			threadPoolExecutor.setCorePoolSize(threadLimit);
+		} else {
+			threadPoolExecutor.setCorePoolSize(threadLimit);
+			threadPoolExecutor.setMaximumPoolSize(threadLimit);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Complete the thread task and save the task processing results to the task list</h3>
+	 * <span class="en-US">The result of aborted task processor is discarded, the task was taken over by other node.</span>
+	 * <h3 class="zh-CN">完成线程任务，并将任务处理结果保存到任务列表中</h3>
+	 * <span class="zh-CN">已中止的任务处理器的执行结果将被丢弃，任务已被其他节点接管</span>
+	 *
+	 * @param taskProcessor <span class="en-US">Task processor instance object</span>
+	 *                      <span class="zh-CN">任务处理器实例对象</span>
 	 */
-	private static void finishTask(final ProcessThread processThread) {
+	private static void finishTask(final TaskProcessor taskProcessor) {
 		if (INSTANCE != null) {
-			synchronized (INSTANCE.runningThreads) {
-				INSTANCE.runningThreads.remove(processThread);
+			if (INSTANCE.runningTasks.remove(taskProcessor.getTaskCode(), taskProcessor)) {
+				INSTANCE.taskProvider.finishTask(taskProcessor.getTaskCode(), INSTANCE.identifyCode,
+						taskProcessor.isHasError(), taskProcessor.errorMessage());
+			}
+			INSTANCE.wakeUp();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Save task information to task provider and wake up the scheduler</h3>
+	 * <h3 class="zh-CN">保存任务信息到任务适配器并唤醒调度器</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @return <span class="en-US">Task unique identification code</span>
+	 * <span class="zh-CN">任务唯一识别代码</span>
+	 */
+	private long submitTask(@Nonnull final AbstractTask taskInfo) {
+		if (this.taskProvider.addTask(taskInfo)) {
+			this.wakeUp();
+			return taskInfo.getTaskCode();
+		}
+		return Globals.DEFAULT_VALUE_LONG;
+	}
+
+	/**
+	 * <h3 class="en-US">Wake up the scheduler to dispatch pending tasks immediately</h3>
+	 * <span class="en-US">Dispatch requests are merged if the scheduler has not executed the previous request.</span>
+	 * <h3 class="zh-CN">唤醒调度器立即分派待处理任务</h3>
+	 * <span class="zh-CN">如果调度器尚未执行之前的请求，调度请求将被合并</span>
+	 */
+	private void wakeUp() {
+		ScheduledExecutorService executorService = this.scheduledExecutorService;
+		if (executorService != null && this.dispatchPending.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+			try {
+				executorService.execute(this::scheduleTask);
+			} catch (RejectedExecutionException e) {
+				this.dispatchPending.set(Boolean.FALSE);
 			}
-			INSTANCE.taskProvider.finishTask(processThread.getTaskCode(), processThread.isHasError(),
-					processThread.errorMessage());
 		}
 	}
 
@@ -524,46 +1601,103 @@ public final class DataUtils {
 	 * <h3 class="en-US">Get the data file location for the given task code</h3>
 	 * <h3 class="zh-CN">获取给定任务代码的数据文件位置</h3>
 	 *
-	 * @param taskCode <span class="en-US">task identification code</span>
-	 *                 <span class="zh-CN">任务识别代码</span>
+	 * @param taskCode      <span class="en-US">task identification code</span>
+	 *                      <span class="zh-CN">任务识别代码</span>
+	 * @param extensionName <span class="en-US">Export file extension name</span>
+	 *                      <span class="zh-CN">导出文件扩展名</span>
 	 * @return <span class="en-US">data file location</span>
 	 * <span class="zh-CN">数据文件位置</span>
 	 */
-	private String exportPath(@Nonnull final Long taskCode, final boolean compatibilityMode) {
-		return this.basePath + Globals.DEFAULT_PAGE_SEPARATOR + Long.toHexString(taskCode)
-				+ (compatibilityMode ? OfficeUtils.EXCEL_FILE_EXT_NAME_2003 : OfficeUtils.EXCEL_FILE_EXT_NAME_2007);
+	private String exportPath(@Nonnull final Long taskCode, final String extensionName) {
+		return this.basePath + Globals.DEFAULT_PAGE_SEPARATOR + Long.toHexString(taskCode) + extensionName;
+	}
+
+	/**
+	 * <h3 class="en-US">Get the watermark file location for the given incremental export definition</h3>
+	 * <h3 class="zh-CN">获取给定增量导出定义的水位线文件位置</h3>
+	 *
+	 * @param watermarkName <span class="en-US">Watermark name of incremental export definition</span>
+	 *                      <span class="zh-CN">增量导出定义的水位线名称</span>
+	 * @return <span class="en-US">watermark file location</span>
+	 * <span class="zh-CN">水位线文件位置</span>
+	 */
+	private String watermarkPath(@Nonnull final String watermarkName) {
+		return this.basePath + Globals.DEFAULT_PAGE_SEPARATOR + watermarkName
+				+ DatabaseCommons.WATERMARK_FILE_EXTENSION_NAME;
 	}
 
 	/**
-	 * <h3 class="en-US">Scheduling tasks, used to regularly start pending tasks in the task queue</h3>
-	 * <h3 class="zh-CN">调度任务，用于定时启动任务队列中的待处理任务</h3>
+	 * <h3 class="en-US">Scheduling tasks, used to start pending tasks in the task queue</h3>
+	 * <span class="en-US">
+	 * Executed by the single thread scheduler when task added or finished, and periodically for tasks
+	 * added by other nodes which shared the task provider.
+	 * Import tasks and export tasks are executed in separate pools which share the thread limit,
+	 * import tasks can not occupy the slots reserved for export tasks, export tasks can use every free slot.
+	 * A user can occupy at most half of a pool while tasks of other users are waiting,
+	 * the remaining slots are given to the same user only if no other task was accepted.
+	 * </span>
+	 * <h3 class="zh-CN">调度任务，用于启动任务队列中的待处理任务</h3>
+	 * <span class="zh-CN">
+	 * 任务添加或完成时由单线程调度器执行，同时定时执行以处理共享任务适配器的其他节点添加的任务。
+	 * 导入任务和导出任务在独立的任务池中执行，任务池共享最大线程数。导入任务不能占用为导出任务保留的执行位置，导出任务可以使用所有空闲的执行位置。
+	 * 其他用户有等待任务时，单个用户最多占用任务池的一半，仅在没有其他可接受的任务时才将剩余的执行位置分配给同一用户
+	 * </span>
 	 */
 	private void scheduleTask() {
-		if (this.scheduleRunning) {
-			return;
+		this.dispatchPending.set(Boolean.FALSE);
+		synchronized (this.admissionLock) {
+			this.dispatchTask();
 		}
-		this.scheduleRunning = Boolean.TRUE;
+	}
 
+	/**
+	 * <h3 class="en-US">Claim and start pending tasks until the thread limit reached, executed under admission lock</h3>
+	 * <h3 class="zh-CN">认领并启动待处理任务直到达到最大线程数，在准入锁保护下执行</h3>
+	 */
+	private void dispatchTask() {
 		try {
-			while (this.runningThreads.size() < this.threadLimit) {
-				AbstractTask taskInfo = this.taskProvider.nextTask(this.identifyCode);
-				if (taskInfo == null
-						|| this.runningThreads.stream().anyMatch(processThread ->
-						ObjectUtils.nullSafeEquals(processThread.taskCode, taskInfo.getTaskCode()))) {
+			final int threadLimit = this.threadLimit;
+			Predicate<AbstractTask> poolFilter = taskInfo -> this.poolAccepted(taskInfo, threadLimit);
+			Predicate<AbstractTask> fairFilter = taskInfo -> this.fairAccepted(taskInfo, threadLimit);
+			while (this.runningTasks.size() < threadLimit) {
+				AbstractTask taskInfo = this.taskProvider.claimTask(this.identifyCode,
+						DatabaseCommons.DEFAULT_TASK_LEASE_TIME, poolFilter, fairFilter);
+				if (taskInfo == null) {
+					taskInfo = this.taskProvider.claimTask(this.identifyCode,
+							DatabaseCommons.DEFAULT_TASK_LEASE_TIME, poolFilter, anyTask -> Boolean.TRUE);
+				}
+				if (taskInfo == null) {
 					break;
 				}
-				ProcessThread processThread;
+				Long taskCode = taskInfo.getTaskCode();
+				TaskProcessor taskProcessor;
+				ThreadPoolExecutor taskExecutor;
 				if (taskInfo instanceof ImportTask) {
-					processThread = new ImportThread((ImportTask) taskInfo);
+					taskProcessor = new ImportProcessor((ImportTask) taskInfo);
+					taskExecutor = this.importExecutor;
 				} else if (taskInfo instanceof ExportTask) {
-					processThread = new ExportThread((ExportTask) taskInfo);
+					taskProcessor = new ExportProcessor((ExportTask) taskInfo);
+					taskExecutor = this.exportExecutor;
 				} else {
-					return;
+					//	Unsupported task could never be executed, finish it with error instead of leaving it claimed
+					this.taskProvider.processTask(taskCode, this.identifyCode);
+					this.taskProvider.finishTask(taskCode, this.identifyCode, Boolean.TRUE,
+							new DatabaseException(0x00DB00000015L, taskInfo.getClass().getName(), taskCode).getMessage());
+					continue;
+				}
+				if (this.runningTasks.putIfAbsent(taskCode, taskProcessor) != null) {
+					//	The lease of task executing by current node was expired and claimed again, keep processing it
+					this.taskProvider.processTask(taskCode, this.identifyCode);
+					continue;
 				}
-				synchronized (this.runningThreads) {
-					this.runningThreads.add(processThread);
+				this.taskProvider.processTask(taskCode, this.identifyCode);
+				try {
+					taskExecutor.execute(taskProcessor);
+				} catch (RejectedExecutionException e) {
+					this.runningTasks.remove(taskCode, taskProcessor);
+					this.taskProvider.releaseTask(taskCode, this.identifyCode);
+					throw e;
 				}
-				processThread.start();
 			}
 		} catch (Exception e) {
 			LOGGER.error("Data_Task_Schedule_Error");
@@ -571,21 +1705,143 @@ public final class DataUtils {
 				LOGGER.debug("Stack_Message_Error", e);
 			}
 		}
-
-		this.scheduleRunning = Boolean.FALSE;
 	}
 
 	/**
-	 * <h3 class="en-US">Remove expired completed task information</h3>
-	 * <h3 class="zh-CN">移除过期已完成的任务信息</h3>
-	 */
-	private void removeTask() {
-		if (this.removeRunning || this.expireTime == Globals.DEFAULT_VALUE_LONG) {
-			return;
+	 * <h3 class="en-US">Check the pool of given task has a free slot</h3>
+	 * <h3 class="zh-CN">检查给定任务所在的任务池是否有空闲执行位置</h3>
+	 *
+	 * @param taskInfo    <span class="en-US">Task information</span>
+	 *                    <span class="zh-CN">任务信息</span>
+	 * @param threadLimit <span class="en-US">Number of tasks allowed to be executed simultaneously</span>
+	 *                    <span class="zh-CN">允许同时执行的任务数</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean poolAccepted(@Nonnull final AbstractTask taskInfo, final int threadLimit) {
+		return this.runningCount(running -> samePool(running, taskInfo)) < poolLimit(taskInfo, threadLimit);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the user of given task occupied less than half of the task pool</h3>
+	 * <h3 class="zh-CN">检查给定任务的用户占用的执行位置是否少于任务池的一半</h3>
+	 *
+	 * @param taskInfo    <span class="en-US">Task information</span>
+	 *                    <span class="zh-CN">任务信息</span>
+	 * @param threadLimit <span class="en-US">Number of tasks allowed to be executed simultaneously</span>
+	 *                    <span class="zh-CN">允许同时执行的任务数</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean fairAccepted(@Nonnull final AbstractTask taskInfo, final int threadLimit) {
+		return this.runningCount(running -> samePool(running, taskInfo)
+				&& ObjectUtils.nullSafeEquals(running.getUserCode(), taskInfo.getUserCode()))
+				< Math.max(1, poolLimit(taskInfo, threadLimit) / 2);
+	}
+
+	/**
+	 * <h3 class="en-US">Count the executing tasks which match the given condition</h3>
+	 * <h3 class="zh-CN">统计匹配给定条件的执行中任务数</h3>
+	 *
+	 * @param condition <span class="en-US">Match condition</span>
+	 *                  <span class="zh-CN">匹配条件</span>
+	 * @return <span class="en-US">Task count</span>
+	 * <span class="zh-CN">任务数</span>
+	 */
+	private long runningCount(@Nonnull final Predicate<AbstractTask> condition) {
+		return this.runningTasks.values().stream().map(TaskProcessor::getTaskInfo).filter(condition).count();
+	}
+
+	/**
+	 * <h3 class="en-US">Calculate the number of import tasks allowed to be executed simultaneously</h3>
+	 * <span class="en-US">A quarter of the thread limit, at least one slot, is reserved for export tasks when the limit is greater than one.</span>
+	 * <h3 class="zh-CN">计算允许同时执行的导入任务数</h3>
+	 * <span class="zh-CN">最大线程数大于一时，为导出任务保留四分之一的执行位置，至少保留一个</span>
+	 *
+	 * @param threadLimit <span class="en-US">Number of tasks allowed to be executed simultaneously</span>
+	 *                    <span class="zh-CN">允许同时执行的任务数</span>
+	 * @return <span class="en-US">Number of import tasks allowed to be executed simultaneously</span>
+	 * <span class="zh-CN">允许同时执行的导入任务数</span>
+	 */
+	private static int importLimit(final int threadLimit) {
+		return Math.max(1, threadLimit - Math.max(1, threadLimit / 4));
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the number of tasks allowed to be executed simultaneously in the pool of given task</h3>
+	 * <h3 class="zh-CN">读取给定任务所在任务池允许同时执行的任务数</h3>
+	 *
+	 * @param taskInfo    <span class="en-US">Task information</span>
+	 *                    <span class="zh-CN">任务信息</span>
+	 * @param threadLimit <span class="en-US">Number of tasks allowed to be executed simultaneously</span>
+	 *                    <span class="zh-CN">允许同时执行的任务数</span>
+	 * @return <span class="en-US">Number of tasks allowed to be executed simultaneously in the pool</span>
+	 * <span class="zh-CN">任务池允许同时执行的任务数</span>
+	 */
+	private static int poolLimit(@Nonnull final AbstractTask taskInfo, final int threadLimit) {
+		return (taskInfo instanceof ImportTask) ? importLimit(threadLimit) : threadLimit;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given tasks are executed in the same task pool</h3>
+	 * <h3 class="zh-CN">检查给定的任务是否在同一个任务池中执行</h3>
+	 *
+	 * @param taskInfo  <span class="en-US">Task information</span>
+	 *                  <span class="zh-CN">任务信息</span>
+	 * @param otherTask <span class="en-US">Other task information</span>
+	 *                  <span class="zh-CN">其他任务信息</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean samePool(@Nonnull final AbstractTask taskInfo, @Nonnull final AbstractTask otherTask) {
+		return (taskInfo instanceof ImportTask) == (otherTask instanceof ImportTask);
+	}
+
+	/**
+	 * <h3 class="en-US">Heartbeat of processing tasks, renew the leases of tasks executing by current node</h3>
+	 * <span class="en-US">
+	 * If the lease was lost, the task processor is removed from executing tasks and aborted,
+	 * its result will not overwrite the result of the node which took over the task.
+	 * </span>
+	 * <h3 class="zh-CN">处理中任务的心跳，续约当前节点正在执行的任务租约</h3>
+	 * <span class="zh-CN">如果租约已丢失，任务处理器将从执行中任务移除并中止，其执行结果不会覆盖接管任务的节点的执行结果</span>
+	 */
+	private void renewLease() {
+		for (Map.Entry<Long, TaskProcessor> entry : this.runningTasks.entrySet()) {
+			Long taskCode = entry.getKey();
+			try {
+				if (!this.taskProvider.renewLease(taskCode, this.identifyCode, DatabaseCommons.DEFAULT_TASK_LEASE_TIME)) {
+					LOGGER.warn("Data_Task_Lease_Lost", taskCode);
+					if (this.runningTasks.remove(taskCode, entry.getValue())) {
+						entry.getValue().abort();
+						this.wakeUp();
+					}
+				}
+			} catch (Exception e) {
+				LOGGER.error("Data_Task_Schedule_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Remove expired completed task information</h3>
+	 * <h3 class="zh-CN">移除过期已完成的任务信息</h3>
+	 */
+	private void removeTask() {
+		if (this.expireTime == Globals.DEFAULT_VALUE_LONG) {
+			return;
+		}
+		try {
+			this.taskProvider.dropTask(this.expireTime);
+		} catch (Exception e) {
+			LOGGER.error("Data_Task_Schedule_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
 		}
-		this.removeRunning = Boolean.TRUE;
-		this.taskProvider.dropTask(this.expireTime);
-		this.removeRunning = Boolean.FALSE;
 	}
 
 	/**
@@ -599,17 +1855,17 @@ public final class DataUtils {
 	private static final class MemoryTaskProviderImpl implements TaskProvider {
 
 		/**
-		 * <span class="en-US">List of currently stored task information</span>
-		 * <span class="zh-CN">当前存储的任务信息列表</span>
+		 * <span class="en-US">Indexed storage of currently stored task information</span>
+		 * <span class="zh-CN">当前存储的任务信息的索引存储</span>
 		 */
-		private final List<AbstractTask> taskInfoList;
+		private final TaskStorage taskStorage;
 
 		/**
 		 * <h3 class="en-US">Constructor of a memory-only task adapter implementation class</h3>
 		 * <h3 class="zh-CN">仅使用内存的任务适配器实现类的构造方法</h3>
 		 */
 		public MemoryTaskProviderImpl() {
-			this.taskInfoList = new ArrayList<>();
+			this.taskStorage = new TaskStorage();
 		}
 
 		/*
@@ -626,7 +1882,7 @@ public final class DataUtils {
 		 */
 		@Override
 		public void destroy() {
-			this.taskInfoList.clear();
+			this.taskStorage.clear();
 		}
 
 		/*
@@ -635,12 +1891,8 @@ public final class DataUtils {
 		 */
 		@Override
 		public boolean addTask(@Nonnull final AbstractTask taskInfo) {
-			synchronized (this.taskInfoList) {
-				if (this.taskInfoList.stream().anyMatch(existTask -> ObjectUtils.nullSafeEquals(existTask, taskInfo))) {
-					return Boolean.TRUE;
-				}
-				return this.taskInfoList.add(taskInfo);
-			}
+			this.taskStorage.addTask(taskInfo);
+			return Boolean.TRUE;
 		}
 
 		/*
@@ -649,16 +1901,7 @@ public final class DataUtils {
 		 */
 		@Override
 		public void processTask(@Nonnull final Long taskCode, final String identifyCode) {
-			synchronized (this.taskInfoList) {
-				this.taskInfoList.replaceAll(taskInfo -> {
-					if (ObjectUtils.nullSafeEquals(taskInfo.getTaskCode(), taskCode)
-							&& ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
-						taskInfo.setStartTime(DateTimeUtils.currentUTCTimeMillis());
-						taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_PROCESS);
-					}
-					return taskInfo;
-				});
-			}
+			this.taskStorage.processTask(taskCode, identifyCode);
 		}
 
 		/*
@@ -670,12 +1913,7 @@ public final class DataUtils {
 			if (ObjectUtils.nullSafeEquals(expireTime, Globals.DEFAULT_VALUE_LONG)) {
 				return;
 			}
-			long expireEndTime = DateTimeUtils.currentUTCTimeMillis() + expireTime;
-			synchronized (this.taskInfoList) {
-				this.taskInfoList.removeIf(taskInfo ->
-						ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_FINISH)
-								&& taskInfo.getEndTime() < expireEndTime);
-			}
+			this.taskStorage.expireTasks(DateTimeUtils.currentUTCTimeMillis() - expireTime);
 		}
 
 		/*
@@ -684,21 +1922,15 @@ public final class DataUtils {
 		 */
 		@Override
 		public boolean dropTask(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
-			synchronized (this.taskInfoList) {
-				Iterator<AbstractTask> iterator = this.taskInfoList.iterator();
-				while (iterator.hasNext()) {
-					AbstractTask abstractTask = iterator.next();
-					if (ObjectUtils.nullSafeEquals(abstractTask.getTaskCode(), taskCode)
-							&& ObjectUtils.nullSafeEquals(abstractTask.getUserCode(), userCode)) {
-						if (FileUtils.removeFile(INSTANCE.dataPath(abstractTask.getTaskCode()))) {
-							iterator.remove();
-						} else {
-							return Boolean.FALSE;
-						}
-					}
-				}
+			AbstractTask taskInfo = this.taskStorage.taskInfo(userCode, taskCode);
+			if (taskInfo == null) {
 				return Boolean.TRUE;
 			}
+			if (FileUtils.removeFile(INSTANCE.dataPath(taskCode))) {
+				this.taskStorage.removeTask(taskCode);
+				return Boolean.TRUE;
+			}
+			return Boolean.FALSE;
 		}
 
 		/*
@@ -707,62 +1939,67 @@ public final class DataUtils {
 		 */
 		@Override
 		public AbstractTask nextTask(@Nonnull final String identifyCode) {
-			synchronized (this.taskInfoList) {
-				AbstractTask abstractTask =
-						this.taskInfoList.stream().filter(currentTask -> this.processingTask(currentTask, identifyCode))
-								.findFirst()
-								.orElseGet(() ->
-										this.taskInfoList.stream().filter(this::waitingTask)
-												.findFirst()
-												.map(currentTask -> {
-													this.lockTask(currentTask.getTaskCode(), identifyCode);
-													return currentTask;
-												})
-												.orElse(null));
-				if (abstractTask != null) {
-					this.lockTask(abstractTask.getTaskCode(), identifyCode);
-				}
-				return abstractTask;
-			}
+			return this.taskStorage.lockTask(identifyCode);
 		}
 
-		private boolean processingTask(final AbstractTask abstractTask, final String identifyCode) {
-			return ObjectUtils.nullSafeEquals(abstractTask.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)
-					&& ObjectUtils.nullSafeEquals(abstractTask.getIdentifyCode(), identifyCode);
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long, java.util.function.Predicate)
+		 */
+		@Override
+		public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+		                              @Nonnull final Predicate<AbstractTask> taskFilter) {
+			return this.taskStorage.lockTask(identifyCode, taskFilter);
 		}
 
-		private boolean waitingTask(final AbstractTask abstractTask) {
-			return ObjectUtils.nullSafeEquals(abstractTask.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_CREATE);
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long, java.util.function.Predicate, java.util.function.Predicate)
+		 */
+		@Override
+		public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+		                              @Nonnull final Predicate<AbstractTask> poolFilter,
+		                              @Nonnull final Predicate<AbstractTask> userFilter) {
+			return this.taskStorage.lockTask(identifyCode, poolFilter, userFilter);
 		}
 
-		private void lockTask(final long taskCode, final String identifyCode) {
-			this.taskInfoList.replaceAll(abstractTask -> {
-				if (ObjectUtils.nullSafeEquals(abstractTask.getTaskCode(), taskCode)) {
-					abstractTask.setIdentifyCode(identifyCode);
-				}
-				return abstractTask;
-			});
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.providers.data.TaskProvider#releaseTask(java.lang.Long, java.lang.String)
+		 */
+		@Override
+		public void releaseTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode) {
+			this.taskStorage.releaseTask(taskCode, identifyCode);
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.nervousync.database.providers.data.TaskProvider#finishTask(java.lang.Long, java.lang.Boolean, java.lang.String)
+		 * @see org.nervousync.database.providers.data.TaskProvider#finishTask(java.lang.Long, java.lang.String, java.lang.Boolean, java.lang.String)
 		 */
 		@Override
-		public void finishTask(@Nonnull final Long taskCode, @Nonnull final Boolean hasError,
-		                       @Nonnull final String errorMessage) {
-			synchronized (this.taskInfoList) {
-				this.taskInfoList.replaceAll(taskInfo -> {
-					if (ObjectUtils.nullSafeEquals(taskInfo.getTaskCode(), taskCode)
-							&& ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)) {
-						taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_FINISH);
-						taskInfo.setEndTime(DateTimeUtils.currentUTCTimeMillis());
-						taskInfo.setHasError(hasError);
-						taskInfo.setErrorMessage(errorMessage);
-					}
-					return taskInfo;
-				});
-			}
+		public void finishTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+		                       @Nonnull final Boolean hasError, @Nonnull final String errorMessage) {
+			this.taskStorage.finishTask(taskCode, identifyCode, hasError, errorMessage);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.providers.data.TaskProvider#updateProgress(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskProgress)
+		 */
+		@Override
+		public void updateProgress(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+		                           @Nonnull final TaskProgress taskProgress) {
+			this.taskStorage.updateProgress(taskCode, identifyCode, taskProgress);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.providers.data.TaskProvider#checkpointTask(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskCheckpoint)
+		 */
+		@Override
+		public void checkpointTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+		                           @Nonnull final TaskCheckpoint taskCheckpoint) {
+			this.taskStorage.checkpointTask(taskCode, identifyCode, taskCheckpoint);
 		}
 
 		/*
@@ -771,7 +2008,6 @@ public final class DataUtils {
 		 */
 		@Override
 		public List<AbstractTask> taskList(@Nonnull final Long userCode, Integer pageNo, Integer limitSize) {
-			List<AbstractTask> taskList = new ArrayList<>();
 			Integer currentPage = pageNo;
 			if (currentPage == null || currentPage <= Globals.INITIALIZE_INT_VALUE) {
 				currentPage = DatabaseCommons.DEFAULT_PAGE_NO;
@@ -780,20 +2016,7 @@ public final class DataUtils {
 			if (currentLimit == null || currentLimit <= Globals.INITIALIZE_INT_VALUE) {
 				currentLimit = DatabaseCommons.DEFAULT_PAGE_LIMIT;
 			}
-
-			int beginIndex = ((currentPage - 1) * currentLimit);
-			int endIndex = Math.min(this.taskInfoList.size(), beginIndex + currentLimit);
-			final AtomicInteger currentIndex = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
-			this.taskInfoList.stream()
-					.filter(taskInfo -> ObjectUtils.nullSafeEquals(taskInfo.getUserCode(), userCode))
-					.forEach(taskInfo -> {
-						int index = currentIndex.get();
-						if (index >= beginIndex && index < endIndex) {
-							taskList.add(taskInfo);
-						}
-						currentIndex.incrementAndGet();
-					});
-			return taskList;
+			return this.taskStorage.taskList(userCode, currentPage, currentLimit);
 		}
 
 		/*
@@ -802,14 +2025,7 @@ public final class DataUtils {
 		 */
 		@Override
 		public AbstractTask taskInfo(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
-			synchronized (this.taskInfoList) {
-				return this.taskInfoList.stream()
-						.filter(taskInfo ->
-								ObjectUtils.nullSafeEquals(taskInfo.getTaskCode(), taskCode)
-										&& ObjectUtils.nullSafeEquals(taskInfo.getUserCode(), userCode))
-						.findFirst()
-						.orElse(null);
-			}
+			return this.taskStorage.taskInfo(userCode, taskCode);
 		}
 	}
 
@@ -910,523 +2126,1874 @@ public final class DataUtils {
 		}
 
 		/**
-		 * <h3 class="en-US">Getter method for remove record operate</h3>
-		 * <h3 class="zh-CN">删除记录操作的Getter方法</h3>
+		 * <h3 class="en-US">Getter method for remove record operate</h3>
+		 * <h3 class="zh-CN">删除记录操作的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">Remove record operate</span>
+		 * <span class="zh-CN">删除记录操作</span>
+		 */
+		public boolean isRemoveOperate() {
+			return removeOperate;
+		}
+
+		/**
+		 * <h3 class="en-US">Getter method for entity class</h3>
+		 * <h3 class="zh-CN">实体类的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">Entity class</span>
+		 * <span class="zh-CN">实体类</span>
+		 */
+		public Class<?> getEntityClass() {
+			return entityClass;
+		}
+
+		/**
+		 * <h3 class="en-US">Getter method for primary key data map</h3>
+		 * <h3 class="zh-CN">主键数据映射表的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">Primary key data map</span>
+		 * <span class="zh-CN">主键数据映射表</span>
+		 */
+		public Map<String, String> getPrimaryKey() {
+			return primaryKey;
+		}
+
+		/**
+		 * <h3 class="en-US">Getter method for update data map</h3>
+		 * <h3 class="zh-CN">更新数据映射表的Getter方法</h3>
+		 *
+		 * @return <span class="en-US">Update data map</span>
+		 * <span class="zh-CN">更新数据映射表</span>
+		 */
+		public Map<String, String> getDataMap() {
+			return dataMap;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Data exporter</h2>
+	 * <h2 class="zh-CN">数据导出器</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
+	 */
+	public static final class DataExporter implements Closeable {
+
+		/**
+		 * <span class="en-US">Export provider instance</span>
+		 * <span class="zh-CN">导出适配器实例对象</span>
+		 */
+		private final ExportProvider exportProvider;
+		/**
+		 * <span class="en-US">Progress reporter instance, <code>null</code> if not running in task</span>
+		 * <span class="zh-CN">进度报告器实例对象，不在任务中运行时为<code>null</code></span>
+		 */
+		private final ProgressReporter progressReporter;
+		/**
+		 * <span class="en-US">Written bytes already reported</span>
+		 * <span class="zh-CN">已报告的写入字节数</span>
+		 */
+		private long reportedBytes = 0L;
+
+		/**
+		 * <h3 class="en-US">Private constructor for data exporter</h3>
+		 * <h3 class="zh-CN">数据导出器的私有构造方法</h3>
+		 *
+		 * @param exportProvider <span class="en-US">Initialized export provider instance</span>
+		 *                       <span class="zh-CN">已初始化的导出适配器实例对象</span>
+		 */
+		private DataExporter(final ExportProvider exportProvider) {
+			this(exportProvider, null);
+		}
+
+		/**
+		 * <h3 class="en-US">Private constructor for data exporter</h3>
+		 * <h3 class="zh-CN">数据导出器的私有构造方法</h3>
+		 *
+		 * @param exportProvider   <span class="en-US">Initialized export provider instance</span>
+		 *                         <span class="zh-CN">已初始化的导出适配器实例对象</span>
+		 * @param progressReporter <span class="en-US">Progress reporter instance</span>
+		 *                         <span class="zh-CN">进度报告器实例对象</span>
+		 */
+		private DataExporter(final ExportProvider exportProvider, final ProgressReporter progressReporter) {
+			this.exportProvider = exportProvider;
+			this.progressReporter = progressReporter;
+		}
+
+		/**
+		 * <h3 class="en-US">Write given entity object instance data to export file</h3>
+		 * <h3 class="zh-CN">写入数据表实体类对象数据到导出文件</h3>
+		 *
+		 * @param object <span class="en-US">Entity object instance</span>
+		 *               <span class="zh-CN">实体对象实例</span>
+		 * @throws IOException <span class="en-US">If write data error</span>
+		 *                     <span class="zh-CN">如果写入数据出错</span>
+		 */
+		public void appendData(@Nonnull final Object object) throws IOException {
+			if (this.progressReporter != null && this.progressReporter.aborted()) {
+				throw new InterruptedIOException();
+			}
+			this.exportProvider.appendData(object);
+			if (this.progressReporter != null) {
+				long writtenBytes = this.exportProvider.writtenBytes();
+				long increaseBytes = 0L;
+				if (writtenBytes > this.reportedBytes) {
+					increaseBytes = writtenBytes - this.reportedBytes;
+					this.reportedBytes = writtenBytes;
+				}
+				this.progressReporter.increase(1L, increaseBytes);
+			}
+		}
+
+		/**
+		 * (Non-javadoc)
+		 *
+		 * @see Closeable#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			this.exportProvider.close();
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Data generator</h2>
+	 * <h2 class="zh-CN">数据生成器</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
+	 */
+	public static final class DataGenerator implements Closeable {
+		/**
+		 * <span class="en-US">File storage path</span>
+		 * <span class="zh-CN">文件存储路径</span>
+		 */
+		private final String dataPath;
+		/**
+		 * <span class="en-US">Temporary file object instance</span>
+		 * <span class="zh-CN">临时文件实例对象</span>
+		 */
+		private final StandardFile tmpFile;
+		/**
+		 * <span class="en-US">Data identification code list</span>
+		 * <span class="zh-CN">数据识别代码列表</span>
+		 */
+		private final List<String> recordTypes;
+		/**
+		 * <span class="en-US">Ring buffer of encoded records waiting to be written</span>
+		 * <span class="zh-CN">等待写入的已编码记录的环形缓冲区</span>
+		 */
+		private final RecordRing recordRing;
+		/**
+		 * <span class="en-US">Background writer thread</span>
+		 * <span class="zh-CN">后台写入线程</span>
+		 */
+		private final Thread writerThread;
+		/**
+		 * <span class="en-US">Generator is closing, no more records will be appended</span>
+		 * <span class="zh-CN">生成器正在关闭，不再追加记录</span>
+		 */
+		private volatile boolean closing = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Error occurred in background writer thread</span>
+		 * <span class="zh-CN">后台写入线程中出现的错误</span>
+		 */
+		private volatile IOException writeError = null;
+		/**
+		 * <span class="en-US">Total record count, updated by background writer thread</span>
+		 * <span class="zh-CN">总记录数，由后台写入线程更新</span>
+		 */
+		private long totalCount = 0L;
+
+		/**
+		 * <h3 class="en-US">Private constructor method for data generator</h3>
+		 * <h3 class="zh-CN">数据生成器的私有构造方法</h3>
+		 *
+		 * @param dataPath <span class="en-US">File storage path</span>
+		 *                 <span class="zh-CN">文件存储路径</span>
+		 * @throws FileNotFoundException <span class="en-US">If the file storage path is incorrect</span>
+		 *                               <span class="zh-CN">如果文件存储路径不正确</span>
+		 */
+		private DataGenerator(final String dataPath) throws FileNotFoundException {
+			this.dataPath = dataPath;
+			String tmpPath = this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME;
+			if (FileUtils.isExists(tmpPath)) {
+				FileUtils.removeFile(tmpPath);
+			}
+			this.tmpFile = new StandardFile(tmpPath, Boolean.TRUE);
+			this.recordTypes = new ArrayList<>();
+			this.recordRing = new RecordRing(DatabaseCommons.DEFAULT_GENERATOR_RING_SIZE);
+			this.writerThread = new Thread(this::writeRecords, "DataGenerator-Writer");
+			this.writerThread.setDaemon(Boolean.TRUE);
+			this.writerThread.start();
+		}
+
+		/**
+		 * <h3 class="en-US">Append data record to target file</h3>
+		 * <h3 class="zh-CN">向文件中追加记录</h3>
+		 *
+		 * @param removeRecord <span class="en-US">Entity object instance will be removed</span>
+		 *                     <span class="zh-CN">实体类对象为需要删除的记录</span>
+		 * @param recordObject <span class="en-US">Entity object instance</span>
+		 *                     <span class="zh-CN">实体类对象</span>
+		 * @throws IOException <span class="en-US">If the background writer failed or the generator was closed</span>
+		 *                     <span class="zh-CN">如果后台写入器失败或生成器已关闭</span>
+		 */
+		public void appendData(final boolean removeRecord, @Nonnull final BaseObject recordObject)
+				throws IOException {
+			this.writeBytes(removeRecord, ClassUtils.originalClassName(recordObject.getClass()),
+					EntityManager.objectToMap(removeRecord, recordObject));
+		}
+
+		/**
+		 * <h3 class="en-US">Append data record to target file, data records from given excel file</h3>
+		 * <h3 class="zh-CN">向文件中追加Excel文件中的记录</h3>
+		 *
+		 * @param excelFilePath <span class="en-US">Excel file path</span>
+		 *                      <span class="zh-CN">Excel文件路径</span>
+		 * @throws IOException <span class="en-US">If the background writer failed or the generator was closed</span>
+		 *                     <span class="zh-CN">如果后台写入器失败或生成器已关闭</span>
+		 */
+		public void appendData(final String excelFilePath) throws IOException {
+			this.appendData(excelFilePath, Boolean.FALSE);
+		}
+
+		/**
+		 * <h3 class="en-US">Append data record to target file, data records from given excel file</h3>
+		 * <span class="en-US">
+		 * The xlsx file will be read as stream, rows are converted one by one and never load the whole workbook,
+		 * sheets can be converted in parallel by the query executor if parameter parallel is <code>true</code>.
+		 * </span>
+		 * <h3 class="zh-CN">向文件中追加Excel文件中的记录</h3>
+		 * <span class="zh-CN">xlsx文件将以流的形式读取，数据行逐行转换而不会加载整个工作簿，参数parallel为<code>true</code>时由查询执行器并行转换工作表</span>
+		 *
+		 * @param excelFilePath <span class="en-US">Excel file path</span>
+		 *                      <span class="zh-CN">Excel文件路径</span>
+		 * @param parallel      <span class="en-US">Convert sheets in parallel</span>
+		 *                      <span class="zh-CN">并行转换工作表</span>
+		 * @throws IOException <span class="en-US">If read or convert the excel file failed, the background writer failed or the generator was closed</span>
+		 *                     <span class="zh-CN">如果读取或转换Excel文件失败，后台写入器失败或生成器已关闭</span>
+		 */
+		public void appendData(final String excelFilePath, final boolean parallel) throws IOException {
+			if (!StringUtils.endsWithIgnoreCase(excelFilePath, OfficeUtils.EXCEL_FILE_EXT_NAME_2007)) {
+				for (Map.Entry<String, List<List<String>>> entry : OfficeUtils.readExcel(excelFilePath).entrySet()) {
+					TableConfig tableConfig = EntityManager.tableConfig(entry.getKey());
+					if (tableConfig == null) {
+						continue;
+					}
+					for (List<String> dataValues : entry.getValue()) {
+						if (!CollectionUtils.isEmpty(dataValues)) {
+							this.writeBytes(Boolean.FALSE, tableConfig.getTableName(),
+									EntityManager.parseList(tableConfig.getDefineClass(), dataValues));
+						}
+					}
+				}
+				return;
+			}
+			OPCPackage opcPackage = null;
+			List<Future<Void>> futureList = new ArrayList<>();
+			try {
+				opcPackage = OPCPackage.open(excelFilePath, PackageAccess.READ);
+				XSSFReader xssfReader = new XSSFReader(opcPackage);
+				final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage, Boolean.FALSE);
+				final StylesTable stylesTable = xssfReader.getStylesTable();
+				List<Callable<Void>> sheetTasks = new ArrayList<>();
+				XSSFReader.SheetIterator sheetIterator = (XSSFReader.SheetIterator) xssfReader.getSheetsData();
+				while (sheetIterator.hasNext()) {
+					sheetIterator.next().close();
+					final TableConfig tableConfig = EntityManager.tableConfig(sheetIterator.getSheetName());
+					if (tableConfig == null) {
+						continue;
+					}
+					final PackagePart sheetPart = sheetIterator.getSheetPart();
+					sheetTasks.add(() -> {
+						try (InputStream inputStream = sheetPart.getInputStream()) {
+							XMLReader xmlReader = XMLHelper.newXMLReader();
+							xmlReader.setContentHandler(new XSSFSheetXMLHandler(stylesTable, sharedStrings,
+									new SheetParser(tableConfig, (tableName, dataMap) -> {
+										try {
+											this.writeBytes(Boolean.FALSE, tableName, dataMap);
+										} catch (IOException e) {
+											throw new UncheckedIOException(e);
+										}
+									}),
+									new DataFormatter(), Boolean.FALSE));
+							xmlReader.parse(new InputSource(inputStream));
+						}
+						return null;
+					});
+				}
+				//	Sheets are converted by the shared query executor, the first sheet is converted by current thread
+				ExecutorService executorService = (parallel && INSTANCE != null) ? INSTANCE.queryExecutor : null;
+				for (int i = 1; executorService != null && i < sheetTasks.size(); i++) {
+					futureList.add(executorService.submit(sheetTasks.get(i)));
+				}
+				for (int i = 0; i < sheetTasks.size(); i++) {
+					if (i == 0 || executorService == null) {
+						sheetTasks.get(i).call();
+					} else {
+						futureList.get(i - 1).get();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Read excel file interrupted: " + excelFilePath);
+			} catch (Exception e) {
+				this.checkWriter();
+				Throwable cause = (e instanceof ExecutionException) ? e.getCause() : e;
+				if (cause instanceof UncheckedIOException) {
+					cause = cause.getCause();
+				}
+				if (cause instanceof IOException) {
+					throw (IOException) cause;
+				}
+				throw new IOException("Read excel file error: " + excelFilePath, cause);
+			} finally {
+				futureList.forEach(future -> future.cancel(Boolean.TRUE));
+				if (opcPackage != null) {
+					opcPackage.revert();
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Write data to temporary file</h3>
+		 * <h3 class="zh-CN">写入数据到临时文件</h3>
+		 *
+		 * @param removeRecord <span class="en-US">Entity object instance will be removed</span>
+		 *                     <span class="zh-CN">实体类对象为需要删除的记录</span>
+		 * @param string       <span class="en-US">Data identification code</span>
+		 *                     <span class="zh-CN">数据识别代码</span>
+		 * @param dataMap      <span class="en-US">Data mapping</span>
+		 *                     <span class="zh-CN">数据映射表</span>
+		 * @throws IOException <span class="en-US">If the background writer failed or the generator was closed</span>
+		 *                     <span class="zh-CN">如果后台写入器失败或生成器已关闭</span>
+		 */
+		private void writeBytes(final boolean removeRecord, final String string,
+		                        @Nonnull final Map<String, String> dataMap) throws IOException {
+			this.checkWriter();
+			if (dataMap.isEmpty()) {
+				return;
+			}
+			int index = this.typeIndex(DatabaseUtils.tableKey(string));
+			String dataContent = StringUtils.objectToString(dataMap, StringUtils.StringType.JSON, Boolean.FALSE);
+			if (StringUtils.isEmpty(dataContent)) {
+				return;
+			}
+			int totalLength = dataContent.getBytes(StandardCharsets.UTF_8).length + 5;
+			byte[] dataBytes = new byte[totalLength + 4];
+			try {
+				RawUtils.writeInt(dataBytes, ByteOrder.LITTLE_ENDIAN, totalLength);
+				dataBytes[4] = removeRecord ? (byte) 1 : (byte) 0;
+				RawUtils.writeInt(dataBytes, 5, ByteOrder.LITTLE_ENDIAN, index);
+				RawUtils.writeString(dataBytes, 9, dataContent);
+			} catch (DataInvalidException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				return;
+			}
+			while (!this.recordRing.offer(dataBytes)) {
+				this.checkWriter();
+				LockSupport.parkNanos(DatabaseCommons.DEFAULT_GENERATOR_PARK_NANOS);
+			}
+			LockSupport.unpark(this.writerThread);
+		}
+
+		/**
+		 * <h3 class="en-US">Check the background writer is still accepting records</h3>
+		 * <h3 class="zh-CN">检查后台写入器仍在接收记录</h3>
+		 *
+		 * @throws IOException <span class="en-US">If the background writer failed or the generator was closed</span>
+		 *                     <span class="zh-CN">如果后台写入器失败或生成器已关闭</span>
+		 */
+		private void checkWriter() throws IOException {
+			if (this.writeError != null) {
+				throw this.writeError;
+			}
+			if (this.closing || !this.writerThread.isAlive()) {
+				throw new IOException("Data generator was closed: " + this.dataPath);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Background writer, drain encoded records to block buffer and write full blocks to temporary file</h3>
+		 * <span class="en-US">The writer parks while the ring buffer is empty, producers unpark it after each offered record and on close</span>
+		 * <h3 class="zh-CN">后台写入器，将已编码的记录转移到块缓冲区，并将写满的块写入临时文件</h3>
+		 * <span class="zh-CN">环形缓冲区为空时写入器挂起，生产者在每条记录放入后以及关闭时将其唤醒</span>
+		 */
+		private void writeRecords() {
+			byte[] blockBuffer = new byte[DatabaseCommons.DEFAULT_GENERATOR_BLOCK_SIZE];
+			int blockLength = 0;
+			try {
+				while (true) {
+					byte[] dataBytes = this.recordRing.poll();
+					if (dataBytes == null) {
+						if (!this.closing) {
+							LockSupport.park(this);
+							continue;
+						}
+						dataBytes = this.recordRing.poll();
+						if (dataBytes == null) {
+							break;
+						}
+					}
+					if (blockLength + dataBytes.length > blockBuffer.length) {
+						this.tmpFile.write(blockBuffer, Globals.INITIALIZE_INT_VALUE, blockLength);
+						blockLength = 0;
+					}
+					if (dataBytes.length > blockBuffer.length) {
+						this.tmpFile.write(dataBytes);
+					} else {
+						System.arraycopy(dataBytes, Globals.INITIALIZE_INT_VALUE, blockBuffer, blockLength, dataBytes.length);
+						blockLength += dataBytes.length;
+					}
+					this.totalCount++;
+				}
+				if (blockLength > 0) {
+					this.tmpFile.write(blockBuffer, Globals.INITIALIZE_INT_VALUE, blockLength);
+				}
+			} catch (IOException e) {
+				this.writeError = e;
+			} catch (RuntimeException e) {
+				this.writeError = new IOException(e);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve the index of given data identification code, register it if not exists</h3>
+		 * <h3 class="zh-CN">读取给定数据识别代码的索引值，如果不存在则注册</h3>
+		 *
+		 * @param recordType <span class="en-US">Data identification code</span>
+		 *                   <span class="zh-CN">数据识别代码</span>
+		 * @return <span class="en-US">Index value</span>
+		 * <span class="zh-CN">索引值</span>
+		 */
+		private synchronized int typeIndex(final String recordType) {
+			int index = this.recordTypes.indexOf(recordType);
+			if (index == Globals.DEFAULT_VALUE_INT) {
+				this.recordTypes.add(recordType);
+				index = this.recordTypes.size() - 1;
+			}
+			return index;
+		}
+
+		/**
+		 * (Non-javadoc)
+		 *
+		 * @see Closeable#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			this.closing = Boolean.TRUE;
+			LockSupport.unpark(this.writerThread);
+			try {
+				this.writerThread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException(e.getMessage());
+			}
+			this.tmpFile.close();
+			if (this.writeError != null) {
+				throw this.writeError;
+			}
+			String tmpFilePath = this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME;
+			try (StandardFile dataFile = new StandardFile(this.dataPath, Boolean.TRUE);
+			     FileInputStream fileInputStream = new FileInputStream(tmpFilePath)) {
+				byte[] buffer = new byte[8];
+				RawUtils.writeLong(buffer, ByteOrder.LITTLE_ENDIAN, this.totalCount);
+				dataFile.write(buffer);
+				buffer = new byte[4];
+				RawUtils.writeInt(buffer, ByteOrder.LITTLE_ENDIAN, this.recordTypes.size());
+				dataFile.write(buffer);
+				for (String recordType : this.recordTypes) {
+					buffer = new byte[TYPE_LENGTH];
+					RawUtils.writeString(buffer, recordType);
+					dataFile.write(buffer);
+				}
+				byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
+				int readLength;
+				while ((readLength = fileInputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
+					dataFile.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
+				}
+			} catch (DataInvalidException e) {
+				throw new IOException(e);
+			}
+			FileUtils.removeFile(this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Excel sheet parser</h2>
+	 * <span class="en-US">Convert sheet rows to data mapping using precomputed column index plan, one row at a time</span>
+	 * <h2 class="zh-CN">Excel工作表解析器</h2>
+	 * <span class="zh-CN">使用预先计算的列索引计划逐行将工作表数据行转换为数据映射表</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:36:52 $
+	 */
+	private static final class SheetParser implements XSSFSheetXMLHandler.SheetContentsHandler {
+		/**
+		 * <span class="en-US">Table configure information</span>
+		 * <span class="zh-CN">数据表配置信息</span>
+		 */
+		private final TableConfig tableConfig;
+		/**
+		 * <span class="en-US">Field names indexed by excel column index</span>
+		 * <span class="zh-CN">按照Excel列索引定位的属性名称数组</span>
+		 */
+		private final String[] columnPlan;
+		/**
+		 * <span class="en-US">Row data consumer</span>
+		 * <span class="zh-CN">数据行消费者</span>
+		 */
+		private final BiConsumer<String, Map<String, String>> rowConsumer;
+		/**
+		 * <span class="en-US">Data mapping of current row</span>
+		 * <span class="zh-CN">当前数据行的数据映射表</span>
+		 */
+		private Map<String, String> rowData = null;
+		/**
+		 * <span class="en-US">Maximum column index of current row</span>
+		 * <span class="zh-CN">当前数据行的最大列索引</span>
+		 */
+		private int lastColumn = Globals.DEFAULT_VALUE_INT;
+
+		/**
+		 * <h3 class="en-US">Constructor method for excel sheet parser</h3>
+		 * <h3 class="zh-CN">Excel工作表解析器的构造方法</h3>
+		 *
+		 * @param tableConfig <span class="en-US">Table configure information</span>
+		 *                    <span class="zh-CN">数据表配置信息</span>
+		 * @param rowConsumer <span class="en-US">Row data consumer</span>
+		 *                    <span class="zh-CN">数据行消费者</span>
+		 */
+		SheetParser(@Nonnull final TableConfig tableConfig,
+		            @Nonnull final BiConsumer<String, Map<String, String>> rowConsumer) {
+			this.tableConfig = tableConfig;
+			this.columnPlan = EntityManager.columnPlan(tableConfig.getDefineClass());
+			this.rowConsumer = rowConsumer;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#startRow(int)
+		 */
+		@Override
+		public void startRow(final int rowNum) {
+			this.rowData = new HashMap<>(this.columnPlan.length * 2);
+			this.lastColumn = Globals.DEFAULT_VALUE_INT;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#endRow(int)
+		 */
+		@Override
+		public void endRow(final int rowNum) {
+			if (this.rowData == null || this.rowData.isEmpty()) {
+				return;
+			}
+			for (int i = 0; i <= this.lastColumn && i < this.columnPlan.length; i++) {
+				if (this.columnPlan[i] != null) {
+					this.rowData.putIfAbsent(this.columnPlan[i], Globals.DEFAULT_VALUE_STRING);
+				}
+			}
+			this.rowConsumer.accept(this.tableConfig.getTableName(), this.rowData);
+			this.rowData = null;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler#cell(java.lang.String, java.lang.String, org.apache.poi.xssf.usermodel.XSSFComment)
+		 */
+		@Override
+		public void cell(final String cellReference, final String formattedValue, final XSSFComment comment) {
+			int columnIndex = columnIndex(cellReference);
+			if (columnIndex < Globals.INITIALIZE_INT_VALUE || columnIndex >= this.columnPlan.length
+					|| this.columnPlan[columnIndex] == null || this.rowData == null) {
+				return;
+			}
+			this.rowData.put(this.columnPlan[columnIndex], formattedValue);
+			if (columnIndex > this.lastColumn) {
+				this.lastColumn = columnIndex;
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Parse column index from cell reference, e.g. "AB12"</h3>
+		 * <h3 class="zh-CN">从单元格引用中解析列索引，例如："AB12"</h3>
+		 *
+		 * @param cellReference <span class="en-US">Cell reference</span>
+		 *                      <span class="zh-CN">单元格引用</span>
+		 * @return <span class="en-US">Column index begin with 0, or -1 if reference invalid</span>
+		 * <span class="zh-CN">从0开始的列索引，引用无效时返回-1</span>
+		 */
+		private static int columnIndex(final String cellReference) {
+			if (cellReference == null) {
+				return Globals.DEFAULT_VALUE_INT;
+			}
+			int columnIndex = 0;
+			for (int i = 0; i < cellReference.length(); i++) {
+				char ch = cellReference.charAt(i);
+				if (ch >= 'A' && ch <= 'Z') {
+					columnIndex = columnIndex * 26 + (ch - 'A' + 1);
+				} else {
+					break;
+				}
+			}
+			return columnIndex - 1;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Data parser</h2>
+	 * <h2 class="zh-CN">数据解析器</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
+	 */
+	private static final class DataParser implements Closeable {
+		/**
+		 * <span class="en-US">Process data using transactional mode</span>
+		 * <span class="zh-CN">使用事务模式处理数据</span>
+		 */
+		private final boolean transactional;
+		/**
+		 * <span class="en-US">Transactional timeout</span>
+		 * <span class="zh-CN">事务超时时间</span>
+		 */
+		private final int timeout;
+		/**
+		 * <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+		 * <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+		 */
+		private final int chunkSize;
+		/**
+		 * <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+		 * <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+		 */
+		private final long chunkTime;
+		/**
+		 * <span class="en-US">Temporary file instance</span>
+		 * <span class="zh-CN">临时文件实例对象</span>
+		 */
+		private final StandardFile dataFile;
+		/**
+		 * <span class="en-US">Data identification code list</span>
+		 * <span class="zh-CN">数据识别代码列表</span>
+		 */
+		private final List<String> recordTypes;
+		/**
+		 * <span class="en-US">Total record count</span>
+		 * <span class="zh-CN">总记录数</span>
+		 */
+		private final long totalCount;
+		/**
+		 * <span class="en-US">End position</span>
+		 * <span class="zh-CN">结尾地址</span>
+		 */
+		private final long endPosition;
+		/**
+		 * <span class="en-US">Process succeed record count</span>
+		 * <span class="zh-CN">处理成功记录数</span>
+		 */
+		private long successCount = 0L;
+		/**
+		 * <span class="en-US">Process failed record count</span>
+		 * <span class="zh-CN">处理失败记录数</span>
+		 */
+		private long failedCount = 0L;
+		/**
+		 * <span class="en-US">Current position</span>
+		 * <span class="zh-CN">当前地址</span>
+		 */
+		private long position = 0L;
+		/**
+		 * <span class="en-US">Index of the next record</span>
+		 * <span class="zh-CN">下一条记录的索引</span>
+		 */
+		private long recordIndex = 0L;
+		/**
+		 * <span class="en-US">Error message builder</span>
+		 * <span class="zh-CN">错误信息收集器</span>
+		 */
+		private final StringBuilder errorLog;
+		/**
+		 * <span class="en-US">Progress reporter instance, <code>null</code> if not running in task</span>
+		 * <span class="zh-CN">进度报告器实例对象，不在任务中运行时为<code>null</code></span>
+		 */
+		private final ProgressReporter progressReporter;
+		/**
+		 * <span class="en-US">Consumer of checkpoints written after committed batch, <code>null</code> if not running in task</span>
+		 * <span class="zh-CN">批次提交后写入的检查点的消费者，不在任务中运行时为<code>null</code></span>
+		 */
+		private final Consumer<TaskCheckpoint> checkpointConsumer;
+		/**
+		 * <span class="en-US">Feed of data being received, <code>null</code> if data file was completely received</span>
+		 * <span class="zh-CN">正在接收的数据的供给器，数据文件已完全接收时为<code>null</code></span>
+		 */
+		private final StreamFeed streamFeed;
+
+		/**
+		 * <h3 class="en-US">Default constructor method for data parser</h3>
+		 * <h3 class="zh-CN">数据解析器的默认构造方法</h3>
+		 *
+		 * @param transactional <span class="en-US">Process data using transactional mode</span>
+		 *                      <span class="zh-CN">使用事务模式处理数据</span>
+		 * @param timeout       <span class="en-US">Transactional timeout</span>
+		 *                      <span class="zh-CN">事务超时时间</span>
+		 * @param dataPath      <span class="en-US">Data file storage path</span>
+		 *                      <span class="zh-CN">数据文件存储路径</span>
+		 * @throws DataParseException <span class="en-US">If data file invalid</span>
+		 *                            <span class="zh-CN">如果数据文件非法</span>
+		 */
+		public DataParser(final boolean transactional, final int timeout, final String dataPath)
+				throws DataParseException {
+			this(transactional, timeout, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_LONG, dataPath,
+					null, null, null, null);
+		}
+
+		/**
+		 * <h3 class="en-US">Private constructor method for data parser with progress reporter and checkpoint</h3>
+		 * <h3 class="zh-CN">带有进度报告器和检查点的数据解析器私有构造方法</h3>
+		 *
+		 * @param transactional    <span class="en-US">Process data using transactional mode</span>
+		 *                         <span class="zh-CN">使用事务模式处理数据</span>
+		 * @param timeout          <span class="en-US">Transactional timeout</span>
+		 *                         <span class="zh-CN">事务超时时间</span>
+		 * @param chunkSize        <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+		 *                         <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+		 * @param chunkTime        <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+		 *                         <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+		 * @param dataPath           <span class="en-US">Data file storage path</span>
+		 *                           <span class="zh-CN">数据文件存储路径</span>
+		 * @param taskCheckpoint     <span class="en-US">Checkpoint to resume from, <code>null</code> for process from beginning</span>
+		 *                           <span class="zh-CN">继续处理的检查点，为<code>null</code>时从头开始处理</span>
+		 * @param progressReporter   <span class="en-US">Progress reporter instance, <code>null</code> for not report</span>
+		 *                           <span class="zh-CN">进度报告器实例对象，为<code>null</code>时不报告进度</span>
+		 * @param checkpointConsumer <span class="en-US">Consumer of checkpoints written after committed batch, <code>null</code> for not save</span>
+		 *                           <span class="zh-CN">批次提交后写入的检查点的消费者，为<code>null</code>时不保存</span>
+		 * @param streamFeed         <span class="en-US">Feed of data being received, <code>null</code> if data file was completely received</span>
+		 *                           <span class="zh-CN">正在接收的数据的供给器，数据文件已完全接收时为<code>null</code></span>
+		 * @throws DataParseException <span class="en-US">If data file invalid</span>
+		 *                            <span class="zh-CN">如果数据文件非法</span>
+		 */
+		private DataParser(final boolean transactional, final int timeout, final int chunkSize, final long chunkTime,
+		                   final String dataPath, final TaskCheckpoint taskCheckpoint,
+		                   final ProgressReporter progressReporter, final Consumer<TaskCheckpoint> checkpointConsumer,
+		                   final StreamFeed streamFeed)
+				throws DataParseException {
+			this.transactional = transactional;
+			this.streamFeed = streamFeed;
+			this.chunkSize = chunkSize;
+			this.chunkTime = chunkTime;
+			this.progressReporter = progressReporter;
+			this.checkpointConsumer = checkpointConsumer;
+			this.timeout = timeout;
+			this.errorLog = new StringBuilder();
+			if (StringUtils.isEmpty(dataPath)) {
+				throw new DataParseException(0x00DB00000006L);
+			}
+
+			try {
+				this.dataFile = new StandardFile(dataPath);
+				this.endPosition = (streamFeed == null) ? FileUtils.fileSize(dataPath) : Long.MAX_VALUE;
+			} catch (FileNotFoundException e) {
+				this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
+				throw new DataParseException(0x00DB00000006L, e);
+			}
+
+			try {
+				byte[] longBuffer = new byte[8];
+				if (this.read(longBuffer) == 8) {
+					this.position += 8;
+					this.totalCount = RawUtils.readLong(longBuffer, ByteOrder.LITTLE_ENDIAN);
+				} else {
+					throw new DataParseException(0x00DB00000005L);
+				}
+
+				byte[] intBuffer = new byte[4];
+				int headerCount;
+				if (this.read(intBuffer) == 4) {
+					this.position += 4;
+					headerCount = RawUtils.readInt(intBuffer, ByteOrder.LITTLE_ENDIAN);
+				} else {
+					throw new DataParseException(0x00DB00000005L);
+				}
+
+				this.recordTypes = new ArrayList<>();
+				byte[] readBuffer;
+				do {
+					readBuffer = new byte[TYPE_LENGTH];
+					if (this.read(readBuffer) == TYPE_LENGTH) {
+						this.recordTypes.add(RawUtils.readString(readBuffer));
+					} else {
+						throw new DataParseException(0x00DB00000005L);
+					}
+					this.position += TYPE_LENGTH;
+					headerCount--;
+				} while (headerCount > 0);
+				if (this.progressReporter != null) {
+					this.progressReporter.totalCount(this.totalCount);
+				}
+				if (taskCheckpoint != null && taskCheckpoint.getPosition() >= this.position
+						&& taskCheckpoint.getPosition() <= this.endPosition) {
+					this.dataFile.seek(taskCheckpoint.getPosition());
+					this.position = taskCheckpoint.getPosition();
+					this.successCount = taskCheckpoint.getSuccessCount();
+					this.failedCount = taskCheckpoint.getFailedCount();
+					this.recordIndex = taskCheckpoint.getRecordIndex();
+					if (this.progressReporter != null) {
+						this.progressReporter.increase(this.recordIndex, 0L);
+					}
+					LOGGER.info("Data_Import_Resume_Info", this.position, this.recordIndex);
+				}
+			} catch (IOException | DataInvalidException e) {
+				this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
+				throw new DataParseException(0x00DB00000007L, e);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Process data in target file path</h3>
+		 * <span class="en-US">
+		 * If chunk size or chunk time was configured in transactional mode, the transaction is committed
+		 * for each chunk. A failed chunk rolls back only itself, its byte range is recorded in the error message
+		 * for replay, and processing resumes from the next record.
+		 * A checkpoint is written after each committed chunk, or after every batch of records in non-transactional mode.
+		 * The uncommitted records are rolled back if reading data failed, or the processed record count does not match
+		 * the total count in data file header.
+		 * </span>
+		 * <h3 class="zh-CN">处理数据文件中的数据</h3>
+		 * <span class="zh-CN">
+		 * 事务模式下如果配置了分块记录数或分块时间，每个分块提交一次事务。失败的分块仅回滚自身，
+		 * 其字节范围记录在错误信息中用于重放，并从下一条记录继续处理。
+		 * 每个分块提交后写入检查点，非事务模式下每处理一批记录写入检查点。
+		 * 如果读取数据失败，或已处理的记录数与数据文件头中的总记录数不一致，未提交的记录将被回滚
+		 * </span>
+		 *
+		 * @throws DataParseException   <span class="en-US">File data length invalid</span>
+		 *                              <span class="zh-CN">数据文件长度错误</span>
+		 * @throws DataInvalidException <span class="en-US">File data content invalid</span>
+		 *                              <span class="zh-CN">数据文件内容错误</span>
+		 * @throws IOException          <span class="en-US">Read file data error</span>
+		 *                              <span class="zh-CN">读取数据文件出错</span>
+		 */
+		public void process() throws DataParseException, DataInvalidException, IOException {
+			TransactionalConfig txConfig = this.transactional
+					? TransactionalConfig.newInstance(this.timeout, Isolation.ISOLATION_READ_COMMITTED,
+					new Class[]{InsertException.class, UpdateException.class, DropException.class})
+					: null;
+			boolean chunked = txConfig != null && (this.chunkSize > 0 || this.chunkTime > 0L);
+			DatabaseClient databaseClient = null;
+			long chunkBegin = this.position, chunkStart = System.nanoTime(), chunkCount = 0L, chunkSuccess = 0L;
+			byte[] intBuffer = new byte[4];
+			try {
+				while (this.hasRemaining()) {
+					if (databaseClient == null) {
+						databaseClient = DatabaseUtils.restoreClient(txConfig);
+						if (databaseClient == null) {
+							return;
+						}
+						chunkBegin = this.position;
+						chunkStart = System.nanoTime();
+						chunkCount = 0L;
+						chunkSuccess = 0L;
+					}
+					long beginPosition = this.position;
+					DataOperate dataOperate = this.readRecord(intBuffer);
+					this.recordIndex++;
+					boolean success = Boolean.FALSE;
+					Exception rollbackCause = null;
+					if (dataOperate != null) {
+						try {
+							this.process(databaseClient, dataOperate);
+							success = Boolean.TRUE;
+						} catch (Exception e) {
+							if (txConfig != null && databaseClient.rollbackException(e)) {
+								rollbackCause = e;
+							}
+						}
+					}
+					if (success) {
+						this.successCount++;
+						chunkSuccess++;
+					} else {
+						this.failedCount++;
+					}
+					if (this.progressReporter != null) {
+						this.progressReporter.increase(1L, this.position - beginPosition);
+					}
+					if (rollbackCause != null) {
+						databaseClient.rollbackTransactional();
+						this.successCount -= chunkSuccess;
+						this.failedCount += chunkSuccess;
+						if (!chunked) {
+							return;
+						}
+						this.errorLog.append(chunkBegin).append("-").append(this.position).append(": ")
+								.append(rollbackCause.getMessage()).append(FileUtils.CRLF);
+						LOGGER.warn("Data_Chunk_Rollback", chunkBegin, this.position);
+						databaseClient = null;
+						this.checkpoint();
+						continue;
+					}
+					chunkCount++;
+					if (chunked) {
+						if ((this.chunkSize > 0 && chunkCount >= this.chunkSize)
+								|| (this.chunkTime > 0L
+								&& TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - chunkStart) >= this.chunkTime)) {
+							databaseClient.endTransactional();
+							databaseClient = null;
+							this.checkpoint();
+						}
+					} else if (txConfig == null && chunkCount % DatabaseCommons.DEFAULT_CHECKPOINT_RECORDS == 0) {
+						this.checkpoint();
+					}
+				}
+			} catch (DataParseException | DataInvalidException | IOException e) {
+				if (txConfig != null && databaseClient != null) {
+					databaseClient.rollbackTransactional();
+					this.successCount -= chunkSuccess;
+					this.failedCount += chunkSuccess;
+				}
+				throw e;
+			}
+			boolean completed = !this.aborted() && this.countMatched();
+			if (txConfig != null && databaseClient != null) {
+				if (completed) {
+					databaseClient.endTransactional();
+				} else {
+					databaseClient.rollbackTransactional();
+					this.successCount -= chunkSuccess;
+					this.failedCount += chunkSuccess;
+				}
+			}
+			if (completed || txConfig == null) {
+				//	Record the final counts, the last batch may not reach the checkpoint interval
+				this.checkpoint();
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Insert records in target file path in batches</h3>
+		 * <span class="en-US">Each batch is committed in its own transaction, records of failed batch are counted as failed</span>
+		 * <h3 class="zh-CN">批量插入数据文件中的记录</h3>
+		 * <span class="zh-CN">每个批次在独立的事务中提交，失败批次的记录计为处理失败</span>
+		 *
+		 * @param batchSize <span class="en-US">Number of records inserted per batch</span>
+		 *                  <span class="zh-CN">每批插入的记录数</span>
+		 * @throws DataParseException   <span class="en-US">File data length invalid</span>
+		 *                              <span class="zh-CN">数据文件长度错误</span>
+		 * @throws DataInvalidException <span class="en-US">File data content invalid</span>
+		 *                              <span class="zh-CN">数据文件内容错误</span>
+		 * @throws IOException          <span class="en-US">Read file data error</span>
+		 *                              <span class="zh-CN">读取数据文件出错</span>
+		 */
+		public void restore(final int batchSize) throws DataParseException, DataInvalidException, IOException {
+			TransactionalConfig txConfig = TransactionalConfig.newInstance(this.timeout,
+					Isolation.ISOLATION_READ_COMMITTED, new Class[]{InsertException.class});
+			List<BaseObject> batchList = new ArrayList<>(batchSize);
+			byte[] intBuffer = new byte[4];
+			while (this.hasRemaining()) {
+				DataOperate dataOperate = this.readRecord(intBuffer);
+				this.recordIndex++;
+				TableConfig tableConfig = (dataOperate == null || dataOperate.isRemoveOperate())
+						? null
+						: EntityManager.tableConfig(ClassUtils.originalClassName(dataOperate.getEntityClass()));
+				if (tableConfig == null) {
+					this.failedCount++;
+					continue;
+				}
+				BaseObject recordObject = (BaseObject) ObjectUtils.newInstance(tableConfig.getDefineClass());
+				for (Map.Entry<String, Object> entry :
+						EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getPrimaryKey()).entrySet()) {
+					ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+				}
+				for (Map.Entry<String, Object> entry :
+						EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getDataMap()).entrySet()) {
+					ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+				}
+				batchList.add(recordObject);
+				if (batchList.size() >= batchSize) {
+					this.insertBatch(txConfig, batchList);
+				}
+			}
+			if (!this.aborted()) {
+				this.insertBatch(txConfig, batchList);
+				this.countMatched();
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Insert given records in a new transaction and clear the list</h3>
+		 * <h3 class="zh-CN">在新事务中插入给定的记录并清空列表</h3>
+		 *
+		 * @param txConfig  <span class="en-US">Transactional configure information</span>
+		 *                  <span class="zh-CN">事务配置信息</span>
+		 * @param batchList <span class="en-US">Record list</span>
+		 *                  <span class="zh-CN">记录列表</span>
+		 */
+		private void insertBatch(@Nonnull final TransactionalConfig txConfig, @Nonnull final List<BaseObject> batchList) {
+			if (batchList.isEmpty()) {
+				return;
+			}
+			DatabaseClient databaseClient = DatabaseUtils.restoreClient(txConfig);
+			if (databaseClient == null) {
+				this.failedCount += batchList.size();
+			} else {
+				try {
+					BaseObject[] recordObjects = batchList.toArray(new BaseObject[0]);
+					DatabaseUtils.generateKeys(recordObjects);
+					databaseClient.saveRecords(recordObjects);
+					databaseClient.endTransactional();
+					this.successCount += batchList.size();
+				} catch (Exception e) {
+					databaseClient.rollbackTransactional();
+					this.failedCount += batchList.size();
+					this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
+				}
+			}
+			batchList.clear();
+		}
+
+		/**
+		 * <h3 class="en-US">Check the processed record count matches the total count in data file header</h3>
+		 * <span class="en-US">The mismatch is recorded in the error message, the data file was truncated or appended</span>
+		 * <h3 class="zh-CN">检查已处理的记录数与数据文件头中的总记录数一致</h3>
+		 * <span class="zh-CN">不一致时记录到错误信息中，数据文件被截断或被追加</span>
+		 *
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private boolean countMatched() {
+			if (this.recordIndex == this.totalCount) {
+				return Boolean.TRUE;
+			}
+			this.errorLog.append(new DataParseException(0x00DB00000014L, this.recordIndex, this.totalCount).getMessage())
+					.append(FileUtils.CRLF);
+			return Boolean.FALSE;
+		}
+
+		/**
+		 * <h3 class="en-US">Send checkpoint of committed records to checkpoint consumer</h3>
+		 * <h3 class="zh-CN">发送已提交记录的检查点到检查点消费者</h3>
+		 */
+		private void checkpoint() {
+			if (this.checkpointConsumer != null && !this.aborted()) {
+				this.checkpointConsumer.accept(new TaskCheckpoint(this.position, this.successCount, this.failedCount,
+						this.recordIndex));
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Read next record from data file</h3>
+		 * <h3 class="zh-CN">从数据文件中读取下一条记录</h3>
+		 *
+		 * @param intBuffer <span class="en-US">Buffer of record length</span>
+		 *                  <span class="zh-CN">记录长度的缓冲区</span>
+		 * @return <span class="en-US">Data operate instance or <code>null</code> if record invalid</span>
+		 * <span class="zh-CN">数据操作实例对象，记录无效时返回<code>null</code></span>
+		 * @throws DataParseException   <span class="en-US">File data length invalid</span>
+		 *                              <span class="zh-CN">数据文件长度错误</span>
+		 * @throws DataInvalidException <span class="en-US">File data content invalid</span>
+		 *                              <span class="zh-CN">数据文件内容错误</span>
+		 * @throws IOException          <span class="en-US">Read file data error</span>
+		 *                              <span class="zh-CN">读取数据文件出错</span>
+		 */
+		private DataOperate readRecord(final byte[] intBuffer)
+				throws DataParseException, DataInvalidException, IOException {
+			if (this.read(intBuffer) != 4) {
+				throw new DataParseException(0x00DB00000008L, this.position);
+			}
+			this.position += 4;
+			int dataLength = RawUtils.readInt(intBuffer, ByteOrder.LITTLE_ENDIAN);
+			DataOperate dataOperate = null;
+			if (dataLength > 0) {
+				byte[] readBuffer = new byte[dataLength];
+				if (this.read(readBuffer) == dataLength) {
+					dataOperate = DataOperate.fromBytes(this.recordTypes, readBuffer);
+				}
+			}
+			this.position += dataLength;
+			return dataOperate;
+		}
+
+		/**
+		 * <h3 class="en-US">Has error when processing data file</h3>
+		 * <h3 class="zh-CN">处理数据文件过程中出现错误</h3>
+		 *
+		 * @return <span class="en-US">Has error status</span>
+		 * <span class="zh-CN">出现错误</span>
+		 */
+		public boolean hasError() {
+			return (this.failedCount > 0) || ((this.successCount + this.failedCount) != this.totalCount);
+		}
+
+		/**
+		 * <h3 class="en-US">Read error message</h3>
+		 * <h3 class="zh-CN">读取错误信息</h3>
+		 *
+		 * @return <span class="en-US">Error message</span>
+		 * <span class="zh-CN">错误信息</span>
+		 */
+		public String errorMessage() {
+			return this.errorLog.toString();
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (this.streamFeed != null) {
+				this.streamFeed.detach();
+			}
+			this.dataFile.close();
+		}
+
+		/**
+		 * <h3 class="en-US">Check more records remain in data file, wait for the data being received if streaming</h3>
+		 * <h3 class="zh-CN">检查数据文件中是否还有记录，流式处理时等待正在接收的数据</h3>
+		 *
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 * @throws IOException        <span class="en-US">If interrupted when waiting for data</span>
+		 *                            <span class="zh-CN">如果等待数据时被中断</span>
+		 * @throws DataParseException <span class="en-US">If receiving stream data failed</span>
+		 *                            <span class="zh-CN">如果接收流数据失败</span>
+		 */
+		private boolean hasRemaining() throws IOException, DataParseException {
+			if (this.aborted()) {
+				return Boolean.FALSE;
+			}
+			if (this.streamFeed == null) {
+				return this.position < this.endPosition;
+			}
+			this.streamFeed.consumed(this.position);
+			return this.streamFeed.await(this.position + 1);
+		}
+
+		/**
+		 * <h3 class="en-US">Check the task which processing current data file was aborted</h3>
+		 * <h3 class="zh-CN">检查处理当前数据文件的任务是否已中止</h3>
+		 *
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		private boolean aborted() {
+			return this.progressReporter != null && this.progressReporter.aborted();
+		}
+
+		/**
+		 * <h3 class="en-US">Read data at current position to given buffer, wait for the data being received if streaming</h3>
+		 * <h3 class="zh-CN">读取当前位置的数据到给定的缓冲区，流式处理时等待正在接收的数据</h3>
+		 *
+		 * @param buffer <span class="en-US">Read buffer</span>
+		 *               <span class="zh-CN">读取缓冲区</span>
+		 * @return <span class="en-US">Read length</span>
+		 * <span class="zh-CN">读取的长度</span>
+		 * @throws IOException        <span class="en-US">If read file data error or interrupted when waiting for data</span>
+		 *                            <span class="zh-CN">如果读取数据文件出错或等待数据时被中断</span>
+		 * @throws DataParseException <span class="en-US">If receiving stream data failed</span>
+		 *                            <span class="zh-CN">如果接收流数据失败</span>
+		 */
+		private int read(final byte[] buffer) throws IOException, DataParseException {
+			if (this.streamFeed != null && !this.streamFeed.await(this.position + buffer.length)) {
+				return Globals.DEFAULT_VALUE_INT;
+			}
+			return this.dataFile.read(buffer);
+		}
+
+		/**
+		 * <h3 class="en-US">Process data</h3>
+		 * <span class="en-US">
+		 * Primary keys definitely absent in the table existence filter are inserted without the locking read.
+		 * If the insert failed, the record was written outside import tasks, the filter is removed and
+		 * the record is read and updated instead. A failed statement aborts the transaction on some databases,
+		 * so transactional tasks check the existence by a non-locking read before inserting instead of recovering
+		 * from the failed insert. Remove operations always read the record.
+		 * </span>
+		 * <h3 class="zh-CN">处理数据</h3>
+		 * <span class="zh-CN">
+		 * 数据表存在性过滤器中确定不存在的主键将直接插入，不执行锁定读取。如果插入失败，说明记录由导入任务以外的途径写入，
+		 * 将移除过滤器并改为读取和更新记录。部分数据库中执行失败的语句会中止整个事务，因此事务任务在插入前使用非锁定读取检查记录是否存在，
+		 * 而不是在插入失败后恢复。删除操作始终读取记录。
+		 * </span>
+		 *
+		 * @param databaseClient <span class="en-US">Database operate client instance</span>
+		 *                       <span class="zh-CN">数据库操作客户端</span>
+		 * @param dataOperate    <span class="en-US">Data operate instance</span>
+		 *                       <span class="zh-CN">数据操作实例对象</span>
+		 * @throws Exception <span class="en-US">If throw error when processing data</span>
+		 *                   <span class="zh-CN">处理数据时出错</span>
+		 */
+		private void process(final DatabaseClient databaseClient, final DataOperate dataOperate) throws Exception {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Data_Parse_Result", dataOperate.isRemoveOperate(),
+						dataOperate.getEntityClass().toString(),
+						StringUtils.objectToString(dataOperate.getPrimaryKey(), StringUtils.StringType.JSON, Boolean.TRUE),
+						StringUtils.objectToString(dataOperate.getDataMap(), StringUtils.StringType.JSON, Boolean.TRUE));
+			}
+			TableConfig tableConfig =
+					EntityManager.tableConfig(ClassUtils.originalClassName(dataOperate.getEntityClass()));
+			if (tableConfig == null) {
+				throw new TableConfigException(0x00DB00000001L);
+			}
+			Map<String, Object> primaryKeyMap =
+					EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getPrimaryKey());
+			ExistenceFilter existenceFilter =
+					Optional.ofNullable(INSTANCE)
+							.map(dataUtils ->
+									dataUtils.existenceFilters.get(ClassUtils.originalClassName(dataOperate.getEntityClass())))
+							.orElse(null);
+			boolean absentKey = !dataOperate.isRemoveOperate()
+					&& existenceFilter != null && !existenceFilter.mightContain(primaryKeyMap);
+			BaseObject recordObject = absentKey
+					? null
+					: (BaseObject) databaseClient.retrieve(primaryKeyMap, dataOperate.getEntityClass(), Boolean.TRUE);
+			if (dataOperate.isRemoveOperate()) {
+				databaseClient.dropRecords(recordObject);
+			} else {
+				boolean newObj = (recordObject == null);
+				if (recordObject == null) {
+					recordObject = (BaseObject) ObjectUtils.newInstance(tableConfig.getDefineClass());
+					for (Map.Entry<String, Object> entry : primaryKeyMap.entrySet()) {
+						ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+					}
+				}
+				applyData(recordObject, dataOperate);
+				if (newObj) {
+					DatabaseUtils.generateKeys(recordObject);
+					//	A failed statement aborts the whole transaction on some databases, check before inserting
+					if (absentKey && this.transactional
+							&& databaseClient.retrieve(primaryKeyMap, dataOperate.getEntityClass(), Boolean.FALSE) != null) {
+						BaseObject existObject = this.fallbackRecord(databaseClient, existenceFilter,
+								primaryKeyMap, dataOperate);
+						if (existObject != null) {
+							databaseClient.updateRecords(existObject);
+							return;
+						}
+					}
+					try {
+						databaseClient.saveRecords(recordObject);
+					} catch (Exception e) {
+						if (!absentKey || this.transactional) {
+							throw e;
+						}
+						BaseObject existObject = this.fallbackRecord(databaseClient, existenceFilter,
+								primaryKeyMap, dataOperate);
+						if (existObject == null) {
+							throw e;
+						}
+						databaseClient.updateRecords(existObject);
+						return;
+					}
+					if (existenceFilter != null) {
+						existenceFilter.put(primaryKeyMap);
+					}
+				} else {
+					databaseClient.updateRecords(recordObject);
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Remove the invalid existence filter and read the record which primary key was absent in filter</h3>
+		 * <h3 class="zh-CN">移除失效的存在性过滤器，并读取在过滤器中不存在的主键对应的记录</h3>
+		 *
+		 * @param databaseClient  <span class="en-US">Database client instance</span>
+		 *                        <span class="zh-CN">数据库客户端实例对象</span>
+		 * @param existenceFilter <span class="en-US">Invalid table existence filter</span>
+		 *                        <span class="zh-CN">失效的数据表存在性过滤器</span>
+		 * @param primaryKeyMap   <span class="en-US">Primary key mapping</span>
+		 *                        <span class="zh-CN">主键映射表</span>
+		 * @param dataOperate     <span class="en-US">Data operate instance</span>
+		 *                        <span class="zh-CN">数据操作实例对象</span>
+		 * @return <span class="en-US">Record with imported data applied, or <code>null</code> if record not exists</span>
+		 * <span class="zh-CN">已应用导入数据的记录，记录不存在时返回<code>null</code></span>
+		 * @throws Exception <span class="en-US">If read record error</span>
+		 *                   <span class="zh-CN">如果读取记录出错</span>
+		 */
+		private BaseObject fallbackRecord(@Nonnull final DatabaseClient databaseClient,
+		                                  @Nonnull final ExistenceFilter existenceFilter,
+		                                  @Nonnull final Map<String, Object> primaryKeyMap,
+		                                  @Nonnull final DataOperate dataOperate) throws Exception {
+			String className = ClassUtils.originalClassName(dataOperate.getEntityClass());
+			if (INSTANCE != null && INSTANCE.existenceFilters.remove(className, existenceFilter)) {
+				LOGGER.warn("Data_Filter_Invalid_Warn", className);
+			}
+			BaseObject existObject =
+					(BaseObject) databaseClient.retrieve(primaryKeyMap, dataOperate.getEntityClass(), Boolean.TRUE);
+			if (existObject != null) {
+				applyData(existObject, dataOperate);
+			}
+			return existObject;
+		}
+
+		/**
+		 * <h3 class="en-US">Apply data of given data operate to record object</h3>
+		 * <h3 class="zh-CN">应用给定数据操作中的数据到记录对象</h3>
+		 *
+		 * @param recordObject <span class="en-US">Record object instance</span>
+		 *                     <span class="zh-CN">记录对象实例</span>
+		 * @param dataOperate  <span class="en-US">Data operate instance</span>
+		 *                     <span class="zh-CN">数据操作实例对象</span>
+		 */
+		private static void applyData(@Nonnull final BaseObject recordObject, @Nonnull final DataOperate dataOperate) {
+			for (Map.Entry<String, Object> entry :
+					EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getDataMap()).entrySet()) {
+				ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Bounded lock-free ring buffer of encoded records</h2>
+	 * <span class="en-US">Multiple producers claim slots by compare and swap, a single consumer drains the slots in order</span>
+	 * <h2 class="zh-CN">有界无锁的已编码记录环形缓冲区</h2>
+	 * <span class="zh-CN">多个生产者通过比较并交换占用槽位，单个消费者按顺序读取槽位</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 20:48:13 $
+	 */
+	private static final class RecordRing {
+		/**
+		 * <span class="en-US">Index mask of slots</span>
+		 * <span class="zh-CN">槽位的索引掩码</span>
+		 */
+		private final int mask;
+		/**
+		 * <span class="en-US">Record slots</span>
+		 * <span class="zh-CN">记录槽位</span>
+		 */
+		private final AtomicReferenceArray<byte[]> slots;
+		/**
+		 * <span class="en-US">Sequence of slots, equals producer index if writable, equals producer index plus one if readable</span>
+		 * <span class="zh-CN">槽位序号，可写入时等于生产者索引，可读取时等于生产者索引加一</span>
+		 */
+		private final AtomicLongArray sequences;
+		/**
+		 * <span class="en-US">Next producer index</span>
+		 * <span class="zh-CN">下一个生产者索引</span>
+		 */
+		private final AtomicLong producerIndex = new AtomicLong(0L);
+		/**
+		 * <span class="en-US">Next consumer index, only accessed by consumer thread</span>
+		 * <span class="zh-CN">下一个消费者索引，仅由消费者线程访问</span>
+		 */
+		private long consumerIndex = 0L;
+
+		/**
+		 * <h3 class="en-US">Constructor method for record ring buffer</h3>
+		 * <h3 class="zh-CN">记录环形缓冲区的构造方法</h3>
+		 *
+		 * @param capacity <span class="en-US">Slot count, rounded up to power of two</span>
+		 *                 <span class="zh-CN">槽位数，向上取整为2的幂</span>
+		 */
+		RecordRing(final int capacity) {
+			int slotCount = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+			this.mask = slotCount - 1;
+			this.slots = new AtomicReferenceArray<>(slotCount);
+			this.sequences = new AtomicLongArray(slotCount);
+			for (int i = 0; i < slotCount; i++) {
+				this.sequences.set(i, i);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Append record to ring buffer</h3>
+		 * <h3 class="zh-CN">追加记录到环形缓冲区</h3>
+		 *
+		 * @param dataBytes <span class="en-US">Encoded record</span>
+		 *                  <span class="zh-CN">已编码的记录</span>
+		 * @return <span class="en-US"><code>false</code> if ring buffer is full</span>
+		 * <span class="zh-CN">环形缓冲区已满时返回<code>false</code></span>
+		 */
+		boolean offer(@Nonnull final byte[] dataBytes) {
+			while (true) {
+				long index = this.producerIndex.get();
+				int slot = (int) (index & this.mask);
+				long sequence = this.sequences.get(slot);
+				if (sequence == index) {
+					if (this.producerIndex.compareAndSet(index, index + 1)) {
+						this.slots.set(slot, dataBytes);
+						this.sequences.set(slot, index + 1);
+						return Boolean.TRUE;
+					}
+				} else if (sequence < index) {
+					return Boolean.FALSE;
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Remove the next record from ring buffer</h3>
+		 * <h3 class="zh-CN">从环形缓冲区中移除下一条记录</h3>
+		 *
+		 * @return <span class="en-US">Encoded record or <code>null</code> if no record is readable</span>
+		 * <span class="zh-CN">已编码的记录，没有可读取的记录时返回<code>null</code></span>
+		 */
+		byte[] poll() {
+			int slot = (int) (this.consumerIndex & this.mask);
+			if (this.sequences.get(slot) != this.consumerIndex + 1) {
+				return null;
+			}
+			byte[] dataBytes = this.slots.getAndSet(slot, null);
+			this.sequences.set(slot, this.consumerIndex + this.mask + 1);
+			this.consumerIndex++;
+			return dataBytes;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Feed of streaming import data</h2>
+	 * <h2 class="zh-CN">流式导入数据的供给器</h2>
+	 * <span class="en-US">Coordinates the receiver writing the data file and the parser reading it</span>
+	 * <span class="zh-CN">协调写入数据文件的接收方与读取数据文件的解析器</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 20:15:42 $
+	 */
+	private static final class StreamFeed {
+		/**
+		 * <span class="en-US">Maximum bytes received but not parsed</span>
+		 * <span class="zh-CN">已接收但未解析的最大字节数</span>
+		 */
+		private final long bufferLimit;
+		/**
+		 * <span class="en-US">Received bytes</span>
+		 * <span class="zh-CN">已接收的字节数</span>
+		 */
+		private long receivedLength = 0L;
+		/**
+		 * <span class="en-US">Parsed position</span>
+		 * <span class="zh-CN">已解析的位置</span>
+		 */
+		private long consumedPosition = 0L;
+		/**
+		 * <span class="en-US">Parser started consuming data</span>
+		 * <span class="zh-CN">解析器已开始处理数据</span>
+		 */
+		private boolean started = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Receiving completed</span>
+		 * <span class="zh-CN">接收已完成</span>
+		 */
+		private boolean completed = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Parser closed</span>
+		 * <span class="zh-CN">解析器已关闭</span>
+		 */
+		private boolean detached = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Receiving failed exception, <code>null</code> if not failed</span>
+		 * <span class="zh-CN">接收失败的异常，未失败时为<code>null</code></span>
+		 */
+		private DataParseException failure = null;
+
+		/**
+		 * <h3 class="en-US">Constructor method for streaming import data feed</h3>
+		 * <h3 class="zh-CN">流式导入数据供给器的构造方法</h3>
 		 *
-		 * @return <span class="en-US">Remove record operate</span>
-		 * <span class="zh-CN">删除记录操作</span>
+		 * @param bufferLimit <span class="en-US">Maximum bytes received but not parsed</span>
+		 *                    <span class="zh-CN">已接收但未解析的最大字节数</span>
 		 */
-		public boolean isRemoveOperate() {
-			return removeOperate;
+		StreamFeed(final long bufferLimit) {
+			this.bufferLimit = bufferLimit;
 		}
 
 		/**
-		 * <h3 class="en-US">Getter method for entity class</h3>
-		 * <h3 class="zh-CN">实体类的Getter方法</h3>
+		 * <h3 class="en-US">Block the receiver while the received but not parsed bytes exceed the limit</h3>
+		 * <h3 class="zh-CN">已接收但未解析的字节数超过限制时阻塞接收方</h3>
 		 *
-		 * @return <span class="en-US">Entity class</span>
-		 * <span class="zh-CN">实体类</span>
+		 * @throws InterruptedException <span class="en-US">If interrupted when waiting</span>
+		 *                              <span class="zh-CN">如果等待时被中断</span>
 		 */
-		public Class<?> getEntityClass() {
-			return entityClass;
+		synchronized void awaitCapacity() throws InterruptedException {
+			while (this.started && !this.detached && this.receivedLength - this.consumedPosition > this.bufferLimit) {
+				this.wait();
+			}
 		}
 
 		/**
-		 * <h3 class="en-US">Getter method for primary key data map</h3>
-		 * <h3 class="zh-CN">主键数据映射表的Getter方法</h3>
+		 * <h3 class="en-US">Notify given bytes were written to data file</h3>
+		 * <h3 class="zh-CN">通知给定的字节数已写入数据文件</h3>
 		 *
-		 * @return <span class="en-US">Primary key data map</span>
-		 * <span class="zh-CN">主键数据映射表</span>
+		 * @param length <span class="en-US">Written bytes</span>
+		 *               <span class="zh-CN">写入的字节数</span>
 		 */
-		public Map<String, String> getPrimaryKey() {
-			return primaryKey;
+		synchronized void received(final long length) {
+			this.receivedLength += length;
+			this.notifyAll();
 		}
 
 		/**
-		 * <h3 class="en-US">Getter method for update data map</h3>
-		 * <h3 class="zh-CN">更新数据映射表的Getter方法</h3>
-		 *
-		 * @return <span class="en-US">Update data map</span>
-		 * <span class="zh-CN">更新数据映射表</span>
+		 * <h3 class="en-US">Notify receiving completed</h3>
+		 * <h3 class="zh-CN">通知接收已完成</h3>
 		 */
-		public Map<String, String> getDataMap() {
-			return dataMap;
+		synchronized void complete() {
+			this.completed = Boolean.TRUE;
+			this.notifyAll();
 		}
-	}
-
-	/**
-	 * <h2 class="en-US">Data exporter</h2>
-	 * <h2 class="zh-CN">数据导出器</h2>
-	 *
-	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
-	 */
-	public static final class DataExporter implements Closeable {
 
 		/**
-		 * <span class="en-US">Excel writer instance</span>
-		 * <span class="zh-CN">Excel文件写入器</span>
+		 * <h3 class="en-US">Notify receiving failed, the parser waiting for data is aborted</h3>
+		 * <h3 class="zh-CN">通知接收失败，等待数据的解析器将中止</h3>
+		 *
+		 * @param failure <span class="en-US">Receiving failed exception</span>
+		 *                <span class="zh-CN">接收失败的异常</span>
 		 */
-		private final ExcelWriter excelWriter;
+		synchronized void fail(@Nonnull final DataParseException failure) {
+			this.failure = failure;
+			this.notifyAll();
+		}
 
 		/**
-		 * <h3 class="en-US">Private constructor for data exporter</h3>
-		 * <h3 class="zh-CN">数据导出器的私有构造方法</h3>
+		 * <h3 class="en-US">Notify parser consumed the data before given position</h3>
+		 * <h3 class="zh-CN">通知解析器已处理给定位置之前的数据</h3>
 		 *
-		 * @param dataPath <span class="en-US">File storage path</span>
-		 *                 <span class="zh-CN">文件存储路径</span>
-		 * @throws DataInvalidException <span class="en-US">If the file format is incorrect</span>
-		 *                              <span class="zh-CN">如果文件格式不正确</span>
+		 * @param position <span class="en-US">Parsed position</span>
+		 *                 <span class="zh-CN">已解析的位置</span>
 		 */
-		private DataExporter(final String dataPath) throws DataInvalidException {
-			this.excelWriter = OfficeUtils.newWriter(dataPath);
+		synchronized void consumed(final long position) {
+			this.started = Boolean.TRUE;
+			this.consumedPosition = position;
+			this.notifyAll();
 		}
 
 		/**
-		 * <h3 class="en-US">Write given entity object instance data to excel file</h3>
-		 * <h3 class="zh-CN">写入数据表实体类对象数据到Excel文件</h3>
-		 *
-		 * @param object <span class="en-US">Entity object instance</span>
-		 *               <span class="zh-CN">实体对象实例</span>
+		 * <h3 class="en-US">Notify parser closed, the receiver is no longer blocked</h3>
+		 * <h3 class="zh-CN">通知解析器已关闭，接收方不再被阻塞</h3>
 		 */
-		public void appendData(@Nonnull final Object object) {
-			EntityManager.appendToExcel(this.excelWriter, object);
+		synchronized void detach() {
+			this.detached = Boolean.TRUE;
+			this.notifyAll();
 		}
 
 		/**
-		 * (Non-javadoc)
+		 * <h3 class="en-US">Wait until the data before given position was received</h3>
+		 * <h3 class="zh-CN">等待给定位置之前的数据接收完成</h3>
 		 *
-		 * @see Closeable#close()
+		 * @param position <span class="en-US">Required position</span>
+		 *                 <span class="zh-CN">需要的位置</span>
+		 * @return <span class="en-US"><code>false</code> if receiving completed before given position</span>
+		 * <span class="zh-CN">在给定位置之前接收已完成时返回<code>false</code></span>
+		 * @throws InterruptedIOException <span class="en-US">If interrupted when waiting</span>
+		 *                                <span class="zh-CN">如果等待时被中断</span>
+		 * @throws DataParseException     <span class="en-US">If receiving failed</span>
+		 *                                <span class="zh-CN">如果接收失败</span>
 		 */
-		@Override
-		public void close() throws IOException {
-			this.excelWriter.write();
-			this.excelWriter.close();
+		synchronized boolean await(final long position) throws InterruptedIOException, DataParseException {
+			while (this.failure == null && this.receivedLength < position && !this.completed) {
+				try {
+					this.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException(e.getMessage());
+				}
+			}
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return this.receivedLength >= position;
 		}
 	}
 
 	/**
-	 * <h2 class="en-US">Data generator</h2>
-	 * <h2 class="zh-CN">数据生成器</h2>
+	 * <h2 class="en-US">Table existence filter</h2>
+	 * <h2 class="zh-CN">数据表存在性过滤器</h2>
+	 * <span class="en-US">Bloom filter of primary keys, keys not contained are definitely absent in the table</span>
+	 * <span class="zh-CN">主键的布隆过滤器，未包含的主键确定不存在于数据表中</span>
 	 *
 	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 19:24:37 $
 	 */
-	public static final class DataGenerator implements Closeable {
-		/**
-		 * <span class="en-US">File storage path</span>
-		 * <span class="zh-CN">文件存储路径</span>
-		 */
-		private final String dataPath;
+	private static final class ExistenceFilter {
 		/**
-		 * <span class="en-US">Temporary file object instance</span>
-		 * <span class="zh-CN">临时文件实例对象</span>
+		 * <span class="en-US">Bit set of filter</span>
+		 * <span class="zh-CN">过滤器的位集合</span>
 		 */
-		private final StandardFile tmpFile;
+		private final AtomicLongArray bitSet;
 		/**
-		 * <span class="en-US">Data identification code list</span>
-		 * <span class="zh-CN">数据识别代码列表</span>
+		 * <span class="en-US">Number of bits</span>
+		 * <span class="zh-CN">位数</span>
 		 */
-		private final List<String> recordTypes;
+		private final long bitCount;
 		/**
-		 * <span class="en-US">Total record count</span>
-		 * <span class="zh-CN">总记录数</span>
+		 * <span class="en-US">Number of hash functions</span>
+		 * <span class="zh-CN">哈希函数个数</span>
 		 */
-		private long totalCount = 0L;
+		private final int hashCount;
 
 		/**
-		 * <h3 class="en-US">Private constructor method for data generator</h3>
-		 * <h3 class="zh-CN">数据生成器的私有构造方法</h3>
+		 * <h3 class="en-US">Constructor method for table existence filter</h3>
+		 * <h3 class="zh-CN">数据表存在性过滤器的构造方法</h3>
 		 *
-		 * @param dataPath <span class="en-US">File storage path</span>
-		 *                 <span class="zh-CN">文件存储路径</span>
-		 * @throws FileNotFoundException <span class="en-US">If the file storage path is incorrect</span>
-		 *                               <span class="zh-CN">如果文件存储路径不正确</span>
+		 * @param expectedCount <span class="en-US">Expected number of keys</span>
+		 *                      <span class="zh-CN">预期的主键数量</span>
+		 * @param falseRate     <span class="en-US">False positive probability</span>
+		 *                      <span class="zh-CN">误判概率</span>
 		 */
-		private DataGenerator(final String dataPath) throws FileNotFoundException {
-			this.dataPath = dataPath;
-			String tmpPath = this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME;
-			if (FileUtils.isExists(tmpPath)) {
-				FileUtils.removeFile(tmpPath);
-			}
-			this.tmpFile = new StandardFile(tmpPath, Boolean.TRUE);
-			this.recordTypes = new ArrayList<>();
+		ExistenceFilter(final long expectedCount, final double falseRate) {
+			long keyCount = Math.max(expectedCount, DatabaseCommons.DEFAULT_FILTER_PAGE_LIMIT);
+			long bitCount = (long) Math.ceil(-keyCount * Math.log(falseRate) / (Math.log(2) * Math.log(2)));
+			int arrayLength = (int) Math.min((bitCount + Long.SIZE - 1) / Long.SIZE, Integer.MAX_VALUE - 8);
+			this.bitSet = new AtomicLongArray(arrayLength);
+			this.bitCount = (long) arrayLength * Long.SIZE;
+			this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / keyCount * Math.log(2)));
 		}
 
 		/**
-		 * <h3 class="en-US">Append data record to target file</h3>
-		 * <h3 class="zh-CN">向文件中追加记录</h3>
+		 * <h3 class="en-US">Add given primary key to filter</h3>
+		 * <h3 class="zh-CN">添加给定的主键到过滤器</h3>
 		 *
-		 * @param removeRecord <span class="en-US">Entity object instance will be removed</span>
-		 *                     <span class="zh-CN">实体类对象为需要删除的记录</span>
-		 * @param recordObject <span class="en-US">Entity object instance</span>
-		 *                     <span class="zh-CN">实体类对象</span>
+		 * @param primaryKeyMap <span class="en-US">Primary key map, key is field name</span>
+		 *                      <span class="zh-CN">主键映射表，键值为属性名</span>
 		 */
-		public void appendData(final boolean removeRecord, @Nonnull final BaseObject recordObject) {
-			this.writeBytes(removeRecord, ClassUtils.originalClassName(recordObject.getClass()),
-					EntityManager.objectToMap(removeRecord, recordObject));
+		void put(@Nonnull final Map<String, Object> primaryKeyMap) {
+			long hashCode = hash(primaryKeyMap);
+			long secondHash = mix(hashCode);
+			for (int i = 0; i < this.hashCount; i++) {
+				long bitIndex = Math.floorMod(hashCode + i * secondHash, this.bitCount);
+				int index = (int) (bitIndex / Long.SIZE);
+				long mask = 1L << (bitIndex % Long.SIZE);
+				long current;
+				do {
+					current = this.bitSet.get(index);
+				} while ((current & mask) == 0L && !this.bitSet.compareAndSet(index, current, current | mask));
+			}
 		}
 
 		/**
-		 * <h3 class="en-US">Append data record to target file, data records from given excel file</h3>
-		 * <h3 class="zh-CN">向文件中追加Excel文件中的记录</h3>
+		 * <h3 class="en-US">Check given primary key might be contained in filter</h3>
+		 * <h3 class="zh-CN">检查给定的主键是否可能包含在过滤器中</h3>
 		 *
-		 * @param excelFilePath <span class="en-US">Excel file path</span>
-		 *                      <span class="zh-CN">Excel文件路径</span>
+		 * @param primaryKeyMap <span class="en-US">Primary key map, key is field name</span>
+		 *                      <span class="zh-CN">主键映射表，键值为属性名</span>
+		 * @return <span class="en-US"><code>false</code> if the key is definitely absent</span>
+		 * <span class="zh-CN">主键确定不存在时返回<code>false</code></span>
 		 */
-		public void appendData(final String excelFilePath) {
-			for (Map.Entry<String, List<List<String>>> entry : OfficeUtils.readExcel(excelFilePath).entrySet()) {
-				TableConfig tableConfig = EntityManager.tableConfig(entry.getKey());
-				if (tableConfig != null) {
-					entry.getValue()
-							.stream()
-							.filter(dataValues -> !CollectionUtils.isEmpty(dataValues))
-							.forEach(dataValues ->
-									this.writeBytes(Boolean.FALSE, tableConfig.getTableName(),
-											EntityManager.parseList(tableConfig.getDefineClass(), dataValues)));
+		boolean mightContain(@Nonnull final Map<String, Object> primaryKeyMap) {
+			long hashCode = hash(primaryKeyMap);
+			long secondHash = mix(hashCode);
+			for (int i = 0; i < this.hashCount; i++) {
+				long bitIndex = Math.floorMod(hashCode + i * secondHash, this.bitCount);
+				if ((this.bitSet.get((int) (bitIndex / Long.SIZE)) & (1L << (bitIndex % Long.SIZE))) == 0L) {
+					return Boolean.FALSE;
 				}
 			}
+			return Boolean.TRUE;
 		}
 
 		/**
-		 * <h3 class="en-US">Write data to temporary file</h3>
-		 * <h3 class="zh-CN">写入数据到临时文件</h3>
+		 * <h3 class="en-US">Calculate FNV-1a hash of primary key map sorted by field name</h3>
+		 * <h3 class="zh-CN">按属性名排序计算主键映射表的FNV-1a哈希值</h3>
 		 *
-		 * @param removeRecord <span class="en-US">Entity object instance will be removed</span>
-		 *                     <span class="zh-CN">实体类对象为需要删除的记录</span>
-		 * @param string       <span class="en-US">Data identification code</span>
-		 *                     <span class="zh-CN">数据识别代码</span>
-		 * @param dataMap      <span class="en-US">Data mapping</span>
-		 *                     <span class="zh-CN">数据映射表</span>
+		 * @param primaryKeyMap <span class="en-US">Primary key map, key is field name</span>
+		 *                      <span class="zh-CN">主键映射表，键值为属性名</span>
+		 * @return <span class="en-US">Hash value</span>
+		 * <span class="zh-CN">哈希值</span>
 		 */
-		private void writeBytes(final boolean removeRecord, final String string,
-		                        @Nonnull final Map<String, String> dataMap) {
-			if (dataMap.isEmpty()) {
-				return;
-			}
-			String recordType = DatabaseUtils.tableKey(string);
-			if (!CollectionUtils.contains(this.recordTypes, recordType)) {
-				this.recordTypes.add(recordType);
-			}
-			int index = this.recordTypes.indexOf(recordType);
-			String dataContent = StringUtils.objectToString(dataMap, StringUtils.StringType.JSON, Boolean.FALSE);
-			if (StringUtils.isEmpty(dataContent)) {
-				return;
-			}
-			int totalLength = dataContent.getBytes(StandardCharsets.UTF_8).length + 5;
-			byte[] dataBytes = new byte[totalLength + 4];
-			try {
-				RawUtils.writeInt(dataBytes, ByteOrder.LITTLE_ENDIAN, totalLength);
-				dataBytes[4] = removeRecord ? (byte) 1 : (byte) 0;
-				RawUtils.writeInt(dataBytes, 5, ByteOrder.LITTLE_ENDIAN, index);
-				RawUtils.writeString(dataBytes, 9, dataContent);
-				this.tmpFile.write(dataBytes);
-				this.totalCount++;
-			} catch (DataInvalidException | IOException e) {
-				if (LOGGER.isDebugEnabled()) {
-					LOGGER.debug("Stack_Message_Error", e);
+		private static long hash(@Nonnull final Map<String, Object> primaryKeyMap) {
+			long hashCode = 0xCBF29CE484222325L;
+			for (Map.Entry<String, Object> entry : new TreeMap<>(primaryKeyMap).entrySet()) {
+				String keyValue = entry.getKey() + "=" + entry.getValue() + ";";
+				for (byte b : keyValue.getBytes(StandardCharsets.UTF_8)) {
+					hashCode ^= (b & 0xFF);
+					hashCode *= 0x100000001B3L;
 				}
 			}
+			return hashCode;
 		}
 
 		/**
-		 * (Non-javadoc)
+		 * <h3 class="en-US">Derive the second hash value used for double hashing</h3>
+		 * <h3 class="zh-CN">计算双重哈希使用的第二个哈希值</h3>
 		 *
-		 * @see Closeable#close()
+		 * @param hashCode <span class="en-US">Hash value</span>
+		 *                 <span class="zh-CN">哈希值</span>
+		 * @return <span class="en-US">Derived hash value, always odd</span>
+		 * <span class="zh-CN">计算的哈希值，始终为奇数</span>
 		 */
-		@Override
-		public void close() throws IOException {
-			this.tmpFile.close();
-			String tmpFilePath = this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME;
-			try (StandardFile dataFile = new StandardFile(this.dataPath, Boolean.TRUE);
-			     FileInputStream fileInputStream = new FileInputStream(tmpFilePath)) {
-				byte[] buffer = new byte[8];
-				RawUtils.writeLong(buffer, ByteOrder.LITTLE_ENDIAN, this.totalCount);
-				dataFile.write(buffer);
-				buffer = new byte[4];
-				RawUtils.writeInt(buffer, ByteOrder.LITTLE_ENDIAN, this.recordTypes.size());
-				dataFile.write(buffer);
-				for (String recordType : this.recordTypes) {
-					buffer = new byte[TYPE_LENGTH];
-					RawUtils.writeString(buffer, recordType);
-					dataFile.write(buffer);
-				}
-				byte[] readBuffer = new byte[Globals.DEFAULT_BUFFER_SIZE];
-				int readLength;
-				while ((readLength = fileInputStream.read(readBuffer)) != Globals.DEFAULT_VALUE_INT) {
-					dataFile.write(readBuffer, Globals.INITIALIZE_INT_VALUE, readLength);
-				}
-			} catch (DataInvalidException e) {
-				throw new IOException(e);
-			}
-			FileUtils.removeFile(this.dataPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME);
+		private static long mix(final long hashCode) {
+			long mixCode = hashCode;
+			mixCode ^= (mixCode >>> 33);
+			mixCode *= 0xFF51AFD7ED558CCDL;
+			mixCode ^= (mixCode >>> 33);
+			mixCode *= 0xC4CEB9FE1A85EC53L;
+			mixCode ^= (mixCode >>> 33);
+			return mixCode | 1L;
 		}
 	}
 
 	/**
-	 * <h2 class="en-US">Data parser</h2>
-	 * <h2 class="zh-CN">数据解析器</h2>
+	 * <h2 class="en-US">Task progress reporter</h2>
+	 * <h2 class="zh-CN">任务进度报告器</h2>
+	 * <span class="en-US">Counters are updated for every record, progress is written to the task provider at most once per report interval</span>
+	 * <span class="zh-CN">每条记录都会更新计数器，进度信息在每个报告间隔内最多写入任务适配器一次</span>
 	 *
 	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
-	 * @version $Revision: 1.0.0 $ $Date: Oct 26, 2023 16:42:18 $
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:46:22 $
 	 */
-	private static final class DataParser implements Closeable {
+	private static final class ProgressReporter {
 		/**
-		 * <span class="en-US">Process data using transactional mode</span>
-		 * <span class="zh-CN">使用事务模式处理数据</span>
-		 */
-		private final boolean transactional;
-		/**
-		 * <span class="en-US">Transactional timeout</span>
-		 * <span class="zh-CN">事务超时时间</span>
-		 */
-		private final int timeout;
-		/**
-		 * <span class="en-US">Temporary file instance</span>
-		 * <span class="zh-CN">临时文件实例对象</span>
-		 */
-		private final StandardFile dataFile;
-		/**
-		 * <span class="en-US">Data identification code list</span>
-		 * <span class="zh-CN">数据识别代码列表</span>
+		 * <span class="en-US">Task unique identification code</span>
+		 * <span class="zh-CN">任务唯一识别代码</span>
 		 */
-		private final List<String> recordTypes;
+		private final Long taskCode;
 		/**
-		 * <span class="en-US">Total record count</span>
-		 * <span class="zh-CN">总记录数</span>
+		 * <span class="en-US">Begin time (nanoseconds)</span>
+		 * <span class="zh-CN">开始时间（纳秒）</span>
 		 */
-		private final long totalCount;
+		private final long beginTime;
 		/**
-		 * <span class="en-US">End position</span>
-		 * <span class="zh-CN">结尾地址</span>
+		 * <span class="en-US">Processed records count</span>
+		 * <span class="zh-CN">已处理的记录数</span>
 		 */
-		private final long endPosition;
+		private final AtomicLong processedCount = new AtomicLong(0L);
 		/**
-		 * <span class="en-US">Process succeed record count</span>
-		 * <span class="zh-CN">处理成功记录数</span>
+		 * <span class="en-US">Total records count, <code>-1</code> if unknown</span>
+		 * <span class="zh-CN">记录总数，未知时为<code>-1</code></span>
 		 */
-		private long successCount = 0L;
+		private final AtomicLong totalCount = new AtomicLong(Globals.DEFAULT_VALUE_LONG);
 		/**
-		 * <span class="en-US">Process failed record count</span>
-		 * <span class="zh-CN">处理失败记录数</span>
+		 * <span class="en-US">Bytes read or written</span>
+		 * <span class="zh-CN">已读取或写入的字节数</span>
 		 */
-		private long failedCount = 0L;
+		private final AtomicLong transferBytes = new AtomicLong(0L);
 		/**
-		 * <span class="en-US">Current position</span>
-		 * <span class="zh-CN">当前地址</span>
+		 * <span class="en-US">Last report time (nanoseconds)</span>
+		 * <span class="zh-CN">最后报告时间（纳秒）</span>
 		 */
-		private long position = 0L;
+		private final AtomicLong reportTime;
 		/**
-		 * <span class="en-US">Error message builder</span>
-		 * <span class="zh-CN">错误信息收集器</span>
+		 * <span class="en-US">Task was aborted because the lease was lost</span>
+		 * <span class="zh-CN">任务因租约丢失已中止</span>
 		 */
-		private final StringBuilder errorLog;
+		private volatile boolean aborted = Boolean.FALSE;
 
 		/**
-		 * <h3 class="en-US">Default constructor method for data parser</h3>
-		 * <h3 class="zh-CN">数据解析器的默认构造方法</h3>
+		 * <h3 class="en-US">Constructor method for task progress reporter</h3>
+		 * <h3 class="zh-CN">任务进度报告器的构造方法</h3>
 		 *
-		 * @param transactional <span class="en-US">Process data using transactional mode</span>
-		 *                      <span class="zh-CN">使用事务模式处理数据</span>
-		 * @param timeout       <span class="en-US">Transactional timeout</span>
-		 *                      <span class="zh-CN">事务超时时间</span>
-		 * @param dataPath      <span class="en-US">Data file storage path</span>
-		 *                      <span class="zh-CN">数据文件存储路径</span>
-		 * @throws DataParseException <span class="en-US">If data file invalid</span>
-		 *                            <span class="zh-CN">如果数据文件非法</span>
+		 * @param taskCode <span class="en-US">Task unique identification code</span>
+		 *                 <span class="zh-CN">任务唯一识别代码</span>
 		 */
-		public DataParser(final boolean transactional, final int timeout, final String dataPath)
-				throws DataParseException {
-			this.transactional = transactional;
-			this.timeout = timeout;
-			this.errorLog = new StringBuilder();
-			if (StringUtils.isEmpty(dataPath)) {
-				throw new DataParseException(0x00DB00000006L);
-			}
-
-			try {
-				this.dataFile = new StandardFile(dataPath);
-				this.endPosition = FileUtils.fileSize(dataPath);
-			} catch (FileNotFoundException e) {
-				this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
-				throw new DataParseException(0x00DB00000006L, e);
-			}
-
-			try {
-				byte[] longBuffer = new byte[8];
-				if (this.dataFile.read(longBuffer) == 8) {
-					this.position += 8;
-					this.totalCount = RawUtils.readLong(longBuffer, ByteOrder.LITTLE_ENDIAN);
-				} else {
-					throw new DataParseException(0x00DB00000005L);
-				}
-
-				byte[] intBuffer = new byte[4];
-				int headerCount;
-				if (this.dataFile.read(intBuffer) == 4) {
-					this.position += 4;
-					headerCount = RawUtils.readInt(intBuffer, ByteOrder.LITTLE_ENDIAN);
-				} else {
-					throw new DataParseException(0x00DB00000005L);
-				}
+		ProgressReporter(final Long taskCode) {
+			this.taskCode = taskCode;
+			this.beginTime = System.nanoTime();
+			this.reportTime = new AtomicLong(this.beginTime);
+		}
 
-				this.recordTypes = new ArrayList<>();
-				byte[] readBuffer;
-				do {
-					readBuffer = new byte[TYPE_LENGTH];
-					if (this.dataFile.read(readBuffer) == TYPE_LENGTH) {
-						this.recordTypes.add(RawUtils.readString(readBuffer));
-					} else {
-						throw new DataParseException(0x00DB00000005L);
-					}
-					this.position += TYPE_LENGTH;
-					headerCount--;
-				} while (headerCount > 0);
-			} catch (IOException | DataInvalidException e) {
-				this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
-				throw new DataParseException(0x00DB00000007L, e);
-			}
+		/**
+		 * <h3 class="en-US">Configure total records count</h3>
+		 * <h3 class="zh-CN">设置记录总数</h3>
+		 *
+		 * @param totalCount <span class="en-US">Total records count</span>
+		 *                   <span class="zh-CN">记录总数</span>
+		 */
+		void totalCount(final long totalCount) {
+			this.totalCount.set(totalCount);
 		}
 
 		/**
-		 * <h3 class="en-US">Process data in target file path</h3>
-		 * <h3 class="zh-CN">处理数据文件中的数据</h3>
+		 * <h3 class="en-US">Increase total records count</h3>
+		 * <h3 class="zh-CN">增加记录总数</h3>
 		 *
-		 * @throws DataParseException   <span class="en-US">File data length invalid</span>
-		 *                              <span class="zh-CN">数据文件长度错误</span>
-		 * @throws DataInvalidException <span class="en-US">File data content invalid</span>
-		 *                              <span class="zh-CN">数据文件内容错误</span>
-		 * @throws IOException          <span class="en-US">Read file data error</span>
-		 *                              <span class="zh-CN">读取数据文件出错</span>
+		 * @param count <span class="en-US">Increase records count</span>
+		 *              <span class="zh-CN">增加的记录数</span>
 		 */
-		public void process() throws DataParseException, DataInvalidException, IOException {
-			TransactionalConfig txConfig = this.transactional
-					? TransactionalConfig.newInstance(this.timeout, Isolation.ISOLATION_READ_COMMITTED,
-					new Class[]{InsertException.class, UpdateException.class, DropException.class})
-					: null;
-			DatabaseClient databaseClient = DatabaseUtils.restoreClient(txConfig);
-			if (databaseClient == null) {
-				return;
-			}
-			byte[] intBuffer = new byte[4];
-			byte[] readBuffer;
-			boolean rollback = Boolean.FALSE;
-			while (this.position < this.endPosition) {
-				boolean success = Boolean.FALSE;
-				if (this.dataFile.read(intBuffer) == 4) {
-					this.position += 4;
-					int dataLength = RawUtils.readInt(intBuffer, ByteOrder.LITTLE_ENDIAN);
-					if (dataLength > 0) {
-						readBuffer = new byte[dataLength];
-						if (this.dataFile.read(readBuffer) == dataLength) {
-							DataOperate dataOperate = DataOperate.fromBytes(this.recordTypes, readBuffer);
-							if (dataOperate != null) {
-								try {
-									this.process(databaseClient, dataOperate);
-									success = Boolean.TRUE;
-								} catch (Exception e) {
-									if (txConfig != null && databaseClient.rollbackException(e)) {
-										databaseClient.rollbackTransactional();
-										rollback = Boolean.TRUE;
-										break;
-									}
-								}
-							}
-						}
-					}
-					this.position += dataLength;
-				} else {
-					throw new DataParseException(0x00DB00000008L, this.position);
-				}
-				if (success) {
-					this.successCount++;
-				} else {
-					this.failedCount++;
-				}
+		void increaseTotal(final long count) {
+			this.totalCount.accumulateAndGet(count, (current, increase) -> Math.max(current, 0L) + increase);
+		}
+
+		/**
+		 * <h3 class="en-US">Increase processed records count and transfer bytes, report progress if report interval elapsed</h3>
+		 * <h3 class="zh-CN">增加已处理记录数和传输字节数，如果已超过报告间隔则报告进度</h3>
+		 *
+		 * @param records <span class="en-US">Increase records count</span>
+		 *                <span class="zh-CN">增加的记录数</span>
+		 * @param bytes   <span class="en-US">Increase transfer bytes</span>
+		 *                <span class="zh-CN">增加的传输字节数</span>
+		 */
+		void increase(final long records, final long bytes) {
+			this.processedCount.addAndGet(records);
+			if (bytes > 0L) {
+				this.transferBytes.addAndGet(bytes);
 			}
-			if (txConfig != null && !rollback) {
-				databaseClient.endTransactional();
+			long currentTime = System.nanoTime();
+			long lastTime = this.reportTime.get();
+			if (TimeUnit.NANOSECONDS.toMillis(currentTime - lastTime) >= DatabaseCommons.DEFAULT_PROGRESS_INTERVAL
+					&& this.reportTime.compareAndSet(lastTime, currentTime)) {
+				this.report(currentTime);
 			}
 		}
 
 		/**
-		 * <h3 class="en-US">Has error when processing data file</h3>
-		 * <h3 class="zh-CN">处理数据文件过程中出现错误</h3>
-		 *
-		 * @return <span class="en-US">Has error status</span>
-		 * <span class="zh-CN">出现错误</span>
+		 * <h3 class="en-US">Mark the task was aborted, processing loops stop and progress is no longer reported</h3>
+		 * <h3 class="zh-CN">标记任务已中止，处理循环停止且不再报告进度</h3>
 		 */
-		public boolean hasError() {
-			return (this.failedCount > 0) || ((this.successCount + this.failedCount) != this.totalCount);
+		void abort() {
+			this.aborted = Boolean.TRUE;
 		}
 
 		/**
-		 * <h3 class="en-US">Read error message</h3>
-		 * <h3 class="zh-CN">读取错误信息</h3>
+		 * <h3 class="en-US">Check the task was aborted</h3>
+		 * <h3 class="zh-CN">检查任务是否已中止</h3>
 		 *
-		 * @return <span class="en-US">Error message</span>
-		 * <span class="zh-CN">错误信息</span>
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
 		 */
-		public String errorMessage() {
-			return this.errorLog.toString();
+		boolean aborted() {
+			return this.aborted;
 		}
 
-		@Override
-		public void close() throws IOException {
-			this.dataFile.close();
+		/**
+		 * <h3 class="en-US">Report current progress immediately</h3>
+		 * <h3 class="zh-CN">立即报告当前进度</h3>
+		 */
+		void report() {
+			long currentTime = System.nanoTime();
+			this.reportTime.set(currentTime);
+			this.report(currentTime);
 		}
 
 		/**
-		 * <h3 class="en-US">Process data</h3>
-		 * <h3 class="zh-CN">处理数据</h3>
+		 * <h3 class="en-US">Calculate throughput and write progress information to task provider</h3>
+		 * <h3 class="zh-CN">计算吞吐量并将进度信息写入任务适配器</h3>
 		 *
-		 * @param databaseClient <span class="en-US">Database operate client instance</span>
-		 *                       <span class="zh-CN">数据库操作客户端</span>
-		 * @param dataOperate    <span class="en-US">Data operate instance</span>
-		 *                       <span class="zh-CN">数据操作实例对象</span>
-		 * @throws Exception <span class="en-US">If throw error when processing data</span>
-		 *                   <span class="zh-CN">处理数据时出错</span>
+		 * @param currentTime <span class="en-US">Current time (nanoseconds)</span>
+		 *                    <span class="zh-CN">当前时间（纳秒）</span>
 		 */
-		private void process(final DatabaseClient databaseClient, final DataOperate dataOperate) throws Exception {
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Data_Parse_Result", dataOperate.isRemoveOperate(),
-						dataOperate.getEntityClass().toString(),
-						StringUtils.objectToString(dataOperate.getPrimaryKey(), StringUtils.StringType.JSON, Boolean.TRUE),
-						StringUtils.objectToString(dataOperate.getDataMap(), StringUtils.StringType.JSON, Boolean.TRUE));
+		private void report(final long currentTime) {
+			if (INSTANCE == null || this.aborted) {
+				return;
 			}
-			TableConfig tableConfig =
-					EntityManager.tableConfig(ClassUtils.originalClassName(dataOperate.getEntityClass()));
-			if (tableConfig == null) {
-				throw new TableConfigException(0x00DB00000001L);
+			long processed = this.processedCount.get();
+			long total = this.totalCount.get();
+			long elapsedTime = Math.max(TimeUnit.NANOSECONDS.toMillis(currentTime - this.beginTime), 1L);
+			double recordRate = processed * 1000D / elapsedTime;
+			long estimateTime = Globals.DEFAULT_VALUE_LONG;
+			if (total > 0L && recordRate > 0D) {
+				estimateTime = DateTimeUtils.currentUTCTimeMillis()
+						+ (long) (Math.max(total - processed, 0L) * 1000D / recordRate);
 			}
-			Map<String, Object> primaryKeyMap =
-					EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getPrimaryKey());
-			BaseObject recordObject =
-					(BaseObject) databaseClient.retrieve(primaryKeyMap, dataOperate.getEntityClass(), Boolean.TRUE);
-			if (dataOperate.isRemoveOperate()) {
-				databaseClient.dropRecords(recordObject);
-			} else {
-				boolean newObj = (recordObject == null);
-				if (recordObject == null) {
-					recordObject = (BaseObject) ObjectUtils.newInstance(tableConfig.getDefineClass());
-					for (Map.Entry<String, Object> entry : primaryKeyMap.entrySet()) {
-						ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
-					}
-				}
-				for (Map.Entry<String, Object> entry :
-						EntityManager.unmarshalMap(dataOperate.getEntityClass(), dataOperate.getDataMap()).entrySet()) {
-					ReflectionUtils.setField(entry.getKey(), recordObject, entry.getValue());
-				}
-				if (newObj) {
-					databaseClient.saveRecords(recordObject);
-				} else {
-					databaseClient.updateRecords(recordObject);
+			try {
+				INSTANCE.taskProvider.updateProgress(this.taskCode, INSTANCE.identifyCode,
+						new TaskProgress(processed, total, this.transferBytes.get(), recordRate, estimateTime));
+			} catch (Exception e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
 				}
 			}
 		}
 	}
 
-	private static abstract class ProcessThread extends Thread {
+	private static abstract class TaskProcessor implements Runnable {
+		/**
+		 * <span class="en-US">Task information</span>
+		 * <span class="zh-CN">任务信息</span>
+		 */
+		private final AbstractTask taskInfo;
 		/**
 		 * <span class="en-US">Task unique identification code</span>
 		 * <span class="zh-CN">任务唯一识别代码</span>
@@ -1442,25 +4009,71 @@ public final class DataUtils {
 		 * <span class="zh-CN">任务执行过程中出现异常</span>
 		 */
 		protected boolean hasError = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Task progress reporter</span>
+		 * <span class="zh-CN">任务进度报告器</span>
+		 */
+		protected final ProgressReporter progressReporter;
+		/**
+		 * <span class="en-US">Thread which executing current processor, <code>null</code> if not running</span>
+		 * <span class="zh-CN">执行当前处理器的线程，未运行时为<code>null</code></span>
+		 */
+		private Thread executeThread = null;
 
-		protected ProcessThread(final long taskCode) {
-			this.taskCode = taskCode;
+		protected TaskProcessor(final AbstractTask taskInfo) {
+			this.taskInfo = taskInfo;
+			this.taskCode = taskInfo.getTaskCode();
 			this.errorLog = new StringBuilder();
+			this.progressReporter = new ProgressReporter(this.taskCode);
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see java.lang.Thread#run()
+		 * @see java.lang.Runnable#run()
 		 */
 		@Override
 		public void run() {
-			DataUtils.processTask(this.taskCode, INSTANCE.identifyCode);
-			this.process();
-			DataUtils.finishTask(this);
+			synchronized (this) {
+				this.executeThread = Thread.currentThread();
+			}
+			try {
+				if (!this.progressReporter.aborted()) {
+					this.process();
+				}
+			} catch (Exception e) {
+				this.hasError = Boolean.TRUE;
+				this.errorLog.append(e.getMessage());
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			} finally {
+				synchronized (this) {
+					this.executeThread = null;
+					//	Clear the interrupt status set by abort, the thread will be reused by the executor
+					Thread.interrupted();
+				}
+				this.progressReporter.report();
+				DataUtils.finishTask(this);
+			}
 		}
 
 		public abstract void process();
 
+		/**
+		 * <h3 class="en-US">Abort current processor, processing loops stop and the executing thread is interrupted</h3>
+		 * <h3 class="zh-CN">中止当前处理器，处理循环停止并中断执行线程</h3>
+		 */
+		public synchronized void abort() {
+			this.progressReporter.abort();
+			if (this.executeThread != null) {
+				this.executeThread.interrupt();
+			}
+		}
+
+		public AbstractTask getTaskInfo() {
+			return taskInfo;
+		}
+
 		public Long getTaskCode() {
 			return taskCode;
 		}
@@ -1474,46 +4087,438 @@ public final class DataUtils {
 		}
 	}
 
-	private static final class ExportThread extends ProcessThread {
+	private static final class ExportProcessor extends TaskProcessor {
 		/**
 		 * <span class="en-US">Export Excel using compatibility mode</span>
 		 * <span class="zh-CN">使用兼容模式输出Excel</span>
 		 */
 		private final boolean compatibilityMode;
+		/**
+		 * <span class="en-US">Export provider name</span>
+		 * <span class="zh-CN">导出适配器名称</span>
+		 */
+		private final String exportType;
+		/**
+		 * <span class="en-US">Compress export file using GZIP</span>
+		 * <span class="zh-CN">使用GZIP压缩导出文件</span>
+		 */
+		private final boolean compress;
+		/**
+		 * <span class="en-US">Maximum number of queries executed concurrently</span>
+		 * <span class="zh-CN">同时执行的最大查询数</span>
+		 */
+		private final int parallelism;
 		/**
 		 * <span class="en-US">Query information list for data export tasks</span>
 		 * <span class="zh-CN">数据导出任务的查询信息列表</span>
 		 */
 		private final List<QueryInfo> queryInfoList;
+		/**
+		 * <span class="en-US">Watermark name of incremental export definition, empty for full export</span>
+		 * <span class="zh-CN">增量导出定义的水位线名称，为空时执行全量导出</span>
+		 */
+		private final String watermarkName;
+		/**
+		 * <span class="en-US">Identify key of watermark field, empty for using version column</span>
+		 * <span class="zh-CN">水位线属性的识别代码，为空时使用版本列</span>
+		 */
+		private final String watermarkField;
+		/**
+		 * <span class="en-US">Identify key of removed flag field, empty for not export remove records</span>
+		 * <span class="zh-CN">删除标记属性的识别代码，为空时不导出删除记录</span>
+		 */
+		private final String removeField;
 
-		public ExportThread(final ExportTask exportTask) {
-			super(exportTask.getTaskCode());
+		public ExportProcessor(final ExportTask exportTask) {
+			super(exportTask);
 			this.compatibilityMode = exportTask.isCompatibilityMode();
+			this.exportType = exportTask.getExportType();
+			this.compress = exportTask.isCompress();
+			this.parallelism = exportTask.getParallelism();
 			this.queryInfoList = exportTask.getQueryInfoList();
+			this.watermarkName = exportTask.getWatermarkName();
+			this.watermarkField = exportTask.getWatermarkField();
+			this.removeField = exportTask.getRemoveField();
 		}
 
 		@Override
 		public void process() {
-			try (DataExporter dataExporter =
-					     new DataExporter(INSTANCE.exportPath(this.getTaskCode(), this.compatibilityMode))) {
-				DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
-				if (databaseClient != null) {
-					for (QueryInfo queryInfo : this.queryInfoList) {
-						databaseClient.queryList(queryInfo).getResultList()
-								.forEach(dataExporter::appendData);
-					}
+			if (StringUtils.notBlank(this.watermarkName)) {
+				try {
+					this.incrementalExport();
 					this.hasError = Boolean.FALSE;
-				} else {
+				} catch (Exception e) {
+					this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
 					this.hasError = Boolean.TRUE;
 				}
+				return;
+			}
+			ExportProvider exportProvider = DataUtils.exportProvider(this.exportType);
+			String exportPath = INSTANCE.exportPath(this.getTaskCode(),
+					exportProvider.extensionName(this.compatibilityMode, this.compress));
+			int concurrency = Math.min(Math.min(this.parallelism, this.queryInfoList.size()), INSTANCE.threadLimit);
+			try {
+				if (concurrency > 1 && exportProvider.partitioned()) {
+					this.partExport(exportPath, concurrency);
+				} else {
+					exportProvider.initialize(exportPath, this.compress);
+					try (DataExporter dataExporter = new DataExporter(exportProvider, this.progressReporter)) {
+						if (concurrency > 1) {
+							this.concurrentExport(dataExporter, concurrency);
+						} else {
+							DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+							if (databaseClient == null) {
+								this.hasError = Boolean.TRUE;
+								return;
+							}
+							for (QueryInfo queryInfo : this.queryInfoList) {
+								List<?> dataList = databaseClient.queryList(queryInfo).asList(queryInfo.getMainEntity());
+								this.progressReporter.increaseTotal(dataList.size());
+								for (Object object : dataList) {
+									dataExporter.appendData(object);
+								}
+							}
+						}
+					}
+				}
+				this.hasError = Boolean.FALSE;
 			} catch (Exception e) {
 				this.errorLog.append(e.getMessage()).append(FileUtils.CRLF);
 				this.hasError = Boolean.TRUE;
 			}
 		}
+
+		/**
+		 * <h3 class="en-US">Export records changed since the stored watermark to data file, and advance the watermark</h3>
+		 * <span class="en-US">
+		 * Records are read ordered by the watermark field and primary keys, page by page from the last read watermark
+		 * value (inclusive) until all pages were drained, records already exported at the boundary value are skipped.
+		 * </span>
+		 * <h3 class="zh-CN">导出已保存水位线之后发生变化的记录到数据文件，并前移水位线</h3>
+		 * <span class="zh-CN">记录按照水位线属性和主键排序，从最后读取的水位线值（包含）开始逐页读取直到读取完所有分页，边界值上已导出的记录将被跳过</span>
+		 *
+		 * @throws Exception <span class="en-US">If watermark field not found or invalid, query or write data file error</span>
+		 *                   <span class="zh-CN">如果水位线属性未找到或无效，查询或写入数据文件出错</span>
+		 */
+		private void incrementalExport() throws Exception {
+			DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+			if (databaseClient == null) {
+				throw new DatabaseException(0x00DB00000003L);
+			}
+			String watermarkPath = INSTANCE.watermarkPath(this.watermarkName);
+			Map<String, Long> watermarks = new HashMap<>();
+			if (FileUtils.isExists(watermarkPath)) {
+				StringUtils.dataToMap(new String(FileUtils.readFileBytes(watermarkPath), StandardCharsets.UTF_8),
+								StringUtils.StringType.JSON)
+						.forEach((key, value) -> watermarks.put(key, Long.valueOf(value.toString())));
+			}
+			try (DataGenerator dataGenerator =
+					     new DataGenerator(INSTANCE.exportPath(this.getTaskCode(), DatabaseCommons.DATA_FILE_EXTENSION_NAME))) {
+				for (QueryInfo queryInfo : this.queryInfoList) {
+					Class<?> entityClass = queryInfo.getMainEntity();
+					TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+					ColumnConfig columnConfig = this.watermarkColumn(entityClass, tableConfig);
+					boolean timeWatermark = Date.class.isAssignableFrom(columnConfig.getFieldType());
+					String watermarkKey = ClassUtils.originalClassName(entityClass);
+					List<OrderBy> orderByList = new ArrayList<>();
+					orderByList.add(new OrderBy(entityClass, columnConfig.getFieldName(), OrderType.ASC, 0));
+					tableConfig.getColumnConfigs()
+							.stream()
+							.filter(ColumnConfig::isPrimaryKey)
+							.forEach(keyConfig -> orderByList.add(new OrderBy(entityClass, keyConfig.getFieldName(),
+									OrderType.ASC, orderByList.size())));
+					Long cursor = Optional.ofNullable(watermarks.get(watermarkKey))
+							.map(watermark -> timeWatermark ? watermark - DatabaseCommons.DEFAULT_WATERMARK_LAG : watermark)
+							.orElse(null);
+					Set<Map<String, Object>> boundaryKeys = new HashSet<>();
+					int pageNo = DatabaseCommons.DEFAULT_PAGE_NO;
+					while (Boolean.TRUE) {
+						QueryInfo deltaQuery = new QueryInfo();
+						deltaQuery.setIdentifyName(queryInfo.getIdentifyName());
+						deltaQuery.setMainEntity(entityClass);
+						deltaQuery.setQueryJoins(queryInfo.getQueryJoins());
+						deltaQuery.setItemList(queryInfo.getItemList());
+						deltaQuery.setOrderByList(orderByList);
+						deltaQuery.setGroupByList(queryInfo.getGroupByList());
+						deltaQuery.setCacheables(Boolean.FALSE);
+						deltaQuery.setLockOption(queryInfo.getLockOption());
+						deltaQuery.setPageNo(pageNo);
+						deltaQuery.setPageLimit(DatabaseCommons.DEFAULT_WATERMARK_PAGE_LIMIT);
+						List<Condition> conditionList = new ArrayList<>(queryInfo.getConditionList());
+						if (cursor != null) {
+							conditionList.add(Condition.greaterEqual(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+									entityClass, columnConfig.getFieldName(),
+									watermarkValue(columnConfig.getFieldType(), cursor)));
+						}
+						deltaQuery.setConditionList(conditionList);
+						List<?> dataList = databaseClient.queryList(deltaQuery).asList(entityClass);
+						this.progressReporter.increaseTotal(dataList.size());
+						Long pageCursor = cursor;
+						for (Object object : dataList) {
+							if (this.progressReporter.aborted()) {
+								throw new InterruptedIOException();
+							}
+							this.progressReporter.increase(1L, 0L);
+							Long watermark =
+									watermarkOf(ReflectionUtils.getFieldValue(columnConfig.getFieldName(), object));
+							if (watermark != null && !watermark.equals(pageCursor)) {
+								pageCursor = watermark;
+								boundaryKeys.clear();
+							}
+							if (!boundaryKeys.add(DatabaseUtils.primaryKeyMap(object))) {
+								continue;
+							}
+							boolean removeRecord = StringUtils.notBlank(this.removeField)
+									&& Boolean.TRUE.equals(ReflectionUtils.getFieldValue(this.removeField, object));
+							dataGenerator.appendData(removeRecord, (BaseObject) object);
+							if (watermark != null) {
+								watermarks.merge(watermarkKey, watermark, Math::max);
+							}
+						}
+						if (dataList.size() < DatabaseCommons.DEFAULT_WATERMARK_PAGE_LIMIT) {
+							break;
+						}
+						if (ObjectUtils.nullSafeEquals(pageCursor, cursor)) {
+							//	The whole page shares the boundary value, continue with next page of the same value
+							pageNo++;
+						} else {
+							cursor = pageCursor;
+							pageNo = DatabaseCommons.DEFAULT_PAGE_NO;
+						}
+					}
+				}
+			}
+			String tmpPath = watermarkPath + DatabaseCommons.DATA_TMP_FILE_EXTENSION_NAME;
+			if (!FileUtils.saveFile(StringUtils.objectToString(watermarks, StringUtils.StringType.JSON, Boolean.FALSE)
+					.getBytes(StandardCharsets.UTF_8), tmpPath)) {
+				throw new IOException("Save watermark file error: " + watermarkPath);
+			}
+			Files.move(Paths.get(tmpPath), Paths.get(watermarkPath),
+					StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve and validate the watermark column of given entity class</h3>
+		 * <span class="en-US">
+		 * The configured watermark field must be a timestamp or an integral global change sequence.
+		 * If not configured, the version column is used only if it is a timestamp,
+		 * an integer version column counts changes of each record and can not be used as watermark.
+		 * </span>
+		 * <h3 class="zh-CN">读取并验证给定实体类的水位线列</h3>
+		 * <span class="zh-CN">配置的水位线属性必须为时间戳或整型的全局变更序列。未配置时仅在版本列为时间戳时使用，整型版本列记录单条记录的变更次数，不能作为水位线</span>
+		 *
+		 * @param entityClass <span class="en-US">Entity class</span>
+		 *                    <span class="zh-CN">实体类</span>
+		 * @param tableConfig <span class="en-US">Table configure information</span>
+		 *                    <span class="zh-CN">数据表配置信息</span>
+		 * @return <span class="en-US">Watermark column configure information</span>
+		 * <span class="zh-CN">水位线列配置信息</span>
+		 * @throws DataParseException <span class="en-US">If watermark field not found or the field type is invalid</span>
+		 *                            <span class="zh-CN">如果水位线属性未找到或属性类型无效</span>
+		 */
+		private ColumnConfig watermarkColumn(@Nonnull final Class<?> entityClass, final TableConfig tableConfig)
+				throws DataParseException {
+			String className = ClassUtils.originalClassName(entityClass);
+			ColumnConfig columnConfig = (tableConfig == null)
+					? null
+					: (StringUtils.isEmpty(this.watermarkField)
+					? tableConfig.versionColumn().orElse(null)
+					: tableConfig.columnConfig(this.watermarkField));
+			if (columnConfig == null) {
+				throw new DataParseException(0x00DB0000000AL, className);
+			}
+			Class<?> fieldType = columnConfig.getFieldType();
+			boolean sequenceType = long.class.equals(fieldType) || Long.class.equals(fieldType)
+					|| int.class.equals(fieldType) || Integer.class.equals(fieldType)
+					|| short.class.equals(fieldType) || Short.class.equals(fieldType);
+			if (Date.class.isAssignableFrom(fieldType) || (sequenceType && StringUtils.notBlank(this.watermarkField))) {
+				return columnConfig;
+			}
+			throw new DataParseException(0x00DB00000012L, className, columnConfig.getFieldName());
+		}
+
+		/**
+		 * <h3 class="en-US">Convert watermark field value to stored watermark</h3>
+		 * <h3 class="zh-CN">转换水位线属性值为保存的水位线</h3>
+		 *
+		 * @param fieldValue <span class="en-US">Watermark field value</span>
+		 *                   <span class="zh-CN">水位线属性值</span>
+		 * @return <span class="en-US">Converted watermark or <code>null</code> if value is <code>null</code> or not supported</span>
+		 * <span class="zh-CN">转换后的水位线，属性值为<code>null</code>或不支持时返回<code>null</code></span>
+		 */
+		private static Long watermarkOf(final Object fieldValue) {
+			if (fieldValue instanceof Number) {
+				return ((Number) fieldValue).longValue();
+			}
+			if (fieldValue instanceof Date) {
+				return ((Date) fieldValue).getTime();
+			}
+			return null;
+		}
+
+		/**
+		 * <h3 class="en-US">Convert stored watermark to the value of watermark field type</h3>
+		 * <h3 class="zh-CN">转换保存的水位线为水位线属性类型的值</h3>
+		 *
+		 * @param fieldType <span class="en-US">Watermark field type</span>
+		 *                  <span class="zh-CN">水位线属性类型</span>
+		 * @param watermark <span class="en-US">Stored watermark</span>
+		 *                  <span class="zh-CN">保存的水位线</span>
+		 * @return <span class="en-US">Converted value</span>
+		 * <span class="zh-CN">转换后的值</span>
+		 */
+		private static Object watermarkValue(final Class<?> fieldType, final long watermark) {
+			if (Timestamp.class.isAssignableFrom(fieldType)) {
+				return new Timestamp(watermark);
+			}
+			if (Date.class.isAssignableFrom(fieldType)) {
+				return new Date(watermark);
+			}
+			if (int.class.equals(fieldType) || Integer.class.equals(fieldType)) {
+				return (int) watermark;
+			}
+			if (short.class.equals(fieldType) || Short.class.equals(fieldType)) {
+				return (short) watermark;
+			}
+			return watermark;
+		}
+
+		/**
+		 * <h3 class="en-US">Execute queries concurrently, write each query result to its own part file and assemble the part files in order</h3>
+		 * <span class="en-US">The header of each part file is suppressed only when the last record actually written by the preceding parts belongs to the same entity class, empty parts are skipped.</span>
+		 * <h3 class="zh-CN">并发执行查询，将每个查询结果写入独立的分片文件，并按照顺序合并分片文件</h3>
+		 * <span class="zh-CN">仅当之前分片实际写入的最后一条记录属于相同实体类时才省略分片文件的表头，空分片将被跳过</span>
+		 *
+		 * @param exportPath  <span class="en-US">Export file path</span>
+		 *                    <span class="zh-CN">导出文件路径</span>
+		 * @param concurrency <span class="en-US">Number of queries executed concurrently</span>
+		 *                    <span class="zh-CN">同时执行的查询数</span>
+		 * @throws Exception <span class="en-US">If query or write part file error</span>
+		 *                   <span class="zh-CN">如果查询或写入分片文件出错</span>
+		 */
+		private void partExport(final String exportPath, final int concurrency) throws Exception {
+			List<String> partPaths = new ArrayList<>();
+			List<Future<Void>> futures = new ArrayList<>();
+			Semaphore semaphore = new Semaphore(concurrency);
+			//	Entity class of the last record written up to and including each part, null if nothing written yet
+			CompletableFuture<Class<?>> writtenClass = CompletableFuture.completedFuture(null);
+			try {
+				for (int i = 0; i < this.queryInfoList.size(); i++) {
+					final QueryInfo queryInfo = this.queryInfoList.get(i);
+					final CompletableFuture<Class<?>> previousWritten = writtenClass;
+					final CompletableFuture<Class<?>> currentWritten = new CompletableFuture<>();
+					writtenClass = currentWritten;
+					final String partPath = exportPath + PART_FILE_EXTENSION_NAME + i;
+					partPaths.add(partPath);
+					semaphore.acquire();
+					futures.add(INSTANCE.queryExecutor.submit(() -> {
+						try {
+							List<?> dataList = DataUtils.queryList(queryInfo);
+							Class<?> previousClass = this.waitFor(previousWritten);
+							currentWritten.complete(dataList.isEmpty() ? previousClass : queryInfo.getMainEntity());
+							ExportProvider partProvider = DataUtils.exportProvider(this.exportType);
+							partProvider.initialize(partPath, this.compress);
+							if (previousClass != null) {
+								partProvider.continueFrom(previousClass);
+							}
+							try (DataExporter dataExporter = new DataExporter(partProvider, this.progressReporter)) {
+								this.progressReporter.increaseTotal(dataList.size());
+								for (Object object : dataList) {
+									dataExporter.appendData(object);
+								}
+							}
+							return null;
+						} catch (Exception e) {
+							currentWritten.completeExceptionally(e);
+							throw e;
+						} finally {
+							semaphore.release();
+						}
+					}));
+				}
+				for (Future<Void> future : futures) {
+					this.waitFor(future);
+				}
+				try (FileChannel exportChannel = FileChannel.open(Paths.get(exportPath), StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+					for (String partPath : partPaths) {
+						try (FileChannel partChannel = FileChannel.open(Paths.get(partPath), StandardOpenOption.READ)) {
+							long position = 0L, size = partChannel.size();
+							while (position < size) {
+								position += partChannel.transferTo(position, size - position, exportChannel);
+							}
+						}
+					}
+				}
+			} finally {
+				futures.forEach(future -> future.cancel(Boolean.TRUE));
+				partPaths.forEach(FileUtils::removeFile);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Execute queries concurrently, write query results to the export file in query order</h3>
+		 * <h3 class="zh-CN">并发执行查询，按照查询顺序将查询结果写入导出文件</h3>
+		 *
+		 * @param dataExporter <span class="en-US">Data exporter instance</span>
+		 *                     <span class="zh-CN">数据导出器实例对象</span>
+		 * @param concurrency  <span class="en-US">Number of queries executed concurrently</span>
+		 *                     <span class="zh-CN">同时执行的查询数</span>
+		 * @throws Exception <span class="en-US">If query or write data error</span>
+		 *                   <span class="zh-CN">如果查询或写入数据出错</span>
+		 */
+		private void concurrentExport(final DataExporter dataExporter, final int concurrency) throws Exception {
+			List<Future<List<?>>> futures = new ArrayList<>();
+			Semaphore semaphore = new Semaphore(concurrency);
+			try {
+				for (QueryInfo queryInfo : this.queryInfoList) {
+					semaphore.acquire();
+					futures.add(INSTANCE.queryExecutor.submit(() -> {
+						try {
+							return DataUtils.queryList(queryInfo);
+						} finally {
+							semaphore.release();
+						}
+					}));
+				}
+				for (Future<List<?>> future : futures) {
+					List<?> dataList = this.waitFor(future);
+					this.progressReporter.increaseTotal(dataList.size());
+					for (Object object : dataList) {
+						dataExporter.appendData(object);
+					}
+				}
+			} finally {
+				futures.forEach(future -> future.cancel(Boolean.TRUE));
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Wait for the query result and unwrap the execution exception</h3>
+		 * <h3 class="zh-CN">等待查询结果并解包执行异常</h3>
+		 *
+		 * @param <T>    <span class="en-US">Result type</span>
+		 *               <span class="zh-CN">结果类型</span>
+		 * @param future <span class="en-US">Future instance</span>
+		 *               <span class="zh-CN">异步结果实例</span>
+		 * @return <span class="en-US">Query result</span>
+		 * <span class="zh-CN">查询结果</span>
+		 * @throws Exception <span class="en-US">If query error</span>
+		 *                   <span class="zh-CN">如果查询出错</span>
+		 */
+		private <T> T waitFor(final Future<T> future) throws Exception {
+			try {
+				return future.get();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof Exception) {
+					throw (Exception) e.getCause();
+				}
+				throw e;
+			}
+		}
 	}
 
-	private static final class ImportThread extends ProcessThread {
+	private static final class ImportProcessor extends TaskProcessor {
 
 		/**
 		 * <span class="en-US">Task data storage path</span>
@@ -1530,17 +4535,49 @@ public final class DataUtils {
 		 * <span class="zh-CN">事务超时时间</span>
 		 */
 		private final int timeout;
+		/**
+		 * <span class="en-US">Commit transaction every given number of records, <code>-1</code> for not limited</span>
+		 * <span class="zh-CN">每处理给定数量的记录提交事务，<code>-1</code>为不限制</span>
+		 */
+		private final int chunkSize;
+		/**
+		 * <span class="en-US">Commit transaction every given milliseconds, <code>-1</code> for not limited</span>
+		 * <span class="zh-CN">每经过给定的毫秒数提交事务，<code>-1</code>为不限制</span>
+		 */
+		private final long chunkTime;
+		/**
+		 * <span class="en-US">Checkpoint to resume from, <code>null</code> for process from beginning</span>
+		 * <span class="zh-CN">继续处理的检查点，为<code>null</code>时从头开始处理</span>
+		 */
+		private final TaskCheckpoint taskCheckpoint;
+		/**
+		 * <span class="en-US">Feed of data being received, <code>null</code> if data file was completely received</span>
+		 * <span class="zh-CN">正在接收的数据的供给器，数据文件已完全接收时为<code>null</code></span>
+		 */
+		private final StreamFeed streamFeed;
+
+		public ImportProcessor(final ImportTask taskInfo) {
+			this(taskInfo, null);
+		}
 
-		public ImportThread(final ImportTask taskInfo) {
-			super(taskInfo.getTaskCode());
+		public ImportProcessor(final ImportTask taskInfo, final StreamFeed streamFeed) {
+			super(taskInfo);
+			this.streamFeed = streamFeed;
 			this.dataPath = taskInfo.getDataPath();
 			this.transactional = taskInfo.isTransactional();
 			this.timeout = taskInfo.getTimeout();
+			this.chunkSize = taskInfo.getChunkSize();
+			this.chunkTime = taskInfo.getChunkTime();
+			this.taskCheckpoint = TaskCheckpoint.of(taskInfo);
 		}
 
 		@Override
 		public void process() {
-			try (final DataParser dataParser = new DataParser(this.transactional, this.timeout, this.dataPath)) {
+			try (final DataParser dataParser = new DataParser(this.transactional, this.timeout,
+					this.chunkSize, this.chunkTime, this.dataPath, this.taskCheckpoint, this.progressReporter,
+					taskCheckpoint -> INSTANCE.taskProvider.checkpointTask(this.getTaskCode(), INSTANCE.identifyCode,
+							taskCheckpoint),
+					this.streamFeed)) {
 				dataParser.process();
 				this.hasError = dataParser.hasError();
 				this.errorLog.append(dataParser.errorMessage());
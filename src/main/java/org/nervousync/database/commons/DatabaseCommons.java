@@ -45,6 +45,141 @@ public final class DatabaseCommons {
 	 */
 	public static final long DEFAULT_STORAGE_EXPIRE_TIME = 7 * 24 * 60 * 60 * 1000L;
 	/**
+     * <span class="en-US">The default interval of scheduler checking pending and expired tasks, in milliseconds</span>
+     * <span class="zh-CN">调度器检查待处理和过期任务的默认时间间隔，单位毫秒</span>
+	 */
+	public static final long DEFAULT_SCHEDULE_INTERVAL = 1000L;
+	/**
+     * <span class="en-US">The default lease time of claimed data import and export task, in milliseconds</span>
+     * <span class="zh-CN">认领的数据导入导出任务的默认租约时长，单位毫秒</span>
+	 */
+	public static final long DEFAULT_TASK_LEASE_TIME = 30 * 1000L;
+	/**
+     * <span class="en-US">The minimum interval of reporting task progress, in milliseconds</span>
+     * <span class="zh-CN">报告任务进度的最小时间间隔，单位毫秒</span>
+	 */
+	public static final long DEFAULT_PROGRESS_INTERVAL = 1000L;
+	/**
+     * <span class="en-US">The default priority of data import and export task</span>
+     * <span class="zh-CN">数据导入导出任务的默认优先级</span>
+	 */
+	public static final int DEFAULT_TASK_PRIORITY = 0;
+	/**
+     * <span class="en-US">The number of records between checkpoints of non-transactional import task</span>
+     * <span class="zh-CN">非事务导入任务两个检查点之间的记录数</span>
+	 */
+	public static final int DEFAULT_CHECKPOINT_RECORDS = 1000;
+	/**
+     * <span class="en-US">The default false positive probability of table existence filter</span>
+     * <span class="zh-CN">数据表存在性过滤器的默认误判概率</span>
+	 */
+	public static final double DEFAULT_FILTER_FALSE_RATE = 0.01D;
+	/**
+     * <span class="en-US">The number of records read per page when building table existence filter</span>
+     * <span class="zh-CN">构建数据表存在性过滤器时每页读取的记录数</span>
+	 */
+	public static final int DEFAULT_FILTER_PAGE_LIMIT = 1000;
+	/**
+     * <span class="en-US">The number of records read per page when writing table snapshot</span>
+     * <span class="zh-CN">写入数据表快照时每页读取的记录数</span>
+	 */
+	public static final int DEFAULT_SNAPSHOT_PAGE_LIMIT = 1000;
+	/**
+     * <span class="en-US">The number of records read per page when exporting records changed since the watermark</span>
+     * <span class="zh-CN">导出水位线之后发生变化的记录时每页读取的记录数</span>
+	 */
+	public static final int DEFAULT_WATERMARK_PAGE_LIMIT = 1000;
+	/**
+     * <span class="en-US">Safety lag of timestamp watermark (milliseconds), records committed late within the lag are exported again</span>
+     * <span class="zh-CN">时间戳水位线的安全延迟（毫秒），在延迟时间内延迟提交的记录将被再次导出</span>
+	 */
+	public static final long DEFAULT_WATERMARK_LAG = 30 * 1000L;
+	/**
+     * <span class="en-US">The number of records inserted per batch when restoring table snapshot</span>
+     * <span class="zh-CN">恢复数据表快照时每批插入的记录数</span>
+	 */
+	public static final int DEFAULT_RESTORE_BATCH_SIZE = 500;
+	/**
+     * <span class="en-US">The maximum bytes received but not parsed of streaming import task before the uploader is blocked</span>
+     * <span class="zh-CN">流式导入任务已接收但未解析的最大字节数，超过时阻塞上传方</span>
+	 */
+	public static final long DEFAULT_STREAM_BUFFER_LIMIT = 16 * 1024 * 1024L;
+	/**
+     * <span class="en-US">The number of encoded records buffered between data generator producers and writer</span>
+     * <span class="zh-CN">数据生成器的生产者与写入器之间缓冲的已编码记录数</span>
+	 */
+	public static final int DEFAULT_GENERATOR_RING_SIZE = 4096;
+	/**
+     * <span class="en-US">The block size written by data generator writer, in bytes</span>
+     * <span class="zh-CN">数据生成器写入器每次写入的块大小，单位字节</span>
+	 */
+	public static final int DEFAULT_GENERATOR_BLOCK_SIZE = 1024 * 1024;
+	/**
+     * <span class="en-US">The waiting time of data generator producers when ring buffer is full, in nanoseconds</span>
+     * <span class="zh-CN">环形缓冲区已满时数据生成器的生产者的等待时间，单位纳秒</span>
+	 */
+	public static final long DEFAULT_GENERATOR_PARK_NANOS = 50_000L;
+	/**
+     * <span class="en-US">The number of sequence values reserved from sequence provider at a time</span>
+     * <span class="zh-CN">每次从序列适配器中预留的序列值数量</span>
+	 */
+	public static final long DEFAULT_SEQUENCE_BLOCK_SIZE = 1000L;
+	/**
+     * <span class="en-US">The remaining rate of current block when reserving the next block asynchronously</span>
+     * <span class="zh-CN">异步预留下一个值块时当前值块的剩余比例</span>
+	 */
+	public static final double DEFAULT_SEQUENCE_PREFETCH_RATE = 0.25D;
+	/**
+     * <span class="en-US">The tick duration of transaction timing wheel, in milliseconds</span>
+     * <span class="zh-CN">事务时间轮的刻度时长，单位毫秒</span>
+	 */
+	public static final long DEFAULT_TRANSACTION_TICK_MILLIS = 100L;
+	/**
+     * <span class="en-US">The bucket count of transaction timing wheel, must be power of two</span>
+     * <span class="zh-CN">事务时间轮的槽数量，必须为2的幂</span>
+	 */
+	public static final int DEFAULT_TRANSACTION_WHEEL_SIZE = 512;
+	/**
+     * <span class="en-US">The default maximum attempts of optimistic lock update</span>
+     * <span class="zh-CN">乐观锁更新的默认最大尝试次数</span>
+	 */
+	public static final int DEFAULT_RETRY_ATTEMPTS = 8;
+	/**
+     * <span class="en-US">The default base backoff time of optimistic lock update, in milliseconds</span>
+     * <span class="zh-CN">乐观锁更新的默认基础退避时长，单位毫秒</span>
+	 */
+	public static final long DEFAULT_RETRY_BASE_DELAY = 2L;
+	/**
+     * <span class="en-US">The default maximum backoff time of optimistic lock update, in milliseconds</span>
+     * <span class="zh-CN">乐观锁更新的默认最大退避时长，单位毫秒</span>
+	 */
+	public static final long DEFAULT_RETRY_MAX_DELAY = 200L;
+	/**
+     * <span class="en-US">The default stripe count of in-process record lock manager, must be power of two</span>
+     * <span class="zh-CN">进程内记录锁管理器的默认分段数，必须为2的幂</span>
+	 */
+	public static final int DEFAULT_LOCK_STRIPES = 1024;
+	/**
+     * <span class="en-US">The wait time of each in-process record lock operation, in milliseconds</span>
+     * <span class="zh-CN">每次进程内记录锁操作的等待时长，单位毫秒</span>
+	 */
+	public static final long DEFAULT_LOCK_WAIT_MILLIS = 500L;
+	/**
+     * <span class="en-US">The default hold limit of in-process record locks if transaction has no timeout, in milliseconds</span>
+     * <span class="zh-CN">事务未设置超时时间时进程内记录锁的默认持有限制，单位毫秒</span>
+	 */
+	public static final long DEFAULT_LOCK_HOLD_MILLIS = 60000L;
+	/**
+     * <span class="en-US">The default primary key count of each query when retrieve records by multiple primary keys</span>
+     * <span class="zh-CN">根据多个主键读取记录时每次查询的默认主键数</span>
+	 */
+	public static final int DEFAULT_RETRIEVE_CHUNK_SIZE = 500;
+	/**
+     * <span class="en-US">The default parallel query count when retrieve records by multiple primary keys without transaction</span>
+     * <span class="zh-CN">无事务根据多个主键读取记录时的默认并行查询数</span>
+	 */
+	public static final int DEFAULT_RETRIEVE_PARALLELISM = 4;
+	/**
      * <span class="en-US">Data import and export task status: Create</span>
      * <span class="zh-CN">数据导入导出任务状态：创建</span>
 	 */
@@ -70,6 +205,41 @@ public final class DatabaseCommons {
 	 */
 	public static final String DATA_TMP_FILE_EXTENSION_NAME = ".tmp";
 	/**
+     * <span class="en-US">CSV file extension</span>
+     * <span class="zh-CN">CSV文件的扩展名</span>
+	 */
+	public static final String CSV_FILE_EXTENSION_NAME = ".csv";
+	/**
+     * <span class="en-US">Newline-delimited JSON file extension</span>
+     * <span class="zh-CN">按行分隔的JSON文件的扩展名</span>
+	 */
+	public static final String NDJSON_FILE_EXTENSION_NAME = ".ndjson";
+	/**
+     * <span class="en-US">GZIP compressed file extension</span>
+     * <span class="zh-CN">GZIP压缩文件的扩展名</span>
+	 */
+	public static final String GZIP_FILE_EXTENSION_NAME = ".gz";
+	/**
+     * <span class="en-US">Incremental export watermark file extension</span>
+     * <span class="zh-CN">增量导出水位线文件的扩展名</span>
+	 */
+	public static final String WATERMARK_FILE_EXTENSION_NAME = ".watermark";
+	/**
+     * <span class="en-US">Export provider name: Excel</span>
+     * <span class="zh-CN">导出适配器名称：Excel</span>
+	 */
+	public static final String EXPORT_TYPE_EXCEL = "Excel";
+	/**
+     * <span class="en-US">Export provider name: CSV</span>
+     * <span class="zh-CN">导出适配器名称：CSV</span>
+	 */
+	public static final String EXPORT_TYPE_CSV = "CSV";
+	/**
+     * <span class="en-US">Export provider name: Newline-delimited JSON</span>
+     * <span class="zh-CN">导出适配器名称：按行分隔的JSON</span>
+	 */
+	public static final String EXPORT_TYPE_NDJSON = "NDJSON";
+	/**
      * <span class="en-US">Default database alias</span>
      * <span class="zh-CN">默认的数据库别名</span>
 	 */
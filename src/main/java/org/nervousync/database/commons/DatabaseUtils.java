@@ -7,11 +7,20 @@ import org.nervousync.database.annotations.transactional.Transactional;
 import org.nervousync.database.api.DatabaseClient;
 import org.nervousync.database.api.DatabaseManager;
 import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.generator.GeneratorConfig;
 import org.nervousync.database.beans.configs.table.TableConfig;
 import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
 import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.enumerations.lock.LockOption;
 import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.query.builder.QueryBuilder;
+import org.nervousync.database.query.condition.Condition;
+import org.nervousync.enumerations.core.ConnectionCode;
+import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.utils.*;
 
 import java.lang.reflect.Field;
@@ -20,6 +29,7 @@ import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * <h2 class="en-US">Database utilities define</h2>
@@ -45,7 +55,18 @@ public final class DatabaseUtils {
 	 * <span class="zh-CN">注册的数据库管理器名称和实现类映射表</span>
 	 */
 	private static final Hashtable<String, Class<?>> REGISTERED_DATABASE_MANAGER_PROVIDERS = new Hashtable<>();
+	/**
+	 * <span class="en-US">Empty data bytes for ID generators</span>
+	 * <span class="zh-CN">用于ID生成器的空数据字节</span>
+	 */
+	private static final byte[] EMPTY_BYTES = new byte[0];
+	/**
+	 * <span class="en-US">Resolved transactional annotation of methods, key is class name and method name</span>
+	 * <span class="zh-CN">已解析的方法事务注解，键值为类名和方法名</span>
+	 */
+	private static final Map<String, Optional<Transactional>> RESOLVED_TRANSACTIONALS = new ConcurrentHashMap<>();
 	private static DatabaseManager DATABASE_MANAGER = null;
+	private static volatile ExecutorService RETRIEVE_EXECUTOR = null;
 
 	static {
 		registerDataType(String.class, Types.VARCHAR);
@@ -185,7 +206,9 @@ public final class DatabaseUtils {
 					if (txConfig == null) {
 						return databaseManager.restoreClient();
 					} else {
-						return databaseManager.generateClient(txConfig, Boolean.TRUE);
+						return Optional.ofNullable(databaseManager.generateClient(txConfig, Boolean.TRUE))
+								.map(databaseClient -> TransactionRegistry.register(txConfig, databaseClient))
+								.orElse(null);
 					}
 				})
 				.orElse(null);
@@ -215,7 +238,12 @@ public final class DatabaseUtils {
 
 	/**
 	 * <h3 class="en-US">Generate database client in transactional mode</h3>
+	 * <span class="en-US">
+	 * If the current thread was bound to a woven transaction, the non-owning view of the bound client is returned,
+	 * ending the view does nothing and rolling back the view marks the woven transaction as rollback-only.
+	 * </span>
 	 * <h3 class="zh-CN">生成事务模式的数据操作客户端实例对象</h3>
+	 * <span class="zh-CN">如果当前线程已绑定织入的事务，返回绑定客户端的非所有者视图，结束视图不执行任何操作，回滚视图将织入的事务标记为仅回滚</span>
 	 *
 	 * @param clazz      <span class="en-US">The database client using for class</span>
 	 *                   <span class="zh-CN">使用数据操作客户端的类</span>
@@ -225,7 +253,8 @@ public final class DatabaseUtils {
 	 * <span class="zh-CN">生成的数据操作客户端实例对象</span>
 	 */
 	public static DatabaseClient retrieveClient(final Class<?> clazz, final String methodName) {
-		return retrieveClient(transactionalConfig(clazz, methodName));
+		return Optional.ofNullable(TransactionalUtils.participantClient())
+				.orElseGet(() -> retrieveClient(transactionalConfig(clazz, methodName)));
 	}
 
 	/**
@@ -240,6 +269,8 @@ public final class DatabaseUtils {
 	public static DatabaseClient retrieveClient(final TransactionalConfig txConfig) {
 		return Optional.ofNullable(DATABASE_MANAGER)
 				.map(databaseManager -> databaseManager.generateClient(txConfig))
+				.map(databaseClient ->
+						(txConfig == null) ? databaseClient : TransactionRegistry.register(txConfig, databaseClient))
 				.orElse(null);
 	}
 
@@ -256,9 +287,148 @@ public final class DatabaseUtils {
 		if (transactionalCode == Globals.DEFAULT_VALUE_LONG) {
 			return null;
 		}
-		return Optional.ofNullable(DATABASE_MANAGER)
-				.map(databaseManager -> databaseManager.retrieveClient(transactionalCode))
-				.orElse(null);
+		return Optional.ofNullable(TransactionRegistry.retrieve(transactionalCode))
+				.orElseGet(() -> Optional.ofNullable(DATABASE_MANAGER)
+						.map(databaseManager -> databaseManager.retrieveClient(transactionalCode))
+						.orElse(null));
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve records by given primary keys</h3>
+	 * <span class="en-US">
+	 * If the current thread was bound to a woven transaction, the records were retrieved by the bound client.
+	 * Otherwise, the chunks of primary keys were queried in parallel, each chunk using its own database client.
+	 * Retrieving for update requires a bound transaction, because the locks of unbound clients were released
+	 * before the records could be updated.
+	 * </span>
+	 * <h3 class="zh-CN">根据给定的主键读取记录</h3>
+	 * <span class="zh-CN">
+	 * 如果当前线程已绑定织入的事务，使用绑定的客户端读取记录。否则主键的各个分块并行查询，每个分块使用独立的数据操作客户端。
+	 * 读取用于更新时要求已绑定事务，因为未绑定事务的客户端在记录被更新前已释放锁
+	 * </span>
+	 *
+	 * @param primaryKeys <span class="en-US">Primary key values, or composite primary key maps</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param forUpdate   <span class="en-US">Retrieve record for update</span>
+	 *                    <span class="zh-CN">读取记录用于更新操作</span>
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Retrieved records, key is the given primary key, not found primary keys are not contained</span>
+	 * <span class="zh-CN">读取到的记录，键值为给定的主键，未找到记录的主键不包含在内</span>
+	 * @throws RetrieveException <span class="en-US">If an error occurs when query record from database, or retrieve for update without bound transaction</span>
+	 *                           <span class="zh-CN">如果从数据库中查询记录出现异常，或未绑定事务时读取记录用于更新</span>
+	 */
+	public static <T> Map<Object, T> retrieveAll(final Collection<?> primaryKeys, final Class<T> entityClass,
+	                                             final boolean forUpdate) throws RetrieveException {
+		DatabaseClient boundClient = TransactionalUtils.currentClient();
+		if (boundClient != null) {
+			return boundClient.retrieveAll(primaryKeys, entityClass, forUpdate);
+		}
+		if (forUpdate) {
+			throw new RetrieveException(0x00DB00000017L, entityClass.getName());
+		}
+		List<List<Object>> keyChunks = splitKeys(primaryKeys);
+		if (keyChunks.size() < 2) {
+			DatabaseClient databaseClient = readOnlyClient();
+			return (databaseClient == null)
+					? new LinkedHashMap<>()
+					: databaseClient.retrieveAll(primaryKeys, entityClass, Boolean.FALSE);
+		}
+		ExecutorService executorService = retrieveExecutor();
+		List<Future<Map<Object, T>>> futureList = new ArrayList<>(keyChunks.size());
+		for (List<Object> keyChunk : keyChunks) {
+			futureList.add(executorService.submit(() ->
+					Optional.ofNullable(readOnlyClient())
+							.map(databaseClient -> retrieveChunk(databaseClient, keyChunk, entityClass))
+							.orElseGet(LinkedHashMap::new)));
+		}
+		Map<Object, T> resultMap = new LinkedHashMap<>();
+		try {
+			for (Future<Map<Object, T>> future : futureList) {
+				resultMap.putAll(future.get());
+			}
+		} catch (InterruptedException e) {
+			futureList.forEach(future -> future.cancel(Boolean.TRUE));
+			Thread.currentThread().interrupt();
+			throw new RetrieveException(0x00DB00000011L, e, entityClass.getName());
+		} catch (ExecutionException e) {
+			futureList.forEach(future -> future.cancel(Boolean.TRUE));
+			Throwable cause = (e.getCause() instanceof RetrieveWrapper) ? e.getCause().getCause() : e.getCause();
+			if (cause instanceof RetrieveException) {
+				throw (RetrieveException) cause;
+			}
+			throw new RetrieveException(0x00DB00000011L, cause, entityClass.getName());
+		}
+		return resultMap;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve records by given primary keys using given database client</h3>
+	 * <span class="en-US">
+	 * The primary keys were split into chunks and queried in sequence. The single primary key was matched by IN condition,
+	 * the composite primary key was matched by OR groups, each group matches all primary key columns.
+	 * The primary keys which could not identify a record were ignored, the primary keys which identify the same record
+	 * were all contained in the result.
+	 * </span>
+	 * <h3 class="zh-CN">使用给定的数据操作客户端根据给定的主键读取记录</h3>
+	 * <span class="zh-CN">
+	 * 主键被拆分为多个分块并依次查询。单一主键使用IN条件匹配，联合主键使用OR条件组匹配，每个条件组匹配所有主键列。无法标识记录的主键将被忽略，
+	 * 标识同一记录的多个主键均包含在结果中
+	 * </span>
+	 *
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据操作客户端实例对象</span>
+	 * @param primaryKeys    <span class="en-US">Primary key values, or composite primary key maps</span>
+	 *                       <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass    <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @param forUpdate      <span class="en-US">Retrieve record for update</span>
+	 *                       <span class="zh-CN">读取记录用于更新操作</span>
+	 * @param <T>            <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Retrieved records, key is the given primary key, not found primary keys are not contained</span>
+	 * <span class="zh-CN">读取到的记录，键值为给定的主键，未找到记录的主键不包含在内</span>
+	 * @throws RetrieveException <span class="en-US">If an error occurs when query record from database</span>
+	 *                           <span class="zh-CN">如果从数据库中查询记录出现异常</span>
+	 */
+	public static <T> Map<Object, T> retrieveAll(final DatabaseClient databaseClient,
+	                                             final Collection<?> primaryKeys, final Class<T> entityClass,
+	                                             final boolean forUpdate) throws RetrieveException {
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		if (tableConfig == null) {
+			throw new RetrieveException(0x00DB00000001L, entityClass.getName());
+		}
+		List<ColumnConfig> keyColumns = new ArrayList<>();
+		tableConfig.getColumnConfigs()
+				.stream()
+				.filter(ColumnConfig::isPrimaryKey)
+				.forEach(keyColumns::add);
+		Map<Object, T> resultMap = new LinkedHashMap<>();
+		for (List<Object> keyChunk : splitKeys(primaryKeys)) {
+			Map<SortedMap<String, Object>, List<Object>> requestKeys = new LinkedHashMap<>();
+			keyChunk.forEach(primaryKey -> {
+				SortedMap<String, Object> keyMap = normalizeKey(entityClass, primaryKey);
+				if (keyMap.size() == keyColumns.size() && !keyMap.containsValue(null)) {
+					requestKeys.computeIfAbsent(keyMap, key -> new ArrayList<>()).add(primaryKey);
+				}
+			});
+			if (requestKeys.isEmpty()) {
+				continue;
+			}
+			try {
+				QueryResult queryResult = databaseClient.queryList(QueryBuilder.newQuery(entityClass, forUpdate,
+						keyConditions(tableConfig, entityClass, keyColumns, requestKeys.keySet())));
+				for (T record : queryResult.asList(entityClass)) {
+					Optional.ofNullable(requestKeys.get(primaryKeyMap(record)))
+							.ifPresent(keyList -> keyList.forEach(primaryKey -> resultMap.put(primaryKey, record)));
+				}
+			} catch (BuilderException | QueryException e) {
+				throw new RetrieveException(0x00DB00000011L, e, entityClass.getName());
+			}
+		}
+		return resultMap;
 	}
 
 	/**
@@ -269,6 +439,15 @@ public final class DatabaseUtils {
 	 * <h3 class="zh-CN">销毁已初始化的数据库管理器并清除所有注册的管理器适配器和数据转换映射</h3>
 	 */
 	public static void destroy() {
+		synchronized (DatabaseUtils.class) {
+			if (RETRIEVE_EXECUTOR != null) {
+				RETRIEVE_EXECUTOR.shutdownNow();
+				RETRIEVE_EXECUTOR = null;
+			}
+		}
+		TransactionRegistry.destroy();
+		OptimisticRetry.destroy();
+		RecordLockManager.destroy();
 		if (DATABASE_MANAGER != null) {
 			DATABASE_MANAGER.destroy();
 			DATABASE_MANAGER = null;
@@ -338,6 +517,214 @@ public final class DatabaseUtils {
 		return parameterMap;
 	}
 
+	/**
+	 * <h3 class="en-US">Normalize the given primary key value to primary key data mapping table</h3>
+	 * <span class="en-US">
+	 * The keys of generated mapping table are upper case column names, and the values were converted to the field types,
+	 * same as the mapping table generated from entity object instance, so the same record always has the same mapping table.
+	 * </span>
+	 * <h3 class="zh-CN">将给定的主键值规范化为主键数据映射表</h3>
+	 * <span class="zh-CN">生成的映射表的键值为大写的列名，值被转换为属性类型，与根据实体对象实例生成的映射表相同，因此同一记录总是得到相同的映射表</span>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @return <span class="en-US">Normalized primary key data mapping table</span>
+	 * <span class="zh-CN">规范化的主键数据映射表</span>
+	 */
+	public static SortedMap<String, Object> normalizeKey(final Class<?> entityClass, final Object primaryKey) {
+		final SortedMap<String, Object> parameterMap = new TreeMap<>();
+		Optional.ofNullable(EntityManager.tableConfig(entityClass))
+				.ifPresent(tableConfig -> {
+					if (primaryKey instanceof Map) {
+						((Map<?, ?>) primaryKey).forEach((key, value) -> {
+							ColumnConfig columnConfig = tableConfig.columnConfig(String.valueOf(key));
+							if (columnConfig == null) {
+								parameterMap.put(String.valueOf(key).toUpperCase(), value);
+							} else {
+								parameterMap.put(columnConfig.columnName().toUpperCase(),
+										convertKey(value, columnConfig.getFieldType()));
+							}
+						});
+					} else {
+						tableConfig.getColumnConfigs()
+								.stream()
+								.filter(ColumnConfig::isPrimaryKey)
+								.findFirst()
+								.ifPresent(columnConfig ->
+										parameterMap.put(columnConfig.columnName().toUpperCase(),
+												convertKey(primaryKey, columnConfig.getFieldType())));
+					}
+				});
+		return parameterMap;
+	}
+
+	/**
+	 * <h3 class="en-US">Split the given primary keys into chunks</h3>
+	 * <h3 class="zh-CN">将给定的主键拆分为分块</h3>
+	 *
+	 * @param primaryKeys <span class="en-US">Primary key values, or composite primary key maps</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @return <span class="en-US">Primary key chunks</span>
+	 * <span class="zh-CN">主键分块列表</span>
+	 */
+	private static List<List<Object>> splitKeys(final Collection<?> primaryKeys) {
+		List<Object> keyList = new ArrayList<>(new LinkedHashSet<>(primaryKeys));
+		List<List<Object>> keyChunks = new ArrayList<>();
+		for (int i = 0; i < keyList.size(); i += DatabaseCommons.DEFAULT_RETRIEVE_CHUNK_SIZE) {
+			keyChunks.add(keyList.subList(i, Math.min(keyList.size(), i + DatabaseCommons.DEFAULT_RETRIEVE_CHUNK_SIZE)));
+		}
+		return keyChunks;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve records of one primary key chunk</h3>
+	 * <span class="en-US">The retrieve exception was wrapped to unchecked exception for using in lambda expression</span>
+	 * <h3 class="zh-CN">读取一个主键分块的记录</h3>
+	 * <span class="zh-CN">读取异常被包装为非检查异常以便在Lambda表达式中使用</span>
+	 *
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据操作客户端实例对象</span>
+	 * @param primaryKeys    <span class="en-US">Primary key values, or composite primary key maps</span>
+	 *                       <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass    <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @param <T>            <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Retrieved records</span>
+	 * <span class="zh-CN">读取到的记录</span>
+	 */
+	private static <T> Map<Object, T> retrieveChunk(final DatabaseClient databaseClient, final Collection<?> primaryKeys,
+	                                                final Class<T> entityClass) {
+		try {
+			return databaseClient.retrieveAll(primaryKeys, entityClass, Boolean.FALSE);
+		} catch (RetrieveException e) {
+			throw new RetrieveWrapper(e);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Generate query conditions matching the given primary keys</h3>
+	 * <h3 class="zh-CN">生成匹配给定主键的查询条件</h3>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @param entityClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param keyColumns  <span class="en-US">Primary key column configure list</span>
+	 *                    <span class="zh-CN">主键列配置信息列表</span>
+	 * @param keyMaps     <span class="en-US">Normalized primary key data mapping tables</span>
+	 *                    <span class="zh-CN">规范化的主键数据映射表</span>
+	 * @return <span class="en-US">Generated query condition list</span>
+	 * <span class="zh-CN">生成的查询条件列表</span>
+	 * @throws BuilderException <span class="en-US">If the column was not found</span>
+	 *                          <span class="zh-CN">如果数据列未找到</span>
+	 */
+	private static List<Condition> keyConditions(final TableConfig tableConfig, final Class<?> entityClass,
+	                                             final List<ColumnConfig> keyColumns,
+	                                             final Collection<SortedMap<String, Object>> keyMaps)
+			throws BuilderException {
+		List<Condition> conditionList = new ArrayList<>();
+		if (tableConfig.isCompositeId()) {
+			List<Condition> keyGroups = new ArrayList<>(keyMaps.size());
+			for (SortedMap<String, Object> keyMap : keyMaps) {
+				Condition[] columnConditions = new Condition[keyColumns.size()];
+				for (int i = 0; i < keyColumns.size(); i++) {
+					ColumnConfig columnConfig = keyColumns.get(i);
+					columnConditions[i] = Condition.equalTo(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+							entityClass, columnConfig.getFieldName(), keyMap.get(columnConfig.columnName().toUpperCase()));
+				}
+				keyGroups.add(Condition.group(Globals.DEFAULT_VALUE_INT,
+						keyGroups.isEmpty() ? ConnectionCode.AND : ConnectionCode.OR, columnConditions));
+			}
+			conditionList.add(Condition.group(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND,
+					keyGroups.toArray(new Condition[0])));
+		} else {
+			ColumnConfig columnConfig = keyColumns.get(0);
+			String columnName = columnConfig.columnName().toUpperCase();
+			conditionList.add(Condition.in(Globals.DEFAULT_VALUE_INT, ConnectionCode.AND, entityClass,
+					columnConfig.getFieldName(), keyMaps.stream().map(keyMap -> keyMap.get(columnName)).toArray()));
+		}
+		return conditionList;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the executor of parallel retrieve operations, create if not exists</h3>
+	 * <h3 class="zh-CN">获取并行读取操作的执行器，不存在时创建</h3>
+	 *
+	 * @return <span class="en-US">Executor service instance</span>
+	 * <span class="zh-CN">执行器实例对象</span>
+	 */
+	private static ExecutorService retrieveExecutor() {
+		if (RETRIEVE_EXECUTOR == null) {
+			synchronized (DatabaseUtils.class) {
+				if (RETRIEVE_EXECUTOR == null) {
+					RETRIEVE_EXECUTOR = Executors.newFixedThreadPool(DatabaseCommons.DEFAULT_RETRIEVE_PARALLELISM,
+							runnable -> {
+								Thread thread = new Thread(runnable, "DatabaseUtils-Retrieve");
+								thread.setDaemon(Boolean.TRUE);
+								return thread;
+							});
+				}
+			}
+		}
+		return RETRIEVE_EXECUTOR;
+	}
+
+	/**
+	 * <h3 class="en-US">Generate the primary key values of given record objects</h3>
+	 * <span class="en-US">
+	 * Primary key columns using GenerationType.GENERATE are filled by the ID generator registered with the generator name,
+	 * primary key columns using GenerationType.SEQUENCE are filled by the sequence allocator if it was initialized.
+	 * Values which were already assigned will not be changed.
+	 * </span>
+	 * <h3 class="zh-CN">生成给定记录实例对象的主键值</h3>
+	 * <span class="zh-CN">
+	 * 使用 GenerationType.GENERATE 的主键列由以生成器名称注册的ID生成器填充，
+	 * 使用 GenerationType.SEQUENCE 的主键列在序列值块分配器已初始化时由其填充。已赋值的值不会被修改
+	 * </span>
+	 *
+	 * @param recordObjects <span class="en-US">Record object array</span>
+	 *                      <span class="zh-CN">记录实例对象数组</span>
+	 * @throws DatabaseException <span class="en-US">If the ID generator was not found or the sequence was exhausted</span>
+	 *                           <span class="zh-CN">如果未找到ID生成器或序列已耗尽</span>
+	 */
+	public static void generateKeys(final BaseObject... recordObjects) throws DatabaseException {
+		for (BaseObject recordObject : recordObjects) {
+			TableConfig tableConfig = EntityManager.tableConfig(ClassUtils.originalClassName(recordObject.getClass()));
+			if (tableConfig == null) {
+				continue;
+			}
+			for (ColumnConfig columnConfig : tableConfig.getColumnConfigs()) {
+				if (!columnConfig.isPrimaryKey()
+						|| !unassigned(ReflectionUtils.getFieldValue(columnConfig.getFieldName(), recordObject))) {
+					continue;
+				}
+				GeneratorConfig generatorConfig = columnConfig.getGeneratorConfig();
+				Object generateValue;
+				switch (generatorConfig.getGenerationType()) {
+					case GENERATE:
+						generateValue = IDUtils.generate(generatorConfig.getGeneratorName(), EMPTY_BYTES);
+						if (generateValue == null || Globals.DEFAULT_VALUE_STRING.equals(generateValue)) {
+							throw new DatabaseException(0x00DB0000000DL, generatorConfig.getGeneratorName());
+						}
+						break;
+					case SEQUENCE:
+						if (generatorConfig.getSequenceConfig() == null || !SequenceAllocator.initialized()) {
+							continue;
+						}
+						generateValue = SequenceAllocator.nextValue(generatorConfig.getSequenceConfig());
+						break;
+					default:
+						continue;
+				}
+				ReflectionUtils.setField(columnConfig.getFieldName(), recordObject,
+						convertKey(generateValue, columnConfig.getFieldType()));
+			}
+		}
+	}
+
 	/**
 	 * <h3 class="en-US">Retrieve the mapping JDBC type code by given Java type class</h3>
 	 * <h3 class="zh-CN">通过给定的 Java 类型类检索映射 JDBC 类型代码</h3>
@@ -390,6 +777,70 @@ public final class DatabaseUtils {
 	private DatabaseUtils() {
 	}
 
+	/**
+	 * <h3 class="en-US">Check the given primary key value was not assigned</h3>
+	 * <h3 class="zh-CN">检查给定的主键值是否未赋值</h3>
+	 *
+	 * @param fieldValue <span class="en-US">Primary key value</span>
+	 *                   <span class="zh-CN">主键值</span>
+	 * @return <span class="en-US"><code>true</code> if the value is null, empty string or zero</span>
+	 * <span class="zh-CN">值为空、空字符串或零时返回<code>true</code></span>
+	 */
+	private static boolean unassigned(final Object fieldValue) {
+		if (fieldValue == null) {
+			return Boolean.TRUE;
+		}
+		if (fieldValue instanceof String) {
+			return ((String) fieldValue).isEmpty();
+		}
+		return (fieldValue instanceof Number) && ((Number) fieldValue).longValue() == 0L;
+	}
+
+	/**
+	 * <h3 class="en-US">Convert the generated or given primary key value to the field type</h3>
+	 * <span class="en-US">The numeric string was parsed when the field type is numeric, so 1, 1L and "1" identify the same record</span>
+	 * <h3 class="zh-CN">将生成的或给定的主键值转换为属性类型</h3>
+	 * <span class="zh-CN">属性类型为数值时解析数字字符串，使得1、1L和"1"标识同一记录</span>
+	 *
+	 * @param generateValue <span class="en-US">Generated or given primary key value</span>
+	 *                      <span class="zh-CN">生成的或给定的主键值</span>
+	 * @param fieldType     <span class="en-US">Field type class</span>
+	 *                      <span class="zh-CN">属性类型</span>
+	 * @return <span class="en-US">Converted value</span>
+	 * <span class="zh-CN">转换后的值</span>
+	 */
+	private static Object convertKey(final Object generateValue, final Class<?> fieldType) {
+		if (generateValue == null || fieldType.isInstance(generateValue)) {
+			return generateValue;
+		}
+		if (String.class.equals(fieldType)) {
+			return generateValue.toString();
+		}
+		Object keyValue = generateValue;
+		if (keyValue instanceof String && !Boolean.class.equals(fieldType) && !boolean.class.equals(fieldType)
+				&& (fieldType.isPrimitive() || Number.class.isAssignableFrom(fieldType))) {
+			try {
+				keyValue = Long.parseLong(((String) keyValue).trim());
+			} catch (NumberFormatException e) {
+				return generateValue;
+			}
+		}
+		if (keyValue instanceof Number) {
+			long longValue = ((Number) keyValue).longValue();
+			if (Integer.class.equals(fieldType) || int.class.equals(fieldType)) {
+				return Math.toIntExact(longValue);
+			}
+			if (Short.class.equals(fieldType) || short.class.equals(fieldType)) {
+				return (short) Math.toIntExact(longValue);
+			}
+			if (BigDecimal.class.equals(fieldType)) {
+				return BigDecimal.valueOf(longValue);
+			}
+			return longValue;
+		}
+		return generateValue;
+	}
+
 	/**
 	 * <h3 class="en-US">Based on the given class name and method name, check the transaction annotation and generate the transaction configuration information instance object</h3>
 	 * <h3 class="zh-CN">根据给定的类名和方法名，检查事务注解，并生成事务配置信息实例对象</h3>
@@ -405,8 +856,33 @@ public final class DatabaseUtils {
 		if (clazz == null || StringUtils.isEmpty(methodName)) {
 			return null;
 		}
-		return Optional.ofNullable(ReflectionUtils.findMethod(clazz, methodName))
-				.map(method -> TransactionalConfig.newInstance(method.getAnnotation(Transactional.class)))
+		return RESOLVED_TRANSACTIONALS.computeIfAbsent(clazz.getName() + "." + methodName,
+						key -> Optional.ofNullable(ReflectionUtils.findMethod(clazz, methodName))
+								.map(method -> method.getAnnotation(Transactional.class)))
+				.map(TransactionalConfig::newInstance)
 				.orElse(null);
 	}
+
+	/**
+	 * <h2 class="en-US">Unchecked wrapper of retrieve exception</h2>
+	 * <h2 class="zh-CN">读取异常的非检查包装</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 01:26:43 $
+	 */
+	private static final class RetrieveWrapper extends RuntimeException {
+
+		private static final long serialVersionUID = 4517732841693215904L;
+
+		/**
+		 * <h3 class="en-US">Constructor method for unchecked wrapper of retrieve exception</h3>
+		 * <h3 class="zh-CN">读取异常的非检查包装的构造方法</h3>
+		 *
+		 * @param cause <span class="en-US">Retrieve exception</span>
+		 *              <span class="zh-CN">读取异常</span>
+		 */
+		RetrieveWrapper(final RetrieveException cause) {
+			super(cause);
+		}
+	}
 }
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.commons;
+
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.utils.ClassUtils;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Identity map of transactional database client</h2>
+ * <span class="en-US">
+ * Managed record instances are indexed by entity class and normalized primary key, so the same record was always
+ * represented by the same instance in one transaction. The instance retrieved without update was replaced when the same
+ * record was retrieved for update, because only the instance retrieved for update could be submitted.
+ * </span>
+ * <h2 class="zh-CN">事务数据操作客户端的标识映射</h2>
+ * <span class="zh-CN">
+ * 受管理的记录实例按实体类和规范化的主键建立索引，使同一事务中的同一记录总是由同一实例表示。
+ * 当同一记录被读取用于更新时，未用于更新读取的实例将被替换，因为只有用于更新读取的实例可以被提交
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:41:36 $
+ */
+public final class IdentityMap {
+	/**
+	 * <span class="en-US">Managed record instances, key is entity class name</span>
+	 * <span class="zh-CN">受管理的记录实例，键值为实体类名</span>
+	 */
+	private final Map<String, Map<SortedMap<String, Object>, BaseObject>> managedRecords = new ConcurrentHashMap<>();
+
+	/**
+	 * <h3 class="en-US">Constructor method for identity map</h3>
+	 * <h3 class="zh-CN">标识映射的构造方法</h3>
+	 */
+	IdentityMap() {
+	}
+
+	/**
+	 * <h3 class="en-US">Find the managed record instance by given primary key</h3>
+	 * <h3 class="zh-CN">根据给定的主键查找受管理的记录实例</h3>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @return <span class="en-US">Managed record instance, or <code>null</code> if not found</span>
+	 * <span class="zh-CN">受管理的记录实例，如果未找到则返回<code>null</code></span>
+	 */
+	BaseObject find(final Class<?> entityClass, final Object primaryKey) {
+		String className = ClassUtils.originalClassName(entityClass);
+		SortedMap<String, Object> identifyKey = identifyKey(className, DatabaseUtils.normalizeKey(entityClass, primaryKey));
+		if (identifyKey == null) {
+			return null;
+		}
+		Map<SortedMap<String, Object>, BaseObject> recordMap = this.managedRecords.get(className);
+		return (recordMap == null) ? null : recordMap.get(identifyKey);
+	}
+
+	/**
+	 * <h3 class="en-US">Resolve the managed record instance of given record</h3>
+	 * <span class="en-US">
+	 * Return the managed record instance if exists, otherwise the given record becomes the managed record instance.
+	 * The record which was not entity object instance was returned directly.
+	 * </span>
+	 * <h3 class="zh-CN">解析给定记录的受管理记录实例</h3>
+	 * <span class="zh-CN">如果存在受管理的记录实例则返回该实例，否则给定的记录成为受管理的记录实例。非实体对象的记录直接返回</span>
+	 *
+	 * @param record <span class="en-US">Record instance</span>
+	 *               <span class="zh-CN">记录实例</span>
+	 * @param <T>    <span class="en-US">Record class</span>
+	 *               <span class="zh-CN">记录类</span>
+	 * @return <span class="en-US">Managed record instance</span>
+	 * <span class="zh-CN">受管理的记录实例</span>
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T resolve(final T record) {
+		if (!(record instanceof BaseObject)) {
+			return record;
+		}
+		String className = ClassUtils.originalClassName(record.getClass());
+		SortedMap<String, Object> identifyKey = identifyKey(className, DatabaseUtils.primaryKeyMap(record));
+		if (identifyKey == null) {
+			return record;
+		}
+		BaseObject recordObject = (BaseObject) record;
+		return (T) this.managedRecords.computeIfAbsent(className, key -> new ConcurrentHashMap<>())
+				.merge(identifyKey, recordObject, (existObject, newObject) ->
+						(newObject.getForUpdate() && !existObject.getForUpdate()) ? newObject : existObject);
+	}
+
+	/**
+	 * <h3 class="en-US">Remove the given records from identity map</h3>
+	 * <h3 class="zh-CN">从标识映射中移除给定的记录</h3>
+	 *
+	 * @param recordObjects <span class="en-US">Record object array</span>
+	 *                      <span class="zh-CN">记录实例对象数组</span>
+	 */
+	void evict(final BaseObject... recordObjects) {
+		for (BaseObject recordObject : recordObjects) {
+			String className = ClassUtils.originalClassName(recordObject.getClass());
+			Map<SortedMap<String, Object>, BaseObject> recordMap = this.managedRecords.get(className);
+			if (recordMap != null) {
+				recordMap.remove(DatabaseUtils.primaryKeyMap(recordObject));
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Clear all managed record instances</h3>
+	 * <h3 class="zh-CN">清除所有受管理的记录实例</h3>
+	 */
+	void clear() {
+		this.managedRecords.clear();
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given normalized key contains all primary key columns and only primary key columns</h3>
+	 * <h3 class="zh-CN">检查给定的规范化键值包含且仅包含所有主键列</h3>
+	 *
+	 * @param className     <span class="en-US">Entity class name</span>
+	 *                      <span class="zh-CN">实体类名</span>
+	 * @param primaryKeyMap <span class="en-US">Normalized primary key data mapping table</span>
+	 *                      <span class="zh-CN">规范化的主键数据映射表</span>
+	 * @return <span class="en-US">Given mapping table, or <code>null</code> if the mapping table could not identify record</span>
+	 * <span class="zh-CN">给定的映射表，如果映射表无法标识记录则返回<code>null</code></span>
+	 */
+	private static SortedMap<String, Object> identifyKey(final String className,
+	                                                     final SortedMap<String, Object> primaryKeyMap) {
+		TableConfig tableConfig = EntityManager.tableConfig(className);
+		if (tableConfig == null || primaryKeyMap.isEmpty() || primaryKeyMap.containsValue(null)) {
+			return null;
+		}
+		int keyCount = 0;
+		for (ColumnConfig columnConfig : tableConfig.getColumnConfigs()) {
+			if (columnConfig.isPrimaryKey()) {
+				if (!primaryKeyMap.containsKey(columnConfig.columnName().toUpperCase())) {
+					return null;
+				}
+				keyCount++;
+			}
+		}
+		return (keyCount == primaryKeyMap.size()) ? primaryKeyMap : null;
+	}
+}
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.column.ColumnConfig;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.beans.lock.ConflictMetrics;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.database.enumerations.transactional.Isolation;
+import org.nervousync.database.exceptions.operate.UpdateException;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
+import org.nervousync.utils.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * <h2 class="en-US">Retry utilities of optimistic lock update</h2>
+ * <span class="en-US">
+ * Each attempt reads the record without row lock in a short transaction, applies the given mutation and submits
+ * the update, the version predicate of the update detects the concurrent modification.
+ * When the version conflicted, the transaction was rolled back and the next attempt waits for a random backoff time
+ * between zero and the exponential delay, so the contending callers will not retry at the same moment.
+ * Only tables using the optimistic lock option are supported.
+ * </span>
+ * <h2 class="zh-CN">乐观锁更新的重试工具</h2>
+ * <span class="zh-CN">
+ * 每次尝试在短事务中不加行锁读取记录、应用给定的修改并提交更新，由更新语句的版本条件检测并发修改。
+ * 当版本冲突时回滚事务，下一次尝试前等待零到指数延迟之间的随机退避时长，以避免竞争的调用方在同一时刻重试。仅支持使用乐观锁选项的数据表
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:36:52 $
+ */
+public final class OptimisticRetry {
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(OptimisticRetry.class);
+	/**
+	 * <span class="en-US">Conflict counters, key is table name</span>
+	 * <span class="zh-CN">冲突计数器，键值为数据表名</span>
+	 */
+	private static final Map<String, ConflictCounter> CONFLICT_COUNTERS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Error code of record lock timeout, the update is not retried</span>
+	 * <span class="zh-CN">记录锁超时的错误代码，不重试更新</span>
+	 */
+	private static final long LOCK_TIMEOUT_CODE = 0x00DB00000010L;
+
+	/**
+	 * <h3 class="en-US">Private constructor method for retry utilities of optimistic lock update</h3>
+	 * <h3 class="zh-CN">乐观锁更新的重试工具的私有构造方法</h3>
+	 */
+	private OptimisticRetry() {
+	}
+
+	/**
+	 * <h3 class="en-US">Update the record with default attempts and backoff time</h3>
+	 * <h3 class="zh-CN">使用默认的尝试次数和退避时长更新记录</h3>
+	 *
+	 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param mutation    <span class="en-US">Mutation function, may be applied more than once</span>
+	 *                    <span class="zh-CN">修改方法，可能被执行多次</span>
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Updated record, or <code>null</code> if record not found</span>
+	 * <span class="zh-CN">更新后的数据记录对象，如果未找到记录则返回<code>null</code></span>
+	 * @throws Exception <span class="en-US">If an error occurs or all attempts conflicted</span>
+	 *                   <span class="zh-CN">如果出现异常或所有尝试均发生冲突</span>
+	 */
+	public static <T extends BaseObject> T update(@Nonnull final Object primaryKey,
+	                                              @Nonnull final Class<T> entityClass,
+	                                              @Nonnull final Consumer<? super T> mutation) throws Exception {
+		return update(primaryKey, entityClass, mutation, DatabaseCommons.DEFAULT_RETRY_ATTEMPTS,
+				DatabaseCommons.DEFAULT_RETRY_BASE_DELAY, DatabaseCommons.DEFAULT_RETRY_MAX_DELAY);
+	}
+
+	/**
+	 * <h3 class="en-US">Update the record, retry when the version conflicted</h3>
+	 * <span class="en-US">
+	 * An <code>UpdateException</code> of database client is treated as version conflict only if the version of
+	 * the stored record was changed or the record was removed since it was read, other exceptions, for example
+	 * constraint violations and record lock timeouts, are thrown without retry. If the current thread was bound to
+	 * a woven transaction, the update runs once in the bound transaction, the conflict is thrown to roll back
+	 * the whole transaction.
+	 * </span>
+	 * <h3 class="zh-CN">更新记录，版本冲突时重试</h3>
+	 * <span class="zh-CN">
+	 * 仅当已存储记录的版本在读取后被修改或记录被删除时，数据操作客户端的<code>UpdateException</code>才被视为版本冲突，
+	 * 其他异常（例如约束冲突和记录锁超时）不重试直接抛出。如果当前线程已绑定织入的事务，更新在绑定的事务中只执行一次，冲突将被抛出以回滚整个事务
+	 * </span>
+	 *
+	 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @param mutation    <span class="en-US">Mutation function, may be applied more than once</span>
+	 *                    <span class="zh-CN">修改方法，可能被执行多次</span>
+	 * @param maxAttempts <span class="en-US">Maximum attempts</span>
+	 *                    <span class="zh-CN">最大尝试次数</span>
+	 * @param baseDelay   <span class="en-US">Base backoff time, in milliseconds</span>
+	 *                    <span class="zh-CN">基础退避时长，单位毫秒</span>
+	 * @param maxDelay    <span class="en-US">Maximum backoff time, in milliseconds</span>
+	 *                    <span class="zh-CN">最大退避时长，单位毫秒</span>
+	 * @param <T>         <span class="en-US">Target entity class</span>
+	 *                    <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Updated record, or <code>null</code> if record not found</span>
+	 * <span class="zh-CN">更新后的数据记录对象，如果未找到记录则返回<code>null</code></span>
+	 * @throws Exception <span class="en-US">If an error occurs, the table is not using optimistic lock or all attempts conflicted</span>
+	 *                   <span class="zh-CN">如果出现异常、数据表未使用乐观锁或所有尝试均发生冲突</span>
+	 */
+	public static <T extends BaseObject> T update(@Nonnull final Object primaryKey,
+	                                              @Nonnull final Class<T> entityClass,
+	                                              @Nonnull final Consumer<? super T> mutation,
+	                                              final int maxAttempts, final long baseDelay,
+	                                              final long maxDelay) throws Exception {
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		if (tableConfig == null) {
+			throw new UpdateException(0x00DB00000001L, entityClass.getName());
+		}
+		final String versionField = Optional.of(tableConfig)
+				.filter(config -> LockOption.OPTIMISTIC_UPGRADE.equals(config.getLockOption()))
+				.flatMap(TableConfig::versionColumn)
+				.map(ColumnConfig::getFieldName)
+				.orElseThrow(() -> new UpdateException(0x00DB00000016L, tableConfig.getTableName()));
+		ConflictCounter conflictCounter =
+				CONFLICT_COUNTERS.computeIfAbsent(tableConfig.getTableName(), ConflictCounter::new);
+		DatabaseClient boundClient = TransactionalUtils.currentClient();
+		if (boundClient != null) {
+			conflictCounter.attempts.increment();
+			T recordObject = retrieve(boundClient, primaryKey, entityClass);
+			if (recordObject == null) {
+				return null;
+			}
+			try {
+				mutation.accept(recordObject);
+				boundClient.updateRecords(recordObject);
+				conflictCounter.successes.increment();
+				return recordObject;
+			} catch (UpdateException e) {
+				if (e.getErrorCode() != LOCK_TIMEOUT_CODE) {
+					conflictCounter.conflicts.increment();
+				}
+				throw e;
+			}
+		}
+
+		int attempts = Math.max(1, maxAttempts);
+		long delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, baseDelay)),
+				limitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(baseDelay, maxDelay));
+		UpdateException conflict = null;
+		for (int i = 0; i < attempts; i++) {
+			if (i > 0) {
+				long parkNanos = ThreadLocalRandom.current().nextLong(delayNanos + 1);
+				delayNanos = Math.min(limitNanos, delayNanos << 1);
+				long beginTime = System.nanoTime();
+				LockSupport.parkNanos(parkNanos);
+				conflictCounter.backoffNanos.add(System.nanoTime() - beginTime);
+				if (Thread.currentThread().isInterrupted()) {
+					break;
+				}
+			}
+			conflictCounter.attempts.increment();
+			DatabaseClient databaseClient = DatabaseUtils.retrieveClient(
+					TransactionalConfig.newInstance(0, Isolation.ISOLATION_READ_COMMITTED,
+							new Class[]{UpdateException.class}));
+			if (databaseClient == null) {
+				return null;
+			}
+			Object readVersion = null;
+			try {
+				T recordObject = retrieve(databaseClient, primaryKey, entityClass);
+				if (recordObject != null) {
+					readVersion = ReflectionUtils.getFieldValue(versionField, recordObject);
+					mutation.accept(recordObject);
+					databaseClient.updateRecords(recordObject);
+				}
+				databaseClient.endTransactional();
+				conflictCounter.successes.increment();
+				return recordObject;
+			} catch (UpdateException e) {
+				databaseClient.rollbackTransactional();
+				if (!versionConflict(e, primaryKey, entityClass, versionField, readVersion)) {
+					throw e;
+				}
+				conflictCounter.conflicts.increment();
+				conflict = e;
+				LOGGER.debug("Optimistic_Retry_Conflict_Debug", tableConfig.getTableName(), i + 1);
+			} catch (Exception e) {
+				databaseClient.rollbackTransactional();
+				throw e;
+			}
+		}
+		conflictCounter.exhausted.increment();
+		throw new UpdateException(0x00DB0000000FL, conflict, tableConfig.getTableName(), attempts);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve conflict metrics of given entity class</h3>
+	 * <h3 class="zh-CN">获取给定实体类的冲突统计信息</h3>
+	 *
+	 * @param entityClass <span class="en-US">Entity class</span>
+	 *                    <span class="zh-CN">实体类</span>
+	 * @return <span class="en-US">Conflict metrics, or <code>null</code> if entity class was not registered</span>
+	 * <span class="zh-CN">冲突统计信息，如果实体类未注册则返回<code>null</code></span>
+	 */
+	public static ConflictMetrics metrics(@Nonnull final Class<?> entityClass) {
+		TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+		if (tableConfig == null) {
+			return null;
+		}
+		return CONFLICT_COUNTERS.computeIfAbsent(tableConfig.getTableName(), ConflictCounter::new).metrics();
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve conflict metrics of all updated tables</h3>
+	 * <h3 class="zh-CN">获取所有已更新数据表的冲突统计信息</h3>
+	 *
+	 * @return <span class="en-US">Conflict metrics list</span>
+	 * <span class="zh-CN">冲突统计信息列表</span>
+	 */
+	public static List<ConflictMetrics> metrics() {
+		List<ConflictMetrics> metricsList = new ArrayList<>(CONFLICT_COUNTERS.size());
+		CONFLICT_COUNTERS.values().forEach(conflictCounter -> metricsList.add(conflictCounter.metrics()));
+		return metricsList;
+	}
+
+	/**
+	 * <h3 class="en-US">Clear conflict metrics</h3>
+	 * <h3 class="zh-CN">清除冲突统计信息</h3>
+	 */
+	public static void destroy() {
+		CONFLICT_COUNTERS.clear();
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the record without row lock, the version predicate of update detects the conflict</h3>
+	 * <h3 class="zh-CN">不加行锁读取记录，由更新语句的版本条件检测冲突</h3>
+	 *
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据操作客户端实例对象</span>
+	 * @param primaryKey     <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                       <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass    <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @param <T>            <span class="en-US">Target entity class</span>
+	 *                       <span class="zh-CN">目标实体类</span>
+	 * @return <span class="en-US">Retrieved record, or <code>null</code> if record not found</span>
+	 * <span class="zh-CN">读取的数据记录对象，如果未找到记录则返回<code>null</code></span>
+	 * @throws Exception <span class="en-US">If an error occurs when retrieve record</span>
+	 *                   <span class="zh-CN">如果读取记录时出现异常</span>
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends BaseObject> T retrieve(final DatabaseClient databaseClient, final Object primaryKey,
+	                                                 final Class<T> entityClass) throws Exception {
+		return (primaryKey instanceof Map)
+				? databaseClient.retrieve((Map<String, Object>) primaryKey, entityClass, Boolean.FALSE)
+				: databaseClient.retrieve(primaryKey, entityClass, Boolean.FALSE);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the failed update was caused by version conflict</h3>
+	 * <span class="en-US">
+	 * The version predicate matched no record only if the record was removed or its version was changed
+	 * after it was read, record lock timeouts and failures with unchanged version are not conflicts.
+	 * </span>
+	 * <h3 class="zh-CN">检查更新失败是否由版本冲突导致</h3>
+	 * <span class="zh-CN">仅当记录在读取后被删除或版本被修改时，版本条件才不匹配任何记录，记录锁超时以及版本未改变的失败不是冲突</span>
+	 *
+	 * @param e            <span class="en-US">Update exception</span>
+	 *                     <span class="zh-CN">更新异常</span>
+	 * @param primaryKey   <span class="en-US">Primary key value, or composite primary key map</span>
+	 *                     <span class="zh-CN">主键值或联合主键值映射表</span>
+	 * @param entityClass  <span class="en-US">Target entity class</span>
+	 *                     <span class="zh-CN">目标实体类</span>
+	 * @param versionField <span class="en-US">Version field name</span>
+	 *                     <span class="zh-CN">版本属性名</span>
+	 * @param readVersion  <span class="en-US">Version value when the record was read</span>
+	 *                     <span class="zh-CN">读取记录时的版本值</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 * @throws Exception <span class="en-US">If an error occurs when retrieve record</span>
+	 *                   <span class="zh-CN">如果读取记录时出现异常</span>
+	 */
+	private static boolean versionConflict(@Nonnull final UpdateException e, @Nonnull final Object primaryKey,
+	                                       @Nonnull final Class<? extends BaseObject> entityClass,
+	                                       @Nonnull final String versionField,
+	                                       final Object readVersion) throws Exception {
+		if (e.getErrorCode() == LOCK_TIMEOUT_CODE) {
+			return Boolean.FALSE;
+		}
+		DatabaseClient databaseClient = DatabaseUtils.readOnlyClient();
+		if (databaseClient == null) {
+			return Boolean.FALSE;
+		}
+		Object currentObject = retrieve(databaseClient, primaryKey, entityClass);
+		return currentObject == null
+				|| !ObjectUtils.nullSafeEquals(readVersion, ReflectionUtils.getFieldValue(versionField, currentObject));
+	}
+
+	/**
+	 * <h2 class="en-US">Conflict counters of table</h2>
+	 * <h2 class="zh-CN">数据表的冲突计数器</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:39:15 $
+	 */
+	private static final class ConflictCounter {
+		/**
+		 * <span class="en-US">Table name</span>
+		 * <span class="zh-CN">数据表名</span>
+		 */
+		private final String tableName;
+		/**
+		 * <span class="en-US">Update attempts count</span>
+		 * <span class="zh-CN">更新尝试的次数</span>
+		 */
+		private final LongAdder attempts = new LongAdder();
+		/**
+		 * <span class="en-US">Version conflicts count</span>
+		 * <span class="zh-CN">版本冲突的次数</span>
+		 */
+		private final LongAdder conflicts = new LongAdder();
+		/**
+		 * <span class="en-US">Succeeded updates count</span>
+		 * <span class="zh-CN">更新成功的次数</span>
+		 */
+		private final LongAdder successes = new LongAdder();
+		/**
+		 * <span class="en-US">Updates count which exhausted all attempts</span>
+		 * <span class="zh-CN">用尽所有尝试次数的更新数</span>
+		 */
+		private final LongAdder exhausted = new LongAdder();
+		/**
+		 * <span class="en-US">Total backoff time, in nanoseconds</span>
+		 * <span class="zh-CN">退避等待的总时长，单位纳秒</span>
+		 */
+		private final LongAdder backoffNanos = new LongAdder();
+
+		/**
+		 * <h3 class="en-US">Constructor method for conflict counters of table</h3>
+		 * <h3 class="zh-CN">数据表的冲突计数器的构造方法</h3>
+		 *
+		 * @param tableName <span class="en-US">Table name</span>
+		 *                  <span class="zh-CN">数据表名</span>
+		 */
+		ConflictCounter(final String tableName) {
+			this.tableName = tableName;
+		}
+
+		/**
+		 * <h3 class="en-US">Generate snapshot of conflict metrics</h3>
+		 * <h3 class="zh-CN">生成冲突统计信息的快照</h3>
+		 *
+		 * @return <span class="en-US">Conflict metrics</span>
+		 * <span class="zh-CN">冲突统计信息</span>
+		 */
+		ConflictMetrics metrics() {
+			return new ConflictMetrics(this.tableName, this.attempts.sum(), this.conflicts.sum(),
+					this.successes.sum(), this.exhausted.sum(),
+					TimeUnit.NANOSECONDS.toMillis(this.backoffNanos.sum()));
+		}
+	}
+}
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.commons;
+
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.ClassUtils;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">In-process striped lock manager of pessimistic lock records</h2>
+ * <span class="en-US">
+ * Records of tables using PESSIMISTIC_UPGRADE or PESSIMISTIC_UPGRADE_NOWAIT are mapped to lock stripes by table name
+ * and normalized primary key. The transactional client acquires the stripes before the records were retrieved for
+ * update or submitted, so the threads in the same process wait in memory instead of waiting for the database row locks.
+ * The stripes are released when the transaction was finished, rolled back or expired.
+ * Records which locked together should be retrieved for update by one batch operation, for example
+ * <code>DatabaseClient#retrieveAll</code>, the stripes of a batch are acquired in ascending stripe order.
+ * A stripe ordered before a stripe already held by the transaction is never waited for, if it is not available,
+ * the record is protected by the database row lock only, so the in-process locks could not deadlock.
+ * Each wait is limited to a short fixed time, and the stripes held longer than the hold limit can be revoked by
+ * waiting transactions, so the transactions without timeout could not hold the stripes forever.
+ * </span>
+ * <h2 class="zh-CN">悲观锁记录的进程内分段锁管理器</h2>
+ * <span class="zh-CN">
+ * 使用 PESSIMISTIC_UPGRADE 或 PESSIMISTIC_UPGRADE_NOWAIT 的数据表记录根据表名和规范化的主键映射到锁分段。
+ * 事务客户端在读取记录用于更新或提交记录前获取锁分段，使同一进程中的线程在内存中等待，而不是等待数据库行锁。锁分段在事务结束、回滚或超时时释放。
+ * 需要同时锁定的记录应使用一次批量操作（例如<code>DatabaseClient#retrieveAll</code>）读取用于更新，同一批次的锁分段按分段序号升序获取。
+ * 序号小于事务已持有锁分段的锁分段不会等待，如果不可用，记录仅由数据库行锁保护，因此进程内锁不会死锁。
+ * 每次等待限制为较短的固定时长，持有时间超过持有限制的锁分段可以被等待的事务撤销，因此未设置超时时间的事务不会永久持有锁分段
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:58:24 $
+ */
+public final class RecordLockManager {
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(RecordLockManager.class);
+	/**
+	 * <span class="en-US">Lock stripes, <code>null</code> if lock manager was not initialized</span>
+	 * <span class="zh-CN">锁分段，锁管理器未初始化时为<code>null</code></span>
+	 */
+	private static volatile LockStripe[] LOCK_STRIPES = null;
+
+	/**
+	 * <h3 class="en-US">Private constructor method for in-process striped lock manager</h3>
+	 * <h3 class="zh-CN">进程内分段锁管理器的私有构造方法</h3>
+	 */
+	private RecordLockManager() {
+	}
+
+	/**
+	 * <h3 class="en-US">Initialize lock manager using default stripe count</h3>
+	 * <h3 class="zh-CN">使用默认的分段数初始化锁管理器</h3>
+	 */
+	public static void initialize() {
+		initialize(DatabaseCommons.DEFAULT_LOCK_STRIPES);
+	}
+
+	/**
+	 * <h3 class="en-US">Initialize lock manager using given stripe count</h3>
+	 * <span class="en-US">The stripe count will be rounded up to power of two</span>
+	 * <h3 class="zh-CN">使用给定的分段数初始化锁管理器</h3>
+	 * <span class="zh-CN">分段数将向上取整为2的幂</span>
+	 *
+	 * @param stripeCount <span class="en-US">Stripe count</span>
+	 *                    <span class="zh-CN">分段数</span>
+	 */
+	public static synchronized void initialize(final int stripeCount) {
+		if (LOCK_STRIPES != null) {
+			LOGGER.warn("Record_Lock_Manager_Initialized_Warn", LOCK_STRIPES.length);
+			return;
+		}
+		int arraySize = Integer.highestOneBit(Math.max(2, stripeCount) - 1) << 1;
+		LockStripe[] lockStripes = new LockStripe[arraySize];
+		for (int i = 0; i < arraySize; i++) {
+			lockStripes[i] = new LockStripe();
+		}
+		LOCK_STRIPES = lockStripes;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the lock manager was initialized</h3>
+	 * <h3 class="zh-CN">检查锁管理器已初始化</h3>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public static boolean initialized() {
+		return LOCK_STRIPES != null;
+	}
+
+	/**
+	 * <h3 class="en-US">Destroy lock manager</h3>
+	 * <span class="en-US">The holders which were already created keep using the previous stripes until released</span>
+	 * <h3 class="zh-CN">销毁锁管理器</h3>
+	 * <span class="zh-CN">已创建的持有者在释放前继续使用原有的锁分段</span>
+	 */
+	public static synchronized void destroy() {
+		LOCK_STRIPES = null;
+	}
+
+	/**
+	 * <h3 class="en-US">Create lock holder for transaction</h3>
+	 * <h3 class="zh-CN">为事务创建锁持有者</h3>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identification code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param holdMillis        <span class="en-US">Hold limit of the stripes, in milliseconds</span>
+	 *                          <span class="zh-CN">锁分段的持有限制，单位毫秒</span>
+	 * @return <span class="en-US">Created lock holder, or <code>null</code> if lock manager was not initialized</span>
+	 * <span class="zh-CN">创建的锁持有者，如果锁管理器未初始化则返回<code>null</code></span>
+	 */
+	static LockHolder holder(final long transactionalCode, final long holdMillis) {
+		LockStripe[] lockStripes = LOCK_STRIPES;
+		return (lockStripes == null) ? null : new LockHolder(lockStripes, transactionalCode, holdMillis);
+	}
+
+	/**
+	 * <h3 class="en-US">Check the records of given table configure must be locked</h3>
+	 * <h3 class="zh-CN">检查给定数据表配置的记录是否需要加锁</h3>
+	 *
+	 * @param tableConfig <span class="en-US">Table configure information</span>
+	 *                    <span class="zh-CN">数据表配置信息</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean pessimistic(final TableConfig tableConfig) {
+		return tableConfig != null
+				&& (LockOption.PESSIMISTIC_UPGRADE.equals(tableConfig.getLockOption())
+				|| LockOption.PESSIMISTIC_UPGRADE_NOWAIT.equals(tableConfig.getLockOption()));
+	}
+
+	/**
+	 * <h2 class="en-US">Lock stripe</h2>
+	 * <h2 class="zh-CN">锁分段</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:02:36 $
+	 */
+	private static final class LockStripe {
+		/**
+		 * <span class="en-US">Stripe permit</span>
+		 * <span class="zh-CN">锁分段许可</span>
+		 */
+		private final Semaphore semaphore = new Semaphore(1);
+		/**
+		 * <span class="en-US">Current holder of the stripe, <code>null</code> if the stripe is available</span>
+		 * <span class="zh-CN">锁分段的当前持有者，锁分段可用时为<code>null</code></span>
+		 */
+		private volatile LockHolder owner = null;
+	}
+
+	/**
+	 * <h2 class="en-US">Lock stripes holder of transaction</h2>
+	 * <span class="en-US">
+	 * Each stripe was acquired once by the holder, so the holder could lock the same record again.
+	 * The stripes are not reentrant across holders, even if the holders are used by the same thread.
+	 * </span>
+	 * <h2 class="zh-CN">事务的锁分段持有者</h2>
+	 * <span class="zh-CN">每个锁分段只被持有者获取一次，因此持有者可以再次锁定同一记录。锁分段在不同持有者之间不可重入，即使持有者由同一线程使用</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 00:04:51 $
+	 */
+	static final class LockHolder {
+		/**
+		 * <span class="en-US">Lock stripes</span>
+		 * <span class="zh-CN">锁分段</span>
+		 */
+		private final LockStripe[] lockStripes;
+		/**
+		 * <span class="en-US">Transactional identification code</span>
+		 * <span class="zh-CN">事务识别代码</span>
+		 */
+		private final long transactionalCode;
+		/**
+		 * <span class="en-US">Deadline of holding stripes, in nanoseconds, the held stripes can be revoked after deadline</span>
+		 * <span class="zh-CN">持有锁分段的截止时间，单位纳秒，超过截止时间后已持有的锁分段可以被撤销</span>
+		 */
+		private final long holdDeadline;
+		/**
+		 * <span class="en-US">Indexes of held stripes</span>
+		 * <span class="zh-CN">已持有的锁分段序号</span>
+		 */
+		private final Set<Integer> heldIndexes = new HashSet<>();
+		/**
+		 * <span class="en-US">Highest index of stripes acquired by the holder, <code>-1</code> if no stripe was acquired</span>
+		 * <span class="zh-CN">持有者已获取的锁分段的最大序号，未获取锁分段时为<code>-1</code></span>
+		 */
+		private int highestIndex = Globals.DEFAULT_VALUE_INT;
+		/**
+		 * <span class="en-US">All held stripes were released</span>
+		 * <span class="zh-CN">所有已持有的锁分段已释放</span>
+		 */
+		private boolean released = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Constructor method for lock stripes holder</h3>
+		 * <h3 class="zh-CN">锁分段持有者的构造方法</h3>
+		 *
+		 * @param lockStripes       <span class="en-US">Lock stripes</span>
+		 *                          <span class="zh-CN">锁分段</span>
+		 * @param transactionalCode <span class="en-US">Transactional identification code</span>
+		 *                          <span class="zh-CN">事务识别代码</span>
+		 * @param holdMillis        <span class="en-US">Hold limit of the stripes, in milliseconds</span>
+		 *                          <span class="zh-CN">锁分段的持有限制，单位毫秒</span>
+		 */
+		LockHolder(final LockStripe[] lockStripes, final long transactionalCode, final long holdMillis) {
+			this.lockStripes = lockStripes;
+			this.transactionalCode = transactionalCode;
+			this.holdDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(holdMillis);
+		}
+
+		/**
+		 * <h3 class="en-US">Lock the records of given primary keys</h3>
+		 * <h3 class="zh-CN">锁定给定主键的记录</h3>
+		 *
+		 * @param entityClass <span class="en-US">Entity class</span>
+		 *                    <span class="zh-CN">实体类</span>
+		 * @param primaryKeys <span class="en-US">Primary key values, or composite primary key maps</span>
+		 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+		 * @return <span class="en-US">Table name of the record which could not be locked, or <code>null</code> if succeeded</span>
+		 * <span class="zh-CN">无法锁定的记录的数据表名，如果加锁成功则返回<code>null</code></span>
+		 */
+		String lock(final Class<?> entityClass, final Collection<?> primaryKeys) {
+			TableConfig tableConfig = EntityManager.tableConfig(entityClass);
+			if (!pessimistic(tableConfig)) {
+				return null;
+			}
+			SortedMap<Integer, TableConfig> lockIndexes = new TreeMap<>();
+			primaryKeys.forEach(primaryKey ->
+					lockIndexes.put(this.stripeIndex(tableConfig,
+							DatabaseUtils.normalizeKey(entityClass, primaryKey)), tableConfig));
+			return this.acquire(lockIndexes);
+		}
+
+		/**
+		 * <h3 class="en-US">Lock the given records</h3>
+		 * <h3 class="zh-CN">锁定给定的记录</h3>
+		 *
+		 * @param recordObjects <span class="en-US">Record object array</span>
+		 *                      <span class="zh-CN">记录实例对象数组</span>
+		 * @return <span class="en-US">Table name of the record which could not be locked, or <code>null</code> if succeeded</span>
+		 * <span class="zh-CN">无法锁定的记录的数据表名，如果加锁成功则返回<code>null</code></span>
+		 */
+		String lock(final BaseObject... recordObjects) {
+			SortedMap<Integer, TableConfig> lockIndexes = new TreeMap<>();
+			for (BaseObject recordObject : recordObjects) {
+				TableConfig tableConfig = EntityManager.tableConfig(ClassUtils.originalClassName(recordObject.getClass()));
+				if (pessimistic(tableConfig)) {
+					lockIndexes.put(this.stripeIndex(tableConfig, DatabaseUtils.primaryKeyMap(recordObject)), tableConfig);
+				}
+			}
+			return this.acquire(lockIndexes);
+		}
+
+		/**
+		 * <h3 class="en-US">Release all held stripes</h3>
+		 * <h3 class="zh-CN">释放所有已持有的锁分段</h3>
+		 */
+		synchronized void release() {
+			this.released = Boolean.TRUE;
+			this.heldIndexes.forEach(index -> this.releaseStripe(this.lockStripes[index]));
+			this.heldIndexes.clear();
+		}
+
+		/**
+		 * <h3 class="en-US">Acquire the stripes in ascending index order</h3>
+		 * <span class="en-US">
+		 * The stripes ordered before the highest held stripe are acquired without waiting, and skipped if not available.
+		 * Other stripes are waited for the fixed wait time, the stripe held by an expired holder is revoked.
+		 * </span>
+		 * <h3 class="zh-CN">按序号升序获取锁分段</h3>
+		 * <span class="zh-CN">
+		 * 序号小于已持有的最大序号的锁分段不等待直接获取，不可用时跳过。其他锁分段最多等待固定的等待时长，超过持有限制的持有者持有的锁分段将被撤销
+		 * </span>
+		 *
+		 * @param lockIndexes <span class="en-US">Stripe indexes and table configure of locked records</span>
+		 *                    <span class="zh-CN">锁分段序号和被锁定记录的数据表配置</span>
+		 * @return <span class="en-US">Table name of the record which could not be locked, or <code>null</code> if succeeded</span>
+		 * <span class="zh-CN">无法锁定的记录的数据表名，如果加锁成功则返回<code>null</code></span>
+		 */
+		private String acquire(final SortedMap<Integer, TableConfig> lockIndexes) {
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DatabaseCommons.DEFAULT_LOCK_WAIT_MILLIS);
+			for (Map.Entry<Integer, TableConfig> entry : lockIndexes.entrySet()) {
+				int index = entry.getKey();
+				boolean outOfOrder;
+				synchronized (this) {
+					if (this.released) {
+						return entry.getValue().getTableName();
+					}
+					if (this.heldIndexes.contains(index)) {
+						continue;
+					}
+					outOfOrder = index < this.highestIndex;
+				}
+				LockStripe lockStripe = this.lockStripes[index];
+				boolean acquired = lockStripe.semaphore.tryAcquire() || this.revoke(lockStripe, index);
+				if (!acquired && outOfOrder) {
+					//	Waiting out of order could deadlock, leave the record to the database row lock
+					continue;
+				}
+				if (!acquired && !LockOption.PESSIMISTIC_UPGRADE_NOWAIT.equals(entry.getValue().getLockOption())) {
+					try {
+						acquired = lockStripe.semaphore.tryAcquire(Math.max(0L, deadline - System.nanoTime()),
+								TimeUnit.NANOSECONDS) || this.revoke(lockStripe, index);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				if (!acquired) {
+					return entry.getValue().getTableName();
+				}
+				synchronized (this) {
+					if (this.released) {
+						lockStripe.semaphore.release();
+						return entry.getValue().getTableName();
+					}
+					lockStripe.owner = this;
+					this.heldIndexes.add(index);
+					this.highestIndex = Math.max(this.highestIndex, index);
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * <h3 class="en-US">Revoke the stripe from its owner if the owner exceeded the hold limit, and acquire the stripe</h3>
+		 * <h3 class="zh-CN">如果锁分段的持有者超过持有限制，则从持有者撤销锁分段并获取锁分段</h3>
+		 *
+		 * @param lockStripe <span class="en-US">Lock stripe</span>
+		 *                   <span class="zh-CN">锁分段</span>
+		 * @param index      <span class="en-US">Stripe index</span>
+		 *                   <span class="zh-CN">锁分段序号</span>
+		 * @return <span class="en-US">Stripe was acquired</span>
+		 * <span class="zh-CN">已获取锁分段</span>
+		 */
+		private boolean revoke(final LockStripe lockStripe, final int index) {
+			LockHolder owner = lockStripe.owner;
+			if (owner == null || owner == this || owner.holdDeadline - System.nanoTime() > 0L) {
+				return Boolean.FALSE;
+			}
+			synchronized (owner) {
+				if (owner.heldIndexes.remove(index)) {
+					owner.releaseStripe(lockStripe);
+					LOGGER.warn("Record_Lock_Revoked_Warn", owner.transactionalCode, this.transactionalCode);
+				}
+			}
+			return lockStripe.semaphore.tryAcquire();
+		}
+
+		/**
+		 * <h3 class="en-US">Release the stripe held by current holder, must hold the monitor of current holder</h3>
+		 * <h3 class="zh-CN">释放当前持有者持有的锁分段，必须持有当前持有者的监视器</h3>
+		 *
+		 * @param lockStripe <span class="en-US">Lock stripe</span>
+		 *                   <span class="zh-CN">锁分段</span>
+		 */
+		private void releaseStripe(final LockStripe lockStripe) {
+			if (lockStripe.owner == this) {
+				lockStripe.owner = null;
+			}
+			lockStripe.semaphore.release();
+		}
+
+		/**
+		 * <h3 class="en-US">Calculate stripe index of given record</h3>
+		 * <h3 class="zh-CN">计算给定记录的锁分段序号</h3>
+		 *
+		 * @param tableConfig   <span class="en-US">Table configure information</span>
+		 *                      <span class="zh-CN">数据表配置信息</span>
+		 * @param primaryKeyMap <span class="en-US">Normalized primary key data mapping table</span>
+		 *                      <span class="zh-CN">规范化的主键数据映射表</span>
+		 * @return <span class="en-US">Stripe index</span>
+		 * <span class="zh-CN">锁分段序号</span>
+		 */
+		private int stripeIndex(final TableConfig tableConfig, final Map<String, Object> primaryKeyMap) {
+			int hashCode = tableConfig.getTableName().hashCode() * 31 + primaryKeyMap.hashCode();
+			return (hashCode ^ (hashCode >>> 16)) & (this.lockStripes.length - 1);
+		}
+	}
+}
@@ -0,0 +1,386 @@
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.configs.sequence.SequenceConfig;
+import org.nervousync.database.beans.sequence.SequenceRange;
+import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.providers.sequence.SequenceProvider;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
+
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2 class="en-US">Sequence block allocator</h2>
+ * <span class="en-US">
+ * Reserve blocks of sequence values from the sequence provider and hand out the values without locking,
+ * the next block will be reserved asynchronously before the current block runs out.
+ * </span>
+ * <h2 class="zh-CN">序列值块分配器</h2>
+ * <span class="zh-CN">从序列适配器中预留序列值块并以无锁方式分配序列值，在当前块耗尽之前异步预留下一个块</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:18:26 $
+ */
+public final class SequenceAllocator {
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(SequenceAllocator.class);
+	/**
+	 * <span class="en-US">Registered sequence provider name and implementation class mapping table</span>
+	 * <span class="zh-CN">注册的序列适配器名称和实现类映射表</span>
+	 */
+	private static final Hashtable<String, Class<?>> REGISTERED_SEQUENCE_PROVIDERS = new Hashtable<>();
+	/**
+	 * <span class="en-US">Allocated sequence blocks, key is sequence name</span>
+	 * <span class="zh-CN">已分配的序列值块，键值为序列名称</span>
+	 */
+	private static final Map<String, SequenceBlock> SEQUENCE_BLOCKS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Executor of asynchronous block reservation</span>
+	 * <span class="zh-CN">异步预留序列值块的执行器</span>
+	 */
+	private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+		Thread thread = new Thread(runnable, "SequenceAllocator-Prefetch");
+		thread.setDaemon(Boolean.TRUE);
+		return thread;
+	});
+	private static volatile SequenceProvider SEQUENCE_PROVIDER = null;
+
+	static {
+		ServiceLoader.load(SequenceProvider.class)
+				.forEach(sequenceProvider ->
+						Optional.ofNullable(sequenceProvider.getClass().getAnnotation(Provider.class))
+								.ifPresent(provider ->
+										REGISTERED_SEQUENCE_PROVIDERS.put(provider.name(),
+												sequenceProvider.getClass())));
+	}
+
+	/**
+	 * <h3 class="en-US">Private constructor method for sequence block allocator</h3>
+	 * <h3 class="zh-CN">序列值块分配器的私有构造方法</h3>
+	 */
+	private SequenceAllocator() {
+	}
+
+	/**
+	 * <h3 class="en-US">Check the given sequence provider name was registered</h3>
+	 * <h3 class="zh-CN">检查给定的序列适配器名称是否已注册</h3>
+	 *
+	 * @param providerName <span class="en-US">Sequence provider name</span>
+	 *                     <span class="zh-CN">序列适配器名称</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public static boolean registeredProvider(final String providerName) {
+		return REGISTERED_SEQUENCE_PROVIDERS.containsKey(providerName);
+	}
+
+	/**
+	 * <h3 class="en-US">Initializes the sequence allocator based on the given provider name</h3>
+	 * <h3 class="zh-CN">根据给定的适配器名称初始化序列值块分配器</h3>
+	 *
+	 * @param providerName <span class="en-US">Sequence provider name</span>
+	 *                     <span class="zh-CN">序列适配器名称</span>
+	 * @throws DatabaseException <span class="en-US">If the sequence provider was not found</span>
+	 *                           <span class="zh-CN">如果未找到序列适配器</span>
+	 */
+	public static void initialize(final String providerName) throws DatabaseException {
+		initialize(providerName, Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/**
+	 * <h3 class="en-US">Initializes the sequence allocator based on the given provider name and base path</h3>
+	 * <h3 class="zh-CN">根据给定的适配器名称和基础路径初始化序列值块分配器</h3>
+	 *
+	 * @param providerName <span class="en-US">Sequence provider name</span>
+	 *                     <span class="zh-CN">序列适配器名称</span>
+	 * @param basePath     <span class="en-US">The base path for system execution</span>
+	 *                     <span class="zh-CN">系统执行的基础路径</span>
+	 * @throws DatabaseException <span class="en-US">If the sequence provider was not found</span>
+	 *                           <span class="zh-CN">如果未找到序列适配器</span>
+	 */
+	public static void initialize(final String providerName, final String basePath) throws DatabaseException {
+		initialize(Optional.ofNullable(REGISTERED_SEQUENCE_PROVIDERS.get(providerName))
+				.map(providerClass -> (SequenceProvider) ObjectUtils.newInstance(providerClass))
+				.orElseThrow(() -> new DatabaseException(0x00DB0000000BL)), basePath);
+	}
+
+	/**
+	 * <h3 class="en-US">Initializes the sequence allocator using the given provider instance</h3>
+	 * <h3 class="zh-CN">使用给定的适配器实例对象初始化序列值块分配器</h3>
+	 *
+	 * @param sequenceProvider <span class="en-US">Sequence provider instance</span>
+	 *                         <span class="zh-CN">序列适配器实例对象</span>
+	 */
+	public static void initialize(@Nonnull final SequenceProvider sequenceProvider) {
+		initialize(sequenceProvider, Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/**
+	 * <h3 class="en-US">Initializes the sequence allocator using the given provider instance and base path</h3>
+	 * <span class="en-US">Blocks reserved from previous provider will be discarded.</span>
+	 * <h3 class="zh-CN">使用给定的适配器实例对象和基础路径初始化序列值块分配器</h3>
+	 * <span class="zh-CN">从之前的适配器中预留的序列值块将被丢弃</span>
+	 *
+	 * @param sequenceProvider <span class="en-US">Sequence provider instance</span>
+	 *                         <span class="zh-CN">序列适配器实例对象</span>
+	 * @param basePath         <span class="en-US">The base path for system execution</span>
+	 *                         <span class="zh-CN">系统执行的基础路径</span>
+	 */
+	public static synchronized void initialize(@Nonnull final SequenceProvider sequenceProvider,
+	                                           @Nonnull final String basePath) {
+		sequenceProvider.initialize(basePath);
+		if (SEQUENCE_PROVIDER != null) {
+			LOGGER.warn("Sequence_Provider_Override");
+			SEQUENCE_PROVIDER.destroy();
+		}
+		SEQUENCE_BLOCKS.clear();
+		SEQUENCE_PROVIDER = sequenceProvider;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the sequence allocator was initialized</h3>
+	 * <h3 class="zh-CN">检查序列值块分配器是否已初始化</h3>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public static boolean initialized() {
+		return SEQUENCE_PROVIDER != null;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the next value of given sequence</h3>
+	 * <h3 class="zh-CN">获取给定序列的下一个值</h3>
+	 *
+	 * @param sequenceConfig <span class="en-US">Sequence configure information</span>
+	 *                       <span class="zh-CN">序列生成器配置信息</span>
+	 * @return <span class="en-US">Next sequence value</span>
+	 * <span class="zh-CN">下一个序列值</span>
+	 * @throws DatabaseException <span class="en-US">If the sequence provider was not initialized or the sequence was exhausted</span>
+	 *                           <span class="zh-CN">如果序列适配器未初始化或序列已耗尽</span>
+	 */
+	public static long nextValue(@Nonnull final SequenceConfig sequenceConfig) throws DatabaseException {
+		SequenceProvider sequenceProvider = SEQUENCE_PROVIDER;
+		if (sequenceProvider == null) {
+			throw new DatabaseException(0x00DB0000000BL);
+		}
+		return SEQUENCE_BLOCKS.computeIfAbsent(sequenceConfig.getSequenceName(),
+						sequenceName -> new SequenceBlock(sequenceProvider, sequenceConfig))
+				.nextValue();
+	}
+
+	/**
+	 * <h3 class="en-US">Destroy the sequence allocator and discard all reserved blocks</h3>
+	 * <h3 class="zh-CN">销毁序列值块分配器并丢弃所有已预留的序列值块</h3>
+	 */
+	public static synchronized void destroy() {
+		SEQUENCE_BLOCKS.clear();
+		if (SEQUENCE_PROVIDER != null) {
+			SEQUENCE_PROVIDER.destroy();
+			SEQUENCE_PROVIDER = null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Reserved block of sequence</h2>
+	 * <h2 class="zh-CN">序列的已预留值块</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:24:09 $
+	 */
+	private static final class SequenceBlock {
+		/**
+		 * <span class="en-US">Sequence provider instance</span>
+		 * <span class="zh-CN">序列适配器实例对象</span>
+		 */
+		private final SequenceProvider sequenceProvider;
+		/**
+		 * <span class="en-US">Sequence configure information</span>
+		 * <span class="zh-CN">序列生成器配置信息</span>
+		 */
+		private final SequenceConfig sequenceConfig;
+		/**
+		 * <span class="en-US">Sequence step value</span>
+		 * <span class="zh-CN">序列步进值</span>
+		 */
+		private final long step;
+		/**
+		 * <span class="en-US">Remaining values count to start reserving next block</span>
+		 * <span class="zh-CN">开始预留下一个值块时的剩余值数量</span>
+		 */
+		private final long prefetchLimit;
+		/**
+		 * <span class="en-US">Values range in use</span>
+		 * <span class="zh-CN">使用中的值范围</span>
+		 */
+		private final AtomicReference<ValueRange> currentRange = new AtomicReference<>(null);
+		/**
+		 * <span class="en-US">Asynchronous reservation of next block</span>
+		 * <span class="zh-CN">下一个值块的异步预留</span>
+		 */
+		private final AtomicReference<CompletableFuture<SequenceRange>> nextRange = new AtomicReference<>(null);
+
+		/**
+		 * <h3 class="en-US">Constructor method for reserved block of sequence</h3>
+		 * <h3 class="zh-CN">序列的已预留值块的构造方法</h3>
+		 *
+		 * @param sequenceProvider <span class="en-US">Sequence provider instance</span>
+		 *                         <span class="zh-CN">序列适配器实例对象</span>
+		 * @param sequenceConfig   <span class="en-US">Sequence configure information</span>
+		 *                         <span class="zh-CN">序列生成器配置信息</span>
+		 */
+		SequenceBlock(@Nonnull final SequenceProvider sequenceProvider, @Nonnull final SequenceConfig sequenceConfig) {
+			this.sequenceProvider = sequenceProvider;
+			this.sequenceConfig = sequenceConfig;
+			this.step = Math.max(1L, sequenceConfig.getStep());
+			this.prefetchLimit = Math.max(1L,
+					(long) (DatabaseCommons.DEFAULT_SEQUENCE_BLOCK_SIZE * DatabaseCommons.DEFAULT_SEQUENCE_PREFETCH_RATE));
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve the next value of current block, switch to next block if current block was exhausted</h3>
+		 * <h3 class="zh-CN">获取当前值块的下一个值，如果当前值块已耗尽则切换到下一个值块</h3>
+		 *
+		 * @return <span class="en-US">Next sequence value</span>
+		 * <span class="zh-CN">下一个序列值</span>
+		 * @throws DatabaseException <span class="en-US">If the sequence was exhausted</span>
+		 *                           <span class="zh-CN">如果序列已耗尽</span>
+		 */
+		long nextValue() throws DatabaseException {
+			while (true) {
+				ValueRange valueRange = this.currentRange.get();
+				if (valueRange != null) {
+					long index = valueRange.issuedCount.getAndIncrement();
+					if (index < valueRange.valueCount) {
+						if (index == valueRange.prefetchIndex) {
+							this.prefetch();
+						}
+						return valueRange.beginValue + index * this.step;
+					}
+				}
+				this.switchRange(valueRange);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Reserve the next block asynchronously</h3>
+		 * <h3 class="zh-CN">异步预留下一个值块</h3>
+		 */
+		private void prefetch() {
+			CompletableFuture<SequenceRange> future = new CompletableFuture<>();
+			if (this.nextRange.compareAndSet(null, future)) {
+				PREFETCH_EXECUTOR.execute(() -> {
+					try {
+						future.complete(this.reserve());
+					} catch (Throwable e) {
+						future.completeExceptionally(e);
+					}
+				});
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Switch to the next block if the given range was still in use</h3>
+		 * <h3 class="zh-CN">如果给定的范围仍在使用中，则切换到下一个值块</h3>
+		 *
+		 * @param exhaustedRange <span class="en-US">Exhausted values range</span>
+		 *                       <span class="zh-CN">已耗尽的值范围</span>
+		 * @throws DatabaseException <span class="en-US">If the sequence was exhausted</span>
+		 *                           <span class="zh-CN">如果序列已耗尽</span>
+		 */
+		private synchronized void switchRange(final ValueRange exhaustedRange) throws DatabaseException {
+			if (this.currentRange.get() != exhaustedRange) {
+				return;
+			}
+			SequenceRange sequenceRange = null;
+			CompletableFuture<SequenceRange> future = this.nextRange.getAndSet(null);
+			if (future != null) {
+				try {
+					sequenceRange = future.join();
+				} catch (CompletionException | CancellationException e) {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+					future = null;
+				}
+			}
+			if (future == null) {
+				sequenceRange = this.reserve();
+			}
+			if (sequenceRange == null) {
+				throw new DatabaseException(0x00DB0000000CL, this.sequenceConfig.getSequenceName());
+			}
+			this.currentRange.set(new ValueRange(sequenceRange, this.step, this.prefetchLimit));
+		}
+
+		/**
+		 * <h3 class="en-US">Reserve the next block from sequence provider</h3>
+		 * <h3 class="zh-CN">从序列适配器中预留下一个值块</h3>
+		 *
+		 * @return <span class="en-US">Reserved range or <code>null</code> if the sequence was exhausted</span>
+		 * <span class="zh-CN">预留的范围，序列已耗尽时返回<code>null</code></span>
+		 */
+		private SequenceRange reserve() {
+			return this.sequenceProvider.reserve(this.sequenceConfig, DatabaseCommons.DEFAULT_SEQUENCE_BLOCK_SIZE);
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Values range in use</h2>
+	 * <h2 class="zh-CN">使用中的值范围</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:27:45 $
+	 */
+	private static final class ValueRange {
+		/**
+		 * <span class="en-US">First value of range</span>
+		 * <span class="zh-CN">范围的第一个值</span>
+		 */
+		private final long beginValue;
+		/**
+		 * <span class="en-US">Values count of range</span>
+		 * <span class="zh-CN">范围的值数量</span>
+		 */
+		private final long valueCount;
+		/**
+		 * <span class="en-US">Value index to start reserving next block</span>
+		 * <span class="zh-CN">开始预留下一个值块的值索引</span>
+		 */
+		private final long prefetchIndex;
+		/**
+		 * <span class="en-US">Issued values count</span>
+		 * <span class="zh-CN">已分配的值数量</span>
+		 */
+		private final AtomicLong issuedCount = new AtomicLong(0L);
+
+		/**
+		 * <h3 class="en-US">Constructor method for values range in use</h3>
+		 * <h3 class="zh-CN">使用中的值范围的构造方法</h3>
+		 *
+		 * @param sequenceRange <span class="en-US">Reserved range</span>
+		 *                      <span class="zh-CN">预留的范围</span>
+		 * @param step          <span class="en-US">Sequence step value</span>
+		 *                      <span class="zh-CN">序列步进值</span>
+		 * @param prefetchLimit <span class="en-US">Remaining values count to start reserving next block</span>
+		 *                      <span class="zh-CN">开始预留下一个值块时的剩余值数量</span>
+		 */
+		ValueRange(@Nonnull final SequenceRange sequenceRange, final long step, final long prefetchLimit) {
+			this.beginValue = sequenceRange.getBeginValue();
+			this.valueCount = Math.max(0L, (sequenceRange.getEndValue() - this.beginValue) / step + 1);
+			this.prefetchIndex = this.valueCount - Math.min(prefetchLimit, this.valueCount);
+		}
+	}
+}
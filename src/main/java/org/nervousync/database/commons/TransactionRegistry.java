@@ -0,0 +1,722 @@
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.beans.transactional.TransactionMetrics;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.exceptions.operate.DropException;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.exceptions.operate.UpdateException;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">Registry of open transactional database clients</h2>
+ * <span class="en-US">
+ * Transactional clients are indexed by transactional code. Clients with timeout are scheduled to a timing wheel,
+ * the reaper thread rolls back and evicts the clients which were not finished before the timeout expired.
+ * The operations of client and the rollback of reaper were serialized, if the client was running an operation
+ * when the timeout expired, the transaction was rolled back by the owner thread after the operation returned.
+ * </span>
+ * <h2 class="zh-CN">未结束的事务数据操作客户端注册表</h2>
+ * <span class="zh-CN">事务客户端按事务识别代码建立索引。设置了超时时间的客户端被调度到时间轮中，回收线程将回滚并移除超时前未结束的客户端。客户端的操作与回收线程的回滚是串行执行的，如果超时时客户端正在执行操作，事务将在操作返回后由所属线程回滚</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:53:41 $
+ */
+public final class TransactionRegistry {
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(TransactionRegistry.class);
+	/**
+	 * <span class="en-US">Index mask of timing wheel buckets</span>
+	 * <span class="zh-CN">时间轮槽的索引掩码</span>
+	 */
+	private static final int WHEEL_MASK = DatabaseCommons.DEFAULT_TRANSACTION_WHEEL_SIZE - 1;
+	/**
+	 * <span class="en-US">Registered clients, key is transactional code</span>
+	 * <span class="zh-CN">已注册的客户端，键值为事务识别代码</span>
+	 */
+	private static final Map<Long, RegisteredClient> REGISTERED_CLIENTS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Buckets of timing wheel</span>
+	 * <span class="zh-CN">时间轮的槽</span>
+	 */
+	private static final List<Set<RegisteredClient>> WHEEL_BUCKETS =
+			new ArrayList<>(DatabaseCommons.DEFAULT_TRANSACTION_WHEEL_SIZE);
+	/**
+	 * <span class="en-US">Registered transactions count</span>
+	 * <span class="zh-CN">已注册的事务数</span>
+	 */
+	private static final AtomicLong REGISTERED_COUNT = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Completed transactions count</span>
+	 * <span class="zh-CN">已完成的事务数</span>
+	 */
+	private static final AtomicLong COMPLETED_COUNT = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Expired transactions count</span>
+	 * <span class="zh-CN">已超时的事务数</span>
+	 */
+	private static final AtomicLong EXPIRED_COUNT = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Start time of timing wheel, in nanoseconds</span>
+	 * <span class="zh-CN">时间轮的起始时间，单位纳秒</span>
+	 */
+	private static final long START_NANOS = System.nanoTime();
+	/**
+	 * <span class="en-US">Last processed tick of timing wheel</span>
+	 * <span class="zh-CN">时间轮最后处理的刻度</span>
+	 */
+	private static volatile long CURRENT_TICK = 0L;
+	/**
+	 * <span class="en-US">Scheduled executor of reaper</span>
+	 * <span class="zh-CN">回收器的定时执行器</span>
+	 */
+	private static volatile ScheduledExecutorService REAPER_EXECUTOR = null;
+
+	static {
+		for (int i = 0; i < DatabaseCommons.DEFAULT_TRANSACTION_WHEEL_SIZE; i++) {
+			WHEEL_BUCKETS.add(ConcurrentHashMap.newKeySet());
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Private constructor method for registry of transactional database clients</h3>
+	 * <h3 class="zh-CN">事务数据操作客户端注册表的私有构造方法</h3>
+	 */
+	private TransactionRegistry() {
+	}
+
+	/**
+	 * <h3 class="en-US">Register the transactional database client</h3>
+	 * <span class="en-US">The returned client removes itself from registry when the transaction was finished or rolled back.</span>
+	 * <h3 class="zh-CN">注册事务数据操作客户端</h3>
+	 * <span class="zh-CN">返回的客户端在事务结束或回滚时从注册表中移除</span>
+	 *
+	 * @param txConfig       <span class="en-US">Transactional configure information</span>
+	 *                       <span class="zh-CN">事务配置信息</span>
+	 * @param databaseClient <span class="en-US">Database client instance</span>
+	 *                       <span class="zh-CN">数据操作客户端实例对象</span>
+	 * @return <span class="en-US">Registered database client instance</span>
+	 * <span class="zh-CN">已注册的数据操作客户端实例对象</span>
+	 */
+	public static DatabaseClient register(@Nonnull final TransactionalConfig txConfig,
+	                                      @Nonnull final DatabaseClient databaseClient) {
+		long expireTick = Long.MAX_VALUE;
+		if (txConfig.getTimeout() > 0) {
+			long timeoutTicks = (TimeUnit.SECONDS.toMillis(txConfig.getTimeout())
+					+ DatabaseCommons.DEFAULT_TRANSACTION_TICK_MILLIS - 1) / DatabaseCommons.DEFAULT_TRANSACTION_TICK_MILLIS;
+			expireTick = Math.max(currentTick(), CURRENT_TICK) + timeoutTicks + 1;
+		}
+		long lockHoldMillis = (txConfig.getTimeout() > 0)
+				? TimeUnit.SECONDS.toMillis(txConfig.getTimeout())
+				: DatabaseCommons.DEFAULT_LOCK_HOLD_MILLIS;
+		RegisteredClient registeredClient =
+				new RegisteredClient(txConfig.getTransactionalCode(), databaseClient, expireTick, lockHoldMillis);
+		REGISTERED_CLIENTS.put(registeredClient.transactionalCode, registeredClient);
+		REGISTERED_COUNT.incrementAndGet();
+		if (expireTick != Long.MAX_VALUE) {
+			startReaper();
+			WHEEL_BUCKETS.get((int) (expireTick & WHEEL_MASK)).add(registeredClient);
+		}
+		return registeredClient;
+	}
+
+	/**
+	 * <h3 class="en-US">Find the registered client by given transactional code</h3>
+	 * <h3 class="zh-CN">根据给定的事务识别代码查找已注册的客户端</h3>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identification code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @return <span class="en-US">Registered database client instance, return <code>null</code> if not found</span>
+	 * <span class="zh-CN">已注册的数据操作客户端实例对象，如果未找到则返回<code>null</code></span>
+	 */
+	public static DatabaseClient retrieve(final long transactionalCode) {
+		return REGISTERED_CLIENTS.get(transactionalCode);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve metrics of registered transactions</h3>
+	 * <h3 class="zh-CN">获取已注册事务的统计信息</h3>
+	 *
+	 * @return <span class="en-US">Metrics of registered transactions</span>
+	 * <span class="zh-CN">已注册事务的统计信息</span>
+	 */
+	public static TransactionMetrics metrics() {
+		return new TransactionMetrics(REGISTERED_CLIENTS.size(), REGISTERED_COUNT.get(),
+				COMPLETED_COUNT.get(), EXPIRED_COUNT.get());
+	}
+
+	/**
+	 * <h3 class="en-US">Stop the reaper and clear all registered clients</h3>
+	 * <h3 class="zh-CN">停止回收器并清除所有已注册的客户端</h3>
+	 */
+	public static synchronized void destroy() {
+		if (REAPER_EXECUTOR != null) {
+			REAPER_EXECUTOR.shutdownNow();
+			REAPER_EXECUTOR = null;
+		}
+		REGISTERED_CLIENTS.clear();
+		WHEEL_BUCKETS.forEach(Set::clear);
+	}
+
+	/**
+	 * <h3 class="en-US">Start the reaper if not started</h3>
+	 * <h3 class="zh-CN">如果回收器未启动则启动回收器</h3>
+	 */
+	private static void startReaper() {
+		if (REAPER_EXECUTOR != null) {
+			return;
+		}
+		synchronized (TransactionRegistry.class) {
+			if (REAPER_EXECUTOR != null) {
+				return;
+			}
+			REAPER_EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "TransactionRegistry-Reaper");
+				thread.setDaemon(Boolean.TRUE);
+				return thread;
+			});
+			REAPER_EXECUTOR.scheduleAtFixedRate(TransactionRegistry::advance,
+					DatabaseCommons.DEFAULT_TRANSACTION_TICK_MILLIS, DatabaseCommons.DEFAULT_TRANSACTION_TICK_MILLIS,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Current tick of timing wheel by elapsed time</h3>
+	 * <h3 class="zh-CN">根据经过的时间计算时间轮的当前刻度</h3>
+	 *
+	 * @return <span class="en-US">Current tick</span>
+	 * <span class="zh-CN">当前刻度</span>
+	 */
+	private static long currentTick() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - START_NANOS) / DatabaseCommons.DEFAULT_TRANSACTION_TICK_MILLIS;
+	}
+
+	/**
+	 * <h3 class="en-US">Advance the timing wheel to current tick, expire the clients which timeout was reached</h3>
+	 * <h3 class="zh-CN">将时间轮推进到当前刻度，使到达超时时间的客户端超时</h3>
+	 */
+	private static void advance() {
+		try {
+			long targetTick = currentTick();
+			while (CURRENT_TICK < targetTick) {
+				long tick = CURRENT_TICK + 1;
+				for (RegisteredClient registeredClient : WHEEL_BUCKETS.get((int) (tick & WHEEL_MASK))) {
+					if (registeredClient.expireTick <= tick) {
+						registeredClient.expire();
+					}
+				}
+				CURRENT_TICK = tick;
+			}
+		} catch (Throwable e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Registered transactional database client</h2>
+	 * <span class="en-US">Delegate all operations to the database client generated by database manager.</span>
+	 * <h2 class="zh-CN">已注册的事务数据操作客户端</h2>
+	 * <span class="zh-CN">将所有操作委托给数据库管理器生成的数据操作客户端</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:02:15 $
+	 */
+	private static final class RegisteredClient implements DatabaseClient {
+		/**
+		 * <span class="en-US">Transactional identification code</span>
+		 * <span class="zh-CN">事务识别代码</span>
+		 */
+		private final long transactionalCode;
+		/**
+		 * <span class="en-US">Database client generated by database manager</span>
+		 * <span class="zh-CN">数据库管理器生成的数据操作客户端</span>
+		 */
+		private final DatabaseClient databaseClient;
+		/**
+		 * <span class="en-US">Expire tick of timing wheel</span>
+		 * <span class="zh-CN">时间轮的超时刻度</span>
+		 */
+		private final long expireTick;
+		/**
+		 * <span class="en-US">In-process record lock holder, <code>null</code> if record lock manager was not initialized</span>
+		 * <span class="zh-CN">进程内记录锁持有者，记录锁管理器未初始化时为<code>null</code></span>
+		 */
+		private final RecordLockManager.LockHolder lockHolder;
+		/**
+		 * <span class="en-US">Identity map of managed record instances</span>
+		 * <span class="zh-CN">受管理记录实例的标识映射</span>
+		 */
+		private final IdentityMap identityMap = new IdentityMap();
+		/**
+		 * <span class="en-US">Transaction was finished, rolled back or expired</span>
+		 * <span class="zh-CN">事务已结束、已回滚或已超时</span>
+		 */
+		private final AtomicBoolean finished = new AtomicBoolean(Boolean.FALSE);
+		/**
+		 * <span class="en-US">Transaction was expired and rolled back</span>
+		 * <span class="zh-CN">事务已超时并回滚</span>
+		 */
+		private volatile boolean expired = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Timeout was reached, the transaction must be rolled back by the thread which holding the operation lock</span>
+		 * <span class="zh-CN">已到达超时时间，事务必须由持有操作锁的线程回滚</span>
+		 */
+		private volatile boolean timeout = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Operation lock, serialize the operations of owner thread and the rollback of reaper</span>
+		 * <span class="zh-CN">操作锁，串行化所属线程的操作和回收器的回滚</span>
+		 */
+		private final ReentrantLock operationLock = new ReentrantLock();
+
+		/**
+		 * <h3 class="en-US">Constructor method for registered transactional database client</h3>
+		 * <h3 class="zh-CN">已注册的事务数据操作客户端的构造方法</h3>
+		 *
+		 * @param transactionalCode <span class="en-US">Transactional identification code</span>
+		 *                          <span class="zh-CN">事务识别代码</span>
+		 * @param databaseClient    <span class="en-US">Database client generated by database manager</span>
+		 *                          <span class="zh-CN">数据库管理器生成的数据操作客户端</span>
+		 * @param expireTick        <span class="en-US">Expire tick of timing wheel</span>
+		 *                          <span class="zh-CN">时间轮的超时刻度</span>
+		 * @param lockHoldMillis    <span class="en-US">Hold limit of in-process record lock, in milliseconds</span>
+		 *                          <span class="zh-CN">进程内记录锁的持有限制，单位毫秒</span>
+		 */
+		RegisteredClient(final long transactionalCode, @Nonnull final DatabaseClient databaseClient,
+		                 final long expireTick, final long lockHoldMillis) {
+			this.transactionalCode = transactionalCode;
+			this.databaseClient = databaseClient;
+			this.expireTick = expireTick;
+			this.lockHolder = RecordLockManager.holder(transactionalCode, lockHoldMillis);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#rollbackTransactional()
+		 */
+		@Override
+		public void rollbackTransactional() {
+			this.operationLock.lock();
+			try {
+				if (!this.checkTimeout() && this.finish()) {
+					try {
+						this.databaseClient.rollbackTransactional();
+					} finally {
+						this.release();
+					}
+				}
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#endTransactional()
+		 */
+		@Override
+		public void endTransactional() {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					LOGGER.error("Transactional_Expired_Error", this.transactionalCode);
+				} else if (this.finish()) {
+					try {
+						this.databaseClient.endTransactional();
+					} finally {
+						this.release();
+					}
+				}
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#rollbackException(java.lang.Exception)
+		 */
+		@Override
+		public boolean rollbackException(final Exception e) {
+			return this.databaseClient.rollbackException(e);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#saveRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void saveRecords(final BaseObject... recordObjects) throws Exception {
+			this.operationLock.lock();
+			try {
+				this.checkExpired();
+				this.databaseClient.saveRecords(recordObjects);
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#updateRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void updateRecords(final BaseObject... recordObjects) throws Exception {
+			this.operationLock.lock();
+			try {
+				this.checkExpired();
+				if (this.lockHolder != null) {
+					String tableName = this.lockHolder.lock(recordObjects);
+					if (tableName != null) {
+						throw new UpdateException(0x00DB00000010L, tableName, this.transactionalCode);
+					}
+				}
+				this.databaseClient.updateRecords(recordObjects);
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#dropRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void dropRecords(final BaseObject... recordObjects) throws Exception {
+			this.operationLock.lock();
+			try {
+				this.checkExpired();
+				if (this.lockHolder != null) {
+					String tableName = this.lockHolder.lock(recordObjects);
+					if (tableName != null) {
+						throw new DropException(0x00DB00000010L, tableName, this.transactionalCode);
+					}
+				}
+				this.databaseClient.dropRecords(recordObjects);
+				this.identityMap.evict(recordObjects);
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#lazyColumn(java.util.Map, java.lang.Class, java.lang.String)
+		 */
+		@Override
+		public Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+		                         final String identifyKey) {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					LOGGER.error("Transactional_Expired_Error", this.transactionalCode);
+					return null;
+				}
+				return this.databaseClient.lazyColumn(primaryKeyMap, entityClass, identifyKey);
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieve(java.lang.Object, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> T retrieve(final Object primaryKey, final Class<T> entityClass, final boolean forUpdate)
+				throws RetrieveException {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					throw new RetrieveException(0x00DB0000000EL, this.transactionalCode);
+				}
+				T managedRecord = this.managedRecord(entityClass, primaryKey, forUpdate);
+				if (managedRecord != null) {
+					return managedRecord;
+				}
+				if (forUpdate) {
+					this.lockRecord(entityClass, primaryKey);
+				}
+				return this.identityMap.resolve(this.databaseClient.retrieve(primaryKey, entityClass, forUpdate));
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieve(java.util.Map, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass,
+		                      final boolean forUpdate) throws RetrieveException {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					throw new RetrieveException(0x00DB0000000EL, this.transactionalCode);
+				}
+				T managedRecord = this.managedRecord(entityClass, primaryKeyMap, forUpdate);
+				if (managedRecord != null) {
+					return managedRecord;
+				}
+				if (forUpdate) {
+					this.lockRecord(entityClass, primaryKeyMap);
+				}
+				return this.identityMap.resolve(this.databaseClient.retrieve(primaryKeyMap, entityClass, forUpdate));
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieveAll(java.util.Collection, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> Map<Object, T> retrieveAll(final Collection<?> primaryKeys, final Class<T> entityClass,
+		                                      final boolean forUpdate) throws RetrieveException {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					throw new RetrieveException(0x00DB0000000EL, this.transactionalCode);
+				}
+				Map<Object, T> resultMap = new LinkedHashMap<>();
+				List<Object> queryKeys = new ArrayList<>();
+				for (Object primaryKey : primaryKeys) {
+					T managedRecord = this.managedRecord(entityClass, primaryKey, forUpdate);
+					if (managedRecord == null) {
+						queryKeys.add(primaryKey);
+					} else {
+						resultMap.put(primaryKey, managedRecord);
+					}
+				}
+				if (queryKeys.isEmpty()) {
+					return resultMap;
+				}
+				if (forUpdate && this.lockHolder != null) {
+					String tableName = this.lockHolder.lock(entityClass, queryKeys);
+					if (tableName != null) {
+						throw new RetrieveException(0x00DB00000010L, tableName, this.transactionalCode);
+					}
+				}
+				this.databaseClient.retrieveAll(queryKeys, entityClass, forUpdate)
+						.forEach((primaryKey, record) -> resultMap.put(primaryKey, this.identityMap.resolve(record)));
+				return resultMap;
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#queryTotal(org.nervousync.database.query.QueryInfo)
+		 */
+		@Override
+		public long queryTotal(@Nonnull final QueryInfo queryInfo) throws QueryException {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					throw new QueryException(0x00DB0000000EL, this.transactionalCode);
+				}
+				return this.databaseClient.queryTotal(queryInfo);
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#queryList(org.nervousync.database.query.QueryInfo)
+		 */
+		@Override
+		public QueryResult queryList(final QueryInfo queryInfo) throws QueryException {
+			this.operationLock.lock();
+			try {
+				if (this.checkTimeout()) {
+					throw new QueryException(0x00DB0000000EL, this.transactionalCode);
+				}
+				QueryResult queryResult = this.databaseClient.queryList(queryInfo);
+				if (queryResult != null) {
+					queryResult.bindIdentityMap(this.identityMap);
+				}
+				return queryResult;
+			} finally {
+				this.unlockOperation();
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Mark the transaction finished and remove from registry</h3>
+		 * <h3 class="zh-CN">标记事务已结束并从注册表中移除</h3>
+		 *
+		 * @return <span class="en-US"><code>false</code> if the transaction was already finished</span>
+		 * <span class="zh-CN">事务已结束时返回<code>false</code></span>
+		 */
+		private boolean finish() {
+			if (this.finished.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+				this.evict();
+				COMPLETED_COUNT.incrementAndGet();
+				return Boolean.TRUE;
+			}
+			return Boolean.FALSE;
+		}
+
+		/**
+		 * <h3 class="en-US">Mark the timeout was reached, roll back and evict the transaction if the client was idle</h3>
+		 * <span class="en-US">If the client was running an operation, the transaction was rolled back by the owner thread after the operation returned</span>
+		 * <h3 class="zh-CN">标记已到达超时时间，客户端空闲时回滚并移除事务</h3>
+		 * <span class="zh-CN">如果客户端正在执行操作，事务将在操作返回后由所属线程回滚</span>
+		 */
+		private void expire() {
+			this.timeout = Boolean.TRUE;
+			this.tryExpire();
+		}
+
+		/**
+		 * <h3 class="en-US">Roll back and evict the timeout transaction if the operation lock was available</h3>
+		 * <h3 class="zh-CN">操作锁可用时回滚并移除超时的事务</h3>
+		 */
+		private void tryExpire() {
+			if (this.timeout && !this.finished.get() && this.operationLock.tryLock()) {
+				try {
+					this.checkTimeout();
+				} finally {
+					this.operationLock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Release the operation lock, then roll back the transaction if the timeout was reached during the operation</h3>
+		 * <h3 class="zh-CN">释放操作锁，如果操作期间到达超时时间则回滚事务</h3>
+		 */
+		private void unlockOperation() {
+			this.operationLock.unlock();
+			this.tryExpire();
+		}
+
+		/**
+		 * <h3 class="en-US">Roll back and evict the transaction if the timeout was reached, must hold the operation lock</h3>
+		 * <h3 class="zh-CN">如果已到达超时时间则回滚并移除事务，调用时必须持有操作锁</h3>
+		 *
+		 * @return <span class="en-US"><code>true</code> if the transaction was expired</span>
+		 * <span class="zh-CN">事务已超时时返回<code>true</code></span>
+		 */
+		private boolean checkTimeout() {
+			if (this.timeout && this.finished.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+				this.expired = Boolean.TRUE;
+				this.evict();
+				EXPIRED_COUNT.incrementAndGet();
+				LOGGER.warn("Transactional_Expired_Warn", this.transactionalCode);
+				try {
+					this.databaseClient.rollbackTransactional();
+				} catch (Exception e) {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+				} finally {
+					this.release();
+				}
+			}
+			return this.expired;
+		}
+
+		/**
+		 * <h3 class="en-US">Lock the record before retrieve it for update</h3>
+		 * <h3 class="zh-CN">在读取记录用于更新前锁定记录</h3>
+		 *
+		 * @param entityClass <span class="en-US">Target entity class</span>
+		 *                    <span class="zh-CN">目标实体类</span>
+		 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+		 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+		 * @throws RetrieveException <span class="en-US">If the record could not be locked before wait time elapsed</span>
+		 *                           <span class="zh-CN">如果在等待时长内无法锁定记录</span>
+		 */
+		private void lockRecord(final Class<?> entityClass, final Object primaryKey) throws RetrieveException {
+			if (this.lockHolder != null) {
+				String tableName = this.lockHolder.lock(entityClass, Collections.singletonList(primaryKey));
+				if (tableName != null) {
+					throw new RetrieveException(0x00DB00000010L, tableName, this.transactionalCode);
+				}
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Find the managed record instance which satisfied the retrieve operation</h3>
+		 * <span class="en-US">The managed record instance retrieved without update could not satisfy the retrieve for update</span>
+		 * <h3 class="zh-CN">查找满足读取操作的受管理记录实例</h3>
+		 * <span class="zh-CN">未用于更新读取的受管理记录实例不能满足用于更新的读取操作</span>
+		 *
+		 * @param entityClass <span class="en-US">Target entity class</span>
+		 *                    <span class="zh-CN">目标实体类</span>
+		 * @param primaryKey  <span class="en-US">Primary key value, or composite primary key map</span>
+		 *                    <span class="zh-CN">主键值或联合主键值映射表</span>
+		 * @param forUpdate   <span class="en-US">Retrieve record for update</span>
+		 *                    <span class="zh-CN">读取记录用于更新操作</span>
+		 * @param <T>         <span class="en-US">Target entity class</span>
+		 *                    <span class="zh-CN">目标实体类</span>
+		 * @return <span class="en-US">Managed record instance, or <code>null</code> if not found</span>
+		 * <span class="zh-CN">受管理的记录实例，如果未找到则返回<code>null</code></span>
+		 */
+		@SuppressWarnings("unchecked")
+		private <T> T managedRecord(final Class<T> entityClass, final Object primaryKey, final boolean forUpdate) {
+			BaseObject managedRecord = this.identityMap.find(entityClass, primaryKey);
+			if (managedRecord == null || (forUpdate && !managedRecord.getForUpdate())) {
+				return null;
+			}
+			return (T) managedRecord;
+		}
+
+		/**
+		 * <h3 class="en-US">Release the held in-process record locks and clear the identity map</h3>
+		 * <h3 class="zh-CN">释放已持有的进程内记录锁并清除标识映射</h3>
+		 */
+		private void release() {
+			if (this.lockHolder != null) {
+				this.lockHolder.release();
+			}
+			this.identityMap.clear();
+		}
+
+		/**
+		 * <h3 class="en-US">Remove the client from registry and timing wheel</h3>
+		 * <h3 class="zh-CN">从注册表和时间轮中移除客户端</h3>
+		 */
+		private void evict() {
+			REGISTERED_CLIENTS.remove(this.transactionalCode, this);
+			if (this.expireTick != Long.MAX_VALUE) {
+				WHEEL_BUCKETS.get((int) (this.expireTick & WHEEL_MASK)).remove(this);
+			}
+		}
+
+		/**
+		 * <h3 class="en-US">Check the transaction was not expired, must hold the operation lock</h3>
+		 * <h3 class="zh-CN">检查事务未超时，调用时必须持有操作锁</h3>
+		 *
+		 * @throws DatabaseException <span class="en-US">If the transaction was expired and rolled back</span>
+		 *                           <span class="zh-CN">如果事务已超时并回滚</span>
+		 */
+		private void checkExpired() throws DatabaseException {
+			if (this.checkTimeout()) {
+				throw new DatabaseException(0x00DB0000000EL, this.transactionalCode);
+			}
+		}
+	}
+}
@@ -0,0 +1,414 @@
+package org.nervousync.database.commons;
+
+import jakarta.annotation.Nonnull;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassReloadingStrategy;
+import net.bytebuddy.matcher.ElementMatchers;
+import org.nervousync.database.annotations.transactional.Transactional;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.entity.core.BaseObject;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.exceptions.query.QueryException;
+import org.nervousync.database.interceptors.TransactionalInterceptor;
+import org.nervousync.database.query.QueryInfo;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.utils.IOUtils;
+import org.nervousync.utils.LoggerUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Transactional method utilities</h2>
+ * <span class="en-US">
+ * Weave the transactional boundaries into the methods annotated by Transactional. The annotation of each method is
+ * resolved once when weaving, the database client is bound to the current thread, so nested transactional methods
+ * reuse the client of outermost method.
+ * </span>
+ * <h2 class="zh-CN">事务方法工具</h2>
+ * <span class="zh-CN">
+ * 将事务边界织入使用 Transactional 注解的方法。每个方法的注解仅在织入时解析一次，数据操作客户端绑定到当前线程，
+ * 因此嵌套的事务方法复用最外层方法的客户端
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:26:48 $
+ */
+public final class TransactionalUtils {
+	/**
+	 * <span class="en-US">Method signature pattern of Advice.Origin, contains type name, method name and descriptor</span>
+	 * <span class="zh-CN">Advice.Origin 的方法签名模板，包含类型名、方法名和描述符</span>
+	 */
+	public static final String SIGNATURE_PATTERN = "#t.#m#d";
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(TransactionalUtils.class);
+	/**
+	 * <span class="en-US">Transactional annotation of woven methods, key is method signature</span>
+	 * <span class="zh-CN">已织入方法的事务注解，键值为方法签名</span>
+	 */
+	private static final Map<String, Transactional> WOVEN_METHODS = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Woven classes</span>
+	 * <span class="zh-CN">已织入的类</span>
+	 */
+	private static final List<Class<?>> WOVEN_CLASSES = new ArrayList<>();
+	/**
+	 * <span class="en-US">Transactional binding of current thread</span>
+	 * <span class="zh-CN">当前线程的事务绑定</span>
+	 */
+	private static final ThreadLocal<Binding> CURRENT_BINDING = new ThreadLocal<>();
+
+	static {
+		ByteBuddyAgent.install();
+	}
+
+	/**
+	 * <h3 class="en-US">Private constructor for transactional method utilities</h3>
+	 * <h3 class="zh-CN">事务方法工具的私有构造方法</h3>
+	 */
+	private TransactionalUtils() {
+	}
+
+	/**
+	 * <h3 class="en-US">Weave the transactional boundaries into given classes</h3>
+	 * <span class="en-US">
+	 * Methods annotated by Transactional and public methods of classes annotated by Transactional will be woven.
+	 * </span>
+	 * <h3 class="zh-CN">将事务边界织入给定的类</h3>
+	 * <span class="zh-CN">使用 Transactional 注解的方法以及使用 Transactional 注解的类的公共方法将被织入</span>
+	 *
+	 * @param targetClasses <span class="en-US">Target class array</span>
+	 *                      <span class="zh-CN">目标类数组</span>
+	 */
+	public static synchronized void weave(final Class<?>... targetClasses) {
+		for (Class<?> targetClass : targetClasses) {
+			if (WOVEN_CLASSES.contains(targetClass)) {
+				continue;
+			}
+			Transactional classTransactional = targetClass.getAnnotation(Transactional.class);
+			List<Method> wovenMethods = new ArrayList<>();
+			for (Method method : targetClass.getDeclaredMethods()) {
+				if (method.isBridge() || method.isSynthetic() || Modifier.isAbstract(method.getModifiers())) {
+					continue;
+				}
+				Transactional transactional = method.getAnnotation(Transactional.class);
+				if (transactional == null && Modifier.isPublic(method.getModifiers())) {
+					transactional = classTransactional;
+				}
+				if (transactional != null) {
+					WOVEN_METHODS.put(signature(method), transactional);
+					wovenMethods.add(method);
+				}
+			}
+			if (!wovenMethods.isEmpty()) {
+				DynamicType.Unloaded<?> unloaded = new ByteBuddy().redefine(targetClass)
+						.visit(Advice.to(TransactionalInterceptor.class)
+								.on(ElementMatchers.anyOf(wovenMethods.toArray(new Method[0]))))
+						.make();
+				try {
+					unloaded.load(targetClass.getClassLoader(), ClassReloadingStrategy.fromInstalledAgent());
+				} finally {
+					IOUtils.closeStream(unloaded);
+				}
+			}
+			WOVEN_CLASSES.add(targetClass);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the database client bound to current thread</h3>
+	 * <h3 class="zh-CN">获取绑定到当前线程的数据操作客户端</h3>
+	 *
+	 * @return <span class="en-US">Bound database client instance, return <code>null</code> if not in transactional method</span>
+	 * <span class="zh-CN">绑定的数据操作客户端实例对象，如果不在事务方法中则返回<code>null</code></span>
+	 */
+	public static DatabaseClient currentClient() {
+		Binding binding = CURRENT_BINDING.get();
+		return (binding == null) ? null : binding.databaseClient;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the non-owning view of the database client bound to current thread</h3>
+	 * <span class="en-US">
+	 * The transaction is owned by the outermost woven method, ending the view does nothing,
+	 * rolling back the view marks the transaction as rollback-only instead of rolling it back immediately.
+	 * </span>
+	 * <h3 class="zh-CN">获取绑定到当前线程的数据操作客户端的非所有者视图</h3>
+	 * <span class="zh-CN">事务由最外层的织入方法所有，结束视图不执行任何操作，回滚视图将事务标记为仅回滚而不是立即回滚</span>
+	 *
+	 * @return <span class="en-US">Non-owning view of bound database client, return <code>null</code> if not in transactional method</span>
+	 * <span class="zh-CN">绑定的数据操作客户端的非所有者视图，如果不在事务方法中则返回<code>null</code></span>
+	 */
+	public static DatabaseClient participantClient() {
+		Binding binding = CURRENT_BINDING.get();
+		return (binding == null) ? null : new ParticipantClient(binding);
+	}
+
+	/**
+	 * <h3 class="en-US">Begin the transaction, or join the transaction bound to current thread</h3>
+	 * <span class="en-US">Invoked by the woven method before method body.</span>
+	 * <h3 class="zh-CN">开始事务，或加入绑定到当前线程的事务</h3>
+	 * <span class="zh-CN">由已织入的方法在方法体之前调用</span>
+	 *
+	 * @param methodSignature <span class="en-US">Signature of invoke method</span>
+	 *                        <span class="zh-CN">调用方法的签名</span>
+	 * @return <span class="en-US">Transactional binding of current thread, return <code>null</code> if no transaction was started</span>
+	 * <span class="zh-CN">当前线程的事务绑定，如果未开始事务则返回<code>null</code></span>
+	 */
+	public static Object begin(final String methodSignature) {
+		Binding binding = CURRENT_BINDING.get();
+		if (binding != null) {
+			binding.depth++;
+			return binding;
+		}
+		Transactional transactional = WOVEN_METHODS.get(methodSignature);
+		if (transactional == null) {
+			return null;
+		}
+		DatabaseClient databaseClient = DatabaseUtils.retrieveClient(TransactionalConfig.newInstance(transactional));
+		if (databaseClient == null) {
+			LOGGER.error("Transactional_Begin_Error", methodSignature);
+			return null;
+		}
+		binding = new Binding(databaseClient);
+		CURRENT_BINDING.set(binding);
+		return binding;
+	}
+
+	/**
+	 * <h3 class="en-US">Leave the transaction, commit or roll back when leaving the outermost method</h3>
+	 * <span class="en-US">Invoked by the woven method after method body, even if the method body throws exception.</span>
+	 * <h3 class="zh-CN">离开事务，离开最外层方法时提交或回滚</h3>
+	 * <span class="zh-CN">由已织入的方法在方法体之后调用，即使方法体抛出异常</span>
+	 *
+	 * @param binding   <span class="en-US">Transactional binding returned by begin method</span>
+	 *                  <span class="zh-CN">开始方法返回的事务绑定</span>
+	 * @param throwable <span class="en-US">Exception thrown by method body, <code>null</code> if returned normally</span>
+	 *                  <span class="zh-CN">方法体抛出的异常，正常返回时为<code>null</code></span>
+	 */
+	public static void end(final Object binding, final Throwable throwable) {
+		if (!(binding instanceof Binding)) {
+			return;
+		}
+		Binding currentBinding = (Binding) binding;
+		if (throwable != null) {
+			if (throwable instanceof Exception) {
+				currentBinding.rollbackOnly |= currentBinding.databaseClient.rollbackException((Exception) throwable);
+			} else {
+				currentBinding.rollbackOnly = Boolean.TRUE;
+			}
+		}
+		if (currentBinding.depth > 0) {
+			currentBinding.depth--;
+			return;
+		}
+		CURRENT_BINDING.remove();
+		if (currentBinding.rollbackOnly) {
+			currentBinding.databaseClient.rollbackTransactional();
+		} else {
+			currentBinding.databaseClient.endTransactional();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Generate the signature of given method, same as the signature pattern of Advice.Origin</h3>
+	 * <h3 class="zh-CN">生成给定方法的签名，与 Advice.Origin 的签名模板一致</h3>
+	 *
+	 * @param method <span class="en-US">Method instance</span>
+	 *               <span class="zh-CN">方法实例对象</span>
+	 * @return <span class="en-US">Method signature</span>
+	 * <span class="zh-CN">方法签名</span>
+	 */
+	private static String signature(final Method method) {
+		return method.getDeclaringClass().getName() + "." + method.getName()
+				+ new MethodDescription.ForLoadedMethod(method).getDescriptor();
+	}
+
+	/**
+	 * <h2 class="en-US">Transactional binding of thread</h2>
+	 * <h2 class="zh-CN">线程的事务绑定</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:33:12 $
+	 */
+	private static final class Binding {
+		/**
+		 * <span class="en-US">Bound database client instance</span>
+		 * <span class="zh-CN">绑定的数据操作客户端实例对象</span>
+		 */
+		private final DatabaseClient databaseClient;
+		/**
+		 * <span class="en-US">Nested depth of transactional methods</span>
+		 * <span class="zh-CN">事务方法的嵌套深度</span>
+		 */
+		private int depth = 0;
+		/**
+		 * <span class="en-US">Transaction must be rolled back</span>
+		 * <span class="zh-CN">事务必须回滚</span>
+		 */
+		private boolean rollbackOnly = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Constructor method for transactional binding of thread</h3>
+		 * <h3 class="zh-CN">线程的事务绑定的构造方法</h3>
+		 *
+		 * @param databaseClient <span class="en-US">Bound database client instance</span>
+		 *                       <span class="zh-CN">绑定的数据操作客户端实例对象</span>
+		 */
+		Binding(final DatabaseClient databaseClient) {
+			this.databaseClient = databaseClient;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Non-owning view of the database client bound to thread</h2>
+	 * <span class="en-US">Data operations are delegated to the bound client, the transaction boundary is left to the owner.</span>
+	 * <h2 class="zh-CN">绑定到线程的数据操作客户端的非所有者视图</h2>
+	 * <span class="zh-CN">数据操作委托给绑定的客户端，事务边界由所有者处理</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:51:07 $
+	 */
+	private static final class ParticipantClient implements DatabaseClient {
+		/**
+		 * <span class="en-US">Transactional binding of owner</span>
+		 * <span class="zh-CN">所有者的事务绑定</span>
+		 */
+		private final Binding binding;
+
+		/**
+		 * <h3 class="en-US">Constructor method for non-owning view of the database client bound to thread</h3>
+		 * <h3 class="zh-CN">绑定到线程的数据操作客户端的非所有者视图的构造方法</h3>
+		 *
+		 * @param binding <span class="en-US">Transactional binding of owner</span>
+		 *                <span class="zh-CN">所有者的事务绑定</span>
+		 */
+		ParticipantClient(final Binding binding) {
+			this.binding = binding;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#rollbackTransactional()
+		 */
+		@Override
+		public void rollbackTransactional() {
+			this.binding.rollbackOnly = Boolean.TRUE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#endTransactional()
+		 */
+		@Override
+		public void endTransactional() {
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#rollbackException(java.lang.Exception)
+		 */
+		@Override
+		public boolean rollbackException(final Exception e) {
+			return this.binding.databaseClient.rollbackException(e);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#saveRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void saveRecords(final BaseObject... recordObjects) throws Exception {
+			this.binding.databaseClient.saveRecords(recordObjects);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#updateRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void updateRecords(final BaseObject... recordObjects) throws Exception {
+			this.binding.databaseClient.updateRecords(recordObjects);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#dropRecords(org.nervousync.database.entity.core.BaseObject[])
+		 */
+		@Override
+		public void dropRecords(final BaseObject... recordObjects) throws Exception {
+			this.binding.databaseClient.dropRecords(recordObjects);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#lazyColumn(java.util.Map, java.lang.Class, java.lang.String)
+		 */
+		@Override
+		public Object lazyColumn(final Map<String, Object> primaryKeyMap, final Class<?> entityClass,
+		                         final String identifyKey) {
+			return this.binding.databaseClient.lazyColumn(primaryKeyMap, entityClass, identifyKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieve(java.lang.Object, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> T retrieve(final Object primaryKey, final Class<T> entityClass, final boolean forUpdate)
+				throws RetrieveException {
+			return this.binding.databaseClient.retrieve(primaryKey, entityClass, forUpdate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieve(java.util.Map, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> T retrieve(final Map<String, Object> primaryKeyMap, final Class<T> entityClass,
+		                      final boolean forUpdate) throws RetrieveException {
+			return this.binding.databaseClient.retrieve(primaryKeyMap, entityClass, forUpdate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#retrieveAll(java.util.Collection, java.lang.Class, boolean)
+		 */
+		@Override
+		public <T> Map<Object, T> retrieveAll(final Collection<?> primaryKeys, final Class<T> entityClass,
+		                                      final boolean forUpdate) throws RetrieveException {
+			return this.binding.databaseClient.retrieveAll(primaryKeys, entityClass, forUpdate);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#queryTotal(org.nervousync.database.query.QueryInfo)
+		 */
+		@Override
+		public long queryTotal(@Nonnull final QueryInfo queryInfo) throws QueryException {
+			return this.binding.databaseClient.queryTotal(queryInfo);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.nervousync.database.api.DatabaseClient#queryList(org.nervousync.database.query.QueryInfo)
+		 */
+		@Override
+		public QueryResult queryList(final QueryInfo queryInfo) throws QueryException {
+			return this.binding.databaseClient.queryList(queryInfo);
+		}
+	}
+}
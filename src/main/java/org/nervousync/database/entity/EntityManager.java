@@ -202,6 +202,19 @@ public final class EntityManager {
 				.orElse(Boolean.FALSE);
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve all registered data table configuration information</h3>
+	 * <h3 class="zh-CN">读取所有已注册的数据表配置信息</h3>
+	 *
+	 * @return <span class="en-US">List of registered data table configuration information</span>
+	 * <span class="zh-CN">已注册的数据表配置信息列表</span>
+	 */
+	public static List<TableConfig> registeredTables() {
+		Set<TableConfig> tableConfigs = Collections.newSetFromMap(new IdentityHashMap<>());
+		tableConfigs.addAll(REGISTERED_CONFIGS.values());
+		return new ArrayList<>(tableConfigs);
+	}
+
 	/**
 	 * <h3 class="en-US">Retrieve the data table configuration information instance object according to the given entity class</h3>
 	 * <h3 class="zh-CN">根据给定的实体类检索数据表配置信息实例对象</h3>
@@ -433,6 +446,51 @@ public final class EntityManager {
 				.ifPresent(transferBean -> transferBean.appendData(excelWriter, object));
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve field names of given entity class, ordered by excel column index</h3>
+	 * <h3 class="zh-CN">读取给定实体类的属性名称列表，按照Excel列索引排序</h3>
+	 *
+	 * @param entityClass <span class="en-US">Entity define class</span>
+	 *                    <span class="zh-CN">实体类定义</span>
+	 * @return <span class="en-US">Ordered field name list, the undefined column index was <code>null</code></span>
+	 * <span class="zh-CN">排序后的属性名称列表，未定义的列索引值为<code>null</code></span>
+	 */
+	public static List<String> transferColumns(@Nonnull final Class<?> entityClass) {
+		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(entityClass)))
+				.map(TransferBean::getColumnNames)
+				.orElse(Collections.emptyList());
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve field names of given entity class indexed by excel column index, used for parsing excel rows</h3>
+	 * <h3 class="zh-CN">读取给定实体类按照Excel列索引定位的属性名称数组，用于解析Excel数据行</h3>
+	 *
+	 * @param entityClass <span class="en-US">Entity define class</span>
+	 *                    <span class="zh-CN">实体类定义</span>
+	 * @return <span class="en-US">Field name array, the undefined column index was <code>null</code></span>
+	 * <span class="zh-CN">属性名称数组，未定义的列索引值为<code>null</code></span>
+	 */
+	public static String[] columnPlan(@Nonnull final Class<?> entityClass) {
+		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(entityClass)))
+				.map(TransferBean::getColumnPlan)
+				.orElse(new String[0]);
+	}
+
+	/**
+	 * <h3 class="en-US">Convert given entity object instance to string list, ordered by excel column index</h3>
+	 * <h3 class="zh-CN">转换给定实体类对象为字符串列表，按照Excel列索引排序</h3>
+	 *
+	 * @param object <span class="en-US">Entity object instance</span>
+	 *               <span class="zh-CN">实体对象实例</span>
+	 * @return <span class="en-US">Converted string list, the undefined column index was <code>null</code></span>
+	 * <span class="zh-CN">转换后的字符串列表，未定义的列索引值为<code>null</code></span>
+	 */
+	public static List<String> transferValues(@Nonnull final Object object) {
+		return Optional.ofNullable(REGISTERED_TRANSFERS.get(ClassUtils.originalClassName(object.getClass())))
+				.map(transferBean -> transferBean.transferValues(object))
+				.orElse(Collections.emptyList());
+	}
+
 	/**
 	 * <h3 class="en-US">Checks if the given data record object instance matches the given database name</h3>
 	 * <h3 class="zh-CN">检查给定的数据记录对象实例是否匹配给定的数据库名称</h3>
@@ -24,6 +24,7 @@ import org.nervousync.database.api.DatabaseClient;
 import org.nervousync.database.beans.configs.reference.JoinConfig;
 import org.nervousync.database.beans.configs.reference.ReferenceConfig;
 import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.commons.TransactionRegistry;
 import org.nervousync.database.entity.EntityManager;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.database.exceptions.operate.RetrieveException;
@@ -65,6 +66,21 @@ public final class LazyLoadInterceptor {
 	@Advice.OnMethodEnter
 	public static void onMethodEnter(@Advice.Origin Method method, @Advice.AllArguments Object[] arguments,
 	                                 @Advice.This Object target) {
+		loadField(method, target);
+	}
+
+	/**
+	 * <h3 class="en-US">Load the value of lazy load field</h3>
+	 * <span class="en-US">The advice code was inlined into entity class, so the loading logic must be invoked by public method</span>
+	 * <h3 class="zh-CN">加载懒加载属性的值</h3>
+	 * <span class="zh-CN">拦截代码被内联到实体类中，因此加载逻辑必须通过公共方法调用</span>
+	 *
+	 * @param method <span class="en-US">Invoke method</span>
+	 *               <span class="zh-CN">调用方法</span>
+	 * @param target <span class="en-US">Invoke object instance</span>
+	 *               <span class="zh-CN">调用对象实例</span>
+	 */
+	public static void loadField(final Method method, final Object target) {
 		String fieldName = ReflectionUtils.fieldName(method.getName());
 		if ((target instanceof BaseObject) && !((BaseObject) target).isNewObject()
 				&& !((BaseObject) target).loadedField(fieldName)) {
@@ -95,7 +111,7 @@ public final class LazyLoadInterceptor {
 	private static <T> Object loadReference(@Nonnull final ReferenceConfig<T> referenceConfig,
 	                                        @Nonnull final BaseObject record, final boolean returnArray) {
 		boolean forUpdate = record.getForUpdate();
-		long transactionalCode = record.getTransactionalCode();
+		long transactionalCode = Optional.ofNullable(record.getTransactionalCode()).orElse(Globals.DEFAULT_VALUE_LONG);
 		DatabaseClient databaseClient;
 		if (forUpdate) {
 			if (transactionalCode != Globals.DEFAULT_VALUE_LONG) {
@@ -107,7 +123,8 @@ public final class LazyLoadInterceptor {
 				databaseClient = DatabaseUtils.retrieveClient();
 			}
 		} else {
-			databaseClient = DatabaseUtils.readOnlyClient();
+			databaseClient = Optional.ofNullable(TransactionRegistry.retrieve(transactionalCode))
+					.orElseGet(DatabaseUtils::readOnlyClient);
 		}
 
 		if (databaseClient == null) {
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.interceptors;
+
+import net.bytebuddy.asm.Advice;
+import org.nervousync.database.commons.TransactionalUtils;
+
+/**
+ * <h2 class="en-US">Transactional method interceptor</h2>
+ * <h2 class="zh-CN">事务方法拦截器</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:21:34 $
+ */
+public final class TransactionalInterceptor {
+
+	/**
+	 * <h3 class="en-US">Begin or join the transaction before method invoke</h3>
+	 * <h3 class="zh-CN">方法调用前开始或加入事务</h3>
+	 *
+	 * @param methodSignature <span class="en-US">Signature of invoke method</span>
+	 *                        <span class="zh-CN">调用方法的签名</span>
+	 * @return <span class="en-US">Transactional binding of current thread</span>
+	 * <span class="zh-CN">当前线程的事务绑定</span>
+	 */
+	@Advice.OnMethodEnter
+	public static Object onMethodEnter(@Advice.Origin(TransactionalUtils.SIGNATURE_PATTERN) final String methodSignature) {
+		return TransactionalUtils.begin(methodSignature);
+	}
+
+	/**
+	 * <h3 class="en-US">Commit or roll back the transaction after method invoke</h3>
+	 * <h3 class="zh-CN">方法调用后提交或回滚事务</h3>
+	 *
+	 * @param binding   <span class="en-US">Transactional binding of current thread</span>
+	 *                  <span class="zh-CN">当前线程的事务绑定</span>
+	 * @param throwable <span class="en-US">Exception thrown by invoke method</span>
+	 *                  <span class="zh-CN">调用方法抛出的异常</span>
+	 */
+	@Advice.OnMethodExit(onThrowable = Throwable.class)
+	public static void onMethodExit(@Advice.Enter final Object binding, @Advice.Thrown final Throwable throwable) {
+		TransactionalUtils.end(binding, throwable);
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data;
+
+import jakarta.annotation.Nonnull;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * <h2 class="en-US">Data export file writer adapter</h2>
+ * <h2 class="zh-CN">数据导出文件写入适配器</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:12:37 $
+ */
+public interface ExportProvider extends Closeable {
+
+	/**
+	 * <h3 class="en-US">Retrieve the extension name of export file</h3>
+	 * <h3 class="zh-CN">读取导出文件的扩展名</h3>
+	 *
+	 * @param compatibilityMode <span class="en-US">Export file using compatibility mode</span>
+	 *                          <span class="zh-CN">使用兼容模式输出文件</span>
+	 * @param compress          <span class="en-US">Compress export file using GZIP</span>
+	 *                          <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @return <span class="en-US">File extension name</span>
+	 * <span class="zh-CN">文件扩展名</span>
+	 */
+	String extensionName(final boolean compatibilityMode, final boolean compress);
+
+	/**
+	 * <h3 class="en-US">Initialize adapter and open the export file</h3>
+	 * <h3 class="zh-CN">初始化适配器并打开导出文件</h3>
+	 *
+	 * @param exportPath <span class="en-US">Export file path</span>
+	 *                   <span class="zh-CN">导出文件路径</span>
+	 * @param compress   <span class="en-US">Compress export file using GZIP</span>
+	 *                   <span class="zh-CN">使用GZIP压缩导出文件</span>
+	 * @throws IOException <span class="en-US">If open export file error</span>
+	 *                     <span class="zh-CN">如果打开导出文件出错</span>
+	 */
+	void initialize(@Nonnull final String exportPath, final boolean compress) throws IOException;
+
+	/**
+	 * <h3 class="en-US">Write given entity object instance data to export file</h3>
+	 * <h3 class="zh-CN">写入实体类对象数据到导出文件</h3>
+	 *
+	 * @param object <span class="en-US">Entity object instance</span>
+	 *               <span class="zh-CN">实体对象实例</span>
+	 * @throws IOException <span class="en-US">If write data error</span>
+	 *                     <span class="zh-CN">如果写入数据出错</span>
+	 */
+	void appendData(@Nonnull final Object object) throws IOException;
+
+	/**
+	 * <h3 class="en-US">Check whether the files written by different adapter instances can be assembled by concatenation</h3>
+	 * <span class="en-US">Query results of an export task will be written to part files concurrently when supported.</span>
+	 * <h3 class="zh-CN">检查不同适配器实例写入的文件是否可以直接拼接合并</h3>
+	 * <span class="zh-CN">支持时导出任务的查询结果将并发写入分片文件</span>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	default boolean partitioned() {
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h3 class="en-US">Check whether records of different entity classes can be written to one export file</h3>
+	 * <span class="en-US">Export tasks querying different entity classes are rejected when not supported.</span>
+	 * <h3 class="zh-CN">检查不同实体类的记录是否可以写入同一个导出文件</h3>
+	 * <span class="zh-CN">不支持时拒绝查询不同实体类的导出任务</span>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	default boolean mixedClasses() {
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Continue writing after the given entity class, the part file will be appended after the data of given class</h3>
+	 * <h3 class="zh-CN">在给定实体类之后继续写入，分片文件将追加在给定实体类的数据之后</h3>
+	 *
+	 * @param entityClass <span class="en-US">Entity class of previous part file</span>
+	 *                    <span class="zh-CN">前一个分片文件的实体类</span>
+	 */
+	default void continueFrom(@Nonnull final Class<?> entityClass) {
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the bytes count written to export file before compression</h3>
+	 * <h3 class="zh-CN">读取压缩前写入导出文件的字节数</h3>
+	 *
+	 * @return <span class="en-US">Written bytes count, <code>-1</code> if unknown</span>
+	 * <span class="zh-CN">已写入的字节数，未知时为<code>-1</code></span>
+	 */
+	default long writtenBytes() {
+		return -1L;
+	}
+}
@@ -18,8 +18,11 @@ package org.nervousync.database.providers.data;
 
 import jakarta.annotation.Nonnull;
 import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
+import org.nervousync.database.beans.task.TaskProgress;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * <h2 class="en-US">Data import and export storage adapter</h2>
@@ -36,6 +39,19 @@ public interface TaskProvider {
      */
     void initialize();
 
+    /**
+     * <h3 class="en-US">Initialize adapter using the base path of data import and export tool</h3>
+     * <span class="en-US">Adapters which persist task information can store their files under the given path.</span>
+     * <h3 class="zh-CN">使用数据导入导出工具的基础路径初始化适配器</h3>
+     * <span class="zh-CN">持久化任务信息的适配器可以将文件存储在给定路径下</span>
+     *
+     * @param basePath <span class="en-US">The base path for system execution</span>
+     *                 <span class="zh-CN">系统执行的基础路径</span>
+     */
+    default void initialize(@Nonnull final String basePath) {
+        this.initialize();
+    }
+
     /**
      * <h3 class="en-US">Destroy the current adapter</h3>
      * <h3 class="zh-CN">销毁当前适配器</h3>
@@ -97,18 +113,184 @@ public interface TaskProvider {
      */
     AbstractTask nextTask(@Nonnull final String identifyCode);
 
+    /**
+     * <h3 class="en-US">Claim next task with a lease</h3>
+     * <span class="en-US">
+     * The task is owned by the given node until the lease expired, the lease is extended by heartbeat using
+     * method renewLease. Tasks which lease was expired can be taken over by any node,
+     * adapters shared by several nodes should implement this method, the default implementation ignores the lease.
+     * </span>
+     * <h3 class="zh-CN">使用租约认领下一个任务</h3>
+     * <span class="zh-CN">
+     * 任务在租约过期前归属于给定的节点，租约通过renewLease方法的心跳延长。租约已过期的任务可以被任意节点接管，
+     * 多个节点共享的适配器应实现此方法，默认实现忽略租约
+     * </span>
+     *
+     * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+     *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+     * @param leaseTime    <span class="en-US">Lease time, in milliseconds</span>
+     *                     <span class="zh-CN">租约时长，单位毫秒</span>
+     * @return <span class="en-US">Data task details</span>
+     * <span class="zh-CN">数据任务详细信息</span>
+     */
+    default AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime) {
+        return this.nextTask(identifyCode);
+    }
+
+    /**
+     * <h3 class="en-US">Claim next task accepted by given filter with a lease</h3>
+     * <span class="en-US">
+     * Used by the scheduler to skip tasks of a full task pool or of a user which reached the concurrent limit.
+     * Adapters should return the waiting task with the highest priority,
+     * and rotate between users when several users have waiting tasks with the same priority.
+     * The default implementation ignores the filter, and the scheduler queues the task in its task pool.
+     * </span>
+     * <h3 class="zh-CN">使用租约认领下一个被给定过滤器接受的任务</h3>
+     * <span class="zh-CN">
+     * 调度器用于跳过任务池已满或用户已达到并发限制的任务。适配器应返回优先级最高的等待任务，
+     * 当多个用户有相同优先级的等待任务时在用户之间轮换。默认实现忽略过滤器，由调度器将任务排队到任务池中
+     * </span>
+     *
+     * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+     *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+     * @param leaseTime    <span class="en-US">Lease time, in milliseconds</span>
+     *                     <span class="zh-CN">租约时长，单位毫秒</span>
+     * @param taskFilter   <span class="en-US">Filter of acceptable tasks</span>
+     *                     <span class="zh-CN">可接受任务的过滤器</span>
+     * @return <span class="en-US">Data task details</span>
+     * <span class="zh-CN">数据任务详细信息</span>
+     */
+    default AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+                                   @Nonnull final Predicate<AbstractTask> taskFilter) {
+        return this.claimTask(identifyCode, leaseTime);
+    }
+
+    /**
+     * <h3 class="en-US">Claim next task accepted by given task pool filter and user filter with a lease</h3>
+     * <span class="en-US">
+     * The pool filter accepts or rejects all tasks of the same task pool together, and the user filter accepts
+     * or rejects all tasks of the same user in a task pool together, so indexed adapters can skip a full task pool
+     * or a user which reached the concurrent limit without visiting its waiting tasks.
+     * The default implementation combines the filters and claims the task by the single filter method.
+     * </span>
+     * <h3 class="zh-CN">使用租约认领下一个被给定任务池过滤器和用户过滤器接受的任务</h3>
+     * <span class="zh-CN">
+     * 任务池过滤器同时接受或拒绝同一任务池的所有任务，用户过滤器同时接受或拒绝任务池中同一用户的所有任务，
+     * 因此带索引的适配器可以跳过已满的任务池或已达到并发限制的用户而不访问其等待任务。默认实现合并过滤器并使用单一过滤器方法认领任务
+     * </span>
+     *
+     * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+     *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+     * @param leaseTime    <span class="en-US">Lease time, in milliseconds</span>
+     *                     <span class="zh-CN">租约时长，单位毫秒</span>
+     * @param poolFilter   <span class="en-US">Filter of acceptable task pools</span>
+     *                     <span class="zh-CN">可接受任务池的过滤器</span>
+     * @param userFilter   <span class="en-US">Filter of acceptable users</span>
+     *                     <span class="zh-CN">可接受用户的过滤器</span>
+     * @return <span class="en-US">Data task details</span>
+     * <span class="zh-CN">数据任务详细信息</span>
+     */
+    default AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+                                   @Nonnull final Predicate<AbstractTask> poolFilter,
+                                   @Nonnull final Predicate<AbstractTask> userFilter) {
+        return this.claimTask(identifyCode, leaseTime, poolFilter.and(userFilter));
+    }
+
+    /**
+     * <h3 class="en-US">Release the claimed task which could not be executed by the claiming node</h3>
+     * <span class="en-US">
+     * The task is put back to waiting status and can be claimed again by any node.
+     * Release requested by a node which no longer owns the task is ignored.
+     * The default implementation finishes the task with error, so the task will not stay claimed forever.
+     * </span>
+     * <h3 class="zh-CN">释放认领节点无法执行的已认领任务</h3>
+     * <span class="zh-CN">任务恢复为等待状态，可以被任意节点再次认领。不再持有任务的节点请求的释放将被忽略。默认实现以错误状态完成任务，使任务不会永远处于已认领状态</span>
+     *
+     * @param taskCode     <span class="en-US">Data task identification code</span>
+     *                     <span class="zh-CN">数据任务识别代码</span>
+     * @param identifyCode <span class="en-US">Identify code of the node which claimed the task</span>
+     *                     <span class="zh-CN">认领任务的节点识别代码</span>
+     */
+    default void releaseTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode) {
+        this.finishTask(taskCode, identifyCode, Boolean.TRUE, "Task was released by node " + identifyCode);
+    }
+
+    /**
+     * <h3 class="en-US">Renew the lease of processing task</h3>
+     * <h3 class="zh-CN">续约处理中任务的租约</h3>
+     *
+     * @param taskCode     <span class="en-US">Data task identification code</span>
+     *                     <span class="zh-CN">数据任务识别代码</span>
+     * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+     *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+     * @param leaseTime    <span class="en-US">Lease time, in milliseconds</span>
+     *                     <span class="zh-CN">租约时长，单位毫秒</span>
+     * @return <span class="en-US"><code>false</code> if the task was taken over by other node</span>
+     * <span class="zh-CN">任务已被其他节点接管时返回<code>false</code></span>
+     */
+    default boolean renewLease(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+                               final long leaseTime) {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * <h3 class="en-US">Update progress information of processing task</h3>
+     * <span class="en-US">
+     * Invoked periodically by the task processor, progress information is advisory and need not to be persisted,
+     * the default implementation ignores the progress. Progress reported by a node which no longer owns the task is ignored.
+     * </span>
+     * <h3 class="zh-CN">更新处理中任务的进度信息</h3>
+     * <span class="zh-CN">由任务处理器定期调用，进度信息仅供参考且无需持久化，默认实现忽略进度。不再持有任务的节点报告的进度将被忽略</span>
+     *
+     * @param taskCode     <span class="en-US">Data task identification code</span>
+     *                     <span class="zh-CN">数据任务识别代码</span>
+     * @param identifyCode <span class="en-US">Identify code of the node which executing the task</span>
+     *                     <span class="zh-CN">执行任务的节点识别代码</span>
+     * @param taskProgress <span class="en-US">Progress information</span>
+     *                     <span class="zh-CN">进度信息</span>
+     */
+    default void updateProgress(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+                                @Nonnull final TaskProgress taskProgress) {
+    }
+
+    /**
+     * <h3 class="en-US">Save checkpoint of processing import task</h3>
+     * <span class="en-US">
+     * Invoked after each committed batch, the import task resumes from the last checkpoint when it is claimed again.
+     * Durable adapters should persist the checkpoint before returning, the default implementation ignores it.
+     * Checkpoint saved by a node which no longer owns the task is ignored.
+     * </span>
+     * <h3 class="zh-CN">保存处理中导入任务的检查点</h3>
+     * <span class="zh-CN">每个批次提交后调用，导入任务再次被认领时从最后的检查点继续。持久化的适配器应在返回前保存检查点，默认实现忽略检查点。不再持有任务的节点保存的检查点将被忽略</span>
+     *
+     * @param taskCode       <span class="en-US">Data task identification code</span>
+     *                       <span class="zh-CN">数据任务识别代码</span>
+     * @param identifyCode   <span class="en-US">Identify code of the node which executing the task</span>
+     *                       <span class="zh-CN">执行任务的节点识别代码</span>
+     * @param taskCheckpoint <span class="en-US">Checkpoint information</span>
+     *                       <span class="zh-CN">检查点信息</span>
+     */
+    default void checkpointTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+                                @Nonnull final TaskCheckpoint taskCheckpoint) {
+    }
+
     /**
      * <h3 class="en-US">Complete current task</h3>
+     * <span class="en-US">The result is discarded if the task was taken over by other node.</span>
      * <h3 class="zh-CN">完成当前任务</h3>
+     * <span class="zh-CN">如果任务已被其他节点接管，则丢弃执行结果</span>
      *
      * @param taskCode     <span class="en-US">Data task identification code</span>
      *                     <span class="zh-CN">数据任务识别代码</span>
+     * @param identifyCode <span class="en-US">Identify code of the node which executing the task</span>
+     *                     <span class="zh-CN">执行任务的节点识别代码</span>
      * @param hasError     <span class="en-US">Task execution error</span>
      *                     <span class="zh-CN">任务执行报错</span>
      * @param errorMessage <span class="en-US">Error message details</span>
      *                     <span class="zh-CN">错误信息详情</span>
      */
-    void finishTask(@Nonnull final Long taskCode, @Nonnull final Boolean hasError, @Nonnull final String errorMessage);
+    void finishTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode, @Nonnull final Boolean hasError,
+                    @Nonnull final String errorMessage);
 
     /**
      * <h3 class="en-US">Read data task status information list</h3>
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.core;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.providers.data.ExportProvider;
+import org.nervousync.utils.ClassUtils;
+import org.nervousync.utils.ObjectUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <h2 class="en-US">Abstract text stream export adapter</h2>
+ * <span class="en-US">
+ * Records are encoded line by line into a reused byte buffer and written through NIO channel,
+ * the export file can be compressed by GZIP optionally.
+ * </span>
+ * <h2 class="zh-CN">抽象文本流导出适配器</h2>
+ * <span class="zh-CN">数据记录逐行编码到复用的字节缓冲区中并通过NIO通道写入，导出文件可选使用GZIP压缩</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:26:15 $
+ */
+public abstract class AbstractStreamProvider implements ExportProvider {
+
+	/**
+	 * <span class="en-US">Write buffer size</span>
+	 * <span class="zh-CN">写入缓冲区大小</span>
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/**
+	 * <span class="en-US">UTF-8 charset encoder</span>
+	 * <span class="zh-CN">UTF-8字符集编码器</span>
+	 */
+	private final CharsetEncoder charsetEncoder = StandardCharsets.UTF_8.newEncoder();
+	/**
+	 * <span class="en-US">Reused line content builder</span>
+	 * <span class="zh-CN">复用的行内容构建器</span>
+	 */
+	private final StringBuilder lineBuilder = new StringBuilder();
+	/**
+	 * <span class="en-US">Export file channel</span>
+	 * <span class="zh-CN">导出文件通道</span>
+	 */
+	private FileChannel fileChannel = null;
+	/**
+	 * <span class="en-US">GZIP output stream, <code>null</code> if not compressed</span>
+	 * <span class="zh-CN">GZIP输出流，未压缩时为<code>null</code></span>
+	 */
+	private GZIPOutputStream gzipOutputStream = null;
+	/**
+	 * <span class="en-US">Target writable channel</span>
+	 * <span class="zh-CN">目标写入通道</span>
+	 */
+	private WritableByteChannel writableChannel = null;
+	/**
+	 * <span class="en-US">Write buffer</span>
+	 * <span class="zh-CN">写入缓冲区</span>
+	 */
+	private ByteBuffer byteBuffer = null;
+	/**
+	 * <span class="en-US">Entity class of last written record</span>
+	 * <span class="zh-CN">最后写入记录的实体类</span>
+	 */
+	private String currentClass = null;
+	/**
+	 * <span class="en-US">Field names of current entity class, ordered by column index</span>
+	 * <span class="zh-CN">当前实体类的属性名称列表，按照列索引排序</span>
+	 */
+	private List<String> columnNames = null;
+	/**
+	 * <span class="en-US">Bytes count written to export file before compression</span>
+	 * <span class="zh-CN">压缩前写入导出文件的字节数</span>
+	 */
+	private long writtenBytes = 0L;
+
+	/**
+	 * <h3 class="en-US">Retrieve the extension name of export file without compress extension</h3>
+	 * <h3 class="zh-CN">读取不包含压缩扩展名的导出文件扩展名</h3>
+	 *
+	 * @return <span class="en-US">File extension name</span>
+	 * <span class="zh-CN">文件扩展名</span>
+	 */
+	protected abstract String extensionName();
+
+	/**
+	 * <h3 class="en-US">Append header content when entity class changed</h3>
+	 * <h3 class="zh-CN">实体类改变时追加表头内容</h3>
+	 *
+	 * @param stringBuilder <span class="en-US">Line content builder</span>
+	 *                      <span class="zh-CN">行内容构建器</span>
+	 * @param columnNames   <span class="en-US">Field names ordered by column index</span>
+	 *                      <span class="zh-CN">按照列索引排列的属性名称列表</span>
+	 */
+	protected abstract void appendHeader(@Nonnull final StringBuilder stringBuilder,
+	                                     @Nonnull final List<String> columnNames);
+
+	/**
+	 * <h3 class="en-US">Append record content</h3>
+	 * <h3 class="zh-CN">追加记录内容</h3>
+	 *
+	 * @param stringBuilder <span class="en-US">Line content builder</span>
+	 *                      <span class="zh-CN">行内容构建器</span>
+	 * @param columnNames   <span class="en-US">Field names ordered by column index</span>
+	 *                      <span class="zh-CN">按照列索引排列的属性名称列表</span>
+	 * @param dataValues    <span class="en-US">Field values ordered by column index</span>
+	 *                      <span class="zh-CN">按照列索引排列的属性值列表</span>
+	 */
+	protected abstract void appendRecord(@Nonnull final StringBuilder stringBuilder,
+	                                     @Nonnull final List<String> columnNames,
+	                                     @Nonnull final List<String> dataValues);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#extensionName(boolean, boolean)
+	 */
+	@Override
+	public final String extensionName(final boolean compatibilityMode, final boolean compress) {
+		return compress ? this.extensionName() + DatabaseCommons.GZIP_FILE_EXTENSION_NAME : this.extensionName();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#initialize(java.lang.String, boolean)
+	 */
+	@Override
+	public final void initialize(@Nonnull final String exportPath, final boolean compress) throws IOException {
+		this.fileChannel = FileChannel.open(Paths.get(exportPath), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		if (compress) {
+			this.gzipOutputStream = new GZIPOutputStream(Channels.newOutputStream(this.fileChannel), BUFFER_SIZE);
+			this.writableChannel = Channels.newChannel(this.gzipOutputStream);
+			this.byteBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+		} else {
+			this.writableChannel = this.fileChannel;
+			this.byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#partitioned()
+	 */
+	@Override
+	public final boolean partitioned() {
+		return Boolean.TRUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#continueFrom(java.lang.Class)
+	 */
+	@Override
+	public final void continueFrom(@Nonnull final Class<?> entityClass) {
+		this.currentClass = ClassUtils.originalClassName(entityClass);
+		this.columnNames = EntityManager.transferColumns(entityClass);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#appendData(java.lang.Object)
+	 */
+	@Override
+	public final void appendData(@Nonnull final Object object) throws IOException {
+		String className = ClassUtils.originalClassName(object.getClass());
+		if (!ObjectUtils.nullSafeEquals(this.currentClass, className)) {
+			if (this.currentClass != null && !this.mixedClasses()) {
+				//	The header of file describes one entity class only, records of other class could not be parsed
+				throw new IOException("Export file only supports records of entity class: " + this.currentClass);
+			}
+			this.currentClass = className;
+			this.columnNames = EntityManager.transferColumns(object.getClass());
+			this.lineBuilder.setLength(0);
+			this.appendHeader(this.lineBuilder, this.columnNames);
+			this.writeLine();
+		}
+		List<String> dataValues = EntityManager.transferValues(object);
+		if (dataValues.isEmpty()) {
+			return;
+		}
+		this.lineBuilder.setLength(0);
+		this.appendRecord(this.lineBuilder, this.columnNames, dataValues);
+		this.writeLine();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#writtenBytes()
+	 */
+	@Override
+	public final long writtenBytes() {
+		return (this.byteBuffer == null) ? this.writtenBytes : this.writtenBytes + this.byteBuffer.position();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public final void close() throws IOException {
+		if (this.writableChannel == null) {
+			return;
+		}
+		try {
+			this.flushBuffer();
+			if (this.gzipOutputStream != null) {
+				this.gzipOutputStream.finish();
+				this.gzipOutputStream.close();
+			}
+		} finally {
+			this.fileChannel.close();
+			this.writableChannel = null;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Encode current line content to write buffer, flush the buffer when it was full</h3>
+	 * <h3 class="zh-CN">编码当前行内容到写入缓冲区，缓冲区已满时写入文件</h3>
+	 *
+	 * @throws IOException <span class="en-US">If write data error</span>
+	 *                     <span class="zh-CN">如果写入数据出错</span>
+	 */
+	private void writeLine() throws IOException {
+		if (this.lineBuilder.length() == 0) {
+			return;
+		}
+		CharBuffer charBuffer = CharBuffer.wrap(this.lineBuilder);
+		this.charsetEncoder.reset();
+		CoderResult coderResult;
+		do {
+			coderResult = this.charsetEncoder.encode(charBuffer, this.byteBuffer, Boolean.TRUE);
+			if (coderResult.isOverflow()) {
+				this.flushBuffer();
+			} else if (coderResult.isError()) {
+				coderResult.throwException();
+			}
+		} while (coderResult.isOverflow());
+		while (this.charsetEncoder.flush(this.byteBuffer).isOverflow()) {
+			this.flushBuffer();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Write buffered data to target channel</h3>
+	 * <h3 class="zh-CN">将缓冲区数据写入目标通道</h3>
+	 *
+	 * @throws IOException <span class="en-US">If write data error</span>
+	 *                     <span class="zh-CN">如果写入数据出错</span>
+	 */
+	private void flushBuffer() throws IOException {
+		this.byteBuffer.flip();
+		this.writtenBytes += this.byteBuffer.remaining();
+		while (this.byteBuffer.hasRemaining()) {
+			this.writableChannel.write(this.byteBuffer);
+		}
+		this.byteBuffer.clear();
+	}
+}
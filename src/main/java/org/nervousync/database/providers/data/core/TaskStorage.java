@@ -0,0 +1,631 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.core;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
+import org.nervousync.database.beans.task.TaskProgress;
+import org.nervousync.database.beans.task.impl.ImportTask;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.ObjectUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Predicate;
+
+/**
+ * <h2 class="en-US">Indexed task information storage</h2>
+ * <span class="en-US">
+ * Task information was indexed by task code, by user code (ordered by task code for paging),
+ * waiting tasks of each task pool and user (ordered by priority) and a finish time ordered set for expiry,
+ * so the status transitions do not need to scan all stored tasks.
+ * Waiting tasks with the highest priority are locked first,
+ * users which have waiting tasks with the same priority are served in round-robin order.
+ * The users of each task pool are ordered by the priority of their first waiting task and the last served sequence,
+ * a full task pool and the users which reached the concurrent limit are skipped without visiting their tasks,
+ * so locking a task costs O(log n).
+ * </span>
+ * <h2 class="zh-CN">带索引的任务信息存储</h2>
+ * <span class="zh-CN">
+ * 任务信息按照任务识别代码、用户识别代码（按照任务识别代码排序用于分页）、每个每个任务池和用户的等待任务（按照优先级排序）和按照完成时间排序的过期集合建立索引，
+ * 任务状态变更不需要扫描所有存储的任务。优先级最高的等待任务优先锁定，有相同优先级等待任务的用户按照轮询顺序服务。
+ * 每个任务池中的用户按照第一个等待任务的优先级和最后服务序号排序，已满的任务池和已达到并发限制的用户将被直接跳过而不访问其任务，
+ * 因此锁定任务的开销为O(log n)
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:02:26 $
+ */
+public final class TaskStorage {
+
+	/**
+	 * <span class="en-US">Order of waiting tasks, priority descending and task code</span>
+	 * <span class="zh-CN">等待任务的顺序，优先级降序和任务识别代码</span>
+	 */
+	private static final Comparator<AbstractTask> TASK_ORDER =
+			Comparator.comparing(TaskStorage::priority).reversed().thenComparing(AbstractTask::getTaskCode);
+	/**
+	 * <span class="en-US">Order of user queues, priority of first task descending, last served sequence and user key</span>
+	 * <span class="zh-CN">用户队列的顺序，第一个任务的优先级降序、最后服务序号和用户索引键值</span>
+	 */
+	private static final Comparator<UserQueue> USER_ORDER =
+			Comparator.comparing((UserQueue userQueue) -> priority(userQueue.tasks.first())).reversed()
+					.thenComparingLong(userQueue -> userQueue.serveSequence)
+					.thenComparing(userQueue -> userQueue.userKey);
+
+	/**
+	 * <span class="en-US">Task information mapping, key is task code</span>
+	 * <span class="zh-CN">任务信息映射表，键值为任务识别代码</span>
+	 */
+	private final Map<Long, AbstractTask> taskMap = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Task information of users, ordered by task code</span>
+	 * <span class="zh-CN">用户的任务信息，按照任务识别代码排序</span>
+	 */
+	private final Map<Long, ConcurrentSkipListMap<Long, AbstractTask>> userTasks = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Waiting tasks of task pools, key is <code>true</code> for import task pool, guarded by itself</span>
+	 * <span class="zh-CN">任务池的等待中任务，导入任务池的键值为<code>true</code>，使用自身作为同步锁</span>
+	 */
+	private final Map<Boolean, WaitingPool> waitingPools = new HashMap<>();
+	/**
+	 * <span class="en-US">Last served sequence, guarded by waiting pools</span>
+	 * <span class="zh-CN">最后服务序号，使用等待任务池映射表作为同步锁</span>
+	 */
+	private long serveSequence = 0L;
+	/**
+	 * <span class="en-US">Finished tasks ordered by end time</span>
+	 * <span class="zh-CN">按照结束时间排序的已完成任务</span>
+	 */
+	private final NavigableSet<AbstractTask> finishedTasks =
+			new ConcurrentSkipListSet<>(Comparator.comparing(AbstractTask::getEndTime)
+					.thenComparing(AbstractTask::getTaskCode));
+
+	/**
+	 * <h3 class="en-US">Add task information</h3>
+	 * <h3 class="zh-CN">添加任务信息</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @return <span class="en-US"><code>true</code> if task added, <code>false</code> if task code already exists</span>
+	 * <span class="zh-CN">添加成功返回<code>true</code>，任务识别代码已存在返回<code>false</code></span>
+	 */
+	public boolean addTask(@Nonnull final AbstractTask taskInfo) {
+		if (this.taskMap.putIfAbsent(taskInfo.getTaskCode(), taskInfo) != null) {
+			return Boolean.FALSE;
+		}
+		//	Put inside compute, so the per-user map could not be removed by removeIndexes between lookup and put
+		this.userTasks.compute(userKey(taskInfo.getUserCode()), (userCode, taskMap) -> {
+			ConcurrentSkipListMap<Long, AbstractTask> userMap =
+					(taskMap == null) ? new ConcurrentSkipListMap<>() : taskMap;
+			userMap.put(taskInfo.getTaskCode(), taskInfo);
+			return userMap;
+		});
+		int taskStatus = Optional.ofNullable(taskInfo.getTaskStatus()).orElse(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+		if (taskStatus == DatabaseCommons.DATA_TASK_STATUS_CREATE) {
+			this.addWaiting(taskInfo);
+		} else if (taskStatus == DatabaseCommons.DATA_TASK_STATUS_FINISH) {
+			this.finishedTasks.add(taskInfo);
+		}
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the next waiting task and lock it to given node</h3>
+	 * <h3 class="zh-CN">读取下一个等待中的任务并锁定到给定节点</h3>
+	 *
+	 * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+	 *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+	 * @return <span class="en-US">Task information or <code>null</code> if no task waiting</span>
+	 * <span class="zh-CN">任务信息，无等待任务时返回<code>null</code></span>
+	 */
+	public AbstractTask lockTask(final String identifyCode) {
+		return this.lockTask(identifyCode, taskInfo -> Boolean.TRUE, taskInfo -> Boolean.TRUE);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the next waiting task accepted by given filter and lock it to given node</h3>
+	 * <h3 class="zh-CN">读取下一个被给定过滤器接受的等待中任务并锁定到给定节点</h3>
+	 *
+	 * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+	 *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+	 * @param taskFilter   <span class="en-US">Filter of acceptable tasks</span>
+	 *                     <span class="zh-CN">可接受任务的过滤器</span>
+	 * @return <span class="en-US">Task information or <code>null</code> if no accepted task waiting</span>
+	 * <span class="zh-CN">任务信息，无可接受的等待任务时返回<code>null</code></span>
+	 */
+	public AbstractTask lockTask(final String identifyCode, @Nonnull final Predicate<AbstractTask> taskFilter) {
+		return this.lockTask(identifyCode, taskInfo -> Boolean.TRUE, taskFilter);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the next waiting task accepted by given filters and lock it to given node</h3>
+	 * <span class="en-US">
+	 * The pool filter was tested once with the first waiting task of each task pool, a rejected task pool was skipped.
+	 * The user filter was tested with the first waiting task of each user, a rejected user was skipped,
+	 * so both filters must accept or reject all tasks of the same task pool or the same user together.
+	 * The accepted task with the highest priority was selected,
+	 * the least recently served user wins if several users have accepted tasks with the same priority.
+	 * </span>
+	 * <h3 class="zh-CN">读取下一个被给定过滤器接受的等待中任务并锁定到给定节点</h3>
+	 * <span class="zh-CN">
+	 * 任务池过滤器使用每个任务池的第一个等待任务测试一次，被拒绝的任务池将被跳过。用户过滤器使用每个用户的第一个等待任务测试，被拒绝的用户将被跳过，
+	 * 因此两个过滤器必须同时接受或拒绝同一任务池或同一用户的所有任务。选择优先级最高的可接受任务，多个用户有相同优先级的可接受任务时选择最久未被服务的用户
+	 * </span>
+	 *
+	 * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+	 *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+	 * @param poolFilter   <span class="en-US">Filter of acceptable task pools</span>
+	 *                     <span class="zh-CN">可接受任务池的过滤器</span>
+	 * @param userFilter   <span class="en-US">Filter of acceptable users</span>
+	 *                     <span class="zh-CN">可接受用户的过滤器</span>
+	 * @return <span class="en-US">Task information or <code>null</code> if no accepted task waiting</span>
+	 * <span class="zh-CN">任务信息，无可接受的等待任务时返回<code>null</code></span>
+	 */
+	public AbstractTask lockTask(final String identifyCode, @Nonnull final Predicate<AbstractTask> poolFilter,
+	                             @Nonnull final Predicate<AbstractTask> userFilter) {
+		synchronized (this.waitingPools) {
+			WaitingPool selectedPool = null;
+			UserQueue selectedQueue = null;
+			for (WaitingPool waitingPool : this.waitingPools.values()) {
+				if (waitingPool.userOrder.isEmpty() || !poolFilter.test(waitingPool.userOrder.first().tasks.first())) {
+					continue;
+				}
+				for (UserQueue userQueue : waitingPool.userOrder) {
+					if (selectedQueue != null && USER_ORDER.compare(userQueue, selectedQueue) >= 0) {
+						break;
+					}
+					if (userFilter.test(userQueue.tasks.first())) {
+						selectedPool = waitingPool;
+						selectedQueue = userQueue;
+						break;
+					}
+				}
+			}
+			if (selectedQueue == null) {
+				return null;
+			}
+			selectedPool.userOrder.remove(selectedQueue);
+			AbstractTask selectedTask = selectedQueue.tasks.pollFirst();
+			selectedQueue.serveSequence = ++this.serveSequence;
+			if (selectedQueue.tasks.isEmpty()) {
+				selectedPool.userQueues.remove(selectedQueue.userKey);
+			} else {
+				selectedPool.userOrder.add(selectedQueue);
+			}
+			synchronized (selectedTask) {
+				selectedTask.setIdentifyCode(identifyCode);
+			}
+			return selectedTask;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Update task status to processing</h3>
+	 * <h3 class="zh-CN">更新任务状态为处理中</h3>
+	 *
+	 * @param taskCode     <span class="en-US">Task identification code</span>
+	 *                     <span class="zh-CN">任务识别代码</span>
+	 * @param identifyCode <span class="en-US">Current node identify code, generate by system.</span>
+	 *                     <span class="zh-CN">当前节点的唯一识别代码，系统自动生成</span>
+	 * @return <span class="en-US">Updated task information or <code>null</code> if task not locked by given node</span>
+	 * <span class="zh-CN">更新后的任务信息，任务未被给定节点锁定时返回<code>null</code></span>
+	 */
+	public AbstractTask processTask(@Nonnull final Long taskCode, final String identifyCode) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo == null) {
+			return null;
+		}
+		synchronized (taskInfo) {
+			if (!ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				return null;
+			}
+			taskInfo.setStartTime(DateTimeUtils.currentUTCTimeMillis());
+			taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_PROCESS);
+		}
+		return taskInfo;
+	}
+
+	/**
+	 * <h3 class="en-US">Release the task claimed by given node, put it back to waiting status</h3>
+	 * <h3 class="zh-CN">释放给定节点认领的任务，将任务恢复为等待状态</h3>
+	 *
+	 * @param taskCode     <span class="en-US">Task identification code</span>
+	 *                     <span class="zh-CN">任务识别代码</span>
+	 * @param identifyCode <span class="en-US">Identify code of the node which claimed the task</span>
+	 *                     <span class="zh-CN">认领任务的节点识别代码</span>
+	 * @return <span class="en-US">Released task information or <code>null</code> if task not claimed by given node or already finished</span>
+	 * <span class="zh-CN">已释放的任务信息，任务未被给定节点认领或已完成时返回<code>null</code></span>
+	 */
+	public AbstractTask releaseTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo == null) {
+			return null;
+		}
+		synchronized (taskInfo) {
+			if (ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_FINISH)
+					|| !ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				return null;
+			}
+			taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+			taskInfo.setIdentifyCode(null);
+			taskInfo.setStartTime(Globals.DEFAULT_VALUE_LONG);
+		}
+		this.addWaiting(taskInfo);
+		return taskInfo;
+	}
+
+	/**
+	 * <h3 class="en-US">Update task status to finished</h3>
+	 * <h3 class="zh-CN">更新任务状态为已完成</h3>
+	 *
+	 * @param taskCode     <span class="en-US">Task identification code</span>
+	 *                     <span class="zh-CN">任务识别代码</span>
+	 * @param identifyCode <span class="en-US">Identify code of the node which executing the task</span>
+	 *                     <span class="zh-CN">执行任务的节点识别代码</span>
+	 * @param hasError     <span class="en-US">An exception occurred during task execution</span>
+	 *                     <span class="zh-CN">任务执行过程中出现异常</span>
+	 * @param errorMessage <span class="en-US">Error message</span>
+	 *                     <span class="zh-CN">错误信息</span>
+	 * @return <span class="en-US">Updated task information or <code>null</code> if task not in processing by given node</span>
+	 * <span class="zh-CN">更新后的任务信息，任务不在给定节点处理中时返回<code>null</code></span>
+	 */
+	public AbstractTask finishTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                               @Nonnull final Boolean hasError, @Nonnull final String errorMessage) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo == null) {
+			return null;
+		}
+		synchronized (taskInfo) {
+			if (!ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)
+					|| !ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				return null;
+			}
+			taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_FINISH);
+			taskInfo.setEndTime(DateTimeUtils.currentUTCTimeMillis());
+			taskInfo.setHasError(hasError);
+			taskInfo.setErrorMessage(errorMessage);
+		}
+		this.finishedTasks.add(taskInfo);
+		return taskInfo;
+	}
+
+	/**
+	 * <h3 class="en-US">Update progress information of processing task</h3>
+	 * <h3 class="zh-CN">更新处理中任务的进度信息</h3>
+	 *
+	 * @param taskCode     <span class="en-US">Task identification code</span>
+	 *                     <span class="zh-CN">任务识别代码</span>
+	 * @param identifyCode <span class="en-US">Identify code of the node which executing the task</span>
+	 *                     <span class="zh-CN">执行任务的节点识别代码</span>
+	 * @param taskProgress <span class="en-US">Progress information</span>
+	 *                     <span class="zh-CN">进度信息</span>
+	 */
+	public void updateProgress(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                           @Nonnull final TaskProgress taskProgress) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo != null) {
+			synchronized (taskInfo) {
+				if (ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+					taskProgress.apply(taskInfo);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Update checkpoint of processing import task</h3>
+	 * <h3 class="zh-CN">更新处理中导入任务的检查点</h3>
+	 *
+	 * @param taskCode       <span class="en-US">Task identification code</span>
+	 *                       <span class="zh-CN">任务识别代码</span>
+	 * @param identifyCode   <span class="en-US">Identify code of the node which executing the task</span>
+	 *                       <span class="zh-CN">执行任务的节点识别代码</span>
+	 * @param taskCheckpoint <span class="en-US">Checkpoint information</span>
+	 *                       <span class="zh-CN">检查点信息</span>
+	 * @return <span class="en-US">Updated task information or <code>null</code> if task not exists, not an import task or not owned by given node</span>
+	 * <span class="zh-CN">更新后的任务信息，任务不存在、不是导入任务或不属于给定节点时返回<code>null</code></span>
+	 */
+	public AbstractTask checkpointTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                                   @Nonnull final TaskCheckpoint taskCheckpoint) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo instanceof ImportTask) {
+			synchronized (taskInfo) {
+				if (!ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+					return null;
+				}
+				taskCheckpoint.apply((ImportTask) taskInfo);
+			}
+			return taskInfo;
+		}
+		return null;
+	}
+
+	/**
+	 * <h3 class="en-US">Remove finished tasks which end time before given time</h3>
+	 * <h3 class="zh-CN">移除结束时间早于给定时间的已完成任务</h3>
+	 *
+	 * @param endTime <span class="en-US">End time limit</span>
+	 *                <span class="zh-CN">结束时间限制</span>
+	 * @return <span class="en-US">Removed task information list</span>
+	 * <span class="zh-CN">已移除的任务信息列表</span>
+	 */
+	public List<AbstractTask> expireTasks(final long endTime) {
+		List<AbstractTask> expiredTasks = new ArrayList<>();
+		AbstractTask taskInfo;
+		while ((taskInfo = this.finishedTasks.pollFirst()) != null) {
+			if (taskInfo.getEndTime() >= endTime) {
+				this.finishedTasks.add(taskInfo);
+				break;
+			}
+			this.removeIndexes(taskInfo);
+			expiredTasks.add(taskInfo);
+		}
+		return expiredTasks;
+	}
+
+	/**
+	 * <h3 class="en-US">Remove task information</h3>
+	 * <h3 class="zh-CN">移除任务信息</h3>
+	 *
+	 * @param taskCode <span class="en-US">Task identification code</span>
+	 *                 <span class="zh-CN">任务识别代码</span>
+	 * @return <span class="en-US">Removed task information or <code>null</code> if not exists</span>
+	 * <span class="zh-CN">已移除的任务信息，不存在时返回<code>null</code></span>
+	 */
+	public AbstractTask removeTask(@Nonnull final Long taskCode) {
+		AbstractTask taskInfo = this.taskMap.get(taskCode);
+		if (taskInfo != null) {
+			this.removeIndexes(taskInfo);
+			this.finishedTasks.remove(taskInfo);
+		}
+		return taskInfo;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve task information by given user code and task code</h3>
+	 * <h3 class="zh-CN">根据给定的用户识别代码和任务识别代码读取任务信息</h3>
+	 *
+	 * @param userCode <span class="en-US">User identification code</span>
+	 *                 <span class="zh-CN">用户识别代码</span>
+	 * @param taskCode <span class="en-US">Task identification code</span>
+	 *                 <span class="zh-CN">任务识别代码</span>
+	 * @return <span class="en-US">Task information or <code>null</code> if not exists</span>
+	 * <span class="zh-CN">任务信息，不存在时返回<code>null</code></span>
+	 */
+	public AbstractTask taskInfo(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
+		return Optional.ofNullable(this.taskMap.get(taskCode))
+				.filter(taskInfo -> ObjectUtils.nullSafeEquals(taskInfo.getUserCode(), userCode))
+				.orElse(null);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve task information list of given user by page</h3>
+	 * <h3 class="zh-CN">分页读取给定用户的任务信息列表</h3>
+	 *
+	 * @param userCode  <span class="en-US">User identification code</span>
+	 *                  <span class="zh-CN">用户识别代码</span>
+	 * @param pageNo    <span class="en-US">Current page number</span>
+	 *                  <span class="zh-CN">当前页数</span>
+	 * @param limitSize <span class="en-US">Page limit records count</span>
+	 *                  <span class="zh-CN">每页的记录数</span>
+	 * @return <span class="en-US">Task information list</span>
+	 * <span class="zh-CN">任务信息列表</span>
+	 */
+	public List<AbstractTask> taskList(@Nonnull final Long userCode, final int pageNo, final int limitSize) {
+		ConcurrentSkipListMap<Long, AbstractTask> taskMap = this.userTasks.get(userKey(userCode));
+		if (taskMap == null || pageNo <= Globals.INITIALIZE_INT_VALUE || limitSize <= Globals.INITIALIZE_INT_VALUE) {
+			return new ArrayList<>();
+		}
+		List<AbstractTask> taskList = new ArrayList<>(limitSize);
+		long skipCount = (pageNo - 1L) * limitSize;
+		Iterator<AbstractTask> iterator = taskMap.values().iterator();
+		while (iterator.hasNext() && taskList.size() < limitSize) {
+			AbstractTask taskInfo = iterator.next();
+			if (skipCount > 0) {
+				skipCount--;
+			} else {
+				taskList.add(taskInfo);
+			}
+		}
+		return taskList;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve all stored task information</h3>
+	 * <h3 class="zh-CN">读取所有存储的任务信息</h3>
+	 *
+	 * @return <span class="en-US">Task information collection</span>
+	 * <span class="zh-CN">任务信息集合</span>
+	 */
+	public Collection<AbstractTask> taskInfos() {
+		return Collections.unmodifiableCollection(this.taskMap.values());
+	}
+
+	/**
+	 * <h3 class="en-US">Clear all stored task information</h3>
+	 * <h3 class="zh-CN">清除所有存储的任务信息</h3>
+	 */
+	public void clear() {
+		synchronized (this.waitingPools) {
+			this.waitingPools.clear();
+		}
+		this.finishedTasks.clear();
+		this.userTasks.clear();
+		this.taskMap.clear();
+	}
+
+	/**
+	 * <h3 class="en-US">Remove given task information from task code index, user index and waiting index</h3>
+	 * <h3 class="zh-CN">从任务识别代码索引、用户索引和等待索引中移除给定的任务信息</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 */
+	private void removeIndexes(@Nonnull final AbstractTask taskInfo) {
+		this.taskMap.remove(taskInfo.getTaskCode());
+		this.userTasks.computeIfPresent(userKey(taskInfo.getUserCode()), (userCode, taskMap) -> {
+			taskMap.remove(taskInfo.getTaskCode());
+			return taskMap.isEmpty() ? null : taskMap;
+		});
+		this.removeWaiting(taskInfo);
+	}
+
+	/**
+	 * <h3 class="en-US">Add given task information to waiting index</h3>
+	 * <span class="en-US">A user which had no waiting task in the task pool joins the end of the rotation.</span>
+	 * <h3 class="zh-CN">添加给定的任务信息到等待索引</h3>
+	 * <span class="zh-CN">在任务池中没有等待任务的用户加入轮询顺序的末尾</span>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 */
+	private void addWaiting(@Nonnull final AbstractTask taskInfo) {
+		synchronized (this.waitingPools) {
+			WaitingPool waitingPool = this.waitingPools.computeIfAbsent(taskInfo instanceof ImportTask,
+					key -> new WaitingPool());
+			Long userKey = userKey(taskInfo.getUserCode());
+			UserQueue userQueue = waitingPool.userQueues.get(userKey);
+			if (userQueue == null) {
+				userQueue = new UserQueue(userKey, ++this.serveSequence);
+				waitingPool.userQueues.put(userKey, userQueue);
+			} else {
+				waitingPool.userOrder.remove(userQueue);
+			}
+			userQueue.tasks.add(taskInfo);
+			waitingPool.userOrder.add(userQueue);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Remove given task information from waiting index</h3>
+	 * <span class="en-US">The user was removed from the task pool if no task waiting.</span>
+	 * <h3 class="zh-CN">从等待索引中移除给定的任务信息</h3>
+	 * <span class="zh-CN">用户没有等待任务时从任务池中移除</span>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 */
+	private void removeWaiting(@Nonnull final AbstractTask taskInfo) {
+		synchronized (this.waitingPools) {
+			WaitingPool waitingPool = this.waitingPools.get(taskInfo instanceof ImportTask);
+			UserQueue userQueue = (waitingPool == null) ? null : waitingPool.userQueues.get(userKey(taskInfo.getUserCode()));
+			if (userQueue == null || !userQueue.tasks.contains(taskInfo)) {
+				return;
+			}
+			//	The order of user queue depends on its first task, remove it from the order before changing the tasks
+			waitingPool.userOrder.remove(userQueue);
+			userQueue.tasks.remove(taskInfo);
+			if (userQueue.tasks.isEmpty()) {
+				waitingPool.userQueues.remove(userQueue.userKey);
+			} else {
+				waitingPool.userOrder.add(userQueue);
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read task priority, <code>null</code> was converted to default priority</h3>
+	 * <h3 class="zh-CN">读取任务优先级，<code>null</code>转换为默认优先级</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @return <span class="en-US">Task priority</span>
+	 * <span class="zh-CN">任务优先级</span>
+	 */
+	private static int priority(@Nonnull final AbstractTask taskInfo) {
+		return Optional.ofNullable(taskInfo.getPriority()).orElse(DatabaseCommons.DEFAULT_TASK_PRIORITY);
+	}
+
+	/**
+	 * <h3 class="en-US">Convert user code to index key, <code>null</code> was converted to <code>-1</code></h3>
+	 * <h3 class="zh-CN">转换用户识别代码为索引键值，<code>null</code>转换为<code>-1</code></h3>
+	 *
+	 * @param userCode <span class="en-US">User identification code</span>
+	 *                 <span class="zh-CN">用户识别代码</span>
+	 * @return <span class="en-US">Index key</span>
+	 * <span class="zh-CN">索引键值</span>
+	 */
+	private static Long userKey(final Long userCode) {
+		return (userCode == null) ? Globals.DEFAULT_VALUE_LONG : userCode;
+	}
+
+	/**
+	 * <h2 class="en-US">Waiting tasks of task pool</h2>
+	 * <h2 class="zh-CN">任务池的等待任务</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:12:40 $
+	 */
+	private static final class WaitingPool {
+		/**
+		 * <span class="en-US">Waiting task queues of users, key is user index key</span>
+		 * <span class="zh-CN">用户的等待任务队列，键值为用户索引键值</span>
+		 */
+		private final Map<Long, UserQueue> userQueues = new HashMap<>();
+		/**
+		 * <span class="en-US">User queues ordered by the priority of first task and the last served sequence</span>
+		 * <span class="zh-CN">按照第一个任务的优先级和最后服务序号排序的用户队列</span>
+		 */
+		private final NavigableSet<UserQueue> userOrder = new TreeSet<>(USER_ORDER);
+	}
+
+	/**
+	 * <h2 class="en-US">Waiting tasks of user in task pool</h2>
+	 * <h2 class="zh-CN">任务池中用户的等待任务</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:12:40 $
+	 */
+	private static final class UserQueue {
+		/**
+		 * <span class="en-US">User index key</span>
+		 * <span class="zh-CN">用户索引键值</span>
+		 */
+		private final Long userKey;
+		/**
+		 * <span class="en-US">Waiting tasks, ordered by priority descending and task code</span>
+		 * <span class="zh-CN">等待中任务，按照优先级降序和任务识别代码排序</span>
+		 */
+		private final NavigableSet<AbstractTask> tasks = new TreeSet<>(TASK_ORDER);
+		/**
+		 * <span class="en-US">Last served sequence</span>
+		 * <span class="zh-CN">最后服务序号</span>
+		 */
+		private long serveSequence;
+
+		/**
+		 * <h3 class="en-US">Constructor method for waiting tasks of user</h3>
+		 * <h3 class="zh-CN">用户等待任务的构造方法</h3>
+		 *
+		 * @param userKey       <span class="en-US">User index key</span>
+		 *                      <span class="zh-CN">用户索引键值</span>
+		 * @param serveSequence <span class="en-US">Initialize served sequence</span>
+		 *                      <span class="zh-CN">初始服务序号</span>
+		 */
+		UserQueue(final Long userKey, final long serveSequence) {
+			this.userKey = userKey;
+			this.serveSequence = serveSequence;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.providers.data.core.AbstractStreamProvider;
+import org.nervousync.utils.FileUtils;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">CSV (RFC 4180) export adapter implementation class</h2>
+ * <h2 class="zh-CN">CSV（RFC 4180）导出适配器实现类</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:48:26 $
+ */
+@Provider(name = DatabaseCommons.EXPORT_TYPE_CSV, titleKey = "csv.name.export.provider")
+public final class CSVExportProviderImpl extends AbstractStreamProvider {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#extensionName()
+	 */
+	@Override
+	protected String extensionName() {
+		return DatabaseCommons.CSV_FILE_EXTENSION_NAME;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#mixedClasses()
+	 */
+	@Override
+	public boolean mixedClasses() {
+		return Boolean.FALSE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#appendHeader(java.lang.StringBuilder, java.util.List)
+	 */
+	@Override
+	protected void appendHeader(@Nonnull final StringBuilder stringBuilder, @Nonnull final List<String> columnNames) {
+		this.appendLine(stringBuilder, columnNames);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#appendRecord(java.lang.StringBuilder, java.util.List, java.util.List)
+	 */
+	@Override
+	protected void appendRecord(@Nonnull final StringBuilder stringBuilder, @Nonnull final List<String> columnNames,
+	                            @Nonnull final List<String> dataValues) {
+		this.appendLine(stringBuilder, dataValues);
+	}
+
+	/**
+	 * <h3 class="en-US">Append given values as one CSV line</h3>
+	 * <h3 class="zh-CN">追加给定的值列表为一行CSV数据</h3>
+	 *
+	 * @param stringBuilder <span class="en-US">Line content builder</span>
+	 *                      <span class="zh-CN">行内容构建器</span>
+	 * @param values        <span class="en-US">Value list</span>
+	 *                      <span class="zh-CN">值列表</span>
+	 */
+	private void appendLine(@Nonnull final StringBuilder stringBuilder, @Nonnull final List<String> values) {
+		boolean first = Boolean.TRUE;
+		for (String value : values) {
+			if (first) {
+				first = Boolean.FALSE;
+			} else {
+				stringBuilder.append(',');
+			}
+			if (value != null) {
+				this.appendValue(stringBuilder, value);
+			}
+		}
+		stringBuilder.append(FileUtils.CRLF);
+	}
+
+	/**
+	 * <h3 class="en-US">Append value, quote the value if contains separator, quote or line break</h3>
+	 * <h3 class="zh-CN">追加值，如果包含分隔符、引号或换行符则使用引号包围</h3>
+	 *
+	 * @param stringBuilder <span class="en-US">Line content builder</span>
+	 *                      <span class="zh-CN">行内容构建器</span>
+	 * @param value         <span class="en-US">Value string</span>
+	 *                      <span class="zh-CN">值字符串</span>
+	 */
+	private void appendValue(@Nonnull final StringBuilder stringBuilder, @Nonnull final String value) {
+		boolean quote = Boolean.FALSE;
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == ',' || ch == '"' || ch == FileUtils.CR || ch == FileUtils.LF) {
+				quote = Boolean.TRUE;
+				break;
+			}
+		}
+		if (!quote) {
+			stringBuilder.append(value);
+			return;
+		}
+		stringBuilder.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			if (ch == '"') {
+				stringBuilder.append('"');
+			}
+			stringBuilder.append(ch);
+		}
+		stringBuilder.append('"');
+	}
+}
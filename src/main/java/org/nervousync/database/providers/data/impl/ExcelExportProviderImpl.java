@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.providers.data.ExportProvider;
+import org.nervousync.exceptions.utils.DataInvalidException;
+import org.nervousync.office.excel.ExcelWriter;
+import org.nervousync.utils.OfficeUtils;
+
+import java.io.IOException;
+
+/**
+ * <h2 class="en-US">Excel export adapter implementation class</h2>
+ * <h2 class="zh-CN">Excel导出适配器实现类</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 11:17:09 $
+ */
+@Provider(name = DatabaseCommons.EXPORT_TYPE_EXCEL, titleKey = "excel.name.export.provider")
+public final class ExcelExportProviderImpl implements ExportProvider {
+
+	/**
+	 * <span class="en-US">Excel writer instance</span>
+	 * <span class="zh-CN">Excel文件写入器</span>
+	 */
+	private ExcelWriter excelWriter = null;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#extensionName(boolean, boolean)
+	 */
+	@Override
+	public String extensionName(final boolean compatibilityMode, final boolean compress) {
+		return Globals.EXTENSION_SEPARATOR
+				+ (compatibilityMode ? OfficeUtils.EXCEL_FILE_EXT_NAME_2003 : OfficeUtils.EXCEL_FILE_EXT_NAME_2007);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#initialize(java.lang.String, boolean)
+	 */
+	@Override
+	public void initialize(@Nonnull final String exportPath, final boolean compress) throws IOException {
+		try {
+			this.excelWriter = OfficeUtils.newWriter(exportPath);
+		} catch (DataInvalidException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.ExportProvider#appendData(java.lang.Object)
+	 */
+	@Override
+	public void appendData(@Nonnull final Object object) {
+		EntityManager.appendToExcel(this.excelWriter, object);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		if (this.excelWriter != null) {
+			this.excelWriter.write();
+			this.excelWriter.close();
+			this.excelWriter = null;
+		}
+	}
+}
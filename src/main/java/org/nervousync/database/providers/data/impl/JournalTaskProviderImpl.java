@@ -0,0 +1,898 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
+import org.nervousync.database.beans.task.TaskProgress;
+import org.nervousync.database.beans.task.impl.ImportTask;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.providers.data.TaskProvider;
+import org.nervousync.database.providers.data.core.TaskStorage;
+import org.nervousync.utils.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * <h2 class="en-US">Journal file task adapter implementation class</h2>
+ * <span class="en-US">
+ * Task state transitions are appended to a journal file under the base path, the records submitted at the same time
+ * are written and synchronized to disk by one fsync operation. Task information is indexed in memory,
+ * and the journal file is compacted to a snapshot file when it was too large, at startup and at shutdown.
+ * Tasks which were processing when the process stopped will be executed again after restart.
+ * </span>
+ * <h2 class="zh-CN">日志文件任务适配器实现类</h2>
+ * <span class="zh-CN">
+ * 任务状态变更追加写入基础路径下的日志文件，同时提交的记录通过一次fsync操作写入并同步到磁盘。任务信息在内存中建立索引，
+ * 日志文件过大时、启动时和关闭时将压缩为快照文件。进程停止时正在处理的任务在重启后将重新执行
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:48:09 $
+ */
+@Provider(name = "JournalTaskProvider", titleKey = "journal.name.task.provider")
+public final class JournalTaskProviderImpl implements TaskProvider {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(JournalTaskProviderImpl.class);
+	/**
+	 * <span class="en-US">Journal file name</span>
+	 * <span class="zh-CN">日志文件名</span>
+	 */
+	private static final String JOURNAL_FILE_NAME = "task.journal";
+	/**
+	 * <span class="en-US">Snapshot file name</span>
+	 * <span class="zh-CN">快照文件名</span>
+	 */
+	private static final String SNAPSHOT_FILE_NAME = "task.snapshot";
+	/**
+	 * <span class="en-US">Journal file size which trigger compaction</span>
+	 * <span class="zh-CN">触发压缩的日志文件大小</span>
+	 */
+	private static final long COMPACT_THRESHOLD = 8 * 1024 * 1024L;
+	/**
+	 * <span class="en-US">Maximum records count written by one group commit</span>
+	 * <span class="zh-CN">一次组提交写入的最大记录数</span>
+	 */
+	private static final int MAX_BATCH_SIZE = 1024;
+	/**
+	 * <span class="en-US">Record type: add task</span>
+	 * <span class="zh-CN">记录类型：添加任务</span>
+	 */
+	private static final byte RECORD_ADD = 1;
+	/**
+	 * <span class="en-US">Record type: process task</span>
+	 * <span class="zh-CN">记录类型：处理任务</span>
+	 */
+	private static final byte RECORD_PROCESS = 2;
+	/**
+	 * <span class="en-US">Record type: finish task</span>
+	 * <span class="zh-CN">记录类型：完成任务</span>
+	 */
+	private static final byte RECORD_FINISH = 3;
+	/**
+	 * <span class="en-US">Record type: drop task</span>
+	 * <span class="zh-CN">记录类型：删除任务</span>
+	 */
+	private static final byte RECORD_DROP = 4;
+	/**
+	 * <span class="en-US">Record type: checkpoint of import task</span>
+	 * <span class="zh-CN">记录类型：导入任务的检查点</span>
+	 */
+	private static final byte RECORD_CHECKPOINT = 5;
+	/**
+	 * <span class="en-US">Record type: release claimed task</span>
+	 * <span class="zh-CN">记录类型：释放已认领的任务</span>
+	 */
+	private static final byte RECORD_RELEASE = 6;
+	/**
+	 * <span class="en-US">Record type: close journal, only used by writer</span>
+	 * <span class="zh-CN">记录类型：关闭日志，仅用于写入器</span>
+	 */
+	private static final byte RECORD_CLOSE = 0;
+
+	/**
+	 * <span class="en-US">Indexed storage of task information</span>
+	 * <span class="zh-CN">任务信息的索引存储</span>
+	 */
+	private final TaskStorage taskStorage = new TaskStorage();
+	/**
+	 * <span class="en-US">Records waiting for group commit</span>
+	 * <span class="zh-CN">等待组提交的记录</span>
+	 */
+	private final BlockingQueue<JournalRecord> pendingRecords = new LinkedBlockingQueue<>();
+	/**
+	 * <span class="en-US">Task information replayed from written records only, accessed by journal writer only</span>
+	 * <span class="zh-CN">仅由已写入记录重放得到的任务信息，只由日志写入器访问</span>
+	 */
+	private final Map<Long, AbstractTask> writtenTasks = new TreeMap<>();
+	/**
+	 * <span class="en-US">The base path of journal files</span>
+	 * <span class="zh-CN">日志文件的基础路径</span>
+	 */
+	private String basePath = null;
+	/**
+	 * <span class="en-US">Journal file path</span>
+	 * <span class="zh-CN">日志文件路径</span>
+	 */
+	private Path journalPath = null;
+	/**
+	 * <span class="en-US">Snapshot file path</span>
+	 * <span class="zh-CN">快照文件路径</span>
+	 */
+	private Path snapshotPath = null;
+	/**
+	 * <span class="en-US">Journal file channel</span>
+	 * <span class="zh-CN">日志文件通道</span>
+	 */
+	private FileChannel journalChannel = null;
+	/**
+	 * <span class="en-US">Single thread executor of journal writer</span>
+	 * <span class="zh-CN">日志写入器的单线程执行器</span>
+	 */
+	private ExecutorService writerExecutor = null;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#initialize()
+	 */
+	@Override
+	public void initialize() {
+		this.initialize(Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#initialize(java.lang.String)
+	 */
+	@Override
+	public void initialize(@Nonnull final String basePath) {
+		this.basePath = basePath;
+		try {
+			Path basedir = Paths.get(basePath).toAbsolutePath();
+			Files.createDirectories(basedir);
+			this.journalPath = basedir.resolve(JOURNAL_FILE_NAME);
+			this.snapshotPath = basedir.resolve(SNAPSHOT_FILE_NAME);
+			this.recover();
+			this.writerExecutor = Executors.newSingleThreadExecutor();
+			this.writerExecutor.execute(this::writeJournal);
+		} catch (IOException e) {
+			LOGGER.error("Task_Journal_Open_Error", basePath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			this.closeChannel();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#destroy()
+	 */
+	@Override
+	public void destroy() {
+		if (this.writerExecutor != null) {
+			this.submit(new JournalRecord(RECORD_CLOSE, Globals.DEFAULT_VALUE_LONG, new byte[0]));
+			this.writerExecutor.shutdown();
+			try {
+				//	Wait for the final compaction, the journal files may be opened again by a new instance
+				this.writerExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			this.writerExecutor = null;
+		}
+		this.taskStorage.clear();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#addTask(org.nervousync.database.beans.task.AbstractTask)
+	 */
+	@Override
+	public boolean addTask(@Nonnull final AbstractTask taskInfo) {
+		if (!this.taskStorage.addTask(taskInfo)) {
+			return Boolean.TRUE;
+		}
+		if (this.submit(new JournalRecord(RECORD_ADD, taskInfo.getTaskCode(), taskBytes(taskInfo)))) {
+			return Boolean.TRUE;
+		}
+		this.taskStorage.removeTask(taskInfo.getTaskCode());
+		return Boolean.FALSE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#processTask(java.lang.Long, java.lang.String)
+	 */
+	@Override
+	public void processTask(@Nonnull final Long taskCode, final String identifyCode) {
+		AbstractTask taskInfo = this.taskStorage.processTask(taskCode, identifyCode);
+		if (taskInfo != null) {
+			this.submit(new JournalRecord(RECORD_PROCESS, taskCode, payload(dataOutput -> {
+				writeString(dataOutput, identifyCode);
+				dataOutput.writeLong(taskInfo.getStartTime());
+			})));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#dropTask(java.lang.Long)
+	 */
+	@Override
+	public void dropTask(@Nonnull final Long expireTime) {
+		if (ObjectUtils.nullSafeEquals(expireTime, Globals.DEFAULT_VALUE_LONG)) {
+			return;
+		}
+		List<AbstractTask> expiredTasks =
+				this.taskStorage.expireTasks(DateTimeUtils.currentUTCTimeMillis() - expireTime);
+		if (!expiredTasks.isEmpty()) {
+			JournalRecord[] journalRecords = new JournalRecord[expiredTasks.size()];
+			for (int i = 0; i < expiredTasks.size(); i++) {
+				journalRecords[i] = new JournalRecord(RECORD_DROP, expiredTasks.get(i).getTaskCode(), new byte[0]);
+			}
+			this.submit(journalRecords);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#dropTask(java.lang.Long, java.lang.Long)
+	 */
+	@Override
+	public boolean dropTask(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
+		if (this.taskStorage.taskInfo(userCode, taskCode) == null) {
+			return Boolean.TRUE;
+		}
+		String dataPath = this.basePath + Globals.DEFAULT_PAGE_SEPARATOR + Long.toHexString(taskCode)
+				+ DatabaseCommons.DATA_FILE_EXTENSION_NAME;
+		if (FileUtils.removeFile(dataPath)) {
+			this.taskStorage.removeTask(taskCode);
+			return this.submit(new JournalRecord(RECORD_DROP, taskCode, new byte[0]));
+		}
+		return Boolean.FALSE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#nextTask(java.lang.String)
+	 */
+	@Override
+	public AbstractTask nextTask(@Nonnull final String identifyCode) {
+		return this.taskStorage.lockTask(identifyCode);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long, java.util.function.Predicate)
+	 */
+	@Override
+	public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+	                              @Nonnull final Predicate<AbstractTask> taskFilter) {
+		return this.taskStorage.lockTask(identifyCode, taskFilter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long, java.util.function.Predicate, java.util.function.Predicate)
+	 */
+	@Override
+	public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+	                              @Nonnull final Predicate<AbstractTask> poolFilter,
+	                              @Nonnull final Predicate<AbstractTask> userFilter) {
+		return this.taskStorage.lockTask(identifyCode, poolFilter, userFilter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#releaseTask(java.lang.Long, java.lang.String)
+	 */
+	@Override
+	public void releaseTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode) {
+		if (this.taskStorage.releaseTask(taskCode, identifyCode) != null) {
+			this.submit(new JournalRecord(RECORD_RELEASE, taskCode, new byte[0]));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#finishTask(java.lang.Long, java.lang.String, java.lang.Boolean, java.lang.String)
+	 */
+	@Override
+	public void finishTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                       @Nonnull final Boolean hasError, @Nonnull final String errorMessage) {
+		AbstractTask taskInfo = this.taskStorage.finishTask(taskCode, identifyCode, hasError, errorMessage);
+		if (taskInfo != null) {
+			this.submit(new JournalRecord(RECORD_FINISH, taskCode, payload(dataOutput -> {
+				dataOutput.writeBoolean(hasError);
+				dataOutput.writeLong(taskInfo.getEndTime());
+				writeString(dataOutput, errorMessage);
+			})));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#updateProgress(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskProgress)
+	 */
+	@Override
+	public void updateProgress(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                           @Nonnull final TaskProgress taskProgress) {
+		this.taskStorage.updateProgress(taskCode, identifyCode, taskProgress);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#checkpointTask(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskCheckpoint)
+	 */
+	@Override
+	public void checkpointTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                           @Nonnull final TaskCheckpoint taskCheckpoint) {
+		if (this.taskStorage.checkpointTask(taskCode, identifyCode, taskCheckpoint) != null) {
+			this.submit(new JournalRecord(RECORD_CHECKPOINT, taskCode, payload(dataOutput -> {
+				dataOutput.writeLong(taskCheckpoint.getPosition());
+				dataOutput.writeLong(taskCheckpoint.getSuccessCount());
+				dataOutput.writeLong(taskCheckpoint.getFailedCount());
+				dataOutput.writeLong(taskCheckpoint.getRecordIndex());
+			})));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#taskList(java.lang.Long, java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public List<AbstractTask> taskList(@Nonnull final Long userCode, final Integer pageNo, final Integer limitSize) {
+		int currentPage = (pageNo == null || pageNo <= Globals.INITIALIZE_INT_VALUE)
+				? DatabaseCommons.DEFAULT_PAGE_NO
+				: pageNo;
+		int currentLimit = (limitSize == null || limitSize <= Globals.INITIALIZE_INT_VALUE)
+				? DatabaseCommons.DEFAULT_PAGE_LIMIT
+				: limitSize;
+		return this.taskStorage.taskList(userCode, currentPage, currentLimit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#taskInfo(java.lang.Long, java.lang.Long)
+	 */
+	@Override
+	public AbstractTask taskInfo(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
+		return this.taskStorage.taskInfo(userCode, taskCode);
+	}
+
+	/**
+	 * <h3 class="en-US">Recover task information from snapshot file and journal file</h3>
+	 * <span class="en-US">
+	 * Records after the first incomplete or corrupted record are discarded,
+	 * processing tasks are reset to waiting status and keep their checkpoints,
+	 * then the recovered information is compacted to a new snapshot.
+	 * </span>
+	 * <h3 class="zh-CN">从快照文件和日志文件中恢复任务信息</h3>
+	 * <span class="zh-CN">第一个不完整或损坏的记录之后的记录将被丢弃，处理中的任务重置为等待状态并保留检查点，然后将恢复的信息压缩为新的快照</span>
+	 *
+	 * @throws IOException <span class="en-US">If read or write file error</span>
+	 *                     <span class="zh-CN">如果读写文件出错</span>
+	 */
+	private void recover() throws IOException {
+		long beginTime = DateTimeUtils.currentTimeMillis();
+		this.writtenTasks.clear();
+		readRecords(this.snapshotPath, this.writtenTasks);
+		readRecords(this.journalPath, this.writtenTasks);
+		for (AbstractTask taskInfo : this.writtenTasks.values()) {
+			if (ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)) {
+				taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+				taskInfo.setIdentifyCode(null);
+				taskInfo.setStartTime(Globals.DEFAULT_VALUE_LONG);
+			}
+			this.taskStorage.addTask(copyTask(taskInfo));
+		}
+		this.journalChannel = FileChannel.open(this.journalPath,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.compact();
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Task_Journal_Recover_Info", this.writtenTasks.size(),
+					DateTimeUtils.currentTimeMillis() - beginTime);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Journal writer loop, write pending records by group commit</h3>
+	 * <span class="en-US">
+	 * The journal file is truncated back to the position before the batch when writing failed,
+	 * so a partially written batch will not be replayed at next startup.
+	 * </span>
+	 * <h3 class="zh-CN">日志写入器循环，使用组提交写入等待中的记录</h3>
+	 * <span class="zh-CN">写入失败时日志文件将截断回批次写入之前的位置，部分写入的批次不会在下次启动时重放</span>
+	 */
+	private void writeJournal() {
+		List<JournalRecord> batchRecords = new ArrayList<>();
+		boolean closed = Boolean.FALSE;
+		while (!closed) {
+			try {
+				batchRecords.add(this.pendingRecords.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			this.pendingRecords.drainTo(batchRecords, MAX_BATCH_SIZE - 1);
+			List<byte[]> writtenRecords = new ArrayList<>();
+			long beginPosition = Globals.DEFAULT_VALUE_LONG;
+			try {
+				beginPosition = this.journalChannel.position();
+				ByteBuffer[] byteBuffers = new ByteBuffer[batchRecords.size()];
+				int index = 0;
+				for (JournalRecord journalRecord : batchRecords) {
+					if (journalRecord.recordType == RECORD_CLOSE) {
+						closed = Boolean.TRUE;
+						byteBuffers[index++] = ByteBuffer.allocate(0);
+					} else {
+						byte[] recordBytes = journalRecord.recordBytes();
+						writtenRecords.add(recordBytes);
+						byteBuffers[index++] = ByteBuffer.wrap(recordBytes);
+					}
+				}
+				long totalLength = Arrays.stream(byteBuffers).mapToLong(ByteBuffer::remaining).sum();
+				while (totalLength > 0) {
+					totalLength -= this.journalChannel.write(byteBuffers);
+				}
+				this.journalChannel.force(Boolean.FALSE);
+			} catch (IOException e) {
+				LOGGER.error("Task_Journal_Write_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				this.rollbackBatch(beginPosition);
+				batchRecords.forEach(journalRecord -> journalRecord.completed.complete(Boolean.FALSE));
+				batchRecords.clear();
+				continue;
+			}
+			batchRecords.forEach(journalRecord -> journalRecord.completed.complete(Boolean.TRUE));
+			try {
+				for (byte[] recordBytes : writtenRecords) {
+					applyRecord(Arrays.copyOfRange(recordBytes, 12, recordBytes.length), this.writtenTasks);
+				}
+				if (closed || this.journalChannel.size() > COMPACT_THRESHOLD) {
+					this.compact();
+				}
+			} catch (IOException e) {
+				LOGGER.error("Task_Journal_Write_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+			batchRecords.clear();
+		}
+		this.closeChannel();
+		this.pendingRecords.drainTo(batchRecords);
+		batchRecords.forEach(journalRecord -> journalRecord.completed.complete(Boolean.FALSE));
+	}
+
+	/**
+	 * <h3 class="en-US">Write task information replayed from written records to snapshot file and truncate the journal file</h3>
+	 * <span class="en-US">
+	 * The snapshot is written to a temporary file and replace the previous snapshot by atomic move,
+	 * records in journal file can be replayed after the snapshot repeatedly.
+	 * In-memory changes still waiting for group commit are not included, they are written to the journal later.
+	 * </span>
+	 * <h3 class="zh-CN">写入由已写入记录重放得到的任务信息到快照文件并截断日志文件</h3>
+	 * <span class="zh-CN">快照写入临时文件并通过原子移动替换之前的快照，日志文件中的记录可以在快照之后重复重放。仍在等待组提交的内存变更不包含在快照中，将在之后写入日志</span>
+	 *
+	 * @throws IOException <span class="en-US">If write file error</span>
+	 *                     <span class="zh-CN">如果写入文件出错</span>
+	 */
+	private void compact() throws IOException {
+		Path tempPath = this.snapshotPath.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+		try (FileOutputStream fileOutputStream = new FileOutputStream(tempPath.toFile());
+		     BufferedOutputStream outputStream = new BufferedOutputStream(fileOutputStream)) {
+			for (AbstractTask taskInfo : this.writtenTasks.values()) {
+				outputStream.write(
+						new JournalRecord(RECORD_ADD, taskInfo.getTaskCode(), taskBytes(taskInfo)).recordBytes());
+			}
+			outputStream.flush();
+			fileOutputStream.getFD().sync();
+		}
+		Files.move(tempPath, this.snapshotPath,
+				StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		this.journalChannel.truncate(0L);
+		this.journalChannel.position(0L);
+		this.journalChannel.force(Boolean.TRUE);
+	}
+
+	/**
+	 * <h3 class="en-US">Truncate the journal file back to the position before the failed batch</h3>
+	 * <h3 class="zh-CN">将日志文件截断回失败批次写入之前的位置</h3>
+	 *
+	 * @param beginPosition <span class="en-US">Journal file position before the batch, <code>-1</code> if unknown</span>
+	 *                      <span class="zh-CN">批次写入之前的日志文件位置，未知时为<code>-1</code></span>
+	 */
+	private void rollbackBatch(final long beginPosition) {
+		if (beginPosition < 0L) {
+			return;
+		}
+		try {
+			this.journalChannel.truncate(beginPosition);
+			this.journalChannel.position(beginPosition);
+			this.journalChannel.force(Boolean.FALSE);
+		} catch (IOException e) {
+			LOGGER.error("Task_Journal_Write_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Submit journal records to writer and wait for them written to disk</h3>
+	 * <h3 class="zh-CN">提交日志记录到写入器并等待其写入磁盘</h3>
+	 *
+	 * @param journalRecords <span class="en-US">Journal records</span>
+	 *                       <span class="zh-CN">日志记录</span>
+	 * @return <span class="en-US">Written result</span>
+	 * <span class="zh-CN">写入结果</span>
+	 */
+	private boolean submit(@Nonnull final JournalRecord... journalRecords) {
+		if (this.writerExecutor == null || journalRecords.length == 0) {
+			return Boolean.FALSE;
+		}
+		this.pendingRecords.addAll(Arrays.asList(journalRecords));
+		try {
+			for (JournalRecord journalRecord : journalRecords) {
+				if (!journalRecord.completed.get()) {
+					return Boolean.FALSE;
+				}
+			}
+			return Boolean.TRUE;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			LOGGER.error("Task_Journal_Write_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h3 class="en-US">Close journal file channel</h3>
+	 * <h3 class="zh-CN">关闭日志文件通道</h3>
+	 */
+	private void closeChannel() {
+		if (this.journalChannel != null) {
+			try {
+				this.journalChannel.close();
+			} catch (IOException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+			this.journalChannel = null;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read journal records from given file and apply them to task mapping</h3>
+	 * <h3 class="zh-CN">从给定文件读取日志记录并应用到任务映射表</h3>
+	 *
+	 * @param filePath <span class="en-US">Journal or snapshot file path</span>
+	 *                 <span class="zh-CN">日志或快照文件路径</span>
+	 * @param taskMap  <span class="en-US">Task mapping, key is task code</span>
+	 *                 <span class="zh-CN">任务映射表，键值为任务识别代码</span>
+	 * @throws IOException <span class="en-US">If read file error</span>
+	 *                     <span class="zh-CN">如果读取文件出错</span>
+	 */
+	private static void readRecords(@Nonnull final Path filePath, @Nonnull final Map<Long, AbstractTask> taskMap)
+			throws IOException {
+		if (!Files.exists(filePath)) {
+			return;
+		}
+		try (DataInputStream inputStream =
+				     new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+			CRC32 crc32 = new CRC32();
+			while (Boolean.TRUE) {
+				byte[] recordBytes;
+				long checksum;
+				try {
+					int length = inputStream.readInt();
+					checksum = inputStream.readLong();
+					if (length < 9) {
+						break;
+					}
+					recordBytes = new byte[length];
+					inputStream.readFully(recordBytes);
+				} catch (EOFException e) {
+					break;
+				}
+				crc32.reset();
+				crc32.update(recordBytes);
+				if (crc32.getValue() != checksum) {
+					break;
+				}
+				applyRecord(recordBytes, taskMap);
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Apply journal record to task mapping</h3>
+	 * <h3 class="zh-CN">应用日志记录到任务映射表</h3>
+	 *
+	 * @param recordBytes <span class="en-US">Record data bytes</span>
+	 *                    <span class="zh-CN">记录数据字节数组</span>
+	 * @param taskMap     <span class="en-US">Task mapping, key is task code</span>
+	 *                    <span class="zh-CN">任务映射表，键值为任务识别代码</span>
+	 * @throws IOException <span class="en-US">If parse record error</span>
+	 *                     <span class="zh-CN">如果解析记录出错</span>
+	 */
+	private static void applyRecord(@Nonnull final byte[] recordBytes,
+	                                @Nonnull final Map<Long, AbstractTask> taskMap) throws IOException {
+		DataInputStream dataInput = new DataInputStream(new ByteArrayInputStream(recordBytes));
+		byte recordType = dataInput.readByte();
+		long taskCode = dataInput.readLong();
+		switch (recordType) {
+			case RECORD_ADD:
+				try (ObjectInputStream objectInput = new ObjectInputStream(dataInput)) {
+					Object object = objectInput.readObject();
+					if (object instanceof AbstractTask) {
+						taskMap.putIfAbsent(taskCode, (AbstractTask) object);
+					}
+				} catch (ClassNotFoundException e) {
+					throw new IOException(e);
+				}
+				break;
+			case RECORD_PROCESS:
+				AbstractTask processTask = taskMap.get(taskCode);
+				if (processTask != null) {
+					processTask.setIdentifyCode(readString(dataInput));
+					processTask.setStartTime(dataInput.readLong());
+					processTask.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_PROCESS);
+				}
+				break;
+			case RECORD_FINISH:
+				AbstractTask finishTask = taskMap.get(taskCode);
+				if (finishTask != null) {
+					finishTask.setHasError(dataInput.readBoolean());
+					finishTask.setEndTime(dataInput.readLong());
+					finishTask.setErrorMessage(readString(dataInput));
+					finishTask.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_FINISH);
+				}
+				break;
+			case RECORD_DROP:
+				taskMap.remove(taskCode);
+				break;
+			case RECORD_RELEASE:
+				AbstractTask releaseTask = taskMap.get(taskCode);
+				if (releaseTask != null) {
+					releaseTask.setIdentifyCode(null);
+					releaseTask.setStartTime(Globals.DEFAULT_VALUE_LONG);
+					releaseTask.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+				}
+				break;
+			case RECORD_CHECKPOINT:
+				AbstractTask checkpointTask = taskMap.get(taskCode);
+				if (checkpointTask instanceof ImportTask) {
+					new TaskCheckpoint(dataInput.readLong(), dataInput.readLong(), dataInput.readLong(),
+							dataInput.readLong()).apply((ImportTask) checkpointTask);
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Serialize task information to byte array</h3>
+	 * <h3 class="zh-CN">序列化任务信息为字节数组</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @return <span class="en-US">Serialized byte array</span>
+	 * <span class="zh-CN">序列化的字节数组</span>
+	 */
+	private static byte[] taskBytes(@Nonnull final AbstractTask taskInfo) {
+		return payload(dataOutput -> {
+			try (ObjectOutputStream objectOutput = new ObjectOutputStream(dataOutput)) {
+				objectOutput.writeObject(taskInfo);
+			}
+		});
+	}
+
+	/**
+	 * <h3 class="en-US">Copy task information by serialization</h3>
+	 * <h3 class="zh-CN">通过序列化复制任务信息</h3>
+	 *
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @return <span class="en-US">Copied task information</span>
+	 * <span class="zh-CN">复制的任务信息</span>
+	 * @throws IOException <span class="en-US">If serialize or deserialize task information error</span>
+	 *                     <span class="zh-CN">如果序列化或反序列化任务信息出错</span>
+	 */
+	private static AbstractTask copyTask(@Nonnull final AbstractTask taskInfo) throws IOException {
+		try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(taskBytes(taskInfo)))) {
+			return (AbstractTask) objectInput.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Generate record payload by given writer</h3>
+	 * <h3 class="zh-CN">使用给定的写入器生成记录数据</h3>
+	 *
+	 * @param payloadWriter <span class="en-US">Payload writer</span>
+	 *                      <span class="zh-CN">记录数据写入器</span>
+	 * @return <span class="en-US">Payload byte array</span>
+	 * <span class="zh-CN">记录数据字节数组</span>
+	 */
+	private static byte[] payload(@Nonnull final PayloadWriter payloadWriter) {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		try (DataOutputStream dataOutput = new DataOutputStream(byteArrayOutputStream)) {
+			payloadWriter.write(dataOutput);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	/**
+	 * <h3 class="en-US">Write string value with length prefix, <code>null</code> was written as length -1</h3>
+	 * <h3 class="zh-CN">写入带长度前缀的字符串，<code>null</code>写入长度-1</h3>
+	 *
+	 * @param dataOutput <span class="en-US">Data output stream</span>
+	 *                   <span class="zh-CN">数据输出流</span>
+	 * @param value      <span class="en-US">String value</span>
+	 *                   <span class="zh-CN">字符串值</span>
+	 * @throws IOException <span class="en-US">If write data error</span>
+	 *                     <span class="zh-CN">如果写入数据出错</span>
+	 */
+	private static void writeString(@Nonnull final DataOutputStream dataOutput, final String value)
+			throws IOException {
+		if (value == null) {
+			dataOutput.writeInt(Globals.DEFAULT_VALUE_INT);
+			return;
+		}
+		byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+		dataOutput.writeInt(valueBytes.length);
+		dataOutput.write(valueBytes);
+	}
+
+	/**
+	 * <h3 class="en-US">Read string value with length prefix</h3>
+	 * <h3 class="zh-CN">读取带长度前缀的字符串</h3>
+	 *
+	 * @param dataInput <span class="en-US">Data input stream</span>
+	 *                  <span class="zh-CN">数据输入流</span>
+	 * @return <span class="en-US">String value</span>
+	 * <span class="zh-CN">字符串值</span>
+	 * @throws IOException <span class="en-US">If read data error</span>
+	 *                     <span class="zh-CN">如果读取数据出错</span>
+	 */
+	private static String readString(@Nonnull final DataInputStream dataInput) throws IOException {
+		int length = dataInput.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] valueBytes = new byte[length];
+		dataInput.readFully(valueBytes);
+		return new String(valueBytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * <h2 class="en-US">Record payload writer</h2>
+	 * <h2 class="zh-CN">记录数据写入器</h2>
+	 */
+	@FunctionalInterface
+	private interface PayloadWriter {
+
+		/**
+		 * <h3 class="en-US">Write payload to data output stream</h3>
+		 * <h3 class="zh-CN">写入记录数据到数据输出流</h3>
+		 *
+		 * @param dataOutput <span class="en-US">Data output stream</span>
+		 *                   <span class="zh-CN">数据输出流</span>
+		 * @throws IOException <span class="en-US">If write data error</span>
+		 *                     <span class="zh-CN">如果写入数据出错</span>
+		 */
+		void write(@Nonnull final DataOutputStream dataOutput) throws IOException;
+	}
+
+	/**
+	 * <h2 class="en-US">Journal record</h2>
+	 * <span class="en-US">Record layout: [int length][long crc32][byte type][long task code][payload]</span>
+	 * <h2 class="zh-CN">日志记录</h2>
+	 * <span class="zh-CN">记录格式：[int 长度][long crc32][byte 类型][long 任务识别代码][记录数据]</span>
+	 */
+	private static final class JournalRecord {
+
+		/**
+		 * <span class="en-US">Record type</span>
+		 * <span class="zh-CN">记录类型</span>
+		 */
+		private final byte recordType;
+		/**
+		 * <span class="en-US">Task identification code</span>
+		 * <span class="zh-CN">任务识别代码</span>
+		 */
+		private final long taskCode;
+		/**
+		 * <span class="en-US">Record payload</span>
+		 * <span class="zh-CN">记录数据</span>
+		 */
+		private final byte[] payload;
+		/**
+		 * <span class="en-US">Completed result of group commit</span>
+		 * <span class="zh-CN">组提交的完成结果</span>
+		 */
+		private final CompletableFuture<Boolean> completed = new CompletableFuture<>();
+
+		/**
+		 * <h3 class="en-US">Constructor method for journal record</h3>
+		 * <h3 class="zh-CN">日志记录的构造方法</h3>
+		 *
+		 * @param recordType <span class="en-US">Record type</span>
+		 *                   <span class="zh-CN">记录类型</span>
+		 * @param taskCode   <span class="en-US">Task identification code</span>
+		 *                   <span class="zh-CN">任务识别代码</span>
+		 * @param payload    <span class="en-US">Record payload</span>
+		 *                   <span class="zh-CN">记录数据</span>
+		 */
+		JournalRecord(final byte recordType, final long taskCode, @Nonnull final byte[] payload) {
+			this.recordType = recordType;
+			this.taskCode = taskCode;
+			this.payload = payload;
+		}
+
+		/**
+		 * <h3 class="en-US">Generate record bytes with length and checksum</h3>
+		 * <h3 class="zh-CN">生成带长度和校验值的记录字节数组</h3>
+		 *
+		 * @return <span class="en-US">Record bytes</span>
+		 * <span class="zh-CN">记录字节数组</span>
+		 */
+		byte[] recordBytes() {
+			ByteBuffer byteBuffer = ByteBuffer.allocate(21 + this.payload.length);
+			byteBuffer.putInt(9 + this.payload.length);
+			byteBuffer.putLong(0L);
+			byteBuffer.put(this.recordType);
+			byteBuffer.putLong(this.taskCode);
+			byteBuffer.put(this.payload);
+			CRC32 crc32 = new CRC32();
+			crc32.update(byteBuffer.array(), 12, 9 + this.payload.length);
+			byteBuffer.putLong(4, crc32.getValue());
+			return byteBuffer.array();
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.providers.data.core.AbstractStreamProvider;
+import org.nervousync.utils.FileUtils;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Newline-delimited JSON export adapter implementation class</h2>
+ * <h2 class="zh-CN">按行分隔的JSON导出适配器实现类</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 11:05:42 $
+ */
+@Provider(name = DatabaseCommons.EXPORT_TYPE_NDJSON, titleKey = "ndjson.name.export.provider")
+public final class JsonExportProviderImpl extends AbstractStreamProvider {
+
+	/**
+	 * <span class="en-US">Hex characters</span>
+	 * <span class="zh-CN">十六进制字符</span>
+	 */
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#extensionName()
+	 */
+	@Override
+	protected String extensionName() {
+		return DatabaseCommons.NDJSON_FILE_EXTENSION_NAME;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#appendHeader(java.lang.StringBuilder, java.util.List)
+	 */
+	@Override
+	protected void appendHeader(@Nonnull final StringBuilder stringBuilder, @Nonnull final List<String> columnNames) {
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.core.AbstractStreamProvider#appendRecord(java.lang.StringBuilder, java.util.List, java.util.List)
+	 */
+	@Override
+	protected void appendRecord(@Nonnull final StringBuilder stringBuilder, @Nonnull final List<String> columnNames,
+	                            @Nonnull final List<String> dataValues) {
+		stringBuilder.append('{');
+		boolean first = Boolean.TRUE;
+		for (int i = 0; i < columnNames.size() && i < dataValues.size(); i++) {
+			String columnName = columnNames.get(i);
+			if (columnName == null) {
+				continue;
+			}
+			if (first) {
+				first = Boolean.FALSE;
+			} else {
+				stringBuilder.append(',');
+			}
+			this.appendString(stringBuilder, columnName);
+			stringBuilder.append(':');
+			String dataValue = dataValues.get(i);
+			if (dataValue == null) {
+				stringBuilder.append("null");
+			} else {
+				this.appendString(stringBuilder, dataValue);
+			}
+		}
+		stringBuilder.append('}').append(FileUtils.LF);
+	}
+
+	/**
+	 * <h3 class="en-US">Append given string as escaped JSON string</h3>
+	 * <h3 class="zh-CN">追加给定字符串为转义后的JSON字符串</h3>
+	 *
+	 * @param stringBuilder <span class="en-US">Line content builder</span>
+	 *                      <span class="zh-CN">行内容构建器</span>
+	 * @param string        <span class="en-US">String value</span>
+	 *                      <span class="zh-CN">字符串值</span>
+	 */
+	private void appendString(@Nonnull final StringBuilder stringBuilder, @Nonnull final String string) {
+		stringBuilder.append('"');
+		for (int i = 0; i < string.length(); i++) {
+			char ch = string.charAt(i);
+			switch (ch) {
+				case '"':
+					stringBuilder.append("\\\"");
+					break;
+				case '\\':
+					stringBuilder.append("\\\\");
+					break;
+				case '\n':
+					stringBuilder.append("\\n");
+					break;
+				case '\r':
+					stringBuilder.append("\\r");
+					break;
+				case '\t':
+					stringBuilder.append("\\t");
+					break;
+				default:
+					if (ch < 0x20) {
+						stringBuilder.append("\\u00")
+								.append(HEX_CHARS[(ch >> 4) & 0xF])
+								.append(HEX_CHARS[ch & 0xF]);
+					} else {
+						stringBuilder.append(ch);
+					}
+					break;
+			}
+		}
+		stringBuilder.append('"');
+	}
+}
@@ -0,0 +1,634 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.data.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
+import org.nervousync.database.beans.task.TaskProgress;
+import org.nervousync.database.beans.task.impl.ImportTask;
+import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.providers.data.TaskProvider;
+import org.nervousync.utils.DateTimeUtils;
+import org.nervousync.utils.FileUtils;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <h2 class="en-US">Shared directory task adapter implementation class</h2>
+ * <span class="en-US">
+ * Reference implementation of lease based task claiming for several nodes. Each task is stored as a file in
+ * a directory shared by all nodes, and modifications are serialized by an exclusive lock file.
+ * Idle nodes claim waiting tasks from the shared directory, and tasks which lease was expired are taken over by
+ * the next claiming node. The shared directory is read from system property
+ * <code>org.nervousync.database.task.shared.path</code>, default is the "shared" folder under the base path.
+ * </span>
+ * <h2 class="zh-CN">共享目录任务适配器实现类</h2>
+ * <span class="zh-CN">
+ * 多节点基于租约认领任务的参考实现。每个任务以文件形式存储在所有节点共享的目录中，修改操作通过独占锁文件串行化。
+ * 空闲节点从共享目录中认领等待中的任务，租约已过期的任务将被下一个认领的节点接管。
+ * 共享目录读取自系统属性<code>org.nervousync.database.task.shared.path</code>，默认为基础路径下的"shared"文件夹
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:37:45 $
+ */
+@Provider(name = "SharedDirectoryTaskProvider", titleKey = "shared.name.task.provider")
+public final class SharedDirectoryTaskProviderImpl implements TaskProvider {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(SharedDirectoryTaskProviderImpl.class);
+	/**
+	 * <span class="en-US">System property name of shared directory path</span>
+	 * <span class="zh-CN">共享目录路径的系统属性名</span>
+	 */
+	public static final String SHARED_PATH_PROPERTY = "org.nervousync.database.task.shared.path";
+	/**
+	 * <span class="en-US">Default shared directory name under the base path</span>
+	 * <span class="zh-CN">基础路径下的默认共享目录名</span>
+	 */
+	private static final String DEFAULT_SHARED_FOLDER = "shared";
+	/**
+	 * <span class="en-US">Folder name of active tasks</span>
+	 * <span class="zh-CN">活动任务的文件夹名</span>
+	 */
+	private static final String ACTIVE_FOLDER = "active";
+	/**
+	 * <span class="en-US">Folder name of finished tasks</span>
+	 * <span class="zh-CN">已完成任务的文件夹名</span>
+	 */
+	private static final String FINISH_FOLDER = "finish";
+	/**
+	 * <span class="en-US">Lock file name</span>
+	 * <span class="zh-CN">锁文件名</span>
+	 */
+	private static final String LOCK_FILE_NAME = "task.lock";
+	/**
+	 * <span class="en-US">Task file extension name</span>
+	 * <span class="zh-CN">任务文件扩展名</span>
+	 */
+	private static final String TASK_FILE_EXTENSION_NAME = ".task";
+	/**
+	 * <span class="en-US">In-process monitors of shared directories, file lock is held by the whole process</span>
+	 * <span class="zh-CN">共享目录的进程内监视器，文件锁由整个进程持有</span>
+	 */
+	private static final Map<Path, Object> DIRECTORY_MONITORS = new ConcurrentHashMap<>();
+
+	/**
+	 * <span class="en-US">The base path for system execution</span>
+	 * <span class="zh-CN">系统执行的基础路径</span>
+	 */
+	private String basePath = Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Folder path of active tasks</span>
+	 * <span class="zh-CN">活动任务的文件夹路径</span>
+	 */
+	private Path activePath = null;
+	/**
+	 * <span class="en-US">Folder path of finished tasks</span>
+	 * <span class="zh-CN">已完成任务的文件夹路径</span>
+	 */
+	private Path finishPath = null;
+	/**
+	 * <span class="en-US">Lock file path</span>
+	 * <span class="zh-CN">锁文件路径</span>
+	 */
+	private Path lockPath = null;
+	/**
+	 * <span class="en-US">In-process monitor of current shared directory</span>
+	 * <span class="zh-CN">当前共享目录的进程内监视器</span>
+	 */
+	private Object monitor = null;
+	/**
+	 * <span class="en-US">User code of the last claimed task, used to rotate between users</span>
+	 * <span class="zh-CN">最后认领任务的用户识别代码，用于在用户之间轮换</span>
+	 */
+	private long lastUser = Globals.DEFAULT_VALUE_LONG;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#initialize()
+	 */
+	@Override
+	public void initialize() {
+		this.initialize(Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#initialize(java.lang.String)
+	 */
+	@Override
+	public void initialize(@Nonnull final String basePath) {
+		this.basePath = basePath;
+		Path sharedPath = Paths.get(System.getProperty(SHARED_PATH_PROPERTY,
+				basePath + Globals.DEFAULT_PAGE_SEPARATOR + DEFAULT_SHARED_FOLDER)).toAbsolutePath().normalize();
+		this.activePath = sharedPath.resolve(ACTIVE_FOLDER);
+		this.finishPath = sharedPath.resolve(FINISH_FOLDER);
+		this.lockPath = sharedPath.resolve(LOCK_FILE_NAME);
+		this.monitor = DIRECTORY_MONITORS.computeIfAbsent(sharedPath, key -> new Object());
+		try {
+			Files.createDirectories(this.activePath);
+			Files.createDirectories(this.finishPath);
+		} catch (IOException e) {
+			LOGGER.error("Task_Shared_Directory_Error", sharedPath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#destroy()
+	 */
+	@Override
+	public void destroy() {
+		this.lastUser = Globals.DEFAULT_VALUE_LONG;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#addTask(org.nervousync.database.beans.task.AbstractTask)
+	 */
+	@Override
+	public boolean addTask(@Nonnull final AbstractTask taskInfo) {
+		return Optional.ofNullable(this.locked(() -> {
+			if (Files.exists(this.taskPath(this.finishPath, taskInfo.getTaskCode()))) {
+				return Boolean.TRUE;
+			}
+			writeTask(this.taskPath(this.activePath, taskInfo.getTaskCode()), taskInfo);
+			return Boolean.TRUE;
+		})).orElse(Boolean.FALSE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#processTask(java.lang.Long, java.lang.String)
+	 */
+	@Override
+	public void processTask(@Nonnull final Long taskCode, final String identifyCode) {
+		this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo != null && ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				taskInfo.setStartTime(DateTimeUtils.currentUTCTimeMillis());
+				taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_PROCESS);
+				writeTask(taskPath, taskInfo);
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#dropTask(java.lang.Long)
+	 */
+	@Override
+	public void dropTask(@Nonnull final Long expireTime) {
+		if (ObjectUtils.nullSafeEquals(expireTime, Globals.DEFAULT_VALUE_LONG)) {
+			return;
+		}
+		long endTime = DateTimeUtils.currentUTCTimeMillis() - expireTime;
+		this.locked(() -> {
+			for (Path taskPath : taskPaths(this.finishPath)) {
+				AbstractTask taskInfo = readTask(taskPath);
+				if (taskInfo == null || taskInfo.getEndTime() < endTime) {
+					Files.deleteIfExists(taskPath);
+				}
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#dropTask(java.lang.Long, java.lang.Long)
+	 */
+	@Override
+	public boolean dropTask(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
+		if (this.taskInfo(userCode, taskCode) == null) {
+			return Boolean.TRUE;
+		}
+		String dataPath = this.basePath + Globals.DEFAULT_PAGE_SEPARATOR + Long.toHexString(taskCode)
+				+ DatabaseCommons.DATA_FILE_EXTENSION_NAME;
+		if (!FileUtils.removeFile(dataPath)) {
+			return Boolean.FALSE;
+		}
+		return Optional.ofNullable(this.locked(() -> {
+			Files.deleteIfExists(this.taskPath(this.activePath, taskCode));
+			Files.deleteIfExists(this.taskPath(this.finishPath, taskCode));
+			return Boolean.TRUE;
+		})).orElse(Boolean.FALSE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#nextTask(java.lang.String)
+	 */
+	@Override
+	public AbstractTask nextTask(@Nonnull final String identifyCode) {
+		return this.claimTask(identifyCode, DatabaseCommons.DEFAULT_TASK_LEASE_TIME);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long)
+	 */
+	@Override
+	public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime) {
+		return this.claimTask(identifyCode, leaseTime, taskInfo -> Boolean.TRUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#claimTask(java.lang.String, long, java.util.function.Predicate)
+	 */
+	@Override
+	public AbstractTask claimTask(@Nonnull final String identifyCode, final long leaseTime,
+	                              @Nonnull final Predicate<AbstractTask> taskFilter) {
+		return this.locked(() -> {
+			long currentTime = DateTimeUtils.currentUTCTimeMillis();
+			AbstractTask selectedTask = null;
+			Path selectedPath = null;
+			for (Path taskPath : taskPaths(this.activePath)) {
+				AbstractTask taskInfo = readTask(taskPath);
+				if (taskInfo == null) {
+					continue;
+				}
+				long leaseExpire = Optional.ofNullable(taskInfo.getLeaseExpire()).orElse(Globals.DEFAULT_VALUE_LONG);
+				boolean claimable =
+						ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_CREATE)
+								? (taskInfo.getIdentifyCode() == null || leaseExpire < currentTime)
+								: leaseExpire < currentTime;
+				if (claimable && taskFilter.test(taskInfo)
+						&& (selectedTask == null || this.preferred(taskInfo, selectedTask))) {
+					selectedTask = taskInfo;
+					selectedPath = taskPath;
+				}
+			}
+			if (selectedTask == null) {
+				return null;
+			}
+			if (ObjectUtils.nullSafeEquals(selectedTask.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)) {
+				selectedTask.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+			}
+			selectedTask.setIdentifyCode(identifyCode);
+			selectedTask.setLeaseExpire(currentTime + leaseTime);
+			writeTask(selectedPath, selectedTask);
+			this.lastUser = userKey(selectedTask.getUserCode());
+			return selectedTask;
+		});
+	}
+
+	/**
+	 * <h3 class="en-US">Check the candidate task is preferred to the selected task</h3>
+	 * <span class="en-US">
+	 * Task with higher priority is preferred, for the same priority the users after the last claimed user
+	 * are preferred, so users are served in round-robin order. Tasks of the same user are claimed in task code order.
+	 * </span>
+	 * <h3 class="zh-CN">检查候选任务是否优先于已选择的任务</h3>
+	 * <span class="zh-CN">优先级高的任务优先，相同优先级时最后认领用户之后的用户优先，使用户按照轮询顺序服务。同一用户的任务按照任务识别代码顺序认领</span>
+	 *
+	 * @param candidateTask <span class="en-US">Candidate task information</span>
+	 *                      <span class="zh-CN">候选任务信息</span>
+	 * @param selectedTask  <span class="en-US">Selected task information</span>
+	 *                      <span class="zh-CN">已选择的任务信息</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean preferred(@Nonnull final AbstractTask candidateTask, @Nonnull final AbstractTask selectedTask) {
+		int candidatePriority = Optional.ofNullable(candidateTask.getPriority()).orElse(DatabaseCommons.DEFAULT_TASK_PRIORITY);
+		int selectedPriority = Optional.ofNullable(selectedTask.getPriority()).orElse(DatabaseCommons.DEFAULT_TASK_PRIORITY);
+		if (candidatePriority != selectedPriority) {
+			return candidatePriority > selectedPriority;
+		}
+		long candidateUser = userKey(candidateTask.getUserCode()), selectedUser = userKey(selectedTask.getUserCode());
+		boolean candidateNext = candidateUser > this.lastUser, selectedNext = selectedUser > this.lastUser;
+		if (candidateNext != selectedNext) {
+			return candidateNext;
+		}
+		return candidateUser < selectedUser;
+	}
+
+	/**
+	 * <h3 class="en-US">Convert user code to rotation key, <code>null</code> was converted to <code>-1</code></h3>
+	 * <h3 class="zh-CN">转换用户识别代码为轮换键值，<code>null</code>转换为<code>-1</code></h3>
+	 *
+	 * @param userCode <span class="en-US">User identification code</span>
+	 *                 <span class="zh-CN">用户识别代码</span>
+	 * @return <span class="en-US">Rotation key</span>
+	 * <span class="zh-CN">轮换键值</span>
+	 */
+	private static long userKey(final Long userCode) {
+		return (userCode == null) ? Globals.DEFAULT_VALUE_LONG : userCode;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#renewLease(java.lang.Long, java.lang.String, long)
+	 */
+	@Override
+	public boolean renewLease(@Nonnull final Long taskCode, @Nonnull final String identifyCode, final long leaseTime) {
+		return Optional.ofNullable(this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo == null || !ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				return Boolean.FALSE;
+			}
+			taskInfo.setLeaseExpire(DateTimeUtils.currentUTCTimeMillis() + leaseTime);
+			writeTask(taskPath, taskInfo);
+			return Boolean.TRUE;
+		})).orElse(Boolean.FALSE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#releaseTask(java.lang.Long, java.lang.String)
+	 */
+	@Override
+	public void releaseTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode) {
+		this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo != null && ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_CREATE);
+				taskInfo.setIdentifyCode(null);
+				taskInfo.setStartTime(Globals.DEFAULT_VALUE_LONG);
+				taskInfo.setLeaseExpire(Globals.DEFAULT_VALUE_LONG);
+				writeTask(taskPath, taskInfo);
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#finishTask(java.lang.Long, java.lang.String, java.lang.Boolean, java.lang.String)
+	 */
+	@Override
+	public void finishTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                       @Nonnull final Boolean hasError, @Nonnull final String errorMessage) {
+		this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo != null
+					&& ObjectUtils.nullSafeEquals(taskInfo.getTaskStatus(), DatabaseCommons.DATA_TASK_STATUS_PROCESS)
+					&& ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				taskInfo.setTaskStatus(DatabaseCommons.DATA_TASK_STATUS_FINISH);
+				taskInfo.setEndTime(DateTimeUtils.currentUTCTimeMillis());
+				taskInfo.setHasError(hasError);
+				taskInfo.setErrorMessage(errorMessage);
+				taskInfo.setLeaseExpire(Globals.DEFAULT_VALUE_LONG);
+				writeTask(this.taskPath(this.finishPath, taskCode), taskInfo);
+				Files.deleteIfExists(taskPath);
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#updateProgress(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskProgress)
+	 */
+	@Override
+	public void updateProgress(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                           @Nonnull final TaskProgress taskProgress) {
+		this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo != null && ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				taskProgress.apply(taskInfo);
+				writeTask(taskPath, taskInfo);
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#checkpointTask(java.lang.Long, java.lang.String, org.nervousync.database.beans.task.TaskCheckpoint)
+	 */
+	@Override
+	public void checkpointTask(@Nonnull final Long taskCode, @Nonnull final String identifyCode,
+	                           @Nonnull final TaskCheckpoint taskCheckpoint) {
+		this.locked(() -> {
+			Path taskPath = this.taskPath(this.activePath, taskCode);
+			AbstractTask taskInfo = readTask(taskPath);
+			if (taskInfo instanceof ImportTask
+					&& ObjectUtils.nullSafeEquals(taskInfo.getIdentifyCode(), identifyCode)) {
+				taskCheckpoint.apply((ImportTask) taskInfo);
+				writeTask(taskPath, taskInfo);
+			}
+			return Boolean.TRUE;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#taskList(java.lang.Long, java.lang.Integer, java.lang.Integer)
+	 */
+	@Override
+	public List<AbstractTask> taskList(@Nonnull final Long userCode, final Integer pageNo, final Integer limitSize) {
+		int currentPage = (pageNo == null || pageNo <= Globals.INITIALIZE_INT_VALUE)
+				? DatabaseCommons.DEFAULT_PAGE_NO
+				: pageNo;
+		int currentLimit = (limitSize == null || limitSize <= Globals.INITIALIZE_INT_VALUE)
+				? DatabaseCommons.DEFAULT_PAGE_LIMIT
+				: limitSize;
+		return Optional.ofNullable(this.locked(() ->
+						Stream.concat(taskPaths(this.activePath).stream(), taskPaths(this.finishPath).stream())
+								.map(SharedDirectoryTaskProviderImpl::readTask)
+								.filter(taskInfo -> taskInfo != null
+										&& ObjectUtils.nullSafeEquals(taskInfo.getUserCode(), userCode))
+								.sorted(Comparator.comparing(AbstractTask::getTaskCode))
+								.skip((long) (currentPage - 1) * currentLimit)
+								.limit(currentLimit)
+								.collect(Collectors.toList())))
+				.orElseGet(ArrayList::new);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.data.TaskProvider#taskInfo(java.lang.Long, java.lang.Long)
+	 */
+	@Override
+	public AbstractTask taskInfo(@Nonnull final Long userCode, @Nonnull final Long taskCode) {
+		return this.locked(() ->
+				Optional.ofNullable(readTask(this.taskPath(this.activePath, taskCode)))
+						.or(() -> Optional.ofNullable(readTask(this.taskPath(this.finishPath, taskCode))))
+						.filter(taskInfo -> ObjectUtils.nullSafeEquals(taskInfo.getUserCode(), userCode))
+						.orElse(null));
+	}
+
+	/**
+	 * <h3 class="en-US">Execute given operation while holding the in-process monitor and the exclusive file lock</h3>
+	 * <h3 class="zh-CN">持有进程内监视器和独占文件锁时执行给定的操作</h3>
+	 *
+	 * @param operation <span class="en-US">Operation</span>
+	 *                  <span class="zh-CN">操作</span>
+	 * @param <T>       <span class="en-US">Result type</span>
+	 *                  <span class="zh-CN">结果类型</span>
+	 * @return <span class="en-US">Operation result or <code>null</code> if access shared directory error</span>
+	 * <span class="zh-CN">操作结果，访问共享目录出错时返回<code>null</code></span>
+	 */
+	private <T> T locked(@Nonnull final DirectoryOperation<T> operation) {
+		if (this.monitor == null) {
+			return null;
+		}
+		synchronized (this.monitor) {
+			try (FileChannel fileChannel = FileChannel.open(this.lockPath,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+				FileLock fileLock = fileChannel.lock();
+				try {
+					return operation.execute();
+				} finally {
+					fileLock.release();
+				}
+			} catch (IOException e) {
+				LOGGER.error("Task_Shared_Directory_Error", this.lockPath.getParent());
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the task file path in given folder</h3>
+	 * <h3 class="zh-CN">读取给定文件夹中的任务文件路径</h3>
+	 *
+	 * @param folderPath <span class="en-US">Folder path</span>
+	 *                   <span class="zh-CN">文件夹路径</span>
+	 * @param taskCode   <span class="en-US">Task identification code</span>
+	 *                   <span class="zh-CN">任务识别代码</span>
+	 * @return <span class="en-US">Task file path</span>
+	 * <span class="zh-CN">任务文件路径</span>
+	 */
+	private Path taskPath(@Nonnull final Path folderPath, @Nonnull final Long taskCode) {
+		return folderPath.resolve(Long.toHexString(taskCode) + TASK_FILE_EXTENSION_NAME);
+	}
+
+	/**
+	 * <h3 class="en-US">List task files in given folder, ordered by task code</h3>
+	 * <h3 class="zh-CN">列出给定文件夹中的任务文件，按照任务识别代码排序</h3>
+	 *
+	 * @param folderPath <span class="en-US">Folder path</span>
+	 *                   <span class="zh-CN">文件夹路径</span>
+	 * @return <span class="en-US">Task file path list</span>
+	 * <span class="zh-CN">任务文件路径列表</span>
+	 * @throws IOException <span class="en-US">If list folder error</span>
+	 *                     <span class="zh-CN">如果列出文件夹出错</span>
+	 */
+	private static List<Path> taskPaths(@Nonnull final Path folderPath) throws IOException {
+		Function<Path, Long> taskCode = taskPath -> {
+			String fileName = taskPath.getFileName().toString();
+			return Long.parseUnsignedLong(fileName.substring(0, fileName.length() - TASK_FILE_EXTENSION_NAME.length()), 16);
+		};
+		try (Stream<Path> pathStream = Files.list(folderPath)) {
+			return pathStream.filter(path -> path.getFileName().toString().endsWith(TASK_FILE_EXTENSION_NAME))
+					.sorted(Comparator.comparing(taskCode))
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Read task information from given file</h3>
+	 * <h3 class="zh-CN">从给定文件读取任务信息</h3>
+	 *
+	 * @param taskPath <span class="en-US">Task file path</span>
+	 *                 <span class="zh-CN">任务文件路径</span>
+	 * @return <span class="en-US">Task information or <code>null</code> if file not exists or invalid</span>
+	 * <span class="zh-CN">任务信息，文件不存在或无效时返回<code>null</code></span>
+	 */
+	private static AbstractTask readTask(@Nonnull final Path taskPath) {
+		if (!Files.exists(taskPath)) {
+			return null;
+		}
+		try (ObjectInputStream objectInput =
+				     new ObjectInputStream(new BufferedInputStream(Files.newInputStream(taskPath)))) {
+			Object object = objectInput.readObject();
+			return (object instanceof AbstractTask) ? (AbstractTask) object : null;
+		} catch (IOException | ClassNotFoundException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Write task information to given file, the file is replaced by atomic move</h3>
+	 * <h3 class="zh-CN">写入任务信息到给定文件，文件通过原子移动替换</h3>
+	 *
+	 * @param taskPath <span class="en-US">Task file path</span>
+	 *                 <span class="zh-CN">任务文件路径</span>
+	 * @param taskInfo <span class="en-US">Task information</span>
+	 *                 <span class="zh-CN">任务信息</span>
+	 * @throws IOException <span class="en-US">If write file error</span>
+	 *                     <span class="zh-CN">如果写入文件出错</span>
+	 */
+	private static void writeTask(@Nonnull final Path taskPath, @Nonnull final AbstractTask taskInfo)
+			throws IOException {
+		Path tempPath = taskPath.resolveSibling(taskPath.getFileName() + ".tmp");
+		try (ObjectOutputStream objectOutput =
+				     new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+			objectOutput.writeObject(taskInfo);
+		}
+		Files.move(tempPath, taskPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * <h2 class="en-US">Shared directory operation</h2>
+	 * <h2 class="zh-CN">共享目录操作</h2>
+	 *
+	 * @param <T> <span class="en-US">Result type</span>
+	 *            <span class="zh-CN">结果类型</span>
+	 */
+	@FunctionalInterface
+	private interface DirectoryOperation<T> {
+
+		/**
+		 * <h3 class="en-US">Execute operation</h3>
+		 * <h3 class="zh-CN">执行操作</h3>
+		 *
+		 * @return <span class="en-US">Operation result</span>
+		 * <span class="zh-CN">操作结果</span>
+		 * @throws IOException <span class="en-US">If access shared directory error</span>
+		 *                     <span class="zh-CN">如果访问共享目录出错</span>
+		 */
+		T execute() throws IOException;
+	}
+}
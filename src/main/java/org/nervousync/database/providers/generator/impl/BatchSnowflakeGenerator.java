@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.generator.impl;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.generator.IGenerator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Batch prefetching snowflake ID generator</h2>
+ * <span class="en-US">
+ * Each thread reserves a batch of sequence numbers by one compare and swap operation, and generates the identifiers
+ * from the reserved batch without any synchronization. When the sequence numbers of current millisecond are used up,
+ * the generator borrows the next millisecond, so the generated identifiers are unique even if the system clock moved backwards.
+ * </span>
+ * <h2 class="zh-CN">批量预取的雪花ID生成器</h2>
+ * <span class="zh-CN">
+ * 每个线程通过一次比较并交换操作预留一批序号，并在不进行任何同步的情况下从预留的批次中生成标识。
+ * 当前毫秒的序号用尽时，生成器借用下一毫秒，因此即使系统时钟回拨，生成的标识仍然唯一
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:14:38 $
+ */
+@Provider(name = "BatchSnowflake", titleKey = "batch.snowflake.id.generator.name")
+public final class BatchSnowflakeGenerator implements IGenerator<Long> {
+
+	/**
+	 * <span class="en-US">Default reference time</span>
+	 * <span class="zh-CN">默认的参考时间</span>
+	 */
+	private static final long DEFAULT_REFERENCE_TIME = 1303315200000L;
+	/**
+	 * <span class="en-US">Bit count of sequence number</span>
+	 * <span class="zh-CN">序号的位数</span>
+	 */
+	private static final int SEQUENCE_BITS = 12;
+	/**
+	 * <span class="en-US">Bit count of device and instance identify code</span>
+	 * <span class="zh-CN">设备和实例识别代码的位数</span>
+	 */
+	private static final int WORKER_BITS = 10;
+	/**
+	 * <span class="en-US">Mask of sequence number</span>
+	 * <span class="zh-CN">序号的掩码</span>
+	 */
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	/**
+	 * <span class="en-US">Maximum value of device or instance identify code</span>
+	 * <span class="zh-CN">设备或实例识别代码的最大值</span>
+	 */
+	private static final long MAX_NODE_ID = (1L << (WORKER_BITS / 2)) - 1;
+	/**
+	 * <span class="en-US">Sequence numbers count reserved by one thread at a time</span>
+	 * <span class="zh-CN">每个线程每次预留的序号数量</span>
+	 */
+	private static final int BATCH_SIZE = 64;
+	/**
+	 * <span class="en-US">Next sequence number which was not reserved, contains elapsed milliseconds and sequence</span>
+	 * <span class="zh-CN">下一个未被预留的序号，包含经过的毫秒数和序号</span>
+	 */
+	private static final AtomicLong ALLOCATED = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Reserved batch of current thread, contains next and end sequence number</span>
+	 * <span class="zh-CN">当前线程预留的批次，包含下一个和结束序号</span>
+	 */
+	private static final ThreadLocal<long[]> THREAD_BATCH = ThreadLocal.withInitial(() -> new long[2]);
+	/**
+	 * <span class="en-US">Reference time</span>
+	 * <span class="zh-CN">参考时间</span>
+	 */
+	private static volatile long REFERENCE_TIME = DEFAULT_REFERENCE_TIME;
+	/**
+	 * <span class="en-US">Shifted worker identify code, contains device and instance identify code</span>
+	 * <span class="zh-CN">移位后的工作节点识别代码，包含设备和实例识别代码</span>
+	 */
+	private static volatile long WORKER_ID = 0L;
+
+	/**
+	 * <h3 class="en-US">Configure the generator</h3>
+	 * <span class="en-US">Should be invoked before any identifier generated.</span>
+	 * <h3 class="zh-CN">配置生成器</h3>
+	 * <span class="zh-CN">应在生成任何标识之前调用</span>
+	 *
+	 * @param referenceTime <span class="en-US">Reference time, default value will be used if negative</span>
+	 *                      <span class="zh-CN">参考时间，为负数时使用默认值</span>
+	 * @param deviceId      <span class="en-US">Device identify code, between 0 and 31</span>
+	 *                      <span class="zh-CN">设备识别代码，取值范围0到31</span>
+	 * @param instanceId    <span class="en-US">Instance identify code, between 0 and 31</span>
+	 *                      <span class="zh-CN">实例识别代码，取值范围0到31</span>
+	 */
+	public static void config(final long referenceTime, final long deviceId, final long instanceId) {
+		REFERENCE_TIME = (referenceTime >= 0L) ? referenceTime : DEFAULT_REFERENCE_TIME;
+		WORKER_ID = (((deviceId & MAX_NODE_ID) << (WORKER_BITS / 2)) | (instanceId & MAX_NODE_ID)) << SEQUENCE_BITS;
+	}
+
+	/**
+	 * <h3 class="en-US">Generate the next identifier without boxing</h3>
+	 * <h3 class="zh-CN">生成下一个标识，不进行装箱</h3>
+	 *
+	 * @return <span class="en-US">Generated identifier</span>
+	 * <span class="zh-CN">生成的标识</span>
+	 */
+	public static long nextId() {
+		long[] threadBatch = THREAD_BATCH.get();
+		if (threadBatch[0] >= threadBatch[1]) {
+			reserve(threadBatch);
+		}
+		long sequence = threadBatch[0]++;
+		return ((sequence >>> SEQUENCE_BITS) << (SEQUENCE_BITS + WORKER_BITS)) | WORKER_ID | (sequence & SEQUENCE_MASK);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#generate()
+	 */
+	@Override
+	public Long generate() {
+		return nextId();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#generate(byte[])
+	 */
+	@Override
+	public Long generate(final byte[] dataBytes) {
+		return nextId();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#destroy()
+	 */
+	@Override
+	public void destroy() {
+	}
+
+	/**
+	 * <h3 class="en-US">Reserve a batch of sequence numbers for current thread</h3>
+	 * <span class="en-US">The batch never crosses the boundary of millisecond.</span>
+	 * <h3 class="zh-CN">为当前线程预留一批序号</h3>
+	 * <span class="zh-CN">批次不会跨越毫秒边界</span>
+	 *
+	 * @param threadBatch <span class="en-US">Reserved batch of current thread</span>
+	 *                    <span class="zh-CN">当前线程预留的批次</span>
+	 */
+	private static void reserve(final long[] threadBatch) {
+		while (true) {
+			long allocated = ALLOCATED.get();
+			long beginSequence = Math.max(allocated, (System.currentTimeMillis() - REFERENCE_TIME) << SEQUENCE_BITS);
+			long endSequence = Math.min(beginSequence + BATCH_SIZE, (beginSequence | SEQUENCE_MASK) + 1);
+			if (ALLOCATED.compareAndSet(allocated, endSequence)) {
+				threadBatch[0] = beginSequence;
+				threadBatch[1] = endSequence;
+				return;
+			}
+		}
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.generator.impl;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.generator.IGenerator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2 class="en-US">Time ordered UUID generator, using the layout of UUID version 7</h2>
+ * <span class="en-US">
+ * The identifier contains 48 bits millisecond timestamp, 12 bits counter and 62 bits random value.
+ * The counter keeps the identifiers generated by the same thread in order within the same millisecond,
+ * the state and the character buffer are kept by each thread, so no synchronization is required.
+ * </span>
+ * <h2 class="zh-CN">时间有序的UUID生成器，使用UUID第7版的布局</h2>
+ * <span class="zh-CN">
+ * 标识包含48位毫秒时间戳、12位计数器和62位随机值。计数器保证同一线程在同一毫秒内生成的标识有序，
+ * 状态和字符缓冲区由每个线程各自持有，因此不需要同步
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:26:51 $
+ */
+@Provider(name = "UUIDv7", titleKey = "uuid.v7.id.generator.name")
+public final class UUIDv7Generator implements IGenerator<String> {
+
+	/**
+	 * <span class="en-US">Hexadecimal characters</span>
+	 * <span class="zh-CN">十六进制字符</span>
+	 */
+	private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+	/**
+	 * <span class="en-US">Maximum value of counter</span>
+	 * <span class="zh-CN">计数器的最大值</span>
+	 */
+	private static final int MAX_COUNTER = 0xFFF;
+	/**
+	 * <span class="en-US">Generator state of current thread</span>
+	 * <span class="zh-CN">当前线程的生成器状态</span>
+	 */
+	private static final ThreadLocal<GeneratorState> THREAD_STATE = ThreadLocal.withInitial(GeneratorState::new);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#generate()
+	 */
+	@Override
+	public String generate() {
+		GeneratorState generatorState = THREAD_STATE.get();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long currentTime = System.currentTimeMillis();
+		if (currentTime <= generatorState.lastTime) {
+			if (generatorState.counter < MAX_COUNTER) {
+				generatorState.counter++;
+			} else {
+				generatorState.lastTime++;
+				generatorState.counter = random.nextInt(MAX_COUNTER >> 1);
+			}
+		} else {
+			generatorState.lastTime = currentTime;
+			generatorState.counter = random.nextInt(MAX_COUNTER >> 1);
+		}
+		long mostBits = (generatorState.lastTime << 16) | 0x7000L | generatorState.counter;
+		long leastBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		char[] uuidChars = generatorState.uuidChars;
+		int index = appendHex(uuidChars, 0, mostBits >>> 32, 8);
+		uuidChars[index++] = '-';
+		index = appendHex(uuidChars, index, mostBits >>> 16, 4);
+		uuidChars[index++] = '-';
+		index = appendHex(uuidChars, index, mostBits, 4);
+		uuidChars[index++] = '-';
+		index = appendHex(uuidChars, index, leastBits >>> 48, 4);
+		uuidChars[index++] = '-';
+		appendHex(uuidChars, index, leastBits, 12);
+		return new String(uuidChars);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#generate(byte[])
+	 */
+	@Override
+	public String generate(final byte[] dataBytes) {
+		return this.generate();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.generator.IGenerator#destroy()
+	 */
+	@Override
+	public void destroy() {
+	}
+
+	/**
+	 * <h3 class="en-US">Write the lowest digits of given value as hexadecimal characters</h3>
+	 * <h3 class="zh-CN">将给定值的低位以十六进制字符写入</h3>
+	 *
+	 * @param uuidChars <span class="en-US">Character buffer</span>
+	 *                  <span class="zh-CN">字符缓冲区</span>
+	 * @param index     <span class="en-US">Begin index of character buffer</span>
+	 *                  <span class="zh-CN">字符缓冲区的起始索引</span>
+	 * @param value     <span class="en-US">Value</span>
+	 *                  <span class="zh-CN">值</span>
+	 * @param digits    <span class="en-US">Hexadecimal digits count</span>
+	 *                  <span class="zh-CN">十六进制位数</span>
+	 * @return <span class="en-US">Next index of character buffer</span>
+	 * <span class="zh-CN">字符缓冲区的下一个索引</span>
+	 */
+	private static int appendHex(final char[] uuidChars, final int index, final long value, final int digits) {
+		for (int i = 0; i < digits; i++) {
+			uuidChars[index + i] = HEX_CHARS[(int) ((value >>> ((digits - 1 - i) * 4)) & 0xF)];
+		}
+		return index + digits;
+	}
+
+	/**
+	 * <h2 class="en-US">Generator state of thread</h2>
+	 * <h2 class="zh-CN">线程的生成器状态</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:31:07 $
+	 */
+	private static final class GeneratorState {
+		/**
+		 * <span class="en-US">Timestamp of last generated identifier</span>
+		 * <span class="zh-CN">最后生成的标识的时间戳</span>
+		 */
+		private long lastTime = 0L;
+		/**
+		 * <span class="en-US">Counter of last generated identifier</span>
+		 * <span class="zh-CN">最后生成的标识的计数器</span>
+		 */
+		private int counter = 0;
+		/**
+		 * <span class="en-US">Character buffer</span>
+		 * <span class="zh-CN">字符缓冲区</span>
+		 */
+		private final char[] uuidChars = new char[36];
+	}
+}
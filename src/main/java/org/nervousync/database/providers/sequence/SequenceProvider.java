@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.sequence;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.database.beans.configs.sequence.SequenceConfig;
+import org.nervousync.database.beans.sequence.SequenceRange;
+
+/**
+ * <h2 class="en-US">Sequence value storage adapter</h2>
+ * <span class="en-US">Adapter implementations must reserve each range atomically, so the values will never be handed out twice.</span>
+ * <h2 class="zh-CN">序列值存储适配器</h2>
+ * <span class="zh-CN">适配器实现必须以原子方式预留每个范围，保证序列值不会被重复分配</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:11:52 $
+ */
+public interface SequenceProvider {
+
+    /**
+     * <h3 class="en-US">Initialize adapter</h3>
+     * <h3 class="zh-CN">初始化适配器</h3>
+     */
+    void initialize();
+
+    /**
+     * <h3 class="en-US">Initialize adapter using the given base path</h3>
+     * <span class="en-US">Adapters which persist sequence values can store their files under the given path.</span>
+     * <h3 class="zh-CN">使用给定的基础路径初始化适配器</h3>
+     * <span class="zh-CN">持久化序列值的适配器可以将文件存储在给定路径下</span>
+     *
+     * @param basePath <span class="en-US">The base path for system execution</span>
+     *                 <span class="zh-CN">系统执行的基础路径</span>
+     */
+    default void initialize(@Nonnull final String basePath) {
+        this.initialize();
+    }
+
+    /**
+     * <h3 class="en-US">Destroy the current adapter</h3>
+     * <h3 class="zh-CN">销毁当前适配器</h3>
+     */
+    void destroy();
+
+    /**
+     * <h3 class="en-US">Reserve range of sequence values</h3>
+     * <span class="en-US">
+     * The returned range starts from the current value of the sequence and contains at most the given count of values.
+     * The range never exceeds the maximum value, the next reservation starts from the minimum value
+     * if the sequence is cycle, otherwise the sequence is exhausted.
+     * </span>
+     * <h3 class="zh-CN">预留序列值范围</h3>
+     * <span class="zh-CN">
+     * 返回的范围从序列的当前值开始，最多包含给定数量的序列值。
+     * 范围不会超过最大值，如果序列为循环序列，下一次预留从最小值开始，否则序列已耗尽。
+     * </span>
+     *
+     * @param sequenceConfig <span class="en-US">Sequence configure information</span>
+     *                       <span class="zh-CN">序列生成器配置信息</span>
+     * @param count          <span class="en-US">Maximum count of reserved values</span>
+     *                       <span class="zh-CN">预留序列值的最大数量</span>
+     * @return <span class="en-US">Reserved range or <code>null</code> if the sequence was exhausted</span>
+     * <span class="zh-CN">预留的范围，序列已耗尽时返回<code>null</code></span>
+     */
+    SequenceRange reserve(@Nonnull final SequenceConfig sequenceConfig, final long count);
+}
@@ -0,0 +1,295 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.providers.sequence.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.configs.sequence.SequenceConfig;
+import org.nervousync.database.beans.sequence.SequenceRange;
+import org.nervousync.database.providers.sequence.SequenceProvider;
+import org.nervousync.utils.ConvertUtils;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.SecurityUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Local sequence adapter implementation class</h2>
+ * <span class="en-US">
+ * The next value of every sequence is stored in a fixed size slot of a memory-mapped counter file under the base path.
+ * Reserving a range writes the next value of the slot once and synchronizes it to disk before the range is returned,
+ * so the values will never be reused after restart. The counter file is locked exclusively by the current process.
+ * </span>
+ * <h2 class="zh-CN">本地序列适配器实现类</h2>
+ * <span class="zh-CN">
+ * 每个序列的下一个值存储在基础路径下内存映射计数器文件的固定大小槽位中。预留范围时仅写入一次槽位的下一个值，
+ * 并在返回范围之前同步到磁盘，因此重启后序列值不会被重复使用。计数器文件由当前进程独占锁定
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:52:16 $
+ */
+@Provider(name = "LocalSequenceProvider", titleKey = "local.name.sequence.provider")
+public final class LocalSequenceProviderImpl implements SequenceProvider {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(LocalSequenceProviderImpl.class);
+	/**
+	 * <span class="en-US">Counter file name</span>
+	 * <span class="zh-CN">计数器文件名</span>
+	 */
+	private static final String COUNTER_FILE_NAME = "sequence.counter";
+	/**
+	 * <span class="en-US">Slot size in bytes, contains name length, name bytes and next value</span>
+	 * <span class="zh-CN">槽位字节大小，包含名称长度、名称字节和下一个值</span>
+	 */
+	private static final int SLOT_SIZE = 128;
+	/**
+	 * <span class="en-US">Offset of next value in slot</span>
+	 * <span class="zh-CN">下一个值在槽位中的偏移量</span>
+	 */
+	private static final int VALUE_OFFSET = SLOT_SIZE - Long.BYTES;
+	/**
+	 * <span class="en-US">Maximum length of name bytes</span>
+	 * <span class="zh-CN">名称字节的最大长度</span>
+	 */
+	private static final int NAME_LENGTH = VALUE_OFFSET - Short.BYTES;
+	/**
+	 * <span class="en-US">Initialize slot count of counter file</span>
+	 * <span class="zh-CN">计数器文件的初始槽位数</span>
+	 */
+	private static final int INITIALIZE_SLOT_COUNT = 64;
+	/**
+	 * <span class="en-US">Next value of exhausted sequence</span>
+	 * <span class="zh-CN">已耗尽序列的下一个值</span>
+	 */
+	private static final long EXHAUSTED_VALUE = Long.MIN_VALUE;
+
+	/**
+	 * <span class="en-US">Slot index of sequences, key is sequence name</span>
+	 * <span class="zh-CN">序列的槽位索引，键值为序列名称</span>
+	 */
+	private final Map<String, Integer> slotIndexes = new HashMap<>();
+	/**
+	 * <span class="en-US">Counter file channel</span>
+	 * <span class="zh-CN">计数器文件通道</span>
+	 */
+	private FileChannel counterChannel = null;
+	/**
+	 * <span class="en-US">Exclusive lock of counter file</span>
+	 * <span class="zh-CN">计数器文件的独占锁</span>
+	 */
+	private FileLock counterLock = null;
+	/**
+	 * <span class="en-US">Memory-mapped buffer of counter file</span>
+	 * <span class="zh-CN">计数器文件的内存映射缓冲区</span>
+	 */
+	private MappedByteBuffer counterBuffer = null;
+	/**
+	 * <span class="en-US">Slot count of memory-mapped buffer</span>
+	 * <span class="zh-CN">内存映射缓冲区的槽位数</span>
+	 */
+	private int slotCount = 0;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.sequence.SequenceProvider#initialize()
+	 */
+	@Override
+	public void initialize() {
+		this.initialize(Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.sequence.SequenceProvider#initialize(java.lang.String)
+	 */
+	@Override
+	public synchronized void initialize(@Nonnull final String basePath) {
+		try {
+			Path basedir = Paths.get(basePath).toAbsolutePath();
+			Files.createDirectories(basedir);
+			this.counterChannel = FileChannel.open(basedir.resolve(COUNTER_FILE_NAME),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			this.counterLock = this.counterChannel.tryLock();
+			if (this.counterLock == null) {
+				throw new IOException("Counter file was locked by another process");
+			}
+			int existsCount = (int) (this.counterChannel.size() / SLOT_SIZE);
+			this.mapSlots(Math.max(INITIALIZE_SLOT_COUNT, existsCount));
+			for (int i = 0; i < existsCount; i++) {
+				int nameLength = this.counterBuffer.getShort(i * SLOT_SIZE);
+				if (nameLength <= 0) {
+					break;
+				}
+				byte[] nameBytes = new byte[nameLength];
+				this.counterBuffer.duplicate().position(i * SLOT_SIZE + Short.BYTES).get(nameBytes);
+				this.slotIndexes.put(new String(nameBytes, StandardCharsets.UTF_8), i);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Sequence_Counter_Open_Error", basePath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			this.closeChannel();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.sequence.SequenceProvider#destroy()
+	 */
+	@Override
+	public synchronized void destroy() {
+		if (this.counterBuffer != null) {
+			this.counterBuffer.force();
+		}
+		this.closeChannel();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.nervousync.database.providers.sequence.SequenceProvider#reserve(org.nervousync.database.beans.configs.sequence.SequenceConfig, long)
+	 */
+	@Override
+	public synchronized SequenceRange reserve(@Nonnull final SequenceConfig sequenceConfig, final long count) {
+		if (this.counterBuffer == null) {
+			LOGGER.error("Sequence_Counter_Closed_Error", sequenceConfig.getSequenceName());
+			return null;
+		}
+		long step = Math.max(1L, sequenceConfig.getStep());
+		long minValue = sequenceConfig.getMinValue();
+		long maxValue = (sequenceConfig.getMaxValue() < 0) ? Long.MAX_VALUE : sequenceConfig.getMaxValue();
+		int offset;
+		try {
+			offset = this.slotOffset(sequenceConfig.getSequenceName(), Math.max(minValue, sequenceConfig.getCurrent()));
+		} catch (IOException e) {
+			LOGGER.error("Sequence_Counter_Write_Error", sequenceConfig.getSequenceName());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return null;
+		}
+		long beginValue = this.counterBuffer.getLong(offset + VALUE_OFFSET);
+		if (beginValue == EXHAUSTED_VALUE || beginValue > maxValue || beginValue < minValue) {
+			if (!sequenceConfig.isCycle()) {
+				return null;
+			}
+			beginValue = minValue;
+		}
+		long endValue = beginValue + Math.min(Math.max(1L, count) - 1, (maxValue - beginValue) / step) * step;
+		long nextValue;
+		if (maxValue - endValue < step) {
+			nextValue = sequenceConfig.isCycle() ? minValue : EXHAUSTED_VALUE;
+		} else {
+			nextValue = endValue + step;
+		}
+		this.counterBuffer.putLong(offset + VALUE_OFFSET, nextValue);
+		this.counterBuffer.force();
+		return new SequenceRange(beginValue, endValue);
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the slot offset of given sequence, allocate new slot if not exists</h3>
+	 * <h3 class="zh-CN">获取给定序列的槽位偏移量，如果不存在则分配新槽位</h3>
+	 *
+	 * @param sequenceName <span class="en-US">Sequence name</span>
+	 *                     <span class="zh-CN">序列名称</span>
+	 * @param initValue    <span class="en-US">Initialize value of new sequence</span>
+	 *                     <span class="zh-CN">新序列的初始值</span>
+	 * @return <span class="en-US">Slot offset in bytes</span>
+	 * <span class="zh-CN">槽位的字节偏移量</span>
+	 * @throws IOException <span class="en-US">If extend counter file error</span>
+	 *                     <span class="zh-CN">如果扩展计数器文件出错</span>
+	 */
+	private int slotOffset(@Nonnull final String sequenceName, final long initValue) throws IOException {
+		byte[] nameBytes = sequenceName.getBytes(StandardCharsets.UTF_8);
+		if (nameBytes.length > NAME_LENGTH) {
+			nameBytes = ConvertUtils.toHex(SecurityUtils.SHA256(sequenceName)).getBytes(StandardCharsets.UTF_8);
+		}
+		String slotName = new String(nameBytes, StandardCharsets.UTF_8);
+		Integer slotIndex = this.slotIndexes.get(slotName);
+		if (slotIndex == null) {
+			slotIndex = this.slotIndexes.size();
+			if (slotIndex >= this.slotCount) {
+				this.mapSlots(this.slotCount * 2);
+			}
+			int offset = slotIndex * SLOT_SIZE;
+			this.counterBuffer.duplicate().position(offset + Short.BYTES).put(nameBytes);
+			this.counterBuffer.putLong(offset + VALUE_OFFSET, initValue);
+			this.counterBuffer.putShort(offset, (short) nameBytes.length);
+			this.slotIndexes.put(slotName, slotIndex);
+		}
+		return slotIndex * SLOT_SIZE;
+	}
+
+	/**
+	 * <h3 class="en-US">Map the given slot count of counter file to memory</h3>
+	 * <h3 class="zh-CN">将计数器文件的给定槽位数映射到内存</h3>
+	 *
+	 * @param mapCount <span class="en-US">Slot count</span>
+	 *                 <span class="zh-CN">槽位数</span>
+	 * @throws IOException <span class="en-US">If map counter file error</span>
+	 *                     <span class="zh-CN">如果映射计数器文件出错</span>
+	 */
+	private void mapSlots(final int mapCount) throws IOException {
+		if (this.counterBuffer != null) {
+			this.counterBuffer.force();
+		}
+		this.counterBuffer = this.counterChannel.map(FileChannel.MapMode.READ_WRITE, 0L, (long) mapCount * SLOT_SIZE);
+		this.slotCount = mapCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Release the lock and close the counter file channel</h3>
+	 * <h3 class="zh-CN">释放锁并关闭计数器文件通道</h3>
+	 */
+	private void closeChannel() {
+		this.counterBuffer = null;
+		this.slotCount = 0;
+		this.slotIndexes.clear();
+		if (this.counterChannel != null) {
+			try {
+				if (this.counterLock != null) {
+					this.counterLock.release();
+				}
+				this.counterChannel.close();
+			} catch (IOException e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+			this.counterLock = null;
+			this.counterChannel = null;
+		}
+	}
+}
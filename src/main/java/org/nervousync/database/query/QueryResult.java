@@ -21,6 +21,7 @@ import jakarta.xml.bind.annotation.*;
 import org.nervousync.beans.core.BeanObject;
 import org.nervousync.commons.Globals;
 import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.commons.IdentityMap;
 import org.nervousync.database.entity.core.BaseObject;
 import org.nervousync.utils.BeanUtils;
 import org.nervousync.utils.ConvertUtils;
@@ -68,6 +69,11 @@ public final class QueryResult extends BeanObject {
 	 */
 	@XmlElement(name = "total_count")
 	private long totalCount = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">Identity map of transactional database client, <code>null</code> if not bound</span>
+	 * <span class="zh-CN">事务数据操作客户端的标识映射，未绑定时为<code>null</code></span>
+	 */
+	private transient IdentityMap identityMap = null;
 
 	/**
 	 * <h3 class="en-US">Default constructor method for query result partial collection define</h3>
@@ -169,9 +175,23 @@ public final class QueryResult extends BeanObject {
 	public <T> List<T> asList(final Class<T> targetClass) {
 		return this.resultList.stream()
 				.map(string -> this.unmarshalRecord(targetClass, string))
+				.map(record -> (this.identityMap == null) ? record : this.identityMap.resolve(record))
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * <h3 class="en-US">Bind the identity map of transactional database client</h3>
+	 * <span class="en-US">The converted records are resolved to the managed record instances of identity map</span>
+	 * <h3 class="zh-CN">绑定事务数据操作客户端的标识映射</h3>
+	 * <span class="zh-CN">转换后的记录将被解析为标识映射中受管理的记录实例</span>
+	 *
+	 * @param identityMap <span class="en-US">Identity map instance</span>
+	 *                    <span class="zh-CN">标识映射实例对象</span>
+	 */
+	public void bindIdentityMap(final IdentityMap identityMap) {
+		this.identityMap = identityMap;
+	}
+
 	/**
 	 * <h3 class="en-US">Generate cache data</h3>
 	 * <h3 class="zh-CN">生成缓存数据</h3>
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.api.DatabaseManager;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.query.QueryResult;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Database manager for tests, the generated clients are proxies which record the invoked operations,
+ * retrieve nothing, return an empty query result and roll back for every exception.
+ */
+@Provider(name = MockDatabaseManager.MANAGER_NAME, titleKey = "mock.name.database.manager")
+public final class MockDatabaseManager implements DatabaseManager {
+
+    public static final String MANAGER_NAME = "MockDatabaseManager";
+
+    private static final Map<String, LongAdder> OPERATE_COUNTS = new ConcurrentHashMap<>();
+
+    public static long operateCount(final String methodName) {
+        LongAdder counter = OPERATE_COUNTS.get(methodName);
+        return (counter == null) ? 0L : counter.sum();
+    }
+
+    public static void reset() {
+        OPERATE_COUNTS.clear();
+    }
+
+    public static DatabaseClient newClient() {
+        return (DatabaseClient) Proxy.newProxyInstance(MockDatabaseManager.class.getClassLoader(),
+                new Class[]{DatabaseClient.class},
+                (proxy, method, args) -> {
+                    OPERATE_COUNTS.computeIfAbsent(method.getName(), key -> new LongAdder()).increment();
+                    switch (method.getName()) {
+                        case "queryList":
+                            return new QueryResult();
+                        case "retrieveAll":
+                            return new LinkedHashMap<>();
+                        case "rollbackException":
+                            return Boolean.TRUE;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return MANAGER_NAME;
+                        default:
+                            if (boolean.class.equals(method.getReturnType())) {
+                                return Boolean.FALSE;
+                            }
+                            if (long.class.equals(method.getReturnType())) {
+                                return 0L;
+                            }
+                            if (int.class.equals(method.getReturnType())) {
+                                return 0;
+                            }
+                            return null;
+                    }
+                });
+    }
+
+    @Override
+    public boolean initialize() {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public void initTable(final List<TableConfig> tableConfigs) {
+    }
+
+    @Override
+    public void truncateTable(final Class<?>... entityClasses) {
+    }
+
+    @Override
+    public void dropTable(final List<TableConfig> tableConfigs) {
+    }
+
+    @Override
+    public DatabaseClient restoreClient() {
+        return newClient();
+    }
+
+    @Override
+    public DatabaseClient readOnlyClient() {
+        return newClient();
+    }
+
+    @Override
+    public DatabaseClient generateClient() {
+        return newClient();
+    }
+
+    @Override
+    public DatabaseClient generateClient(final TransactionalConfig txConfig, final boolean restoreMode) {
+        return newClient();
+    }
+
+    @Override
+    public DatabaseClient retrieveClient(final long transactionalCode) {
+        return null;
+    }
+
+    @Override
+    public void destroy() {
+        reset();
+    }
+}
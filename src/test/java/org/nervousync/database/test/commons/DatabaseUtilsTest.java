@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.commons;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.query.QueryResult;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.utils.IDUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+public final class DatabaseUtilsTest extends AbstractTest {
+
+    private static final int RECORD_COUNT = 10;
+
+    @Test
+    @Order(0)
+    public void testNormalizeKey() {
+        RelationalReference relationalReference = newReference(1);
+        Map<String, Object> keyMap = new HashMap<>();
+        keyMap.put("identifyCode", relationalReference.getIdentifyCode());
+        keyMap.put("currentTime", 1);
+        Assertions.assertEquals(DatabaseUtils.primaryKeyMap(relationalReference),
+                DatabaseUtils.normalizeKey(RelationalReference.class, keyMap));
+    }
+
+    @Test
+    @Order(10)
+    public void testRetrieveAll() throws Exception {
+        QueryResult queryResult = new QueryResult();
+        List<Map<String, Object>> primaryKeys = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            RelationalReference relationalReference = newReference(i);
+            queryResult.addResult(relationalReference);
+            Map<String, Object> keyMap = new HashMap<>();
+            keyMap.put("identifyCode", relationalReference.getIdentifyCode());
+            keyMap.put("currentTime", i);
+            primaryKeys.add(keyMap);
+        }
+        DatabaseClient databaseClient = (DatabaseClient) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+                new Class[]{DatabaseClient.class},
+                (proxy, method, args) -> "queryList".equals(method.getName()) ? queryResult : null);
+        Map<Object, RelationalReference> resultMap =
+                DatabaseUtils.retrieveAll(databaseClient, primaryKeys, RelationalReference.class, Boolean.FALSE);
+        Assertions.assertEquals(RECORD_COUNT, resultMap.size());
+        for (Map<String, Object> keyMap : primaryKeys) {
+            RelationalReference relationalReference = resultMap.get(keyMap);
+            Assertions.assertNotNull(relationalReference);
+            Assertions.assertEquals(keyMap.get("identifyCode"), relationalReference.getIdentifyCode());
+            Assertions.assertEquals(((Integer) keyMap.get("currentTime")).longValue(), relationalReference.getCurrentTime());
+        }
+    }
+
+    @Test
+    @Order(20)
+    public void testRetrieveEqualKeys() throws Exception {
+        RelationalReference relationalReference = newReference(1);
+        QueryResult queryResult = new QueryResult();
+        queryResult.addResult(relationalReference);
+        List<Map<String, Object>> primaryKeys = new ArrayList<>();
+        for (Object currentTime : new Object[]{1, 1L, "1"}) {
+            Map<String, Object> keyMap = new HashMap<>();
+            keyMap.put("identifyCode", relationalReference.getIdentifyCode());
+            keyMap.put("currentTime", currentTime);
+            primaryKeys.add(keyMap);
+        }
+        DatabaseClient databaseClient = (DatabaseClient) Proxy.newProxyInstance(this.getClass().getClassLoader(),
+                new Class[]{DatabaseClient.class},
+                (proxy, method, args) -> "queryList".equals(method.getName()) ? queryResult : null);
+        Map<Object, RelationalReference> resultMap =
+                DatabaseUtils.retrieveAll(databaseClient, primaryKeys, RelationalReference.class, Boolean.FALSE);
+        Assertions.assertEquals(primaryKeys.size(), resultMap.size());
+        RelationalReference retrieved = resultMap.get(primaryKeys.get(0));
+        Assertions.assertNotNull(retrieved);
+        Assertions.assertEquals(relationalReference.getIdentifyCode(), retrieved.getIdentifyCode());
+        primaryKeys.forEach(keyMap -> Assertions.assertSame(retrieved, resultMap.get(keyMap)));
+    }
+
+    @Test
+    @Order(30)
+    public void testRetrieveForUpdate() {
+        Assertions.assertThrows(RetrieveException.class,
+                () -> DatabaseUtils.retrieveAll(List.of(1L), RelationalReference.class, Boolean.TRUE));
+    }
+
+    private static RelationalReference newReference(final long currentTime) {
+        RelationalReference relationalReference = new RelationalReference();
+        relationalReference.setIdentifyCode(IDUtils.nano());
+        relationalReference.setCurrentTime(currentTime);
+        return relationalReference;
+    }
+}
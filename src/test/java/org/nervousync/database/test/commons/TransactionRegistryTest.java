@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.commons;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.beans.configs.table.TableConfig;
+import org.nervousync.database.beans.configs.transactional.TransactionalConfig;
+import org.nervousync.database.beans.transactional.TransactionMetrics;
+import org.nervousync.database.commons.RecordLockManager;
+import org.nervousync.database.commons.TransactionRegistry;
+import org.nervousync.database.entity.EntityManager;
+import org.nervousync.database.entity.relational.RelationalReference;
+import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.database.enumerations.transactional.Isolation;
+import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.exceptions.operate.RetrieveException;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.utils.IDUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class TransactionRegistryTest extends AbstractTest {
+
+    private final AtomicInteger endCount = new AtomicInteger(0);
+    private final AtomicInteger rollbackCount = new AtomicInteger(0);
+    private final DatabaseClient databaseClient = (DatabaseClient) Proxy.newProxyInstance(
+            this.getClass().getClassLoader(), new Class[]{DatabaseClient.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "endTransactional":
+                        this.endCount.incrementAndGet();
+                        return null;
+                    case "rollbackTransactional":
+                        this.rollbackCount.incrementAndGet();
+                        return null;
+                    case "retrieve":
+                        return newReference((Map<?, ?>) args[0], (Boolean) args[2]);
+                    default:
+                        return null;
+                }
+            });
+
+    @Test
+    @Order(0)
+    public void testMetrics() {
+        TransactionMetrics beginMetrics = TransactionRegistry.metrics();
+        DatabaseClient firstClient = TransactionRegistry.register(newConfig(0), this.databaseClient);
+        DatabaseClient secondClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+        Assertions.assertEquals(beginMetrics.getOpenCount() + 2, TransactionRegistry.metrics().getOpenCount());
+        firstClient.endTransactional();
+        secondClient.rollbackTransactional();
+        secondClient.endTransactional();
+        TransactionMetrics endMetrics = TransactionRegistry.metrics();
+        Assertions.assertEquals(beginMetrics.getOpenCount(), endMetrics.getOpenCount());
+        Assertions.assertEquals(beginMetrics.getRegisteredCount() + 2, endMetrics.getRegisteredCount());
+        Assertions.assertEquals(beginMetrics.getCompletedCount() + 2, endMetrics.getCompletedCount());
+        Assertions.assertEquals(beginMetrics.getExpiredCount(), endMetrics.getExpiredCount());
+    }
+
+    @Test
+    @Order(10)
+    public void testExpiry() throws Exception {
+        TransactionMetrics beginMetrics = TransactionRegistry.metrics();
+        int rollbacks = this.rollbackCount.get();
+        TransactionalConfig txConfig = newConfig(1);
+        DatabaseClient registeredClient = TransactionRegistry.register(txConfig, this.databaseClient);
+        Assertions.assertSame(registeredClient, TransactionRegistry.retrieve(txConfig.getTransactionalCode()));
+        registeredClient.saveRecords();
+        //	The reaper rolls back the idle transaction after the timeout
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            while (TransactionRegistry.metrics().getExpiredCount() == beginMetrics.getExpiredCount()) {
+                Thread.sleep(50L);
+            }
+        });
+        Assertions.assertEquals(rollbacks + 1, this.rollbackCount.get());
+        Assertions.assertNull(TransactionRegistry.retrieve(txConfig.getTransactionalCode()));
+        Assertions.assertThrows(DatabaseException.class, registeredClient::saveRecords);
+        int ends = this.endCount.get();
+        registeredClient.endTransactional();
+        Assertions.assertEquals(ends, this.endCount.get());
+        Assertions.assertEquals(rollbacks + 1, this.rollbackCount.get());
+        Assertions.assertEquals(beginMetrics.getOpenCount(), TransactionRegistry.metrics().getOpenCount());
+    }
+
+    @Test
+    @Order(20)
+    public void testIdentityMap() throws Exception {
+        Map<String, Object> keyMap = newKey();
+        DatabaseClient registeredClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+        RelationalReference firstRecord = registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE);
+        Assertions.assertNotNull(firstRecord);
+        Assertions.assertSame(firstRecord, registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE));
+        registeredClient.dropRecords(firstRecord);
+        RelationalReference droppedRecord = registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE);
+        Assertions.assertNotSame(firstRecord, droppedRecord);
+        registeredClient.endTransactional();
+        Assertions.assertNotSame(droppedRecord,
+                registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE));
+
+        registeredClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+        RelationalReference managedRecord = registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE);
+        Assertions.assertSame(managedRecord, registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE));
+        registeredClient.rollbackTransactional();
+        Assertions.assertNotSame(managedRecord,
+                registeredClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE));
+    }
+
+    @Test
+    @Order(30)
+    public void testRecordLock() throws Exception {
+        boolean initialized = RecordLockManager.initialized();
+        if (!initialized) {
+            RecordLockManager.initialize();
+        }
+        TableConfig tableConfig = EntityManager.tableConfig(RelationalReference.class);
+        LockOption lockOption = tableConfig.getLockOption();
+        tableConfig.setLockOption(LockOption.PESSIMISTIC_UPGRADE);
+        try {
+            Map<String, Object> keyMap = newKey();
+            DatabaseClient firstClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+            DatabaseClient secondClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+            Assertions.assertNotNull(firstClient.retrieve(keyMap, RelationalReference.class, Boolean.TRUE));
+            Assertions.assertThrows(RetrieveException.class,
+                    () -> secondClient.retrieve(keyMap, RelationalReference.class, Boolean.TRUE));
+            Assertions.assertThrows(RetrieveException.class,
+                    () -> secondClient.retrieveAll(List.of(newKey(), keyMap), RelationalReference.class, Boolean.TRUE));
+            Assertions.assertNotNull(secondClient.retrieve(keyMap, RelationalReference.class, Boolean.FALSE));
+            firstClient.endTransactional();
+            Assertions.assertNotNull(secondClient.retrieve(keyMap, RelationalReference.class, Boolean.TRUE));
+            secondClient.rollbackTransactional();
+
+            DatabaseClient thirdClient = TransactionRegistry.register(newConfig(30), this.databaseClient);
+            Assertions.assertNotNull(thirdClient.retrieve(keyMap, RelationalReference.class, Boolean.TRUE));
+            thirdClient.endTransactional();
+        } finally {
+            tableConfig.setLockOption(lockOption);
+            if (!initialized) {
+                RecordLockManager.destroy();
+            }
+        }
+    }
+
+    private static TransactionalConfig newConfig(final int timeout) {
+        return TransactionalConfig.newInstance(timeout, Isolation.ISOLATION_READ_COMMITTED,
+                new Class[]{Exception.class});
+    }
+
+    private static Map<String, Object> newKey() {
+        Map<String, Object> keyMap = new HashMap<>();
+        keyMap.put("identifyCode", IDUtils.nano());
+        keyMap.put("currentTime", 1L);
+        return keyMap;
+    }
+
+    private static RelationalReference newReference(final Map<?, ?> keyMap, final boolean forUpdate) {
+        RelationalReference relationalReference = new RelationalReference();
+        relationalReference.setIdentifyCode((String) keyMap.get("identifyCode"));
+        relationalReference.setCurrentTime((Long) keyMap.get("currentTime"));
+        relationalReference.setForUpdate(forUpdate);
+        return relationalReference;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.commons;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.annotations.transactional.Transactional;
+import org.nervousync.database.api.DatabaseClient;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.commons.TransactionRegistry;
+import org.nervousync.database.commons.TransactionalUtils;
+import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.database.test.MockDatabaseManager;
+
+public final class TransactionalUtilsTest extends AbstractTest {
+
+    @BeforeAll
+    public static void initManager() throws DatabaseException {
+        DatabaseUtils.initialize(MockDatabaseManager.MANAGER_NAME);
+        TransactionalUtils.weave(TransactionalService.class);
+    }
+
+    @Test
+    @Order(0)
+    public void testNesting() {
+        long openCount = TransactionRegistry.metrics().getOpenCount();
+        long endCount = MockDatabaseManager.operateCount("endTransactional");
+        long rollbackCount = MockDatabaseManager.operateCount("rollbackTransactional");
+        TransactionalService transactionalService = new TransactionalService();
+        transactionalService.outer(Boolean.FALSE);
+        Assertions.assertNotNull(transactionalService.outerClient);
+        Assertions.assertSame(transactionalService.outerClient, transactionalService.innerClient);
+        Assertions.assertNull(TransactionalUtils.currentClient());
+        Assertions.assertEquals(endCount + 1, MockDatabaseManager.operateCount("endTransactional"));
+        Assertions.assertEquals(rollbackCount, MockDatabaseManager.operateCount("rollbackTransactional"));
+        Assertions.assertEquals(openCount, TransactionRegistry.metrics().getOpenCount());
+    }
+
+    @Test
+    @Order(10)
+    public void testRollback() {
+        long endCount = MockDatabaseManager.operateCount("endTransactional");
+        long rollbackCount = MockDatabaseManager.operateCount("rollbackTransactional");
+        TransactionalService transactionalService = new TransactionalService();
+        Assertions.assertThrows(IllegalStateException.class, () -> transactionalService.outer(Boolean.TRUE));
+        Assertions.assertNull(TransactionalUtils.currentClient());
+        Assertions.assertEquals(endCount, MockDatabaseManager.operateCount("endTransactional"));
+        Assertions.assertEquals(rollbackCount + 1, MockDatabaseManager.operateCount("rollbackTransactional"));
+    }
+
+    @Test
+    @Order(20)
+    public void testRollbackOnly() {
+        long endCount = MockDatabaseManager.operateCount("endTransactional");
+        long rollbackCount = MockDatabaseManager.operateCount("rollbackTransactional");
+        new TransactionalService().caught();
+        Assertions.assertNull(TransactionalUtils.currentClient());
+        Assertions.assertEquals(endCount, MockDatabaseManager.operateCount("endTransactional"));
+        Assertions.assertEquals(rollbackCount + 1, MockDatabaseManager.operateCount("rollbackTransactional"));
+    }
+
+    @Test
+    @Order(30)
+    public void testParticipantClient() {
+        TransactionalService transactionalService = new TransactionalService();
+        long endCount = MockDatabaseManager.operateCount("endTransactional");
+        long rollbackCount = MockDatabaseManager.operateCount("rollbackTransactional");
+        transactionalService.participant(Boolean.FALSE);
+        Assertions.assertEquals(endCount, transactionalService.endCount);
+        Assertions.assertEquals(endCount + 1, MockDatabaseManager.operateCount("endTransactional"));
+        Assertions.assertEquals(rollbackCount, MockDatabaseManager.operateCount("rollbackTransactional"));
+
+        endCount = MockDatabaseManager.operateCount("endTransactional");
+        transactionalService.participant(Boolean.TRUE);
+        Assertions.assertEquals(rollbackCount, transactionalService.rollbackCount);
+        Assertions.assertEquals(endCount, MockDatabaseManager.operateCount("endTransactional"));
+        Assertions.assertEquals(rollbackCount + 1, MockDatabaseManager.operateCount("rollbackTransactional"));
+    }
+
+    public static final class TransactionalService {
+
+        private DatabaseClient outerClient = null;
+        private DatabaseClient innerClient = null;
+        private long endCount = 0L;
+        private long rollbackCount = 0L;
+
+        @Transactional(timeout = 30, rollbackFor = IllegalStateException.class)
+        public void outer(final boolean failed) {
+            this.outerClient = TransactionalUtils.currentClient();
+            this.inner(failed);
+        }
+
+        @Transactional(rollbackFor = IllegalStateException.class)
+        public void inner(final boolean failed) {
+            this.innerClient = TransactionalUtils.currentClient();
+            if (failed) {
+                throw new IllegalStateException("Inner failed");
+            }
+        }
+
+        @Transactional(timeout = 30, rollbackFor = IllegalStateException.class)
+        public void caught() {
+            try {
+                this.inner(Boolean.TRUE);
+            } catch (IllegalStateException ignored) {
+                //	The transaction was marked rollback-only by the nested method
+            }
+        }
+
+        @Transactional(timeout = 30, rollbackFor = IllegalStateException.class)
+        public void participant(final boolean rollback) {
+            DatabaseClient databaseClient = DatabaseUtils.retrieveClient(TransactionalService.class, "participant");
+            if (rollback) {
+                databaseClient.rollbackTransactional();
+            } else {
+                databaseClient.endTransactional();
+            }
+            this.endCount = MockDatabaseManager.operateCount("endTransactional");
+            this.rollbackCount = MockDatabaseManager.operateCount("rollbackTransactional");
+        }
+    }
+}
@@ -18,19 +18,28 @@
 package org.nervousync.database.test.data;
 
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.task.AbstractTask;
+import org.nervousync.database.beans.task.TaskCheckpoint;
 import org.nervousync.database.beans.task.impl.ImportTask;
 import org.nervousync.database.commons.DataUtils;
 import org.nervousync.database.commons.DatabaseCommons;
+import org.nervousync.database.commons.DatabaseUtils;
+import org.nervousync.database.entity.distribute.TestDistribute;
 import org.nervousync.database.entity.relational.TestRelational;
 import org.nervousync.database.enumerations.lock.LockOption;
+import org.nervousync.database.exceptions.core.DatabaseException;
+import org.nervousync.database.providers.data.impl.JournalTaskProviderImpl;
+import org.nervousync.database.providers.data.impl.SharedDirectoryTaskProviderImpl;
 import org.nervousync.database.query.QueryInfo;
 import org.nervousync.database.query.builder.QueryBuilder;
 import org.nervousync.database.query.param.AbstractParameter;
 import org.nervousync.database.test.AbstractTest;
+import org.nervousync.database.test.MockDatabaseManager;
 import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.exceptions.utils.DataInvalidException;
 import org.nervousync.security.factory.SecureFactory;
@@ -38,6 +47,7 @@ import org.nervousync.utils.*;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Optional;
 
 public final class DataUtilsTest extends AbstractTest {
@@ -45,10 +55,15 @@ public final class DataUtilsTest extends AbstractTest {
     private static final String DATA_FILE_NAME = "generate.dat";
     private static final String EXCEL_IMPORT_FILE = "data.xlsx";
     private static final String EXCEL_EXPORT_FILE = "export.xlsx";
+    private static final String CSV_EXPORT_FILE = "export.csv.gz";
+    private static final String JSON_EXPORT_FILE = "export.ndjson";
+    private static final String JOURNAL_PATH = "Journal";
+    private static final String SHARED_PATH = "Shared";
     private long taskCode = Globals.DEFAULT_VALUE_LONG;
 
     @BeforeAll
-    public static void init() {
+    public static void init() throws DatabaseException {
+        DatabaseUtils.initialize(MockDatabaseManager.MANAGER_NAME);
         DataUtils.initialize(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "DataUtils");
         FileUtils.copy("src/test/resources/data.xlsx",
                 BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + EXCEL_IMPORT_FILE);
@@ -59,7 +74,11 @@ public final class DataUtilsTest extends AbstractTest {
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + DATA_FILE_NAME);
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + EXCEL_IMPORT_FILE);
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + EXCEL_EXPORT_FILE);
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + CSV_EXPORT_FILE);
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + JSON_EXPORT_FILE);
         FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "DataUtils");
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + JOURNAL_PATH);
+        FileUtils.removeFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + SHARED_PATH);
     }
 
     @Test
@@ -86,12 +105,39 @@ public final class DataUtilsTest extends AbstractTest {
     public void testParser() throws IOException {
         DataUtils dataUtils = DataUtils.getInstance();
         this.taskCode = dataUtils.addTask(FileUtils.loadFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + DATA_FILE_NAME), Globals.DEFAULT_VALUE_LONG);
-        while (true) {
-            ImportTask importTask = (ImportTask) dataUtils.taskInfo(Globals.DEFAULT_VALUE_LONG, this.taskCode);
-            if (importTask.getTaskStatus() == DatabaseCommons.DATA_TASK_STATUS_FINISH) {
-                break;
+        Assertions.assertNotEquals(Globals.DEFAULT_VALUE_LONG, this.taskCode);
+        this.assertImported(this.awaitFinish(dataUtils, this.taskCode));
+    }
+
+    @Test
+    @Order(25)
+    public void testStreamParser() throws IOException {
+        DataUtils dataUtils = DataUtils.getInstance();
+        long streamCode = dataUtils.streamTask(FileUtils.loadFile(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + DATA_FILE_NAME), Globals.DEFAULT_VALUE_LONG);
+        Assertions.assertNotEquals(Globals.DEFAULT_VALUE_LONG, streamCode);
+        ImportTask importTask = this.awaitFinish(dataUtils, streamCode);
+        this.logger.info("Task_Info", importTask.toString(StringUtils.StringType.XML, Boolean.TRUE));
+        this.assertImported(importTask);
+    }
+
+    private ImportTask awaitFinish(final DataUtils dataUtils, final long taskCode) {
+        return Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            while (true) {
+                ImportTask importTask = (ImportTask) dataUtils.taskInfo(Globals.DEFAULT_VALUE_LONG, taskCode);
+                Assertions.assertNotNull(importTask);
+                if (importTask.getTaskStatus() == DatabaseCommons.DATA_TASK_STATUS_FINISH) {
+                    return importTask;
+                }
+                Thread.sleep(50L);
             }
-        }
+        });
+    }
+
+    private void assertImported(final ImportTask importTask) {
+        Assertions.assertEquals(DatabaseCommons.DATA_TASK_STATUS_FINISH, importTask.getTaskStatus());
+        Assertions.assertFalse(importTask.getHasError(), importTask.getErrorMessage());
+        Assertions.assertEquals(importTask.getTotalCount(), importTask.getSuccessCount());
+        Assertions.assertEquals(0L, importTask.getFailedCount());
     }
 
     @Test
@@ -152,6 +198,116 @@ public final class DataUtilsTest extends AbstractTest {
         this.logger.info("Export_Count", OfficeUtils.readExcel(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + EXCEL_EXPORT_FILE, "Test_Relational").size());
     }
 
+    @Test
+    @Order(70)
+    public void testStreamExporter() throws IOException {
+        try (DataUtils.DataExporter dataExporter = DataUtils.newExporter(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + CSV_EXPORT_FILE,
+                DatabaseCommons.EXPORT_TYPE_CSV, Boolean.TRUE)) {
+            for (int i = 0; i < 64; i++) {
+                dataExporter.appendData(this.newObject());
+            }
+            Assertions.assertThrows(IOException.class, () -> dataExporter.appendData(new TestDistribute()));
+        }
+        this.logger.info("Export_Count", FileUtils.fileSize(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + CSV_EXPORT_FILE));
+        try (DataUtils.DataExporter dataExporter = DataUtils.newExporter(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + JSON_EXPORT_FILE,
+                DatabaseCommons.EXPORT_TYPE_NDJSON, Boolean.FALSE)) {
+            for (int i = 0; i < 64; i++) {
+                dataExporter.appendData(this.newObject());
+            }
+        }
+        this.logger.info("Export_Count", FileUtils.fileSize(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + JSON_EXPORT_FILE));
+    }
+
+    @Test
+    @Order(80)
+    public void testJournalProvider() {
+        String journalPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + JOURNAL_PATH;
+        ImportTask importTask = new ImportTask();
+        importTask.setTaskCode(IDUtils.snowflake());
+        importTask.setUserCode(1L);
+        importTask.setCreateTime(DateTimeUtils.currentUTCTimeMillis());
+        importTask.setDataPath(BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + DATA_FILE_NAME);
+        JournalTaskProviderImpl taskProvider = new JournalTaskProviderImpl();
+        taskProvider.initialize(journalPath);
+        taskProvider.addTask(importTask);
+        AbstractTask nextTask = taskProvider.nextTask("JournalTest");
+        taskProvider.processTask(nextTask.getTaskCode(), "JournalTest");
+        taskProvider.checkpointTask(nextTask.getTaskCode(), "JournalTest", new TaskCheckpoint(1024L, 10L, 0L, 10L));
+        taskProvider.destroy();
+
+        taskProvider = new JournalTaskProviderImpl();
+        taskProvider.initialize(journalPath);
+        ImportTask recoveredTask = (ImportTask) taskProvider.taskInfo(1L, importTask.getTaskCode());
+        Assertions.assertNotNull(recoveredTask);
+        this.logger.info("Task_Info", recoveredTask.toString(StringUtils.StringType.XML, Boolean.TRUE));
+        Assertions.assertEquals(DatabaseCommons.DATA_TASK_STATUS_CREATE, recoveredTask.getTaskStatus());
+        Assertions.assertEquals(1024L, recoveredTask.getCheckpointPosition());
+        Assertions.assertEquals(10L, recoveredTask.getSuccessCount());
+        Assertions.assertEquals(0L, recoveredTask.getFailedCount());
+        Assertions.assertEquals(10L, recoveredTask.getRecordIndex());
+        nextTask = taskProvider.nextTask("JournalTest");
+        Assertions.assertNotNull(nextTask);
+        taskProvider.processTask(nextTask.getTaskCode(), "JournalTest");
+        taskProvider.finishTask(nextTask.getTaskCode(), "JournalTest", Boolean.FALSE, Globals.DEFAULT_VALUE_STRING);
+        taskProvider.destroy();
+
+        taskProvider = new JournalTaskProviderImpl();
+        taskProvider.initialize(journalPath);
+        AbstractTask finishedTask = taskProvider.taskInfo(1L, importTask.getTaskCode());
+        Assertions.assertNotNull(finishedTask);
+        this.logger.info("Task_Info", finishedTask.toString(StringUtils.StringType.XML, Boolean.TRUE));
+        Assertions.assertEquals(DatabaseCommons.DATA_TASK_STATUS_FINISH, finishedTask.getTaskStatus());
+        Assertions.assertFalse(finishedTask.getHasError());
+        Assertions.assertTrue(taskProvider.dropTask(1L, importTask.getTaskCode()));
+        taskProvider.destroy();
+
+        taskProvider = new JournalTaskProviderImpl();
+        taskProvider.initialize(journalPath);
+        Assertions.assertNull(taskProvider.taskInfo(1L, importTask.getTaskCode()));
+        taskProvider.destroy();
+    }
+
+    @Test
+    @Order(90)
+    public void testSharedDirectoryProvider() throws InterruptedException {
+        String sharedPath = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + SHARED_PATH;
+        ImportTask importTask = new ImportTask();
+        importTask.setTaskCode(IDUtils.snowflake());
+        importTask.setUserCode(1L);
+        importTask.setCreateTime(DateTimeUtils.currentUTCTimeMillis());
+        SharedDirectoryTaskProviderImpl firstNode = new SharedDirectoryTaskProviderImpl();
+        firstNode.initialize(sharedPath);
+        SharedDirectoryTaskProviderImpl secondNode = new SharedDirectoryTaskProviderImpl();
+        secondNode.initialize(sharedPath);
+        Assertions.assertTrue(firstNode.addTask(importTask));
+        AbstractTask claimedTask = firstNode.claimTask("FirstNode", 100L);
+        Assertions.assertNotNull(claimedTask);
+        Assertions.assertEquals(importTask.getTaskCode(), claimedTask.getTaskCode());
+        firstNode.processTask(claimedTask.getTaskCode(), "FirstNode");
+        Assertions.assertNull(secondNode.claimTask("SecondNode", 100L));
+        Thread.sleep(200L);
+        AbstractTask takeoverTask = secondNode.claimTask("SecondNode", 1000L);
+        Assertions.assertNotNull(takeoverTask);
+        Assertions.assertEquals(importTask.getTaskCode(), takeoverTask.getTaskCode());
+        this.logger.info("Task_Info", takeoverTask.toString(StringUtils.StringType.XML, Boolean.TRUE));
+        Assertions.assertFalse(firstNode.renewLease(importTask.getTaskCode(), "FirstNode", 100L));
+        secondNode.processTask(takeoverTask.getTaskCode(), "SecondNode");
+        firstNode.finishTask(importTask.getTaskCode(), "FirstNode", Boolean.TRUE, "FirstNode");
+        AbstractTask runningTask = secondNode.taskInfo(1L, importTask.getTaskCode());
+        Assertions.assertNotNull(runningTask);
+        Assertions.assertEquals(DatabaseCommons.DATA_TASK_STATUS_PROCESS, runningTask.getTaskStatus());
+        Assertions.assertEquals("SecondNode", runningTask.getIdentifyCode());
+        secondNode.finishTask(importTask.getTaskCode(), "SecondNode", Boolean.FALSE, Globals.DEFAULT_VALUE_STRING);
+        AbstractTask finishedTask = secondNode.taskInfo(1L, importTask.getTaskCode());
+        Assertions.assertNotNull(finishedTask);
+        this.logger.info("Task_Info", finishedTask.toString(StringUtils.StringType.XML, Boolean.TRUE));
+        Assertions.assertEquals(DatabaseCommons.DATA_TASK_STATUS_FINISH, finishedTask.getTaskStatus());
+        Assertions.assertEquals("SecondNode", finishedTask.getIdentifyCode());
+        Assertions.assertFalse(finishedTask.getHasError());
+        firstNode.destroy();
+        secondNode.destroy();
+    }
+
     private TestRelational newObject() {
         TestRelational testRelational = new TestRelational();
         testRelational.setIdentifyCode(IDUtils.nano());
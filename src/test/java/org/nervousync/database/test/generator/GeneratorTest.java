@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.generator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.database.providers.generator.impl.BatchSnowflakeGenerator;
+import org.nervousync.database.providers.generator.impl.UUIDv7Generator;
+import org.nervousync.database.test.AbstractTest;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+public final class GeneratorTest extends AbstractTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int GENERATE_COUNT = 100_000;
+
+    @Test
+    @Order(0)
+    public void testBatchSnowflake() throws Exception {
+        BatchSnowflakeGenerator snowflakeGenerator = new BatchSnowflakeGenerator();
+        Set<Long> generatedIds = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[THREAD_COUNT];
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures[i] = executorService.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < GENERATE_COUNT; j++) {
+                        generatedIds.add(snowflakeGenerator.generate());
+                    }
+                    return null;
+                });
+            }
+            startLatch.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        this.logger.info("Generated_Count", "BatchSnowflake", generatedIds.size());
+        Assertions.assertEquals(THREAD_COUNT * GENERATE_COUNT, generatedIds.size());
+    }
+
+    @Test
+    @Order(10)
+    public void testUUIDv7() {
+        UUIDv7Generator uuidGenerator = new UUIDv7Generator();
+        long beginTime = System.currentTimeMillis();
+        String lastValue = null;
+        for (int i = 0; i < GENERATE_COUNT; i++) {
+            String generatedValue = uuidGenerator.generate();
+            UUID uuid = UUID.fromString(generatedValue);
+            Assertions.assertEquals(7, uuid.version());
+            Assertions.assertEquals(2, uuid.variant());
+            Assertions.assertTrue((uuid.getMostSignificantBits() >>> 16) >= beginTime);
+            if (lastValue != null) {
+                Assertions.assertTrue(generatedValue.compareTo(lastValue) > 0);
+            }
+            lastValue = generatedValue;
+        }
+        this.logger.info("Generated_Count", "UUIDv7", GENERATE_COUNT);
+    }
+}
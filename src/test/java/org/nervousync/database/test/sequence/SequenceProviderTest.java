@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.database.test.sequence;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.nervousync.commons.Globals;
+import org.nervousync.database.beans.configs.sequence.SequenceConfig;
+import org.nervousync.database.beans.sequence.SequenceRange;
+import org.nervousync.database.providers.sequence.impl.LocalSequenceProviderImpl;
+import org.nervousync.database.test.AbstractTest;
+import org.nervousync.utils.FileUtils;
+
+public final class SequenceProviderTest extends AbstractTest {
+
+    private static final String SEQUENCE_PATH = BASE_PATH + Globals.DEFAULT_PAGE_SEPARATOR + "Sequence";
+
+    @AfterAll
+    public static void clearSequence() {
+        FileUtils.removeDir(SEQUENCE_PATH);
+    }
+
+    @Test
+    @Order(0)
+    public void testRestart() {
+        SequenceConfig sequenceConfig = newConfig("RestartSequence", 1, Globals.DEFAULT_VALUE_INT, 1, Boolean.FALSE);
+        LocalSequenceProviderImpl sequenceProvider = new LocalSequenceProviderImpl();
+        sequenceProvider.initialize(SEQUENCE_PATH);
+        long lastValue = Globals.DEFAULT_VALUE_LONG;
+        for (int i = 0; i < 3; i++) {
+            lastValue = this.reserve(sequenceProvider, sequenceConfig, 10L, lastValue).getEndValue();
+        }
+        sequenceProvider.destroy();
+
+        sequenceProvider = new LocalSequenceProviderImpl();
+        sequenceProvider.initialize(SEQUENCE_PATH);
+        this.reserve(sequenceProvider, sequenceConfig, 10L, lastValue);
+        sequenceProvider.destroy();
+    }
+
+    @Test
+    @Order(10)
+    public void testMaxValue() {
+        SequenceConfig sequenceConfig = newConfig("MaxSequence", 1, 25, 1, Boolean.FALSE);
+        LocalSequenceProviderImpl sequenceProvider = new LocalSequenceProviderImpl();
+        sequenceProvider.initialize(SEQUENCE_PATH);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 10L), 1L, 10L);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 10L), 11L, 20L);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 10L), 21L, 25L);
+        Assertions.assertNull(sequenceProvider.reserve(sequenceConfig, 10L));
+        sequenceProvider.destroy();
+
+        sequenceProvider = new LocalSequenceProviderImpl();
+        sequenceProvider.initialize(SEQUENCE_PATH);
+        Assertions.assertNull(sequenceProvider.reserve(sequenceConfig, 1L));
+        sequenceProvider.destroy();
+    }
+
+    @Test
+    @Order(20)
+    public void testCycle() {
+        SequenceConfig sequenceConfig = newConfig("CycleSequence", 1, 25, 5, Boolean.TRUE);
+        LocalSequenceProviderImpl sequenceProvider = new LocalSequenceProviderImpl();
+        sequenceProvider.initialize(SEQUENCE_PATH);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 3L), 1L, 11L);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 3L), 16L, 21L);
+        this.assertRange(sequenceProvider.reserve(sequenceConfig, 3L), 1L, 11L);
+        sequenceProvider.destroy();
+    }
+
+    private SequenceRange reserve(final LocalSequenceProviderImpl sequenceProvider,
+                                  final SequenceConfig sequenceConfig, final long count, final long lastValue) {
+        SequenceRange sequenceRange = sequenceProvider.reserve(sequenceConfig, count);
+        Assertions.assertNotNull(sequenceRange);
+        this.logger.info("Sequence_Range", sequenceRange.getBeginValue(), sequenceRange.getEndValue());
+        Assertions.assertTrue(sequenceRange.getBeginValue() > lastValue);
+        Assertions.assertEquals(count - 1, sequenceRange.getEndValue() - sequenceRange.getBeginValue());
+        return sequenceRange;
+    }
+
+    private void assertRange(final SequenceRange sequenceRange, final long beginValue, final long endValue) {
+        Assertions.assertNotNull(sequenceRange);
+        this.logger.info("Sequence_Range", sequenceRange.getBeginValue(), sequenceRange.getEndValue());
+        Assertions.assertEquals(beginValue, sequenceRange.getBeginValue());
+        Assertions.assertEquals(endValue, sequenceRange.getEndValue());
+    }
+
+    private static SequenceConfig newConfig(final String sequenceName, final int minValue, final int maxValue,
+                                            final int step, final boolean cycle) {
+        SequenceConfig sequenceConfig = new SequenceConfig();
+        sequenceConfig.setSequenceName(sequenceName);
+        sequenceConfig.setMinValue(minValue);
+        sequenceConfig.setMaxValue(maxValue);
+        sequenceConfig.setStep(step);
+        sequenceConfig.setCycle(cycle);
+        return sequenceConfig;
+    }
+}